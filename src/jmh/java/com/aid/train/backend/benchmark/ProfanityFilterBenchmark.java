@@ -0,0 +1,78 @@
+package com.aid.train.backend.benchmark;
+
+import com.aid.train.backend.global.common.profanity.ProfanityMatcher;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * 비속어 검사: 단어별 정규식 반복 vs {@link ProfanityMatcher} (Aho-Corasick)
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=ProfanityFilter
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ProfanityFilterBenchmark {
+
+    private static final String[] SENTENCES = {
+            "보고는 원인, 영향, 대안 순서로 1~2문장 캐치볼 형태로 진행해 주세요. ",
+            "상대방이 감정적으로 반응하면 먼저 공감하고 사실을 정리합니다. ",
+            "You are a strict manager who asks follow-up questions about the schedule. ",
+            "판단이나 충고는 자제하고 열린 질문으로 대화를 이어 갑니다. ",
+    };
+
+    @Param({"100", "1000"})
+    private int dictionarySize;
+
+    // 프롬프트 길이 (글자 수)
+    @Param({"1000", "20000"})
+    private int textLength;
+
+    private String text;
+    private ProfanityMatcher matcher;
+    private List<Pattern> patterns;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        List<String> words = new ArrayList<>(dictionarySize);
+        for (int i = 0; i < dictionarySize; i++) {
+            // 완성형 한글 2~4글자 임의 단어 (본문에는 거의 나오지 않음)
+            int length = 2 + random.nextInt(3);
+            StringBuilder word = new StringBuilder();
+            for (int j = 0; j < length; j++) {
+                word.append((char) ('가' + random.nextInt('힣' - '가' + 1)));
+            }
+            words.add(word.toString());
+        }
+        matcher = ProfanityMatcher.compile(words, List.of());
+        // 띄어쓰기 우회까지 잡으려면 글자 사이에 \s* 를 넣어야 함
+        patterns = words.stream()
+                .map(word -> Pattern.compile(String.join("\\s*", word.split(""))))
+                .toList();
+
+        StringBuilder builder = new StringBuilder(textLength + 100);
+        while (builder.length() < textLength) {
+            builder.append(SENTENCES[random.nextInt(SENTENCES.length)]);
+        }
+        text = builder.substring(0, textLength);
+    }
+
+    @Benchmark
+    public void regexPerWord(Blackhole blackhole) {
+        for (Pattern pattern : patterns) {
+            blackhole.consume(pattern.matcher(text).find());
+        }
+    }
+
+    @Benchmark
+    public void ahoCorasick(Blackhole blackhole) {
+        blackhole.consume(matcher.findAll(text));
+    }
+}
@@ -0,0 +1,132 @@
+package com.aid.train.backend.benchmark;
+
+import com.aid.train.backend.domain.session.analytics.SessionTimeline;
+import com.aid.train.backend.domain.session.analytics.SpeechAnalyticsEngine;
+import com.aid.train.backend.domain.session.entity.Transcript;
+import com.aid.train.backend.domain.session.enums.Speaker;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 세션 발화 분석: 엔티티 getter 반복 호출 vs {@link SpeechAnalyticsEngine}
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=SpeechAnalytics (할당량은 -prof gc 로 확인)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class SpeechAnalyticsBenchmark {
+
+    private static final String[] SAMPLES = {
+            "안녕하세요, 오늘 회의 자료는 준비되셨나요?",
+            "네 거의 다 됐는데 한 가지 확인할 게 있어요",
+            "그럼 10분 뒤에 다시 이야기해요",
+            "ㅋㅋ 알겠습니다 OK 그렇게 할게요",
+    };
+
+    @Param({"100", "1000"})
+    private int transcripts;
+
+    private List<Transcript> entities;
+    private SessionTimeline timeline;
+    private final SpeechAnalyticsEngine engine = new SpeechAnalyticsEngine();
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        LocalDateTime now = LocalDateTime.now();
+        entities = new ArrayList<>(transcripts);
+        long time = 0;
+        for (int i = 0; i < transcripts; i++) {
+            long start = time + random.nextInt(1500) - 200;
+            long end = start + 800 + random.nextInt(4000);
+            entities.add(Transcript.builder()
+                    .speaker(i % 2 == 0 ? Speaker.USER : Speaker.AI)
+                    .content(SAMPLES[i % SAMPLES.length])
+                    .timestamp(now.plusNanos(start * 1_000_000))
+                    .startTimeMs(start)
+                    .endTimeMs(end)
+                    .confidenceScore(i % 7 == 0 ? null : 0.5f + random.nextFloat() / 2)
+                    .build());
+            time = end;
+        }
+        timeline = SessionTimeline.of(entities);
+    }
+
+    /**
+     * 변경 전 방식: 발화마다 정규식 replaceAll + 박싱된 getter로 지표 계산
+     */
+    @Benchmark
+    public void entityGettersRegex(Blackhole blackhole) {
+        double rateSum = 0;
+        long latencySum = 0;
+        double confidenceSum = 0;
+        Transcript previous = null;
+        for (Transcript transcript : entities) {
+            Double seconds = transcript.getDurationSeconds();
+            if (seconds != null && seconds > 0) {
+                int charCount = transcript.getContent().replaceAll("\\s", "").length();
+                rateSum += (charCount / seconds) * 60;
+            }
+            if (previous != null && previous.getSpeaker() != transcript.getSpeaker()) {
+                latencySum += transcript.getStartTimeMs() - previous.getEndTimeMs();
+            }
+            if (transcript.getConfidenceScore() != null) {
+                confidenceSum += transcript.getConfidenceScore();
+            }
+            previous = transcript;
+        }
+        blackhole.consume(rateSum);
+        blackhole.consume(latencySum);
+        blackhole.consume(confidenceSum);
+    }
+
+    /**
+     * 현재 getter (getSpeechRate는 정규식 없이 글자 수 계산)
+     */
+    @Benchmark
+    public void entityGetters(Blackhole blackhole) {
+        double rateSum = 0;
+        long latencySum = 0;
+        double confidenceSum = 0;
+        Transcript previous = null;
+        for (Transcript transcript : entities) {
+            Double rate = transcript.getSpeechRate();
+            if (rate != null) {
+                rateSum += rate;
+            }
+            if (previous != null && previous.getSpeaker() != transcript.getSpeaker()) {
+                latencySum += transcript.getStartTimeMs() - previous.getEndTimeMs();
+            }
+            if (transcript.getConfidenceScore() != null) {
+                confidenceSum += transcript.getConfidenceScore();
+            }
+            previous = transcript;
+        }
+        blackhole.consume(rateSum);
+        blackhole.consume(latencySum);
+        blackhole.consume(confidenceSum);
+    }
+
+    /**
+     * 엔티티 목록 → 기본형 배열 적재 + 분석
+     */
+    @Benchmark
+    public Object engineFromEntities() {
+        return engine.analyze(SessionTimeline.of(entities));
+    }
+
+    /**
+     * 적재된 배열 분석만 (DTO 스트림에서 바로 적재하는 서비스 경로의 분석 비용)
+     */
+    @Benchmark
+    public Object engineAnalyze() {
+        return engine.analyze(timeline);
+    }
+}
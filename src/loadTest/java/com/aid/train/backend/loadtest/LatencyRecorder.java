@@ -0,0 +1,71 @@
+package com.aid.train.backend.loadtest;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 지연 시간 샘플 기록기
+ *
+ * 측정 중에는 미리 할당한 배열에 나노초 값을 기록만 하고(할당 없음), 백분위는 종료 후 한 번 정렬해서 계산합니다.
+ * 용량을 넘는 샘플은 버리고 개수만 셉니다.
+ */
+final class LatencyRecorder {
+
+    private final String name;
+    private final long[] samples;
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicLong dropped = new AtomicLong();
+
+    LatencyRecorder(String name, int capacity) {
+        this.name = name;
+        this.samples = new long[capacity];
+    }
+
+    void record(long nanos) {
+        int index = size.getAndIncrement();
+        if (index < samples.length) {
+            samples[index] = nanos;
+        } else {
+            dropped.incrementAndGet();
+        }
+    }
+
+    int count() {
+        return Math.min(size.get(), samples.length);
+    }
+
+    Snapshot snapshot() {
+        long[] sorted = Arrays.copyOf(samples, count());
+        Arrays.sort(sorted);
+        return new Snapshot(name, sorted, dropped.get());
+    }
+
+    record Snapshot(String name, long[] sorted, long dropped) {
+
+        // 기록된 샘플 수 (용량을 넘어 버린 샘플 포함)
+        long count() {
+            return sorted.length + dropped;
+        }
+
+        long percentileNanos(double percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int rank = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(rank, sorted.length - 1))];
+        }
+
+        double percentileMillis(double percentile) {
+            return percentileNanos(percentile) / 1_000_000.0;
+        }
+
+        String format() {
+            return String.format("%-10s n=%-9d p50=%8.2fms p90=%8.2fms p99=%8.2fms p99.9=%8.2fms max=%8.2fms%s",
+                    name, sorted.length,
+                    percentileMillis(50), percentileMillis(90), percentileMillis(99), percentileMillis(99.9),
+                    percentileMillis(100),
+                    dropped > 0 ? " (버린 샘플 " + dropped + ")" : "");
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.aid.train.backend.loadtest;
+
+import com.aid.train.backend.websocket.protocol.SignalingProtocol;
+
+import java.time.Duration;
+
+/**
+ * 부하 테스트 옵션 (시스템 프로퍼티 loadtest.*)
+ *
+ * Gradle에서는 -Ploadtest.connections=4000 처럼 넘기면 signalingLoadTest 태스크가 시스템 프로퍼티로 전달합니다.
+ *
+ * @param connections         열 연결 수 (2개씩 한 대화 세션의 참여자가 되므로 짝수로 올림)
+ * @param connectConcurrency  동시에 진행할 핸드셰이크 수
+ * @param duration            모든 연결이 열린 뒤 메시지를 주고받는 시간
+ * @param pingInterval        연결당 PING 전송 간격 (RTT 측정)
+ * @param iceCandidates       협상 1회당 참여자별 ICE candidate 수
+ * @param renegotiateEvery    PING n회마다 offer/answer 재협상 (0이면 최초 1회만)
+ * @param sdpBytes            offer/answer SDP 크기 (바이트)
+ * @param protocol            클라이언트가 요청할 서브프로토콜
+ * @param maxP99RttMillis     RTT p99가 이 값을 넘으면 실패 종료 (0이면 검사하지 않음)
+ * @param maxP99ConnectMillis 연결 시간 p99가 이 값을 넘으면 실패 종료 (0이면 검사하지 않음)
+ * @param minSampleRatio      RTT / relay 샘플이 기대 개수의 이 비율보다 적으면 실패 종료 (버려지거나 유실된 프레임 감지)
+ */
+record LoadTestOptions(
+        int connections,
+        int connectConcurrency,
+        Duration duration,
+        Duration pingInterval,
+        int iceCandidates,
+        int renegotiateEvery,
+        int sdpBytes,
+        SignalingProtocol protocol,
+        long maxP99RttMillis,
+        long maxP99ConnectMillis,
+        double minSampleRatio
+) {
+
+    static LoadTestOptions fromSystemProperties() {
+        int connections = intProperty("loadtest.connections", 2000);
+        return new LoadTestOptions(
+                connections + (connections & 1),
+                intProperty("loadtest.connectConcurrency", 200),
+                Duration.ofSeconds(intProperty("loadtest.durationSeconds", 30)),
+                Duration.ofMillis(intProperty("loadtest.pingIntervalMs", 1000)),
+                intProperty("loadtest.iceCandidates", 8),
+                intProperty("loadtest.renegotiateEvery", 10),
+                intProperty("loadtest.sdpBytes", 2048),
+                "json".equalsIgnoreCase(System.getProperty("loadtest.protocol"))
+                        ? SignalingProtocol.JSON : SignalingProtocol.BINARY,
+                intProperty("loadtest.maxP99RttMs", 0),
+                intProperty("loadtest.maxP99ConnectMs", 0),
+                doubleProperty("loadtest.minSampleRatio", 0.5));
+    }
+
+    private static int intProperty(String key, int defaultValue) {
+        String value = System.getProperty(key);
+        return value == null || value.isBlank() ? defaultValue : Integer.parseInt(value.trim());
+    }
+
+    private static double doubleProperty(String key, double defaultValue) {
+        String value = System.getProperty(key);
+        return value == null || value.isBlank() ? defaultValue : Double.parseDouble(value.trim());
+    }
+}
@@ -0,0 +1,32 @@
+package com.aid.train.backend.loadtest;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 모든 클라이언트가 공유하는 측정값
+ */
+final class LoadTestStats {
+
+    // 핸드셰이크 시작 ~ CONNECTED 프레임 수신
+    final LatencyRecorder connect;
+
+    // PING 전송 ~ PONG 수신
+    final LatencyRecorder rtt;
+
+    // OFFER / ANSWER / ICE 전송 ~ 상대 참여자 수신 (서버 relay 경유 단방향)
+    final LatencyRecorder relay;
+
+    final AtomicLong framesSent = new AtomicLong();
+    final AtomicLong framesReceived = new AtomicLong();
+    final AtomicLong bytesSent = new AtomicLong();
+    final AtomicLong errorFrames = new AtomicLong();
+    final AtomicLong sendFailures = new AtomicLong();
+    final AtomicLong connectFailures = new AtomicLong();
+    final AtomicLong unexpectedCloses = new AtomicLong();
+
+    LoadTestStats(int connections, int sampleCapacity) {
+        this.connect = new LatencyRecorder("connect", connections);
+        this.rtt = new LatencyRecorder("rtt", sampleCapacity);
+        this.relay = new LatencyRecorder("relay", sampleCapacity);
+    }
+}
@@ -0,0 +1,241 @@
+package com.aid.train.backend.loadtest;
+
+import com.aid.train.backend.websocket.protocol.SignalingCodec;
+import com.aid.train.backend.websocket.protocol.SignalingMessage;
+import com.aid.train.backend.websocket.protocol.SignalingOpcode;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+
+import java.io.ByteArrayOutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.WebSocket;
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * 부하 테스트용 시그널링 클라이언트 (연결 1개)
+ *
+ * 한 대화 세션에 caller / callee 두 클라이언트가 붙어 아래 순서로 메시지를 주고받습니다.
+ * <ol>
+ *     <li>caller: OFFER → ICE candidate × n → END_OF_CANDIDATES</li>
+ *     <li>callee: OFFER 수신 시 ANSWER → ICE candidate × n → END_OF_CANDIDATES</li>
+ *     <li>양쪽: pingInterval 마다 PING (RTT 측정), caller는 renegotiateEvery 번째마다 재협상</li>
+ * </ol>
+ *
+ * 클라이언트와 서버가 같은 JVM에서 돌기 때문에 전송 시각(System.nanoTime)을 SDP origin의 sess-id와
+ * ICE candidate의 foundation 자리에 넣어 두고, 상대 참여자가 받은 시각과의 차이로 relay 지연을 잽니다.
+ */
+final class SignalingLoadClient implements WebSocket.Listener {
+
+    private final boolean caller;
+    private final SignalingCodec codec;
+    private final LoadTestOptions options;
+    private final LoadTestStats stats;
+    private final String sdpBody;
+
+    // CONNECTED 프레임을 받으면 완료 (연결 시간 측정 기준)
+    private final CompletableFuture<SignalingLoadClient> connected = new CompletableFuture<>();
+
+    // JDK WebSocket은 이전 전송이 끝나기 전에 다음 전송을 호출할 수 없으므로 전송을 체인으로 직렬화
+    private CompletableFuture<WebSocket> sendChain;
+
+    // 여러 조각으로 나뉘어 도착한 프레임 조립용
+    private final ByteArrayOutputStream binaryPart = new ByteArrayOutputStream();
+    private final StringBuilder textPart = new StringBuilder();
+
+    private volatile boolean closing;
+    private long connectStartNanos;
+
+    SignalingLoadClient(boolean caller, SignalingCodec codec, LoadTestOptions options, LoadTestStats stats,
+                        String sdpBody) {
+        this.caller = caller;
+        this.codec = codec;
+        this.options = options;
+        this.stats = stats;
+        this.sdpBody = sdpBody;
+    }
+
+    CompletableFuture<SignalingLoadClient> connect(HttpClient httpClient, URI uri) {
+        connectStartNanos = System.nanoTime();
+        httpClient.newWebSocketBuilder()
+                .subprotocols(options.protocol().getSubProtocol())
+                .buildAsync(uri, this)
+                .whenComplete((webSocket, error) -> {
+                    if (error != null) {
+                        connected.completeExceptionally(error);
+                    }
+                });
+        return connected;
+    }
+
+    /**
+     * 최초 협상 (caller만 시작, callee는 OFFER를 받고 응답)
+     */
+    void start() {
+        if (caller) {
+            negotiate(SignalingOpcode.OFFER);
+        }
+    }
+
+    void tick(long round) {
+        send(SignalingMessage.ping(System.nanoTime()));
+        if (caller && options.renegotiateEvery() > 0 && round % options.renegotiateEvery() == 0) {
+            negotiate(SignalingOpcode.OFFER);
+        }
+    }
+
+    CompletableFuture<WebSocket> close() {
+        closing = true;
+        synchronized (this) {
+            if (sendChain == null) {
+                return CompletableFuture.completedFuture(null);
+            }
+            sendChain = sendChain.thenCompose(webSocket -> webSocket.sendClose(WebSocket.NORMAL_CLOSURE, "done"));
+            return sendChain;
+        }
+    }
+
+    private void negotiate(SignalingOpcode sdpType) {
+        String sdp = sdp(System.nanoTime());
+        send(sdpType == SignalingOpcode.OFFER ? SignalingMessage.offer(sdp) : SignalingMessage.answer(sdp));
+        for (int i = 0; i < options.iceCandidates(); i++) {
+            send(SignalingMessage.iceCandidate(candidate(System.nanoTime(), i), "0", 0));
+        }
+        send(SignalingMessage.control(SignalingOpcode.END_OF_CANDIDATES));
+    }
+
+    private void send(SignalingMessage message) {
+        WebSocketMessage<?> frame = codec.encode(message);
+        // 풀 버퍼는 바로 반환하고 전송은 복사본으로
+        Object payload = frame instanceof BinaryMessage binary ? copy(binary.getPayload()) : frame.getPayload();
+        int length = frame.getPayloadLength();
+        codec.release(frame);
+
+        synchronized (this) {
+            if (sendChain == null || closing) {
+                return;
+            }
+            sendChain = sendChain
+                    .thenCompose(webSocket -> payload instanceof ByteBuffer buffer
+                            ? webSocket.sendBinary(buffer, true)
+                            : webSocket.sendText((CharSequence) payload, true))
+                    .whenComplete((webSocket, error) -> {
+                        if (error != null) {
+                            stats.sendFailures.incrementAndGet();
+                        }
+                    });
+        }
+        stats.framesSent.incrementAndGet();
+        stats.bytesSent.addAndGet(length);
+    }
+
+    @Override
+    public void onOpen(WebSocket webSocket) {
+        // 첫 프레임(CONNECTED)보다 먼저 호출되므로 여기서 전송 체인을 준비
+        synchronized (this) {
+            sendChain = CompletableFuture.completedFuture(webSocket);
+        }
+        webSocket.request(1);
+    }
+
+    @Override
+    public CompletionStage<?> onBinary(WebSocket webSocket, ByteBuffer data, boolean last) {
+        if (!last || binaryPart.size() > 0) {
+            byte[] chunk = new byte[data.remaining()];
+            data.get(chunk);
+            binaryPart.writeBytes(chunk);
+            if (!last) {
+                webSocket.request(1);
+                return null;
+            }
+            data = ByteBuffer.wrap(binaryPart.toByteArray());
+            binaryPart.reset();
+        }
+        handle(new BinaryMessage(data));
+        webSocket.request(1);
+        return null;
+    }
+
+    @Override
+    public CompletionStage<?> onText(WebSocket webSocket, CharSequence data, boolean last) {
+        textPart.append(data);
+        if (last) {
+            handle(new TextMessage(textPart.toString()));
+            textPart.setLength(0);
+        }
+        webSocket.request(1);
+        return null;
+    }
+
+    @Override
+    public CompletionStage<?> onClose(WebSocket webSocket, int statusCode, String reason) {
+        if (!closing) {
+            stats.unexpectedCloses.incrementAndGet();
+        }
+        connected.completeExceptionally(new IllegalStateException("연결 종료: " + statusCode + " " + reason));
+        return null;
+    }
+
+    @Override
+    public void onError(WebSocket webSocket, Throwable error) {
+        if (!closing) {
+            stats.unexpectedCloses.incrementAndGet();
+        }
+        connected.completeExceptionally(error);
+    }
+
+    private void handle(WebSocketMessage<?> frame) {
+        long now = System.nanoTime();
+        SignalingMessage message = codec.decode(frame);
+        stats.framesReceived.incrementAndGet();
+
+        switch (message.type()) {
+            case CONNECTED -> {
+                stats.connect.record(now - connectStartNanos);
+                connected.complete(this);
+            }
+            case PONG -> stats.rtt.record(now - message.nonce());
+            case OFFER -> {
+                stats.relay.record(now - originTimestamp(message.sdp()));
+                if (!caller) {
+                    negotiate(SignalingOpcode.ANSWER);
+                }
+            }
+            case ANSWER -> stats.relay.record(now - originTimestamp(message.sdp()));
+            case ICE_CANDIDATE -> stats.relay.record(now - foundation(message.candidate()));
+            case ERROR -> stats.errorFrames.incrementAndGet();
+            default -> {
+            }
+        }
+    }
+
+    private String sdp(long timestamp) {
+        return "v=0\r\no=- " + timestamp + " 2 IN IP4 127.0.0.1\r\n" + sdpBody;
+    }
+
+    private static String candidate(long timestamp, int index) {
+        return "candidate:" + timestamp + " 1 udp 2122260223 10.0." + (index & 0xFF) + ".1 "
+                + (50000 + index) + " typ host generation 0 ufrag LdPz network-id 1";
+    }
+
+    // "o=- <sess-id> ..." 의 sess-id
+    private static long originTimestamp(String sdp) {
+        int start = sdp.indexOf("o=- ") + 4;
+        return Long.parseLong(sdp, start, sdp.indexOf(' ', start), 10);
+    }
+
+    // "candidate:<foundation> ..." 의 foundation
+    private static long foundation(String candidate) {
+        int start = candidate.indexOf(':') + 1;
+        return Long.parseLong(candidate, start, candidate.indexOf(' ', start), 10);
+    }
+
+    private static ByteBuffer copy(ByteBuffer source) {
+        ByteBuffer copy = ByteBuffer.allocate(source.remaining());
+        copy.put(source.duplicate()).flip();
+        return copy;
+    }
+}
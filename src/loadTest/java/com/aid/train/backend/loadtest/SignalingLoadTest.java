@@ -0,0 +1,276 @@
+package com.aid.train.backend.loadtest;
+
+import com.aid.train.backend.TrAInBackendApplication;
+import com.aid.train.backend.domain.scenario.entity.Scenario;
+import com.aid.train.backend.domain.session.entity.DialogueSession;
+import com.aid.train.backend.domain.session.enums.SessionStatus;
+import com.aid.train.backend.domain.user.entity.User;
+import com.aid.train.backend.domain.user.enums.Provider;
+import com.aid.train.backend.repository.scenario.ScenarioRepository;
+import com.aid.train.backend.repository.session.DialogueSessionRepository;
+import com.aid.train.backend.repository.user.UserRepository;
+import com.aid.train.backend.websocket.config.SignalingProperties;
+import com.aid.train.backend.websocket.protocol.BinarySignalingCodec;
+import com.aid.train.backend.websocket.protocol.JsonSignalingCodec;
+import com.aid.train.backend.websocket.protocol.SignalingBufferPool;
+import com.aid.train.backend.websocket.protocol.SignalingCodec;
+import com.aid.train.backend.websocket.protocol.SignalingProtocol;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 시그널링 WebSocket 부하 테스트 (./gradlew signalingLoadTest)
+ *
+ * 1. 애플리케이션을 H2 in-memory DB로 임의 포트에 띄우고
+ * 2. 시나리오와 진행 중 대화 세션(연결 2개당 1개), 세션마다 사용자 한 명을 저장한 뒤
+ *    (수신 속도 제한은 켠 채로 두므로 사용자별 한도가 운영과 같이 세션 단위로 적용됨)
+ * 3. /ws/signaling/{sessionId} 연결을 N개 열고 offer/answer/ICE/ping 메시지를 duration 동안 주고받아
+ * 4. 연결 시간 / RTT / relay 지연 백분위, 처리량, 연결당 힙 사용량을 출력합니다.
+ *
+ * maxP99RttMs / maxP99ConnectMs 를 지정하면 초과 시 종료 코드 1로 끝나므로 회귀 게이트로 쓸 수 있습니다.
+ * RTT / relay 샘플이 기대 개수(연결 수 × PING 횟수, 연결 수)의 minSampleRatio 보다 적어도 실패로 끝납니다
+ * (프레임이 버려지거나 유실되어 백분위가 비어 있는 실행을 통과시키지 않기 위함).
+ * 클라이언트와 서버가 같은 JVM이므로 힙 / CPU 수치에는 클라이언트 몫도 포함됩니다 (변경 전후 비교용).
+ */
+public final class SignalingLoadTest {
+
+    // 지표별 최대 샘플 수 (80MB). 넘는 샘플은 버리고 개수만 보고
+    private static final long MAX_SAMPLES = 10_000_000;
+
+    private SignalingLoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.fromSystemProperties();
+        ConfigurableApplicationContext context = startServer(options);
+        int exitCode;
+        try {
+            int port = Integer.parseInt(context.getEnvironment().getRequiredProperty("local.server.port"));
+            List<String> sessionIds = seed(context, options.connections() / 2);
+            exitCode = run(options, port, sessionIds);
+        } finally {
+            context.close();
+        }
+        System.exit(exitCode);
+    }
+
+    private static ConfigurableApplicationContext startServer(LoadTestOptions options) {
+        // 명령행 인자로 넘겨 로컬 application.yml / .env 보다 우선 적용
+        return SpringApplication.run(TrAInBackendApplication.class,
+                "--server.port=0",
+                "--server.tomcat.max-connections=" + (options.connections() + 1024),
+                "--spring.datasource.url=jdbc:h2:mem:signaling-loadtest;MODE=MariaDB;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.jpa.show-sql=false",
+                "--decorator.datasource.p6spy.enable-logging=false",
+                "--train.signaling.cluster.node-id=loadtest",
+                "--logging.level.root=WARN",
+                "--logging.level.com.aid.train.backend=WARN");
+    }
+
+    private static List<String> seed(ConfigurableApplicationContext context, int sessions) {
+        // 사용자별 수신 한도를 모든 연결이 나눠 쓰지 않도록 세션마다 다른 사용자로 연결
+        List<User> users = new ArrayList<>(sessions);
+        for (int i = 0; i < sessions; i++) {
+            users.add(User.builder()
+                    .email("loadtest-" + i + "@train.local")
+                    .name("부하테스트" + i)
+                    .primaryProvider(Provider.KAKAO)
+                    .emailVerified(true)
+                    .build());
+        }
+        users = context.getBean(UserRepository.class).saveAll(users);
+        Scenario scenario = context.getBean(ScenarioRepository.class).save(Scenario.builder()
+                .title("부하 테스트 시나리오")
+                .prompt("부하 테스트용 프롬프트")
+                .voice(Scenario.Voice.NOVA)
+                .difficulty(Scenario.Difficulty.EASY)
+                .category(Scenario.Category.WORK)
+                .owner(users.get(0))
+                .build());
+
+        List<DialogueSession> dialogueSessions = new ArrayList<>(sessions);
+        for (int i = 0; i < sessions; i++) {
+            dialogueSessions.add(DialogueSession.builder()
+                    .user(users.get(i))
+                    .scenario(scenario)
+                    .status(SessionStatus.ONGOING)
+                    .startedAt(LocalDateTime.now())
+                    .build());
+        }
+        return context.getBean(DialogueSessionRepository.class).saveAll(dialogueSessions).stream()
+                .map(DialogueSession::getSessionId)
+                .toList();
+    }
+
+    private static int run(LoadTestOptions options, int port, List<String> sessionIds) throws Exception {
+        long rounds = Math.max(1, options.duration().toMillis() / Math.max(1, options.pingInterval().toMillis()));
+        int sampleCapacity = (int) Math.min(MAX_SAMPLES,
+                options.connections() * (rounds + 1) * (options.iceCandidates() + 2L));
+        LoadTestStats stats = new LoadTestStats(options.connections(), sampleCapacity);
+        SignalingCodec codec = codec(options.protocol());
+        String sdpBody = sdpBody(options.sdpBytes());
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+
+        printHeader(options, port);
+        long heapBefore = usedHeapAfterGc(memory);
+
+        // 1. 연결 (caller / callee 교대로, 동시 핸드셰이크 수 제한)
+        HttpClient httpClient = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        Semaphore inFlight = new Semaphore(options.connectConcurrency());
+        List<CompletableFuture<SignalingLoadClient>> connecting = new ArrayList<>(options.connections());
+        long connectStart = System.nanoTime();
+        for (String sessionId : sessionIds) {
+            URI uri = URI.create("ws://localhost:" + port + "/ws/signaling/" + sessionId);
+            for (boolean caller : new boolean[]{true, false}) {
+                inFlight.acquire();
+                SignalingLoadClient client = new SignalingLoadClient(caller, codec, options, stats, sdpBody);
+                connecting.add(client.connect(httpClient, uri)
+                        .orTimeout(30, TimeUnit.SECONDS)
+                        .whenComplete((connected, error) -> inFlight.release()));
+            }
+        }
+        List<SignalingLoadClient> clients = new ArrayList<>(options.connections());
+        for (CompletableFuture<SignalingLoadClient> future : connecting) {
+            try {
+                clients.add(future.join());
+            } catch (Exception e) {
+                stats.connectFailures.incrementAndGet();
+            }
+        }
+        double connectSeconds = (System.nanoTime() - connectStart) / 1e9;
+        long heapConnected = usedHeapAfterGc(memory);
+
+        // 2. 메시지 교환 (연결별 tick 시점을 pingInterval 안에서 고르게 분산)
+        ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(
+                Math.max(2, Runtime.getRuntime().availableProcessors() / 2));
+        long intervalNanos = options.pingInterval().toNanos();
+        long sentBefore = stats.framesSent.get();
+        long receivedBefore = stats.framesReceived.get();
+        long exchangeStart = System.nanoTime();
+        for (int i = 0; i < clients.size(); i++) {
+            SignalingLoadClient client = clients.get(i);
+            AtomicLong round = new AtomicLong();
+            client.start();
+            scheduler.scheduleAtFixedRate(() -> client.tick(round.incrementAndGet()),
+                    intervalNanos * i / Math.max(1, clients.size()), intervalNanos, TimeUnit.NANOSECONDS);
+        }
+        Thread.sleep(options.duration().toMillis());
+        scheduler.shutdownNow();
+        double exchangeSeconds = (System.nanoTime() - exchangeStart) / 1e9;
+        long sent = stats.framesSent.get() - sentBefore;
+        long received = stats.framesReceived.get() - receivedBefore;
+
+        // 남은 응답 수신 대기 후 종료
+        Thread.sleep(Math.min(2000, intervalNanos / 1_000_000 * 2));
+        CompletableFuture.allOf(clients.stream().map(SignalingLoadClient::close).toArray(CompletableFuture[]::new))
+                .orTimeout(30, TimeUnit.SECONDS)
+                .exceptionally(error -> null)
+                .join();
+
+        // 3. 결과
+        LatencyRecorder.Snapshot connect = stats.connect.snapshot();
+        LatencyRecorder.Snapshot rtt = stats.rtt.snapshot();
+        LatencyRecorder.Snapshot relay = stats.relay.snapshot();
+        System.out.println();
+        System.out.printf("연결      %d/%d 성공, 실패 %d, %.1fs (%.0f conn/s)%n",
+                clients.size(), options.connections(), stats.connectFailures.get(), connectSeconds,
+                clients.size() / connectSeconds);
+        System.out.println(connect.format());
+        System.out.println(rtt.format());
+        System.out.println(relay.format());
+        System.out.printf("처리량    송신 %.0f msg/s, 수신 %.0f msg/s, 평균 프레임 %d B%n",
+                sent / exchangeSeconds, received / exchangeSeconds,
+                stats.framesSent.get() == 0 ? 0 : stats.bytesSent.get() / stats.framesSent.get());
+        System.out.printf("힙        연결 전 %.1f MB, 연결 후 %.1f MB, 연결당 %.1f KB (클라이언트 포함)%n",
+                heapBefore / 1048576.0, heapConnected / 1048576.0,
+                clients.isEmpty() ? 0 : (heapConnected - heapBefore) / 1024.0 / clients.size());
+        System.out.printf("오류      ERROR 프레임 %d, 전송 실패 %d, 비정상 종료 %d%n",
+                stats.errorFrames.get(), stats.sendFailures.get(), stats.unexpectedCloses.get());
+
+        return gate(options, clients.size(), rounds, connect, rtt, relay);
+    }
+
+    private static int gate(LoadTestOptions options, int connected, long rounds, LatencyRecorder.Snapshot connect,
+                            LatencyRecorder.Snapshot rtt, LatencyRecorder.Snapshot relay) {
+        List<String> failures = new ArrayList<>();
+        if (connected < options.connections()) {
+            failures.add("연결 실패 " + (options.connections() - connected) + "건");
+        }
+        // 연결마다 PING 마다 PONG 하나, 최초 협상에서 상대 SDP 하나 이상을 받아야 함
+        checkSamples(failures, rtt, (long) Math.ceil(connected * rounds * options.minSampleRatio()));
+        checkSamples(failures, relay, (long) Math.ceil(connected * options.minSampleRatio()));
+        if (options.maxP99RttMillis() > 0 && rtt.percentileMillis(99) > options.maxP99RttMillis()) {
+            failures.add(String.format("RTT p99 %.2fms > %dms", rtt.percentileMillis(99), options.maxP99RttMillis()));
+        }
+        if (options.maxP99ConnectMillis() > 0 && connect.percentileMillis(99) > options.maxP99ConnectMillis()) {
+            failures.add(String.format("연결 p99 %.2fms > %dms",
+                    connect.percentileMillis(99), options.maxP99ConnectMillis()));
+        }
+        System.out.println(failures.isEmpty() ? "결과      PASS" : "결과      FAIL - " + String.join(", ", failures));
+        return failures.isEmpty() ? 0 : 1;
+    }
+
+    private static void checkSamples(List<String> failures, LatencyRecorder.Snapshot snapshot, long expectedMinimum) {
+        if (snapshot.count() == 0 || snapshot.count() < expectedMinimum) {
+            failures.add(String.format("%s 샘플 %d < %d", snapshot.name(), snapshot.count(), Math.max(1, expectedMinimum)));
+        }
+    }
+
+    private static void printHeader(LoadTestOptions options, int port) {
+        System.out.printf("시그널링 부하 테스트: port=%d, connections=%d, protocol=%s, duration=%ds, ping=%dms, "
+                        + "ice=%d, renegotiateEvery=%d, sdp=%dB, cpu=%d%n",
+                port, options.connections(), options.protocol(), options.duration().toSeconds(),
+                options.pingInterval().toMillis(), options.iceCandidates(), options.renegotiateEvery(),
+                options.sdpBytes(), Runtime.getRuntime().availableProcessors());
+    }
+
+    private static SignalingCodec codec(SignalingProtocol protocol) {
+        return protocol == SignalingProtocol.BINARY
+                ? new BinarySignalingCodec(new SignalingBufferPool(new SignalingProperties()))
+                : new JsonSignalingCodec(new ObjectMapper());
+    }
+
+    // 브라우저 offer와 비슷한 형태로 지정한 크기만큼 채운 SDP 본문 (v= / o= 줄 제외)
+    private static String sdpBody(int targetBytes) {
+        StringBuilder sdp = new StringBuilder("s=-\r\nt=0 0\r\na=group:BUNDLE 0\r\n"
+                + "m=audio 9 UDP/TLS/RTP/SAVPF 111 63 9 0 8\r\nc=IN IP4 0.0.0.0\r\n"
+                + "a=ice-ufrag:LdPz\r\na=ice-pwd:0N8yGJ3cVd6bH2qS6xK9pT1m\r\na=setup:actpass\r\na=mid:0\r\n"
+                + "a=sendrecv\r\na=rtcp-mux\r\na=rtpmap:111 opus/48000/2\r\na=fmtp:111 minptime=10;useinbandfec=1\r\n");
+        int line = 0;
+        while (sdp.length() < targetBytes) {
+            sdp.append("a=extmap:").append(++line).append(" urn:ietf:params:rtp-hdrext:sdes:mid\r\n");
+        }
+        return sdp.toString();
+    }
+
+    private static long usedHeapAfterGc(MemoryMXBean memory) throws InterruptedException {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(200);
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
@@ -0,0 +1,71 @@
+package com.aid.train.backend.controller.feedback;
+
+import com.aid.train.backend.domain.feedback.dto.request.FeedbackRecordRequest;
+import com.aid.train.backend.domain.feedback.dto.response.FeedbackScoreAverages;
+import com.aid.train.backend.domain.feedback.dto.response.FeedbackScorePoint;
+import com.aid.train.backend.domain.feedback.enums.ScoreDimension;
+import com.aid.train.backend.global.common.response.ApiResponse;
+import com.aid.train.backend.service.FeedbackService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 피드백 저장 / 점수 조회 (성장 그래프)
+ */
+@RestController
+@RequestMapping("/api/feedback")
+@RequiredArgsConstructor
+public class FeedbackController {
+
+    private final FeedbackService feedbackService;
+
+    /**
+     * 세션 피드백 저장 (AI 평가 결과, 저장할 때 한 번만 파싱)
+     */
+    @PostMapping("/sessions/{dialogueSessionId}")
+    public ResponseEntity<?> recordFeedback(@PathVariable Long dialogueSessionId,
+                                            @Valid @RequestBody FeedbackRecordRequest request) {
+        Long feedbackId = feedbackService.record(dialogueSessionId, request.audioUrl(), request.transcript(),
+                request.scoresJson(), request.improvementsJson()).getId();
+        return ResponseEntity.ok().body(ApiResponse.success(dialogueSessionId + "번 세션의 피드백 저장에 성공했습니다.", feedbackId));
+    }
+
+    /**
+     * 점수 추이 (dimension 이 없으면 종합 점수)
+     */
+    @GetMapping("/users/{userId}/scores")
+    public ResponseEntity<?> findScoreSeries(@PathVariable Long userId,
+                                             @RequestParam(required = false) ScoreDimension dimension,
+                                             @RequestParam(required = false)
+                                             @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                             @RequestParam(defaultValue = "100") int size) {
+        List<FeedbackScorePoint> series = feedbackService.getScoreSeries(userId, dimension, from, size);
+        return ResponseEntity.ok().body(ApiResponse.success(userId + "번 사용자의 점수 추이 조회에 성공했습니다.", series));
+    }
+
+    /**
+     * 점수가 threshold 미만인 세션 (점수가 낮은 순, dimension 이 없으면 종합 점수)
+     */
+    @GetMapping("/users/{userId}/scores/below")
+    public ResponseEntity<?> findScoresBelow(@PathVariable Long userId,
+                                             @RequestParam(required = false) ScoreDimension dimension,
+                                             @RequestParam(defaultValue = "60") int threshold,
+                                             @RequestParam(defaultValue = "20") int size) {
+        List<FeedbackScorePoint> sessions = feedbackService.getScoresBelow(userId, dimension, threshold, size);
+        return ResponseEntity.ok().body(ApiResponse.success(userId + "번 사용자의 기준 미만 점수 조회에 성공했습니다.", sessions));
+    }
+
+    @GetMapping("/users/{userId}/scores/average")
+    public ResponseEntity<?> findScoreAverages(@PathVariable Long userId,
+                                               @RequestParam(required = false)
+                                               @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from) {
+        FeedbackScoreAverages averages = feedbackService.getScoreAverages(userId, from);
+        return ResponseEntity.ok().body(ApiResponse.success(userId + "번 사용자의 점수 평균 조회에 성공했습니다.", averages));
+    }
+}
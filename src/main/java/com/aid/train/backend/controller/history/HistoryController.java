@@ -0,0 +1,40 @@
+package com.aid.train.backend.controller.history;
+
+import com.aid.train.backend.domain.history.dto.response.GrowthPoint;
+import com.aid.train.backend.domain.history.enums.RollupGranularity;
+import com.aid.train.backend.domain.scenario.entity.Scenario;
+import com.aid.train.backend.global.common.response.ApiResponse;
+import com.aid.train.backend.service.HistoryService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 성장 추이 조회
+ */
+@RestController
+@RequestMapping("/api/history")
+@RequiredArgsConstructor
+public class HistoryController {
+
+    private final HistoryService historyService;
+
+    /**
+     * 일 / 주 / 월별 점수 추이 (category 가 없으면 전체)
+     */
+    @GetMapping("/users/{userId}/growth")
+    public ResponseEntity<?> findGrowth(@PathVariable Long userId,
+                                        @RequestParam(defaultValue = "WEEK") RollupGranularity granularity,
+                                        @RequestParam(required = false) Scenario.Category category,
+                                        @RequestParam(required = false)
+                                        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                        @RequestParam(required = false)
+                                        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        List<GrowthPoint> growth = historyService.getGrowth(userId, granularity, category, from, to);
+        return ResponseEntity.ok().body(ApiResponse.success(userId + "번 사용자의 성장 추이 조회에 성공했습니다.", growth));
+    }
+}
@@ -0,0 +1,48 @@
+package com.aid.train.backend.controller.history;
+
+import com.aid.train.backend.domain.history.dto.response.LeaderboardEntry;
+import com.aid.train.backend.domain.history.dto.response.LeaderboardRank;
+import com.aid.train.backend.global.common.response.ApiResponse;
+import com.aid.train.backend.service.LeaderboardService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * 점수 순위표 (사용자별 최고 종합 점수)
+ */
+@RestController
+@RequestMapping("/api/leaderboard")
+@RequiredArgsConstructor
+public class LeaderboardController {
+
+    private final LeaderboardService leaderboardService;
+
+    @GetMapping
+    public ResponseEntity<?> findTop(@RequestParam(defaultValue = "" + LeaderboardService.DEFAULT_SIZE) int size) {
+        List<LeaderboardEntry> entries = leaderboardService.top(size);
+        return ResponseEntity.ok().body(ApiResponse.success("전체 순위 조회에 성공했습니다.", entries));
+    }
+
+    @GetMapping("/users/{userId}")
+    public ResponseEntity<?> findRank(@PathVariable Long userId) {
+        LeaderboardRank rank = leaderboardService.rank(userId);
+        return ResponseEntity.ok().body(ApiResponse.success(userId + "번 사용자의 전체 순위 조회에 성공했습니다.", rank));
+    }
+
+    @GetMapping("/scenarios/{scenarioId}")
+    public ResponseEntity<?> findScenarioTop(@PathVariable Long scenarioId,
+                                             @RequestParam(defaultValue = "" + LeaderboardService.DEFAULT_SIZE) int size) {
+        List<LeaderboardEntry> entries = leaderboardService.top(scenarioId, size);
+        return ResponseEntity.ok().body(ApiResponse.success(scenarioId + "번 시나리오 순위 조회에 성공했습니다.", entries));
+    }
+
+    @GetMapping("/scenarios/{scenarioId}/users/{userId}")
+    public ResponseEntity<?> findScenarioRank(@PathVariable Long scenarioId, @PathVariable Long userId) {
+        LeaderboardRank rank = leaderboardService.rank(scenarioId, userId);
+        return ResponseEntity.ok().body(ApiResponse.success(
+                userId + "번 사용자의 " + scenarioId + "번 시나리오 순위 조회에 성공했습니다.", rank));
+    }
+}
@@ -1,17 +1,26 @@
 package com.aid.train.backend.controller.scenario;
 
+import com.aid.train.backend.domain.scenario.dto.request.ScenarioFilterCondition;
 import com.aid.train.backend.domain.scenario.dto.request.ScenarioRequestDto;
+import com.aid.train.backend.domain.scenario.dto.response.ScenarioModerationStatus;
+import com.aid.train.backend.domain.scenario.dto.response.ScenarioSummary;
 import com.aid.train.backend.domain.scenario.entity.Scenario;
-import com.aid.train.backend.domain.user.entity.User;
+import com.aid.train.backend.global.common.pagination.KeysetPage;
 import com.aid.train.backend.global.common.response.ApiResponse;
 import com.aid.train.backend.repository.scenario.ScenarioRepository;
-import com.aid.train.backend.repository.user.UserRepository;
+import com.aid.train.backend.service.ScenarioCatalogCache;
+import com.aid.train.backend.service.ScenarioService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
+import java.net.URI;
+
 
 @RestController
 @RequestMapping("/api/scenario")
@@ -20,7 +29,8 @@ import java.util.List;
 public class ScenarioController {
 
     private final ScenarioRepository scenarioRepository;
-    private final UserRepository userRepository;
+    private final ScenarioCatalogCache scenarioCatalogCache;
+    private final ScenarioService scenarioService;
 
     @GetMapping("/{id}")
     public ResponseEntity<?> findScenario(@PathVariable Long id) {
@@ -28,18 +38,70 @@ public class ScenarioController {
         return ResponseEntity.ok().body(ApiResponse.success(id + "번 시나리오 조회에 성공했습니다.", scenario));
     }
 
+    /**
+     * 공개 시나리오 목록 (캐시된 JSON 바이트를 그대로 응답, If-None-Match 일치 시 304)
+     */
     @GetMapping
-    public ResponseEntity<?> findAllScenarios() {
-        List<Scenario> allScenario = scenarioRepository.findAllScenario();
-        return ResponseEntity.ok().body(ApiResponse.success("전체 시나리오 조회를 성공했습니다.", allScenario));
+    public ResponseEntity<byte[]> findAllScenarios(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        ScenarioCatalogCache.Catalog catalog = scenarioCatalogCache.get();
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+        String etag = gzip ? catalog.gzipEtag() : catalog.etag();
+
+        if (catalog.matches(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(CacheControl.noCache())
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(catalog.gzip());
+        }
+        return response.body(catalog.json());
+    }
+
+    /**
+     * 조건별 공개 시나리오 목록 (요약 컬럼만, 커서 페이지)
+     */
+    @GetMapping("/filter")
+    public ResponseEntity<?> filterScenarios(@RequestParam(required = false) Scenario.Category category,
+                                             @RequestParam(required = false) Scenario.Difficulty difficulty,
+                                             @RequestParam(required = false) Scenario.Voice voice,
+                                             @RequestParam(required = false) String locale,
+                                             @RequestParam(required = false) ScenarioFilterCondition.ScenarioSort sort,
+                                             @RequestParam(required = false) String cursor,
+                                             @RequestParam(defaultValue = "20") int size) {
+        ScenarioFilterCondition condition = new ScenarioFilterCondition(category, difficulty, voice, locale, sort);
+        KeysetPage<ScenarioSummary> page = scenarioRepository.findPublishedPage(condition, cursor, size);
+        return ResponseEntity.ok().body(ApiResponse.success("조건별 시나리오 조회에 성공했습니다.", page));
     }
 
+    /**
+     * 사용자 시나리오 생성 (검수는 비동기, 202 응답의 Location 으로 검수 상태 조회)
+     */
     @PutMapping
     public ResponseEntity<?> createNewScenario(@RequestBody ScenarioRequestDto dto) {
-        User user = userRepository.findById(dto.ownerId()).orElseThrow();
-        Scenario entity = Scenario.toEntity(dto,user);
-        Scenario saved = scenarioRepository.save(entity);
-        return ResponseEntity.ok().body(ApiResponse.success(user.getName() + "님의 시나리오 생성을 성공했습니다.", saved));
+        ScenarioModerationStatus status = scenarioService.createScenario(dto);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/scenario/" + status.scenarioId() + "/status"))
+                .body(ApiResponse.success("시나리오를 저장했습니다. 검수 후 공개됩니다.", status));
+    }
+
+    /**
+     * 시나리오 검수 상태 (DRAFT 이면 검수 대기 중)
+     */
+    @GetMapping("/{id}/status")
+    public ResponseEntity<?> findModerationStatus(@PathVariable Long id) {
+        return scenarioService.getModerationStatus(id)
+                .map(status -> ResponseEntity.ok().body(ApiResponse.success(id + "번 시나리오 검수 상태 조회에 성공했습니다.", status)))
+                .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
 }
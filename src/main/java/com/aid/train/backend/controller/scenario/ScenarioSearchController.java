@@ -0,0 +1,31 @@
+package com.aid.train.backend.controller.scenario;
+
+import com.aid.train.backend.domain.scenario.dto.response.ScenarioSearchHit;
+import com.aid.train.backend.global.common.response.ApiResponse;
+import com.aid.train.backend.service.ScenarioSearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/scenario/search")
+@RequiredArgsConstructor
+public class ScenarioSearchController {
+
+    private final ScenarioSearchService scenarioSearchService;
+
+    /**
+     * 시나리오 검색 (제목 / 설명 / 프롬프트, 점수순)
+     */
+    @GetMapping
+    public ResponseEntity<?> search(@RequestParam(name = "q", defaultValue = "") String query,
+                                    @RequestParam(defaultValue = "" + ScenarioSearchService.DEFAULT_SIZE) int size) {
+        List<ScenarioSearchHit> hits = scenarioSearchService.search(query, size);
+        return ResponseEntity.ok().body(ApiResponse.success("시나리오 검색에 성공했습니다.", hits));
+    }
+}
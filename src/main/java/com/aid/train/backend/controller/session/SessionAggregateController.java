@@ -0,0 +1,31 @@
+package com.aid.train.backend.controller.session;
+
+import com.aid.train.backend.domain.session.dto.response.SessionAggregateResponse;
+import com.aid.train.backend.global.common.response.ApiResponse;
+import com.aid.train.backend.service.SessionAggregateService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 세션 집계 조회 (미리 계산된 값만 읽음)
+ */
+@RestController
+@RequestMapping("/api/session")
+@RequiredArgsConstructor
+public class SessionAggregateController {
+
+    private final SessionAggregateService sessionAggregateService;
+
+    @GetMapping("/users/{userId}/summary")
+    public ResponseEntity<?> findUserSummary(@PathVariable Long userId) {
+        SessionAggregateResponse summary = SessionAggregateResponse.from(sessionAggregateService.getUserAggregate(userId));
+        return ResponseEntity.ok().body(ApiResponse.success(userId + "번 사용자의 세션 집계 조회에 성공했습니다.", summary));
+    }
+
+    @GetMapping("/summary")
+    public ResponseEntity<?> findGlobalSummary() {
+        SessionAggregateResponse summary = SessionAggregateResponse.from(sessionAggregateService.getGlobalAggregate());
+        return ResponseEntity.ok().body(ApiResponse.success("전체 세션 집계 조회에 성공했습니다.", summary));
+    }
+}
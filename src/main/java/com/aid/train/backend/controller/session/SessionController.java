@@ -0,0 +1,42 @@
+package com.aid.train.backend.controller.session;
+
+import com.aid.train.backend.domain.session.dto.response.SessionSummary;
+import com.aid.train.backend.domain.session.enums.SessionStatus;
+import com.aid.train.backend.global.common.pagination.KeysetPage;
+import com.aid.train.backend.global.common.response.ApiResponse;
+import com.aid.train.backend.repository.session.DialogueSessionRepository;
+import com.aid.train.backend.service.SpeechAnalyticsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/session")
+@RequiredArgsConstructor
+public class SessionController {
+
+    private final DialogueSessionRepository dialogueSessionRepository;
+    private final SpeechAnalyticsService speechAnalyticsService;
+
+    /**
+     * 사용자의 세션 목록 (요약 컬럼만, 최신순 커서 페이지)
+     */
+    @GetMapping("/users/{userId}")
+    public ResponseEntity<?> findUserSessions(@PathVariable Long userId,
+                                              @RequestParam(required = false) SessionStatus status,
+                                              @RequestParam(required = false) String cursor,
+                                              @RequestParam(defaultValue = "20") int size) {
+        KeysetPage<SessionSummary> page = dialogueSessionRepository.findSummaryPageByUserId(userId, status, cursor, size);
+        return ResponseEntity.ok().body(ApiResponse.success(userId + "번 사용자의 세션 목록 조회에 성공했습니다.", page));
+    }
+
+    /**
+     * 세션 발화 분석 (발화 속도, 턴 전환 지연, 침묵, 겹침, 신뢰도)
+     */
+    @GetMapping("/{dialogueSessionId}/analytics")
+    public ResponseEntity<?> findSpeechAnalytics(@PathVariable Long dialogueSessionId) {
+        return speechAnalyticsService.analyze(dialogueSessionId)
+                .map(analytics -> ResponseEntity.ok().body(ApiResponse.success(dialogueSessionId + "번 세션의 발화 분석에 성공했습니다.", analytics)))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
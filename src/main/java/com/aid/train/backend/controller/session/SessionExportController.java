@@ -0,0 +1,58 @@
+package com.aid.train.backend.controller.session;
+
+import com.aid.train.backend.global.common.export.ExportFormat;
+import com.aid.train.backend.service.SessionExportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.Optional;
+
+/**
+ * 발화 내역 / 세션 이력 내보내기 (format=ndjson | csv)
+ */
+@RestController
+@RequestMapping("/api/session")
+@RequiredArgsConstructor
+public class SessionExportController {
+
+    private final SessionExportService sessionExportService;
+
+    @GetMapping("/{dialogueSessionId}/transcripts/export")
+    public ResponseEntity<StreamingResponseBody> exportTranscripts(@PathVariable Long dialogueSessionId,
+                                                                   @RequestParam(defaultValue = "ndjson") String format) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        if (exportFormat == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        return attachment(sessionExportService.exportTranscripts(dialogueSessionId, exportFormat),
+                exportFormat, "session-" + dialogueSessionId + "-transcripts");
+    }
+
+    @GetMapping("/users/{userId}/export")
+    public ResponseEntity<StreamingResponseBody> exportSessions(@PathVariable Long userId,
+                                                                @RequestParam(defaultValue = "ndjson") String format) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        if (exportFormat == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        return attachment(sessionExportService.exportSessions(userId, exportFormat),
+                exportFormat, "user-" + userId + "-sessions");
+    }
+
+    private static ResponseEntity<StreamingResponseBody> attachment(Optional<StreamingResponseBody> body,
+                                                                    ExportFormat format, String filename) {
+        return body
+                .map(stream -> ResponseEntity.ok()
+                        .contentType(format.mediaType())
+                        .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                                .filename(filename + "." + format.extension())
+                                .build()
+                                .toString())
+                        .body(stream))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
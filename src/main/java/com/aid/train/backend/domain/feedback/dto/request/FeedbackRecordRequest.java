@@ -0,0 +1,24 @@
+package com.aid.train.backend.domain.feedback.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+
+/**
+ * 세션 피드백 저장 요청 (AI 평가 결과)
+ *
+ * @param audioUrl         세션 녹음 URL
+ * @param transcript       평가에 사용한 대화 내용
+ * @param scoresJson       AI 점수 JSON (원본 그대로 보관)
+ * @param improvementsJson AI 개선점 JSON
+ */
+public record FeedbackRecordRequest(
+
+        String audioUrl,
+
+        String transcript,
+
+        @NotBlank(message = "점수 JSON은 필수입니다.")
+        String scoresJson,
+
+        String improvementsJson
+) {
+}
@@ -0,0 +1,17 @@
+package com.aid.train.backend.domain.feedback.dto.response;
+
+/**
+ * 점수 항목별 평균 (값이 있는 피드백만 평균, 없으면 null)
+ *
+ * @param feedbackCount 피드백 수
+ */
+public record FeedbackScoreAverages(
+        long feedbackCount,
+        Double clarity,
+        Double fluency,
+        Double logic,
+        Double empathy,
+        Double attitude,
+        Double total
+) {
+}
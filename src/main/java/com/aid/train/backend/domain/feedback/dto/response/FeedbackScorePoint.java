@@ -0,0 +1,13 @@
+package com.aid.train.backend.domain.feedback.dto.response;
+
+import java.time.LocalDateTime;
+
+/**
+ * 세션 한 건의 점수 (성장 추이 그래프의 점 하나)
+ *
+ * @param dialogueSessionId dialogue_sessions PK
+ * @param startedAt         세션 시작 시각
+ * @param score             점수 (0 ~ 100)
+ */
+public record FeedbackScorePoint(Long dialogueSessionId, LocalDateTime startedAt, Integer score) {
+}
@@ -7,6 +7,8 @@ import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 /**
  * 피드백 엔티티
  *
@@ -35,11 +37,21 @@ public class Feedback {
     @Column(columnDefinition = "TEXT")
     private String transcript;
 
-    @Column(columnDefinition = "JSON")
-    private String scores;
+    // AI가 보낸 원본 JSON (보관용, 조회는 scores / improvements 사용)
+    @Column(name = "scores", columnDefinition = "JSON")
+    private String rawScores;
 
-    @Column(columnDefinition = "JSON")
-    private String improvements;
+    @Column(name = "improvements", columnDefinition = "JSON")
+    private String rawImprovements;
+
+    // 저장 시 rawScores 를 파싱한 항목별 점수
+    @Embedded
+    private FeedbackScores scores;
+
+    @OneToMany(mappedBy = "feedback", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OrderBy("position ASC")
+    @Builder.Default
+    private List<FeedbackImprovement> improvements = new ArrayList<>();
 
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
@@ -48,4 +60,16 @@ public class Feedback {
     @LastModifiedDate
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
+
+    /**
+     * 파싱된 점수와 개선점을 반영합니다. (기존 개선점은 교체)
+     */
+    public void applyParsed(FeedbackScores scores, List<FeedbackImprovement> improvements) {
+        this.scores = scores;
+        this.improvements.clear();
+        for (FeedbackImprovement improvement : improvements) {
+            improvement.attachTo(this, this.improvements.size());
+            this.improvements.add(improvement);
+        }
+    }
 }
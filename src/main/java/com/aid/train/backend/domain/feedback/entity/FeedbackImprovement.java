@@ -0,0 +1,47 @@
+package com.aid.train.backend.domain.feedback.entity;
+
+import com.aid.train.backend.domain.feedback.enums.ScoreDimension;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 피드백 개선점 (피드백 한 건에 여러 개, 표시 순서 유지)
+ */
+@Entity
+@Table(name = "feedback_improvements", indexes = {
+        @Index(name = "idx_feedback_position", columnList = "feedback_id, position")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@ToString(exclude = "feedback")
+public class FeedbackImprovement {
+
+    public static final int CONTENT_MAX_LENGTH = 1000;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "feedback_id", nullable = false)
+    private Feedback feedback;
+
+    // 0부터 시작하는 표시 순서
+    @Column(nullable = false)
+    private int position;
+
+    // 관련 점수 항목 (없으면 null)
+    @Enumerated(EnumType.STRING)
+    @Column(length = 16)
+    private ScoreDimension dimension;
+
+    @Column(nullable = false, length = CONTENT_MAX_LENGTH)
+    private String content;
+
+    void attachTo(Feedback feedback, int position) {
+        this.feedback = feedback;
+        this.position = position;
+    }
+}
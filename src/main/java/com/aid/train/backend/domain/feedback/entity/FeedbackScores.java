@@ -0,0 +1,87 @@
+package com.aid.train.backend.domain.feedback.entity;
+
+import com.aid.train.backend.domain.feedback.enums.ScoreDimension;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 피드백 점수 (feedback 테이블에 항목별 컬럼으로 저장)
+ *
+ * 저장 시 AI 피드백 JSON을 한 번만 파싱해 채우므로, 조회 / 집계는 JSON을 읽지 않고 컬럼으로 처리합니다.
+ * 값이 없는 항목은 null 이며, total 이 JSON에 없으면 있는 항목의 평균(반올림)으로 채웁니다.
+ */
+@Getter
+@Embeddable
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class FeedbackScores {
+
+    public static final int MIN_SCORE = 0;
+    public static final int MAX_SCORE = 100;
+
+    @Column(name = "score_clarity")
+    private Integer clarity;
+
+    @Column(name = "score_fluency")
+    private Integer fluency;
+
+    @Column(name = "score_logic")
+    private Integer logic;
+
+    @Column(name = "score_empathy")
+    private Integer empathy;
+
+    @Column(name = "score_attitude")
+    private Integer attitude;
+
+    @Column(name = "score_total")
+    private Integer total;
+
+    /**
+     * @param values ScoreDimension 순서의 점수 (없으면 null)
+     * @param total  종합 점수, null 이면 항목 평균
+     */
+    public static FeedbackScores of(Integer[] values, Integer total) {
+        FeedbackScores scores = new FeedbackScores();
+        scores.clarity = clamp(values[ScoreDimension.CLARITY.ordinal()]);
+        scores.fluency = clamp(values[ScoreDimension.FLUENCY.ordinal()]);
+        scores.logic = clamp(values[ScoreDimension.LOGIC.ordinal()]);
+        scores.empathy = clamp(values[ScoreDimension.EMPATHY.ordinal()]);
+        scores.attitude = clamp(values[ScoreDimension.ATTITUDE.ordinal()]);
+        scores.total = total != null ? clamp(total) : scores.average();
+        return scores;
+    }
+
+    public Integer get(ScoreDimension dimension) {
+        return switch (dimension) {
+            case CLARITY -> clarity;
+            case FLUENCY -> fluency;
+            case LOGIC -> logic;
+            case EMPATHY -> empathy;
+            case ATTITUDE -> attitude;
+        };
+    }
+
+    public boolean isEmpty() {
+        return total == null;
+    }
+
+    private Integer average() {
+        int sum = 0;
+        int count = 0;
+        for (ScoreDimension dimension : ScoreDimension.values()) {
+            Integer value = get(dimension);
+            if (value != null) {
+                sum += value;
+                count++;
+            }
+        }
+        return count == 0 ? null : Math.round((float) sum / count);
+    }
+
+    private static Integer clamp(Integer value) {
+        return value == null ? null : Math.max(MIN_SCORE, Math.min(MAX_SCORE, value));
+    }
+}
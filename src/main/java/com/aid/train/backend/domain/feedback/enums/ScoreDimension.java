@@ -0,0 +1,44 @@
+package com.aid.train.backend.domain.feedback.enums;
+
+import lombok.Getter;
+
+import java.util.Locale;
+
+/**
+ * 피드백 점수 항목 (0 ~ 100)
+ */
+@Getter
+public enum ScoreDimension {
+    CLARITY("clarity", "명확성"),
+    FLUENCY("fluency", "유창성"),
+    LOGIC("logic", "논리성"),
+    EMPATHY("empathy", "공감"),
+    ATTITUDE("attitude", "태도");
+
+    // AI 피드백 JSON 의 키
+    private final String key;
+    private final String description;
+
+    ScoreDimension(String key, String description) {
+        this.key = key;
+        this.description = description;
+    }
+
+    /**
+     * JSON 키 또는 enum 이름으로 찾습니다.
+     *
+     * @return 없으면 null
+     */
+    public static ScoreDimension from(String value) {
+        if (value == null) {
+            return null;
+        }
+        String normalized = value.trim().toLowerCase(Locale.ROOT);
+        for (ScoreDimension dimension : values()) {
+            if (dimension.key.equals(normalized)) {
+                return dimension;
+            }
+        }
+        return null;
+    }
+}
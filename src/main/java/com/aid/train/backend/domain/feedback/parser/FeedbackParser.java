@@ -0,0 +1,149 @@
+package com.aid.train.backend.domain.feedback.parser;
+
+import com.aid.train.backend.domain.feedback.entity.FeedbackImprovement;
+import com.aid.train.backend.domain.feedback.entity.FeedbackScores;
+import com.aid.train.backend.domain.feedback.enums.ScoreDimension;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * AI 피드백 JSON → 점수 / 개선점 (저장 시 한 번만 실행)
+ *
+ * 점수 JSON은 다음 형태를 모두 받습니다. 알 수 없는 키는 무시하고, 숫자 문자열("80")과 소수(79.6 → 80)도 받습니다.
+ * <ul>
+ *     <li>{@code {"clarity": 80, "fluency": 75, "total": 78}}</li>
+ *     <li>{@code {"scores": {"clarity": 80, ...}}}</li>
+ *     <li>{@code [{"dimension": "clarity", "score": 80}, ...]}</li>
+ * </ul>
+ * 개선점 JSON은 문자열 배열 또는 {@code [{"dimension": "logic", "content": "..."}]} (content 대신 text / suggestion 도 가능)입니다.
+ */
+public class FeedbackParser {
+
+    private static final String TOTAL_KEY = "total";
+    private static final String[] NAME_FIELDS = {"dimension", "name", "key"};
+    private static final String[] SCORE_FIELDS = {"score", "value"};
+    private static final String[] CONTENT_FIELDS = {"content", "text", "suggestion"};
+
+    private final ObjectMapper objectMapper;
+
+    public FeedbackParser(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * @throws IllegalArgumentException JSON 형식이 아닐 때
+     */
+    public ParsedFeedback parse(String scoresJson, String improvementsJson) {
+        return new ParsedFeedback(parseScores(scoresJson), parseImprovements(improvementsJson));
+    }
+
+    public FeedbackScores parseScores(String json) {
+        Integer[] values = new Integer[ScoreDimension.values().length];
+        Integer total = null;
+        JsonNode root = read(json, "점수");
+        if (root.isObject() && root.has("scores")) {
+            root = root.get("scores");
+        }
+        if (root.isObject()) {
+            for (var fields = root.fields(); fields.hasNext(); ) {
+                var field = fields.next();
+                if (TOTAL_KEY.equalsIgnoreCase(field.getKey())) {
+                    total = score(field.getValue());
+                } else {
+                    set(values, ScoreDimension.from(field.getKey()), score(field.getValue()));
+                }
+            }
+        } else if (root.isArray()) {
+            for (JsonNode item : root) {
+                String name = text(item, NAME_FIELDS);
+                Integer score = score(first(item, SCORE_FIELDS));
+                if (TOTAL_KEY.equalsIgnoreCase(name)) {
+                    total = score;
+                } else {
+                    set(values, ScoreDimension.from(name), score);
+                }
+            }
+        }
+        return FeedbackScores.of(values, total);
+    }
+
+    public List<FeedbackImprovement> parseImprovements(String json) {
+        List<FeedbackImprovement> improvements = new ArrayList<>();
+        JsonNode root = read(json, "개선점");
+        if (root.isObject() && root.has("improvements")) {
+            root = root.get("improvements");
+        }
+        if (!root.isArray()) {
+            return improvements;
+        }
+        for (JsonNode item : root) {
+            String content = item.isTextual() ? item.asText() : text(item, CONTENT_FIELDS);
+            if (content == null || content.isBlank()) {
+                continue;
+            }
+            content = content.strip();
+            if (content.length() > FeedbackImprovement.CONTENT_MAX_LENGTH) {
+                content = content.substring(0, FeedbackImprovement.CONTENT_MAX_LENGTH);
+            }
+            improvements.add(FeedbackImprovement.builder()
+                    .position(improvements.size())
+                    .dimension(item.isObject() ? ScoreDimension.from(text(item, NAME_FIELDS)) : null)
+                    .content(content)
+                    .build());
+        }
+        return improvements;
+    }
+
+    private JsonNode read(String json, String name) {
+        if (json == null || json.isBlank()) {
+            return objectMapper.missingNode();
+        }
+        try {
+            return objectMapper.readTree(json);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("피드백 " + name + " JSON 형식이 올바르지 않습니다.", e);
+        }
+    }
+
+    private static void set(Integer[] values, ScoreDimension dimension, Integer score) {
+        if (dimension != null && score != null) {
+            values[dimension.ordinal()] = score;
+        }
+    }
+
+    private static Integer score(JsonNode node) {
+        if (node == null || node.isNull()) {
+            return null;
+        }
+        if (node.isNumber()) {
+            return (int) Math.round(node.asDouble());
+        }
+        if (node.isTextual()) {
+            try {
+                return (int) Math.round(Double.parseDouble(node.asText().trim()));
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    private static JsonNode first(JsonNode node, String[] fields) {
+        for (String field : fields) {
+            JsonNode value = node.get(field);
+            if (value != null && !value.isNull()) {
+                return value;
+            }
+        }
+        return null;
+    }
+
+    private static String text(JsonNode node, String[] fields) {
+        JsonNode value = first(node, fields);
+        return value != null && value.isValueNode() ? value.asText() : null;
+    }
+}
@@ -0,0 +1,15 @@
+package com.aid.train.backend.domain.feedback.parser;
+
+import com.aid.train.backend.domain.feedback.entity.FeedbackImprovement;
+import com.aid.train.backend.domain.feedback.entity.FeedbackScores;
+
+import java.util.List;
+
+/**
+ * AI 피드백 JSON 파싱 결과
+ *
+ * @param scores       항목별 점수
+ * @param improvements 개선점 (표시 순서, 아직 Feedback에 연결되지 않음)
+ */
+public record ParsedFeedback(FeedbackScores scores, List<FeedbackImprovement> improvements) {
+}
@@ -0,0 +1,12 @@
+package com.aid.train.backend.domain.history.dto;
+
+/**
+ * 사용자 / 시나리오별 최고 점수 (순위표 적재용)
+ *
+ * @param userId        사용자 ID
+ * @param scenarioId    시나리오 ID, 기록되지 않은 기존 히스토리는 null
+ * @param score         최고 점수
+ * @param lastHistoryId 포함된 히스토리 중 가장 큰 id
+ */
+public record UserBestScore(Long userId, Long scenarioId, Integer score, Long lastHistoryId) {
+}
@@ -0,0 +1,22 @@
+package com.aid.train.backend.domain.history.dto.response;
+
+import com.aid.train.backend.domain.history.entity.HistoryRollup;
+
+import java.time.LocalDate;
+
+/**
+ * 성장 그래프의 구간 하나
+ *
+ * @param bucketStart  구간 시작일
+ * @param sessionCount 완료한 세션 수
+ * @param averageScore 평균 점수
+ * @param minScore     최저 점수
+ * @param maxScore     최고 점수
+ */
+public record GrowthPoint(LocalDate bucketStart, long sessionCount, double averageScore, int minScore, int maxScore) {
+
+    public static GrowthPoint from(HistoryRollup rollup) {
+        return new GrowthPoint(rollup.getKey().getBucketStart(), rollup.getSessionCount(), rollup.averageScore(),
+                rollup.getScoreMin(), rollup.getScoreMax());
+    }
+}
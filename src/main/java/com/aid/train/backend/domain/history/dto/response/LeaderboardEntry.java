@@ -0,0 +1,11 @@
+package com.aid.train.backend.domain.history.dto.response;
+
+/**
+ * 순위표의 한 줄
+ *
+ * @param rank   순위 (같은 점수는 같은 순위)
+ * @param userId 사용자 ID
+ * @param score  최고 점수
+ */
+public record LeaderboardEntry(int rank, long userId, int score) {
+}
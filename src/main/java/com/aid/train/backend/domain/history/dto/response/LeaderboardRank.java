@@ -0,0 +1,13 @@
+package com.aid.train.backend.domain.history.dto.response;
+
+/**
+ * 사용자의 순위
+ *
+ * @param userId       사용자 ID
+ * @param score        최고 점수
+ * @param rank         순위 (같은 점수는 같은 순위)
+ * @param participants 순위표의 전체 인원
+ * @param topPercent   상위 몇 % 인지 (rank / participants × 100)
+ */
+public record LeaderboardRank(long userId, int score, int rank, int participants, double topPercent) {
+}
@@ -1,5 +1,6 @@
 package com.aid.train.backend.domain.history.entity;
 
+import com.aid.train.backend.domain.scenario.entity.Scenario;
 import com.aid.train.backend.domain.user.entity.User;
 import jakarta.persistence.*;
 import lombok.*;
@@ -40,9 +41,18 @@ public class History {
     @Column(name = "completed_at", nullable = false)
     private LocalDateTime completedAt;
 
+    // 시나리오별 순위표용 (컬럼 추가 전 행은 HistoryRepository#fillMissingScenarioIds 로 채움)
+    @Column(name = "scenario_id")
+    private Long scenarioId;
+
     @Column(name = "scenario_title", length = 120)
     private String scenarioTitle;
 
+    // 카테고리별 성장 추이용 (컬럼 추가 전 행은 HistoryRollupRepository#fillMissingCategories 로 채움)
+    @Enumerated(EnumType.STRING)
+    @Column(length = 24)
+    private Scenario.Category category;
+
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
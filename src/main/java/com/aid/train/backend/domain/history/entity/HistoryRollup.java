@@ -0,0 +1,42 @@
+package com.aid.train.backend.domain.history.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 성장 추이 집계 (일 / 주 / 월별, 카테고리 전체 + 카테고리별)
+ *
+ * History 가 저장될 때 같은 트랜잭션에서 누적되므로, 성장 그래프는 history 를 스캔하지 않고 구간 수만큼의 행만 읽습니다.
+ * 행은 HistoryRollupRepository 의 upsert 로만 변경합니다.
+ */
+@Entity
+@Table(name = "history_rollups")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@ToString
+public class HistoryRollup {
+
+    @EmbeddedId
+    private HistoryRollupKey key;
+
+    @Column(name = "session_count", nullable = false)
+    private long sessionCount;
+
+    @Column(name = "score_sum", nullable = false)
+    private long scoreSum;
+
+    @Column(name = "score_min", nullable = false)
+    private int scoreMin;
+
+    @Column(name = "score_max", nullable = false)
+    private int scoreMax;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public double averageScore() {
+        return sessionCount == 0 ? 0 : (double) scoreSum / sessionCount;
+    }
+}
@@ -0,0 +1,42 @@
+package com.aid.train.backend.domain.history.entity;
+
+import com.aid.train.backend.domain.history.enums.RollupGranularity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * 성장 추이 집계 키 (user_id, granularity, category, bucket_start)
+ *
+ * PK 순서가 조회 조건 순서와 같으므로 한 사용자 / 단위 / 카테고리의 기간 조회는 PK 범위 스캔입니다.
+ */
+@Embeddable
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@EqualsAndHashCode
+@ToString
+public class HistoryRollupKey implements Serializable {
+
+    // 카테고리 전체 집계의 category 값
+    public static final String ALL_CATEGORIES = "ALL";
+
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "granularity", length = 8)
+    private RollupGranularity granularity;
+
+    // Scenario.Category 이름 또는 ALL_CATEGORIES
+    @Column(name = "category", length = 24)
+    private String category;
+
+    @Column(name = "bucket_start")
+    private LocalDate bucketStart;
+}
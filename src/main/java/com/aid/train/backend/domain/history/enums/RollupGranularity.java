@@ -0,0 +1,59 @@
+package com.aid.train.backend.domain.history.enums;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * 성장 추이 집계 단위
+ *
+ * bucketStart 는 HistoryRollupRepository 의 재계산 SQL(BUCKET_* 식)과 같은 날짜를 돌려줘야 합니다.
+ */
+public enum RollupGranularity {
+    // 날짜
+    DAY(ChronoUnit.DAYS, 30),
+    // 월요일 시작 (ISO 주)
+    WEEK(ChronoUnit.WEEKS, 26),
+    // 1일 시작
+    MONTH(ChronoUnit.MONTHS, 24);
+
+    private final ChronoUnit unit;
+
+    // 조회 기간을 지정하지 않았을 때 보여줄 구간 수
+    private final int defaultBuckets;
+
+    RollupGranularity(ChronoUnit unit, int defaultBuckets) {
+        this.unit = unit;
+        this.defaultBuckets = defaultBuckets;
+    }
+
+    /**
+     * 날짜가 속한 구간의 시작일
+     */
+    public LocalDate bucketStart(LocalDate date) {
+        return switch (this) {
+            case DAY -> date;
+            case WEEK -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH -> date.withDayOfMonth(1);
+        };
+    }
+
+    /**
+     * to 가 속한 구간을 포함해 최근 buckets 개 구간의 첫 시작일
+     */
+    public LocalDate startOfLast(int buckets, LocalDate to) {
+        return bucketStart(to).minus(buckets - 1L, unit);
+    }
+
+    /**
+     * from ~ to 사이 구간 수 (양 끝 포함)
+     */
+    public long bucketsBetween(LocalDate from, LocalDate to) {
+        return unit.between(bucketStart(from), bucketStart(to)) + 1;
+    }
+
+    public int defaultBuckets() {
+        return defaultBuckets;
+    }
+}
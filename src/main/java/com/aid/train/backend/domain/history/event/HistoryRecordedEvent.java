@@ -0,0 +1,12 @@
+package com.aid.train.backend.domain.history.event;
+
+/**
+ * 히스토리가 저장되었음을 알리는 이벤트 (트랜잭션 커밋 후 처리)
+ *
+ * @param historyId  저장된 히스토리 ID
+ * @param userId     사용자 ID
+ * @param scenarioId 시나리오 ID
+ * @param totalScore 종합 점수
+ */
+public record HistoryRecordedEvent(Long historyId, Long userId, Long scenarioId, int totalScore) {
+}
@@ -0,0 +1,100 @@
+package com.aid.train.backend.domain.history.leaderboard;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 순위표 스냅샷 파일
+ *
+ * 기동 시 history 전체를 다시 읽지 않도록 사용자별 최고 점수와 반영한 마지막 히스토리 id(watermark)를 저장합니다.
+ * 형식: MAGIC, VERSION, watermark, takenAt, 전체 순위표, 시나리오 수, (시나리오 id, 순위표)...
+ * 순위표는 인원 수와 (사용자 id, 점수) 목록입니다.
+ *
+ * @param watermark 반영한 가장 큰 히스토리 id
+ * @param takenAt   스냅샷을 만든 시각
+ * @param global    전체 순위표 (사용자 id → 최고 점수)
+ * @param scenarios 시나리오 id → 시나리오 순위표
+ */
+public record LeaderboardSnapshot(long watermark, LocalDateTime takenAt, Map<Long, Integer> global,
+                                  Map<Long, Map<Long, Integer>> scenarios) {
+
+    private static final int MAGIC = 0x54524C42; // "TRLB"
+    private static final int VERSION = 1;
+
+    /**
+     * 임시 파일에 쓴 뒤 교체하므로, 쓰는 도중 종료되어도 기존 스냅샷은 그대로 남습니다.
+     */
+    public void write(Path path) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temp = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeLong(watermark);
+                out.writeUTF(takenAt.toString());
+                writeBoard(out, global);
+                out.writeInt(scenarios.size());
+                for (Map.Entry<Long, Map<Long, Integer>> scenario : scenarios.entrySet()) {
+                    out.writeLong(scenario.getKey());
+                    writeBoard(out, scenario.getValue());
+                }
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * @throws IOException 파일을 읽을 수 없거나 형식이 다를 때
+     */
+    public static LeaderboardSnapshot read(Path path) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("순위표 스냅샷 파일이 아닙니다: " + path);
+            }
+            int version = in.readInt();
+            if (version != VERSION) {
+                throw new IOException("지원하지 않는 순위표 스냅샷 버전입니다: " + version);
+            }
+            long watermark = in.readLong();
+            LocalDateTime takenAt = LocalDateTime.parse(in.readUTF());
+            Map<Long, Integer> global = readBoard(in);
+            int scenarioCount = in.readInt();
+            Map<Long, Map<Long, Integer>> scenarios = new HashMap<>(scenarioCount * 2);
+            for (int i = 0; i < scenarioCount; i++) {
+                long scenarioId = in.readLong();
+                scenarios.put(scenarioId, readBoard(in));
+            }
+            return new LeaderboardSnapshot(watermark, takenAt, global, scenarios);
+        }
+    }
+
+    private static void writeBoard(DataOutputStream out, Map<Long, Integer> board) throws IOException {
+        out.writeInt(board.size());
+        for (Map.Entry<Long, Integer> entry : board.entrySet()) {
+            out.writeLong(entry.getKey());
+            out.writeByte(entry.getValue());
+        }
+    }
+
+    private static Map<Long, Integer> readBoard(DataInputStream in) throws IOException {
+        int size = in.readInt();
+        Map<Long, Integer> board = new HashMap<>(size * 2);
+        for (int i = 0; i < size; i++) {
+            board.put(in.readLong(), in.readUnsignedByte());
+        }
+        return board;
+    }
+}
@@ -0,0 +1,169 @@
+package com.aid.train.backend.domain.history.leaderboard;
+
+import com.aid.train.backend.domain.history.dto.response.LeaderboardEntry;
+import com.aid.train.backend.domain.history.dto.response.LeaderboardRank;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 사용자 최고 점수 순위표 (점수 0 ~ 100)
+ *
+ * 점수는 101개 구간뿐이므로 사용자를 점수 구간에 나눠 담고, 구간별 인원은 Fenwick 트리로 관리합니다.
+ * <ul>
+ *     <li>점수 갱신 / 순위 조회: O(log 101)</li>
+ *     <li>상위 K명: 높은 점수 구간부터 O(K + 101)</li>
+ * </ul>
+ * 순위는 같은 점수면 같은 순위인 경쟁 순위(1, 2, 2, 4)이고, 같은 점수 안에서는 사용자 id 오름차순으로 나열합니다.
+ * 점수는 사용자별 최고 점수만 반영하므로 같은 기록을 여러 번 반영해도 결과가 같습니다.
+ *
+ * 읽기(순위 / 상위 K명)는 동시에 여러 스레드가, 쓰기(점수 반영)는 한 번에 하나만 실행됩니다.
+ */
+public class ScoreLeaderboard {
+
+    public static final int MIN_SCORE = 0;
+    public static final int MAX_SCORE = 100;
+
+    private static final int BUCKETS = MAX_SCORE - MIN_SCORE + 1;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 사용자 id → 최고 점수
+    private final Map<Long, Integer> bestScores = new HashMap<>();
+
+    // 점수 구간 → 사용자 id (처음 쓰일 때 생성)
+    private final TreeSet<Long>[] buckets;
+
+    // 점수 구간별 인원의 Fenwick 트리 (1부터, index = score - MIN_SCORE + 1)
+    private final int[] tree = new int[BUCKETS + 1];
+
+    @SuppressWarnings("unchecked")
+    public ScoreLeaderboard() {
+        this.buckets = new TreeSet[BUCKETS];
+    }
+
+    /**
+     * 사용자의 점수를 반영합니다. (범위를 벗어난 점수는 0 ~ 100으로 맞춤)
+     *
+     * @return 최고 점수가 바뀌었으면 true
+     */
+    public boolean offer(long userId, int score) {
+        int clamped = Math.max(MIN_SCORE, Math.min(score, MAX_SCORE));
+        lock.writeLock().lock();
+        try {
+            Integer previous = bestScores.get(userId);
+            if (previous != null && previous >= clamped) {
+                return false;
+            }
+            if (previous != null) {
+                bucket(previous).remove(userId);
+                add(previous, -1);
+            }
+            bestScores.put(userId, clamped);
+            bucket(clamped).add(userId);
+            add(clamped, 1);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 사용자의 순위
+     *
+     * @return 기록이 없으면 null
+     */
+    public LeaderboardRank rank(long userId) {
+        lock.readLock().lock();
+        try {
+            Integer score = bestScores.get(userId);
+            if (score == null) {
+                return null;
+            }
+            int participants = bestScores.size();
+            int rank = countAbove(score) + 1;
+            return new LeaderboardRank(userId, score, rank, participants, 100.0 * rank / participants);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 상위 limit 명 (점수 내림차순, 같은 점수는 사용자 id 오름차순)
+     */
+    public List<LeaderboardEntry> top(int limit) {
+        lock.readLock().lock();
+        try {
+            List<LeaderboardEntry> entries = new ArrayList<>(Math.min(limit, bestScores.size()));
+            int above = 0;
+            for (int score = MAX_SCORE; score >= MIN_SCORE && entries.size() < limit; score--) {
+                TreeSet<Long> users = buckets[score - MIN_SCORE];
+                if (users == null || users.isEmpty()) {
+                    continue;
+                }
+                for (Long userId : users) {
+                    if (entries.size() == limit) {
+                        break;
+                    }
+                    entries.add(new LeaderboardEntry(above + 1, userId, score));
+                }
+                above += users.size();
+            }
+            return entries;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 사용자별 최고 점수 복사본 (스냅샷 저장용)
+     */
+    public Map<Long, Integer> bestScores() {
+        lock.readLock().lock();
+        try {
+            return new HashMap<>(bestScores);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return bestScores.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private TreeSet<Long> bucket(int score) {
+        int index = score - MIN_SCORE;
+        if (buckets[index] == null) {
+            buckets[index] = new TreeSet<>();
+        }
+        return buckets[index];
+    }
+
+    // score 보다 높은 점수의 인원
+    private int countAbove(int score) {
+        return bestScores.size() - countAtMost(score);
+    }
+
+    private int countAtMost(int score) {
+        int count = 0;
+        for (int i = score - MIN_SCORE + 1; i > 0; i -= i & -i) {
+            count += tree[i];
+        }
+        return count;
+    }
+
+    private void add(int score, int delta) {
+        for (int i = score - MIN_SCORE + 1; i <= BUCKETS; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+}
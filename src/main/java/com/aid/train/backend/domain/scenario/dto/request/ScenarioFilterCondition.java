@@ -0,0 +1,45 @@
+package com.aid.train.backend.domain.scenario.dto.request;
+
+import com.aid.train.backend.domain.scenario.entity.Scenario.*;
+
+/**
+ * 시나리오 목록 필터 조건 (null 인 항목은 조건에서 제외)
+ *
+ * @param category   카테고리
+ * @param difficulty 난이도
+ * @param voice      음성
+ * @param locale     언어 (예: ko-KR)
+ * @param sort       정렬, null 이면 최신순
+ */
+public record ScenarioFilterCondition(
+        Category category,
+        Difficulty difficulty,
+        Voice voice,
+        String locale,
+        ScenarioSort sort
+) {
+
+    public ScenarioSort sortOrDefault() {
+        return sort != null ? sort : ScenarioSort.NEWEST;
+    }
+
+    /**
+     * 페이지 커서에 담을 조회 조건 (정렬 + 필터 해시). 서버가 여러 대여도 같은 값이 나오도록 문자열 해시를 씁니다.
+     */
+    public String cursorScope() {
+        String filter = category + "|" + difficulty + "|" + voice + "|" + (locale == null || locale.isBlank() ? "" : locale);
+        return sortOrDefault().name() + "." + Integer.toHexString(filter.hashCode());
+    }
+
+    /**
+     * 시나리오 목록 정렬 (같은 시각이면 id로 순서 결정)
+     */
+    public enum ScenarioSort {
+        // 생성일 최신순
+        NEWEST,
+        // 생성일 오래된순
+        OLDEST,
+        // 수정일 최신순 (페이지를 넘기는 중에 수정된 시나리오는 건너뛰거나 다시 나올 수 있음)
+        RECENTLY_UPDATED
+    }
+}
@@ -0,0 +1,43 @@
+package com.aid.train.backend.domain.scenario.dto.response;
+
+import com.aid.train.backend.domain.scenario.entity.Scenario;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.LocalDateTime;
+
+/**
+ * 시나리오 목록(카탈로그) 응답 항목
+ *
+ * 엔티티 필드와 같은 JSON 모양이며, 지연 로딩 연관관계(owner, sessions)는 제외합니다.
+ */
+public record ScenarioCatalogItem(
+        Long id,
+        String title,
+        String description,
+        String prompt,
+        Scenario.Voice voice,
+        Scenario.Difficulty difficulty,
+        Scenario.Category category,
+        String locale,
+        Scenario.Status status,
+        @JsonProperty("default") boolean isDefault,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+
+    public static ScenarioCatalogItem from(Scenario scenario) {
+        return new ScenarioCatalogItem(
+                scenario.getId(),
+                scenario.getTitle(),
+                scenario.getDescription(),
+                scenario.getPrompt(),
+                scenario.getVoice(),
+                scenario.getDifficulty(),
+                scenario.getCategory(),
+                scenario.getLocale(),
+                scenario.getStatus(),
+                scenario.isDefault(),
+                scenario.getCreatedAt(),
+                scenario.getUpdatedAt());
+    }
+}
@@ -0,0 +1,21 @@
+package com.aid.train.backend.domain.scenario.dto.response;
+
+import com.aid.train.backend.domain.scenario.entity.Scenario;
+
+/**
+ * 사용자 시나리오 검수 상태
+ *
+ * @param scenarioId   시나리오 id
+ * @param status       DRAFT(검수 대기) / PUBLISHED / REJECTED
+ * @param rejectReason 반려 사유 (REJECTED 일 때만)
+ */
+public record ScenarioModerationStatus(Long scenarioId, Scenario.Status status, String rejectReason) {
+
+    public static ScenarioModerationStatus from(Scenario scenario) {
+        return new ScenarioModerationStatus(scenario.getId(), scenario.getStatus(), scenario.getRejectReason());
+    }
+
+    public boolean isPending() {
+        return status == Scenario.Status.DRAFT;
+    }
+}
@@ -0,0 +1,10 @@
+package com.aid.train.backend.domain.scenario.dto.response;
+
+/**
+ * 시나리오 검색 결과 항목
+ *
+ * @param scenario 시나리오 요약
+ * @param score    검색 점수 (높을수록 먼저, 같은 검색 안에서만 비교 가능)
+ */
+public record ScenarioSearchHit(ScenarioSummary scenario, double score) {
+}
@@ -0,0 +1,37 @@
+package com.aid.train.backend.domain.scenario.dto.response;
+
+import com.aid.train.backend.domain.scenario.entity.Scenario;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.LocalDateTime;
+
+/**
+ * 시나리오 목록 화면용 요약 (prompt 등 TEXT 컬럼 제외)
+ */
+public record ScenarioSummary(
+        Long id,
+        String title,
+        String description,
+        Scenario.Voice voice,
+        Scenario.Difficulty difficulty,
+        Scenario.Category category,
+        String locale,
+        @JsonProperty("default") boolean isDefault,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+
+    public static ScenarioSummary from(Scenario scenario) {
+        return new ScenarioSummary(
+                scenario.getId(),
+                scenario.getTitle(),
+                scenario.getDescription(),
+                scenario.getVoice(),
+                scenario.getDifficulty(),
+                scenario.getCategory(),
+                scenario.getLocale(),
+                scenario.isDefault(),
+                scenario.getCreatedAt(),
+                scenario.getUpdatedAt());
+    }
+}
@@ -1,6 +1,7 @@
 package com.aid.train.backend.domain.scenario.entity;
 
 import com.aid.train.backend.domain.scenario.dto.request.ScenarioRequestDto;
+import com.aid.train.backend.domain.scenario.event.ScenarioChangeListener;
 import com.aid.train.backend.domain.session.entity.DialogueSession;
 import com.aid.train.backend.domain.user.entity.User;
 import com.fasterxml.jackson.annotation.JsonIgnore;
@@ -15,7 +16,10 @@ import java.util.List;
 
 import static com.aid.train.backend.domain.user.entity.QUser.user;
 
-@Table(name="Scenario")
+@Table(name="Scenario", indexes = {
+        // 조건별 공개 시나리오 목록 (ScenarioCustom#findPublishedPage)
+        @Index(name = "idx_scenario_filter", columnList = "status, locale, category, difficulty, created_at, id")
+})
 @Entity
 @Builder
 @Getter
@@ -23,6 +27,7 @@ import static com.aid.train.backend.domain.user.entity.QUser.user;
 @NoArgsConstructor
 @AllArgsConstructor
 @ToString()
+@EntityListeners(ScenarioChangeListener.class) // 변경 시 카탈로그 캐시 무효화
 public class Scenario
 {
     @Id
@@ -63,6 +68,10 @@ public class Scenario
     @Builder.Default
     private boolean isDefault = true;
 
+    // 검수 반려 사유 (REJECTED 일 때만)
+    @Column(length = 500)
+    private String rejectReason;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "owner_id")
     private User owner;
@@ -83,7 +92,7 @@ public class Scenario
     public enum Voice { ONYX, ECHO, NOVA }
     public enum Difficulty { EASY, MEDIUM, HARD }
     public enum Category { WORK, RELATIONSHIP, FAMILY, FRIEND }
-    public enum Status { DRAFT, PUBLISHED }
+    public enum Status { DRAFT, PUBLISHED, REJECTED }
 
     // dto -> entity 편의 메소드
     public static Scenario toEntity(ScenarioRequestDto dto, User user) {
@@ -95,7 +104,7 @@ public class Scenario
                 .difficulty(dto.difficulty())
                 .category(dto.category())
                 .locale(dto.locale())
-                .status(Status.DRAFT) // 서비스 단 비속어 검증 후 PUBLISHED 로 업데이트 -> db 저장, AI 연결요청 프롬프트 생성
+                .status(Status.DRAFT) // 검수 파이프라인에서 비속어 검증 후 PUBLISHED / REJECTED 로 업데이트
                 .isDefault(false) // 사용자 생성 시나리오 일 경우 false
                 // 유저 연결 필요
                 .owner(user)
@@ -105,6 +114,13 @@ public class Scenario
     // 비속어 필터 검증 후 시나리오 상태 변경 편의 메소드
     public static void updateStatus(Scenario scenario) {
         scenario.setStatus(Status.PUBLISHED);
+        scenario.setRejectReason(null);
+    }
+
+    // 검수 반려 편의 메소드 (사유는 컬럼 길이에 맞춰 자름)
+    public static void reject(Scenario scenario, String reason) {
+        scenario.setStatus(Status.REJECTED);
+        scenario.setRejectReason(reason.length() > 500 ? reason.substring(0, 500) : reason);
     }
 
 }
@@ -0,0 +1,29 @@
+package com.aid.train.backend.domain.scenario.event;
+
+import com.aid.train.backend.domain.scenario.entity.Scenario;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Scenario 엔티티 변경 시 {@link ScenarioChangedEvent}를 발행하는 JPA 엔티티 리스너
+ *
+ * Spring Boot가 Hibernate에 Spring 빈 컨테이너를 연결하므로 생성자 주입을 받을 수 있습니다.
+ * JPQL / 네이티브 벌크 UPDATE는 엔티티 콜백을 거치지 않으므로 이벤트를 직접 발행해야 합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ScenarioChangeListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Scenario scenario) {
+        eventPublisher.publishEvent(new ScenarioChangedEvent(scenario.getId()));
+    }
+}
@@ -0,0 +1,9 @@
+package com.aid.train.backend.domain.scenario.event;
+
+/**
+ * 시나리오가 저장 / 수정 / 삭제되었음을 알리는 이벤트 (트랜잭션 커밋 후 처리)
+ *
+ * @param scenarioId 변경된 시나리오 ID
+ */
+public record ScenarioChangedEvent(Long scenarioId) {
+}
@@ -0,0 +1,21 @@
+package com.aid.train.backend.domain.scenario.prompt;
+
+import java.time.LocalDateTime;
+
+/**
+ * 시나리오 한 버전의 AI 시스템 프롬프트 (렌더링이 끝난 불변 값)
+ *
+ * @param scenarioId   시나리오 id
+ * @param version      렌더링에 사용한 시나리오의 updatedAt
+ * @param voice        AI 음성 이름 (소문자, 예: nova)
+ * @param locale       대화 언어 (예: ko-KR)
+ * @param instructions 시스템 프롬프트 전문
+ */
+public record CompiledPrompt(
+        Long scenarioId,
+        LocalDateTime version,
+        String voice,
+        String locale,
+        String instructions
+) {
+}
@@ -0,0 +1,111 @@
+package com.aid.train.backend.domain.scenario.prompt;
+
+import com.aid.train.backend.domain.scenario.entity.Scenario;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 시나리오 → AI 시스템 프롬프트 렌더링
+ *
+ * 템플릿은 클래스 로딩 시 한 번 고정 문자열과 자리표시자로 나눠 두고, 렌더링은 크기를 미리 잡은 StringBuilder에 이어 붙이기만 합니다.
+ */
+public final class PromptCompiler {
+
+    private static final String TEMPLATE = """
+            당신은 대화 연습 상대입니다. 아래 상황에서 맡은 역할로 사용자와 음성 대화를 나누세요.
+
+            [상황]
+            {title}
+            {description}
+
+            [진행 지침]
+            {prompt}
+
+            [난이도]
+            {difficulty}
+
+            [규칙]
+            - {language}로만 대화하세요.
+            - 한 번에 1~2문장으로 짧게 말하고, 사용자의 말을 끊지 마세요.
+            - 상황을 벗어난 요청에는 역할을 유지한 채 자연스럽게 상황으로 돌아오세요.
+            """;
+
+    private static final String[] SLOTS = {"title", "description", "prompt", "difficulty", "language"};
+
+    // TEMPLATE 을 자리표시자 기준으로 나눈 고정 문자열 (literals.length == slots.length + 1)
+    private static final String[] LITERALS;
+    private static final int[] SLOT_ORDER;
+    private static final int LITERAL_LENGTH;
+
+    static {
+        List<String> literals = new ArrayList<>();
+        List<Integer> order = new ArrayList<>();
+        int position = 0;
+        while (true) {
+            int open = TEMPLATE.indexOf('{', position);
+            if (open < 0) {
+                literals.add(TEMPLATE.substring(position));
+                break;
+            }
+            int close = TEMPLATE.indexOf('}', open);
+            literals.add(TEMPLATE.substring(position, open));
+            order.add(List.of(SLOTS).indexOf(TEMPLATE.substring(open + 1, close)));
+            position = close + 1;
+        }
+        LITERALS = literals.toArray(String[]::new);
+        SLOT_ORDER = order.stream().mapToInt(Integer::intValue).toArray();
+        LITERAL_LENGTH = literals.stream().mapToInt(String::length).sum();
+    }
+
+    private PromptCompiler() {
+    }
+
+    public static CompiledPrompt compile(Scenario scenario) {
+        String[] values = {
+                nullToEmpty(scenario.getTitle()),
+                nullToEmpty(scenario.getDescription()),
+                nullToEmpty(scenario.getPrompt()),
+                difficultyGuide(scenario.getDifficulty()),
+                language(scenario.getLocale())
+        };
+        int length = LITERAL_LENGTH;
+        for (int slot : SLOT_ORDER) {
+            length += values[slot].length();
+        }
+        StringBuilder instructions = new StringBuilder(length);
+        for (int i = 0; i < SLOT_ORDER.length; i++) {
+            instructions.append(LITERALS[i]).append(values[SLOT_ORDER[i]]);
+        }
+        instructions.append(LITERALS[SLOT_ORDER.length]);
+
+        return new CompiledPrompt(
+                scenario.getId(),
+                scenario.getUpdatedAt(),
+                scenario.getVoice().name().toLowerCase(Locale.ROOT),
+                scenario.getLocale(),
+                instructions.toString());
+    }
+
+    private static String difficultyGuide(Scenario.Difficulty difficulty) {
+        return switch (difficulty) {
+            case EASY -> "협조적이고 친절하게 반응하며, 사용자가 막히면 힌트를 주세요.";
+            case MEDIUM -> "현실적으로 반응하며, 모호한 답변에는 한 번 더 구체적으로 물어보세요.";
+            case HARD -> "바쁘고 까다로운 상대처럼 반응하며, 근거가 부족하면 반박하세요.";
+        };
+    }
+
+    // ko-KR → 한국어, en-US → 영어
+    private static String language(String locale) {
+        if (locale == null || locale.isBlank()) {
+            return "한국어";
+        }
+        String language = Locale.forLanguageTag(locale).getDisplayLanguage(Locale.KOREAN);
+        return language.isEmpty() ? locale : language;
+    }
+
+    private static String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+}
@@ -0,0 +1,105 @@
+package com.aid.train.backend.domain.scenario.search;
+
+import java.text.Normalizer;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 검색용 n-gram 분해
+ *
+ * 한국어는 띄어쓰기 / 조사 때문에 단어 단위로 나누면 "일정" 으로 "일정이" 를 찾지 못하므로, 단어 안의 글자를 2글자씩(bigram) 잘라 색인합니다.
+ * 한 글자 검색(입력 첫 글자)을 위해 글자 하나(unigram)도 함께 만듭니다.
+ * <ul>
+ *     <li>NFC 정규화 후 소문자로 바꿉니다 (조합형 한글 입력도 완성형과 같은 토큰)</li>
+ *     <li>글자 / 숫자가 아닌 문자는 단어 구분자로 취급합니다</li>
+ *     <li>토큰은 "단어 안" 에서만 만들어 단어 경계를 넘는 bigram은 없습니다</li>
+ * </ul>
+ */
+public final class NgramTokenizer {
+
+    private NgramTokenizer() {
+    }
+
+    /**
+     * 색인용 토큰과 출현 횟수 (unigram + bigram)
+     */
+    public static Map<String, Integer> indexTokens(String text) {
+        Map<String, Integer> tokens = new LinkedHashMap<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+        String normalized = normalize(text);
+        int wordStart = -1;
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean wordChar = i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i));
+            if (wordChar) {
+                if (wordStart < 0) {
+                    wordStart = i;
+                }
+                tokens.merge(String.valueOf(normalized.charAt(i)), 1, Integer::sum);
+                if (i > wordStart) {
+                    tokens.merge(normalized.substring(i - 1, i + 1), 1, Integer::sum);
+                }
+            } else {
+                wordStart = -1;
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * 검색어 토큰
+     *
+     * 두 글자 이상인 단어는 bigram만, 한 글자 단어는 그 글자(unigram)를 사용합니다.
+     * 입력 중인 마지막 글자가 자음 / 모음 하나(ㅅ, ㅏ 등)이면 아직 조합 중인 글자로 보고 제외합니다.
+     */
+    public static Map<String, Integer> queryTokens(String query) {
+        Map<String, Integer> tokens = new LinkedHashMap<>();
+        if (query == null) {
+            return tokens;
+        }
+        String normalized = stripTrailingJamo(normalize(query));
+        int wordStart = -1;
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean wordChar = i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i));
+            if (wordChar) {
+                if (wordStart < 0) {
+                    wordStart = i;
+                }
+                continue;
+            }
+            if (wordStart >= 0) {
+                if (i - wordStart == 1) {
+                    tokens.merge(normalized.substring(wordStart, i), 1, Integer::sum);
+                } else {
+                    for (int j = wordStart + 1; j < i; j++) {
+                        tokens.merge(normalized.substring(j - 1, j + 1), 1, Integer::sum);
+                    }
+                }
+                wordStart = -1;
+            }
+        }
+        return tokens;
+    }
+
+    private static String normalize(String text) {
+        return Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+    }
+
+    private static String stripTrailingJamo(String text) {
+        int end = text.length();
+        while (end > 0 && Character.isWhitespace(text.charAt(end - 1))) {
+            end--;
+        }
+        if (end > 0 && isCompatibilityJamo(text.charAt(end - 1))) {
+            end--;
+        }
+        return text.substring(0, end);
+    }
+
+    // 한글 호환 자모 (ㄱ-ㅎ, ㅏ-ㅣ)
+    private static boolean isCompatibilityJamo(char c) {
+        return c >= 'ㄱ' && c <= 'ㆎ';
+    }
+}
@@ -0,0 +1,200 @@
+package com.aid.train.backend.domain.scenario.search;
+
+import com.aid.train.backend.domain.scenario.dto.response.ScenarioSearchHit;
+import com.aid.train.backend.domain.scenario.dto.response.ScenarioSummary;
+import com.aid.train.backend.domain.scenario.entity.Scenario;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 시나리오 제목 / 설명 / 프롬프트 메모리 역색인 (n-gram 토큰 → 시나리오별 가중치)
+ *
+ * 점수 = Σ(필드 가중치 × 출현 횟수(최대 3) × idf) × 일치율²
+ * <ul>
+ *     <li>필드 가중치: 제목 3, 설명 1.5, 프롬프트 0.5</li>
+ *     <li>idf = ln(1 + 전체 문서 수 / 토큰이 나온 문서 수)</li>
+ *     <li>일치율 = 일치한 검색어 토큰 수 / 검색어 토큰 수 (절반 미만이면 결과에서 제외)</li>
+ * </ul>
+ * 같은 점수는 id 오름차순입니다.
+ *
+ * 읽기(검색)는 동시에 여러 스레드가, 쓰기(추가 / 삭제 / 전체 교체)는 한 번에 하나만 실행됩니다.
+ */
+public class ScenarioSearchIndex {
+
+    private static final float TITLE_WEIGHT = 3.0f;
+    private static final float DESCRIPTION_WEIGHT = 1.5f;
+    private static final float PROMPT_WEIGHT = 0.5f;
+
+    // 같은 토큰이 반복되어도 이 횟수까지만 점수에 반영
+    private static final int MAX_TERM_FREQUENCY = 3;
+
+    private static final double MIN_COVERAGE = 0.5;
+
+    private static final Comparator<ScenarioSearchHit> RANKING = Comparator
+            .comparingDouble(ScenarioSearchHit::score).reversed()
+            .thenComparing(hit -> hit.scenario().id());
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 토큰 → (시나리오 id → 가중치)
+    private Map<String, Map<Long, Float>> postings = new HashMap<>();
+
+    // 시나리오 id → 색인 문서 (수정 / 삭제 시 기존 토큰 제거용)
+    private Map<Long, Document> documents = new HashMap<>();
+
+    /**
+     * 시나리오를 색인합니다. 이미 있으면 기존 색인을 교체합니다.
+     */
+    public void put(Scenario scenario) {
+        Document document = Document.of(scenario);
+        lock.writeLock().lock();
+        try {
+            removeInternal(scenario.getId());
+            addInternal(postings, documents, document);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long scenarioId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(scenarioId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 색인 전체를 주어진 시나리오로 교체합니다. (새 색인은 잠금 밖에서 만든 뒤 교체)
+     */
+    public void replaceAll(Collection<Scenario> scenarios) {
+        Map<String, Map<Long, Float>> newPostings = new HashMap<>();
+        Map<Long, Document> newDocuments = new HashMap<>();
+        for (Scenario scenario : scenarios) {
+            addInternal(newPostings, newDocuments, Document.of(scenario));
+        }
+        lock.writeLock().lock();
+        try {
+            postings = newPostings;
+            documents = newDocuments;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 점수 상위 limit 개를 돌려줍니다.
+     *
+     * @param query 검색어 (토큰이 없으면 빈 결과)
+     * @param limit 최대 결과 수 (1 이상)
+     */
+    public List<ScenarioSearchHit> search(String query, int limit) {
+        Map<String, Integer> queryTokens = NgramTokenizer.queryTokens(query);
+        if (queryTokens.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        int totalTokens = queryTokens.values().stream().mapToInt(Integer::intValue).sum();
+
+        lock.readLock().lock();
+        try {
+            int documentCount = documents.size();
+            // 시나리오 id → {점수 합, 일치한 토큰 수}
+            Map<Long, double[]> accumulators = new HashMap<>();
+            for (Map.Entry<String, Integer> token : queryTokens.entrySet()) {
+                Map<Long, Float> posting = postings.get(token.getKey());
+                if (posting == null) {
+                    continue;
+                }
+                double idf = Math.log(1.0 + (double) documentCount / posting.size());
+                int occurrences = token.getValue();
+                for (Map.Entry<Long, Float> entry : posting.entrySet()) {
+                    double[] accumulator = accumulators.computeIfAbsent(entry.getKey(), id -> new double[2]);
+                    accumulator[0] += entry.getValue() * idf * occurrences;
+                    accumulator[1] += occurrences;
+                }
+            }
+
+            PriorityQueue<ScenarioSearchHit> top = new PriorityQueue<>(limit + 1, RANKING.reversed());
+            for (Map.Entry<Long, double[]> entry : accumulators.entrySet()) {
+                double coverage = entry.getValue()[1] / totalTokens;
+                if (coverage < MIN_COVERAGE) {
+                    continue;
+                }
+                double score = entry.getValue()[0] * coverage * coverage;
+                top.add(new ScenarioSearchHit(documents.get(entry.getKey()).summary(), score));
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+            List<ScenarioSearchHit> hits = new ArrayList<>(top);
+            hits.sort(RANKING);
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // writeLock 안에서 호출
+    private void removeInternal(Long scenarioId) {
+        Document previous = documents.remove(scenarioId);
+        if (previous == null) {
+            return;
+        }
+        for (String token : previous.weights().keySet()) {
+            Map<Long, Float> posting = postings.get(token);
+            if (posting != null) {
+                posting.remove(scenarioId);
+                if (posting.isEmpty()) {
+                    postings.remove(token);
+                }
+            }
+        }
+    }
+
+    private static void addInternal(Map<String, Map<Long, Float>> postings, Map<Long, Document> documents,
+                                    Document document) {
+        Long id = document.summary().id();
+        documents.put(id, document);
+        document.weights().forEach((token, weight) ->
+                postings.computeIfAbsent(token, key -> new HashMap<>()).put(id, weight));
+    }
+
+    /**
+     * 색인된 시나리오
+     *
+     * @param summary 검색 결과로 돌려줄 요약
+     * @param weights 토큰별 가중치
+     */
+    private record Document(ScenarioSummary summary, Map<String, Float> weights) {
+
+        private static Document of(Scenario scenario) {
+            Map<String, Float> weights = new HashMap<>();
+            addField(weights, scenario.getTitle(), TITLE_WEIGHT);
+            addField(weights, scenario.getDescription(), DESCRIPTION_WEIGHT);
+            addField(weights, scenario.getPrompt(), PROMPT_WEIGHT);
+            return new Document(ScenarioSummary.from(scenario), weights);
+        }
+
+        private static void addField(Map<String, Float> weights, String text, float fieldWeight) {
+            NgramTokenizer.indexTokens(text).forEach((token, frequency) ->
+                    weights.merge(token, fieldWeight * Math.min(frequency, MAX_TERM_FREQUENCY), Float::sum));
+        }
+    }
+}
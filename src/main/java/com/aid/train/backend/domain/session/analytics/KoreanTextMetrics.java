@@ -0,0 +1,96 @@
+package com.aid.train.backend.domain.session.analytics;
+
+/**
+ * 발화 텍스트 길이 계산 (정규식 / 문자열 생성 없이 한 번 순회)
+ */
+public final class KoreanTextMetrics {
+
+    private KoreanTextMetrics() {
+    }
+
+    /**
+     * 공백을 제외한 글자 수 ({@code content.replaceAll("\\s", "").length()}와 같은 값)
+     */
+    public static int nonWhitespaceLength(CharSequence content) {
+        int length = 0;
+        for (int i = 0, n = content.length(); i < n; i++) {
+            if (!isRegexWhitespace(content.charAt(i))) {
+                length++;
+            }
+        }
+        return length;
+    }
+
+    /**
+     * 발음 기준 음절 수
+     * <ul>
+     *     <li>완성형 한글(가-힣)과 한글 호환 자모(ㅋ, ㅠ 등)는 한 글자가 한 음절</li>
+     *     <li>조합형(NFD) 한글은 초성마다 한 음절 (중성 / 종성은 세지 않음)</li>
+     *     <li>숫자는 한 자리가 한 음절 (일, 이, 삼 ...)</li>
+     *     <li>라틴 문자는 단어마다 모음 묶음 수 (최소 1)</li>
+     *     <li>공백, 문장 부호, 이모지 등은 세지 않음</li>
+     * </ul>
+     */
+    public static int syllableCount(CharSequence content) {
+        int syllables = 0;
+        int latinVowelGroups = 0;
+        boolean inLatinWord = false;
+        boolean previousVowel = false;
+
+        for (int i = 0, n = content.length(); i < n; i++) {
+            char c = content.charAt(i);
+            if (isLatinLetter(c)) {
+                boolean vowel = isLatinVowel(c);
+                if (vowel && !previousVowel) {
+                    latinVowelGroups++;
+                }
+                inLatinWord = true;
+                previousVowel = vowel;
+                continue;
+            }
+            if (inLatinWord) {
+                syllables += Math.max(1, latinVowelGroups);
+                inLatinWord = false;
+                previousVowel = false;
+                latinVowelGroups = 0;
+            }
+            if (isHangulSyllable(c) || isCompatibilityJamo(c) || isLeadingJamo(c)
+                    || (c >= '0' && c <= '9')) {
+                syllables++;
+            }
+        }
+        if (inLatinWord) {
+            syllables += Math.max(1, latinVowelGroups);
+        }
+        return syllables;
+    }
+
+    // 정규식 \s 와 같은 집합 [ \t\n\x0B\f\r]
+    private static boolean isRegexWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    private static boolean isHangulSyllable(char c) {
+        return c >= '가' && c <= '힣';
+    }
+
+    private static boolean isCompatibilityJamo(char c) {
+        return c >= 'ㄱ' && c <= 'ㆎ';
+    }
+
+    // 조합형 초성 (기본 + 확장 A)
+    private static boolean isLeadingJamo(char c) {
+        return (c >= 'ᄀ' && c <= 'ᅟ') || (c >= 'ꥠ' && c <= 'ꥼ');
+    }
+
+    private static boolean isLatinLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static boolean isLatinVowel(char c) {
+        return switch (c | 0x20) {
+            case 'a', 'e', 'i', 'o', 'u', 'y' -> true;
+            default -> false;
+        };
+    }
+}
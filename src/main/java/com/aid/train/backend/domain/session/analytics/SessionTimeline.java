@@ -0,0 +1,144 @@
+package com.aid.train.backend.domain.session.analytics;
+
+import com.aid.train.backend.domain.session.entity.Transcript;
+import com.aid.train.backend.domain.session.enums.Speaker;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 세션 발화의 시간 / 길이 / 신뢰도를 담은 기본형 배열 (열 단위 저장)
+ *
+ * 발화 텍스트는 추가 시점에 글자 수 / 음절 수로만 바꿔 두고 보관하지 않습니다.
+ * 시작 / 종료 시각이나 신뢰도가 없는 값은 {@link #NO_TIME} / NaN 으로 저장합니다.
+ * 한 스레드에서 채운 뒤 읽기 전용으로 사용합니다.
+ */
+public final class SessionTimeline {
+
+    public static final long NO_TIME = Long.MIN_VALUE;
+
+    private static final int DEFAULT_CAPACITY = 64;
+
+    private int size;
+    private boolean[] user;
+    private long[] startMs;
+    private long[] endMs;
+    private int[] chars;
+    private int[] syllables;
+    private float[] confidence;
+
+    // 시작 시각이 있는 발화가 시작 시각순으로 들어왔는지
+    private boolean ordered = true;
+    private long lastStartMs = Long.MIN_VALUE;
+
+    public SessionTimeline() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public SessionTimeline(int capacity) {
+        int initial = Math.max(1, capacity);
+        user = new boolean[initial];
+        startMs = new long[initial];
+        endMs = new long[initial];
+        chars = new int[initial];
+        syllables = new int[initial];
+        confidence = new float[initial];
+    }
+
+    public static SessionTimeline of(List<Transcript> transcripts) {
+        SessionTimeline timeline = new SessionTimeline(transcripts.size());
+        for (Transcript transcript : transcripts) {
+            timeline.add(transcript.getSpeaker(), transcript.getContent(), transcript.getStartTimeMs(),
+                    transcript.getEndTimeMs(), transcript.getConfidenceScore());
+        }
+        return timeline;
+    }
+
+    public void add(Speaker speaker, CharSequence content, Long start, Long end, Float score) {
+        if (size == user.length) {
+            grow();
+        }
+        long startValue = start != null ? start : NO_TIME;
+        if (startValue != NO_TIME) {
+            ordered &= startValue >= lastStartMs;
+            lastStartMs = Math.max(lastStartMs, startValue);
+        }
+        user[size] = speaker.isUser();
+        startMs[size] = startValue;
+        endMs[size] = end != null ? end : NO_TIME;
+        chars[size] = content != null ? KoreanTextMetrics.nonWhitespaceLength(content) : 0;
+        syllables[size] = content != null ? KoreanTextMetrics.syllableCount(content) : 0;
+        confidence[size] = score != null ? score : Float.NaN;
+        size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isUser(int index) {
+        return user[index];
+    }
+
+    public long startMs(int index) {
+        return startMs[index];
+    }
+
+    public long endMs(int index) {
+        return endMs[index];
+    }
+
+    public int chars(int index) {
+        return chars[index];
+    }
+
+    public int syllables(int index) {
+        return syllables[index];
+    }
+
+    public float confidence(int index) {
+        return confidence[index];
+    }
+
+    public boolean hasTiming(int index) {
+        return startMs[index] != NO_TIME && endMs[index] != NO_TIME;
+    }
+
+    /**
+     * 시작 시각이 있는 발화의 인덱스를 시작 시각순으로 돌려줍니다.
+     * 저장 순서가 이미 시작 시각순(일반적인 경우)이면 정렬하지 않습니다.
+     */
+    int[] timedOrder() {
+        int[] order = new int[size];
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (hasTiming(i)) {
+                order[count++] = i;
+            }
+        }
+        if (!ordered) {
+            // 거의 정렬된 입력이므로 삽입 정렬 (안정 정렬)
+            for (int i = 1; i < count; i++) {
+                int index = order[i];
+                long key = startMs[index];
+                int j = i - 1;
+                while (j >= 0 && startMs[order[j]] > key) {
+                    order[j + 1] = order[j];
+                    j--;
+                }
+                order[j + 1] = index;
+            }
+        }
+        return count == size ? order : Arrays.copyOf(order, count);
+    }
+
+    private void grow() {
+        int capacity = user.length * 2;
+        user = Arrays.copyOf(user, capacity);
+        startMs = Arrays.copyOf(startMs, capacity);
+        endMs = Arrays.copyOf(endMs, capacity);
+        chars = Arrays.copyOf(chars, capacity);
+        syllables = Arrays.copyOf(syllables, capacity);
+        confidence = Arrays.copyOf(confidence, capacity);
+    }
+}
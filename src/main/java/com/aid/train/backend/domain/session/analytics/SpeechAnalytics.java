@@ -0,0 +1,56 @@
+package com.aid.train.backend.domain.session.analytics;
+
+/**
+ * 세션 발화 분석 결과
+ *
+ * @param user                사용자 발화 통계
+ * @param ai                  AI 발화 통계
+ * @param aiResponseLatency   사용자 발화 종료 → AI 발화 시작 (겹친 경우 제외)
+ * @param userResponseLatency AI 발화 종료 → 사용자 발화 시작 (겹친 경우 제외)
+ * @param pauses              같은 발화자의 연속 발화 사이 침묵 중 기준 이상인 것
+ * @param overlaps            앞 발화가 끝나기 전에 다음 발화가 시작된 구간
+ * @param confidence          음성 인식 신뢰도
+ */
+public record SpeechAnalytics(
+        SpeakerStats user,
+        SpeakerStats ai,
+        TimingStats aiResponseLatency,
+        TimingStats userResponseLatency,
+        TimingStats pauses,
+        TimingStats overlaps,
+        ConfidenceStats confidence
+) {
+
+    /**
+     * @param count             발화 수
+     * @param chars             공백 제외 글자 수 합
+     * @param syllables         음절 수 합
+     * @param speakingTimeMs    시작 / 종료 시각이 있는 발화의 길이 합
+     * @param syllablesPerMinute 분당 음절 수 (길이가 있는 발화 기준), 계산할 수 없으면 null
+     */
+    public record SpeakerStats(int count, long chars, long syllables, long speakingTimeMs, Double syllablesPerMinute) {
+    }
+
+    /**
+     * @param count   구간 수
+     * @param totalMs 길이 합
+     * @param minMs   최소 길이 (구간이 없으면 0)
+     * @param maxMs   최대 길이 (구간이 없으면 0)
+     */
+    public record TimingStats(int count, long totalMs, long minMs, long maxMs) {
+
+        public Double averageMs() {
+            return count > 0 ? (double) totalMs / count : null;
+        }
+    }
+
+    /**
+     * @param count    신뢰도가 있는 발화 수
+     * @param average  평균 (없으면 null)
+     * @param min      최소 (없으면 null)
+     * @param max      최대 (없으면 null)
+     * @param lowCount 기준 미만 발화 수
+     */
+    public record ConfidenceStats(int count, Double average, Float min, Float max, int lowCount) {
+    }
+}
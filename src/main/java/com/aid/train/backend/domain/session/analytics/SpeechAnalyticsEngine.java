@@ -0,0 +1,138 @@
+package com.aid.train.backend.domain.session.analytics;
+
+import com.aid.train.backend.domain.session.entity.TranscriptStats;
+
+/**
+ * 세션 발화 분석기
+ *
+ * {@link SessionTimeline}의 기본형 배열을 한 번 순회하며 발화 속도, 턴 전환 지연, 침묵, 겹침, 신뢰도를 계산합니다.
+ * 발화마다 객체나 문자열을 만들지 않으며, 상태가 없으므로 여러 스레드에서 함께 사용할 수 있습니다.
+ */
+public class SpeechAnalyticsEngine {
+
+    // 같은 발화자의 연속 발화 사이 침묵을 pause로 보는 기준
+    public static final long DEFAULT_PAUSE_THRESHOLD_MS = 2_000;
+
+    private static final int COUNT = 0;
+    private static final int TOTAL = 1;
+    private static final int MIN = 2;
+    private static final int MAX = 3;
+
+    private final long pauseThresholdMs;
+    private final float lowConfidenceThreshold;
+
+    public SpeechAnalyticsEngine() {
+        this(DEFAULT_PAUSE_THRESHOLD_MS, TranscriptStats.LOW_CONFIDENCE_THRESHOLD);
+    }
+
+    public SpeechAnalyticsEngine(long pauseThresholdMs, float lowConfidenceThreshold) {
+        if (pauseThresholdMs < 0) {
+            throw new IllegalArgumentException("pauseThresholdMs는 0 이상이어야 합니다.");
+        }
+        this.pauseThresholdMs = pauseThresholdMs;
+        this.lowConfidenceThreshold = lowConfidenceThreshold;
+    }
+
+    public SpeechAnalytics analyze(SessionTimeline timeline) {
+        // 발화자별 [발화 수, 글자 수, 음절 수, 발화 시간, 길이가 있는 발화의 음절 수] (0: AI, 1: 사용자)
+        long[][] speakers = new long[2][5];
+
+        int confidenceCount = 0;
+        double confidenceSum = 0;
+        float confidenceMin = Float.POSITIVE_INFINITY;
+        float confidenceMax = Float.NEGATIVE_INFINITY;
+        int lowConfidence = 0;
+
+        for (int i = 0, n = timeline.size(); i < n; i++) {
+            long[] speaker = speakers[timeline.isUser(i) ? 1 : 0];
+            speaker[0]++;
+            speaker[1] += timeline.chars(i);
+            speaker[2] += timeline.syllables(i);
+            if (timeline.hasTiming(i)) {
+                long duration = timeline.endMs(i) - timeline.startMs(i);
+                if (duration > 0) {
+                    speaker[3] += duration;
+                    speaker[4] += timeline.syllables(i);
+                }
+            }
+
+            float score = timeline.confidence(i);
+            if (!Float.isNaN(score)) {
+                confidenceCount++;
+                confidenceSum += score;
+                confidenceMin = Math.min(confidenceMin, score);
+                confidenceMax = Math.max(confidenceMax, score);
+                if (score < lowConfidenceThreshold) {
+                    lowConfidence++;
+                }
+            }
+        }
+
+        long[] aiLatency = newTiming();
+        long[] userLatency = newTiming();
+        long[] pauses = newTiming();
+        long[] overlaps = newTiming();
+
+        // 시간 순서대로 앞 발화와 비교 (앞 발화들 중 가장 늦게 끝난 시각 기준)
+        int[] order = timeline.timedOrder();
+        long lastEnd = SessionTimeline.NO_TIME;
+        boolean lastUser = false;
+        for (int index : order) {
+            long start = timeline.startMs(index);
+            long end = timeline.endMs(index);
+            boolean user = timeline.isUser(index);
+            if (lastEnd != SessionTimeline.NO_TIME) {
+                long gap = start - lastEnd;
+                if (gap < 0) {
+                    record(overlaps, Math.min(end, lastEnd) - start);
+                } else if (user != lastUser) {
+                    record(user ? userLatency : aiLatency, gap);
+                } else if (gap >= pauseThresholdMs) {
+                    record(pauses, gap);
+                }
+            }
+            if (lastEnd == SessionTimeline.NO_TIME || end >= lastEnd) {
+                lastEnd = end;
+                lastUser = user;
+            }
+        }
+
+        return new SpeechAnalytics(
+                speakerStats(speakers[1]),
+                speakerStats(speakers[0]),
+                timingStats(aiLatency),
+                timingStats(userLatency),
+                timingStats(pauses),
+                timingStats(overlaps),
+                new SpeechAnalytics.ConfidenceStats(
+                        confidenceCount,
+                        confidenceCount > 0 ? confidenceSum / confidenceCount : null,
+                        confidenceCount > 0 ? confidenceMin : null,
+                        confidenceCount > 0 ? confidenceMax : null,
+                        lowConfidence));
+    }
+
+    private static SpeechAnalytics.SpeakerStats speakerStats(long[] speaker) {
+        Double syllablesPerMinute = speaker[3] > 0 ? speaker[4] * 60_000.0 / speaker[3] : null;
+        return new SpeechAnalytics.SpeakerStats((int) speaker[0], speaker[1], speaker[2], speaker[3],
+                syllablesPerMinute);
+    }
+
+    private static long[] newTiming() {
+        return new long[]{0, 0, Long.MAX_VALUE, Long.MIN_VALUE};
+    }
+
+    private static void record(long[] timing, long value) {
+        timing[COUNT]++;
+        timing[TOTAL] += value;
+        timing[MIN] = Math.min(timing[MIN], value);
+        timing[MAX] = Math.max(timing[MAX], value);
+    }
+
+    private static SpeechAnalytics.TimingStats timingStats(long[] timing) {
+        if (timing[COUNT] == 0) {
+            return new SpeechAnalytics.TimingStats(0, 0, 0, 0);
+        }
+        return new SpeechAnalytics.TimingStats((int) timing[COUNT], timing[TOTAL], timing[MIN], timing[MAX]);
+    }
+}
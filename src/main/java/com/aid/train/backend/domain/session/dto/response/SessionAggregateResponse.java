@@ -0,0 +1,24 @@
+package com.aid.train.backend.domain.session.dto.response;
+
+import com.aid.train.backend.domain.session.entity.SessionAggregate;
+
+/**
+ * 프로필 화면용 세션 집계 응답
+ */
+public record SessionAggregateResponse(
+        long completedCount,
+        long failedCount,
+        Double averageDurationSeconds,
+        Long minDurationSeconds,
+        Long maxDurationSeconds
+) {
+
+    public static SessionAggregateResponse from(SessionAggregate aggregate) {
+        return new SessionAggregateResponse(
+                aggregate.getCompletedCount(),
+                aggregate.getFailedCount(),
+                aggregate.averageDurationSeconds(),
+                aggregate.getDurationMinSeconds(),
+                aggregate.getDurationMaxSeconds());
+    }
+}
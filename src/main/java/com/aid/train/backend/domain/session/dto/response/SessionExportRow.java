@@ -0,0 +1,24 @@
+package com.aid.train.backend.domain.session.dto.response;
+
+import com.aid.train.backend.domain.scenario.entity.Scenario;
+import com.aid.train.backend.domain.session.enums.SessionStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 세션 이력 내보내기 한 행 (JPQL 생성자 projection, 영속성 컨텍스트에 올리지 않음)
+ */
+public record SessionExportRow(
+        Long id,
+        String sessionId,
+        Long scenarioId,
+        String scenarioTitle,
+        Scenario.Category category,
+        Scenario.Difficulty difficulty,
+        SessionStatus status,
+        LocalDateTime startedAt,
+        LocalDateTime endedAt,
+        Integer audioDurationSeconds,
+        Long transcriptCount
+) {
+}
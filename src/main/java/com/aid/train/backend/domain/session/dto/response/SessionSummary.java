@@ -0,0 +1,22 @@
+package com.aid.train.backend.domain.session.dto.response;
+
+import com.aid.train.backend.domain.scenario.entity.Scenario;
+import com.aid.train.backend.domain.session.enums.SessionStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 세션 목록 화면용 요약 (필요한 컬럼만 조회하는 projection, 엔티티로 올리지 않음)
+ */
+public record SessionSummary(
+        Long id,
+        String sessionId,
+        SessionStatus status,
+        LocalDateTime startedAt,
+        LocalDateTime endedAt,
+        Long scenarioId,
+        String scenarioTitle,
+        Scenario.Category scenarioCategory,
+        Scenario.Difficulty scenarioDifficulty
+) {
+}
@@ -0,0 +1,19 @@
+package com.aid.train.backend.domain.session.dto.response;
+
+import com.aid.train.backend.domain.session.enums.Speaker;
+
+import java.time.LocalDateTime;
+
+/**
+ * 발화 내역 내보내기 한 행 (JPQL 생성자 projection, 영속성 컨텍스트에 올리지 않음)
+ */
+public record TranscriptExportRow(
+        Long id,
+        Speaker speaker,
+        String content,
+        LocalDateTime timestamp,
+        Long startTimeMs,
+        Long endTimeMs,
+        Float confidenceScore
+) {
+}
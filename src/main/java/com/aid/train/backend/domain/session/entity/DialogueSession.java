@@ -5,6 +5,7 @@ import com.aid.train.backend.domain.session.enums.SessionStatus;
 import com.aid.train.backend.domain.user.entity.User;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -21,12 +22,15 @@ import java.util.UUID;
  */
 @Entity
 @Table(name = "dialogue_sessions", indexes = {
-        @Index(name = "idx_user_id", columnList = "user_id")
+        // 사용자별 최신순 키셋 페이지네이션 + 목록 요약 컬럼 (SessionSummary 조회 시 테이블 접근 없음)
+        @Index(name = "idx_user_started_at_summary",
+                columnList = "user_id, started_at, id, status, ended_at, scenario_id, session_id")
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @ToString(exclude = {"user", "scenario", "transcripts"})
 @EntityListeners(AuditingEntityListener.class)
+@DynamicUpdate // 발화 통계는 batchInsert가 SQL로 누적하므로, 상태 변경 시 변경된 컬럼만 UPDATE
 public class DialogueSession {
 
     @Id
@@ -54,9 +58,14 @@ public class DialogueSession {
     @Column(name = "ended_at")
     private LocalDateTime endedAt;
 
-    @OneToMany(mappedBy = "dialogueSession", cascade = CascadeType.ALL, orphanRemoval = true)
+    // 발화는 TranscriptRepository#batchInsert로만 저장하므로 세션을 통해 persist 하지 않음 (삭제만 전파)
+    @OneToMany(mappedBy = "dialogueSession", cascade = CascadeType.REMOVE, orphanRemoval = true)
     private List<Transcript> transcripts = new ArrayList<>();
 
+    // 발화 통계 (TranscriptRepository#batchInsert에서만 누적, 엔티티로는 갱신하지 않음)
+    @Embedded
+    private TranscriptStats transcriptStats = new TranscriptStats();
+
     @Column(name = "audio_url")
     private String audioUrl;
 
@@ -106,11 +115,6 @@ public class DialogueSession {
         this.endedAt = LocalDateTime.now();
     }
 
-    public void addTranscript(Transcript transcript) {
-        transcripts.add(transcript);
-        transcript.setDialogueSession(this);
-    }
-
     public void setAudioInfo(String audioUrl, Integer durationSeconds) {
         this.audioUrl = audioUrl;
         this.audioDurationSeconds = durationSeconds;
@@ -0,0 +1,97 @@
+package com.aid.train.backend.domain.session.entity;
+
+import com.aid.train.backend.domain.session.enums.SessionStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 세션 집계 엔티티 (사용자별)
+ *
+ * 세션이 완료 / 실패될 때 같은 트랜잭션에서 누적되므로, 프로필 화면은 dialogue_sessions 를 스캔하지 않고 이 행을 읽습니다.
+ * 행은 SessionAggregateRepository 의 upsert 로만 변경합니다. 전체 집계는 저장하지 않고 사용자별 행을 합산해 만듭니다.
+ * 소요 시간은 기존 집계와 같이 완료된 세션만 대상입니다 (초 단위).
+ */
+@Entity
+@Table(name = "session_aggregates")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@ToString
+public class SessionAggregate {
+
+    // 합산한 전체 집계의 user_id (저장되지 않음)
+    public static final long GLOBAL = 0L;
+
+    // 사용자 ID
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "completed_count", nullable = false)
+    private long completedCount;
+
+    @Column(name = "failed_count", nullable = false)
+    private long failedCount;
+
+    @Column(name = "duration_count", nullable = false)
+    private long durationCount;
+
+    @Column(name = "duration_sum_seconds", nullable = false)
+    private long durationSumSeconds;
+
+    @Column(name = "duration_min_seconds")
+    private Long durationMinSeconds;
+
+    @Column(name = "duration_max_seconds")
+    private Long durationMaxSeconds;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    /**
+     * 사용자별 행을 합산한 전체 집계 (SessionAggregateRepository#sumUserAggregates 의 생성자 표현식)
+     */
+    public SessionAggregate(Long userId, Long completedCount, Long failedCount, Long durationCount,
+                            Long durationSumSeconds, Long durationMinSeconds, Long durationMaxSeconds,
+                            LocalDateTime updatedAt) {
+        this.userId = userId;
+        this.completedCount = completedCount;
+        this.failedCount = failedCount;
+        this.durationCount = durationCount;
+        this.durationSumSeconds = durationSumSeconds;
+        this.durationMinSeconds = durationMinSeconds;
+        this.durationMaxSeconds = durationMaxSeconds;
+        this.updatedAt = updatedAt;
+    }
+
+    /**
+     * 아직 종료된 세션이 없는 사용자의 빈 집계
+     */
+    public static SessionAggregate empty(Long userId) {
+        SessionAggregate aggregate = new SessionAggregate();
+        aggregate.userId = userId;
+        return aggregate;
+    }
+
+    public long count(SessionStatus status) {
+        return switch (status) {
+            case COMPLETED -> completedCount;
+            case FAILED -> failedCount;
+            case ONGOING -> 0;
+        };
+    }
+
+    public long terminatedCount() {
+        return completedCount + failedCount;
+    }
+
+    /**
+     * 완료된 세션의 평균 소요 시간 (초)
+     *
+     * @return 완료된 세션이 없으면 null
+     */
+    public Double averageDurationSeconds() {
+        return durationCount > 0 ? (double) durationSumSeconds / durationCount : null;
+    }
+}
@@ -1,5 +1,6 @@
 package com.aid.train.backend.domain.session.entity;
 
+import com.aid.train.backend.domain.session.analytics.KoreanTextMetrics;
 import com.aid.train.backend.domain.session.enums.Speaker;
 import jakarta.persistence.*;
 import lombok.*;
@@ -16,7 +17,7 @@ import java.time.LocalDateTime;
  */
 @Entity
 @Table(name = "transcripts", indexes = {
-        @Index(name = "idx_session_id", columnList = "session_id")
+        @Index(name = "idx_session_timestamp_id", columnList = "session_id, timestamp, id") // 세션별 시간순 키셋 페이지네이션
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -86,7 +87,7 @@ public class Transcript {
     public Double getSpeechRate() {
         Double durationSeconds = getDurationSeconds();
         if (durationSeconds != null && durationSeconds > 0) {
-            int charCount = content.replaceAll("\\s", "").length();
+            int charCount = KoreanTextMetrics.nonWhitespaceLength(content);
             return (charCount / durationSeconds) * 60;
         }
         return null;
@@ -0,0 +1,145 @@
+package com.aid.train.backend.domain.session.entity;
+
+import com.aid.train.backend.domain.session.enums.Speaker;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.Getter;
+import org.hibernate.annotations.ColumnDefault;
+
+/**
+ * 세션별 발화 통계 (dialogue_sessions 에 함께 저장)
+ *
+ * 발화가 추가될 때마다 누적하므로 조회 시 transcripts 를 집계하지 않습니다.
+ * 누적은 TranscriptRepository#batchInsert가 INSERT와 같은 트랜잭션에서 {@code UPDATE ... SET 컬럼 = 컬럼 + ?}로만 합니다.
+ * 컬럼은 updatable = false 라서, 통계를 읽어 온 세션 엔티티가 나중에 변경되어도 dirty checking이 SQL로 누적한 값을 덮어쓰지 않습니다.
+ * 엔티티의 값은 읽어 온 시점의 스냅샷이며, {@link #add(Transcript)}는 batchInsert의 증가분 계산에만 사용합니다.
+ * 신뢰도 분포는 0.5 / 0.7 / 0.8 / 0.9 경계의 다섯 구간으로 나눕니다 (신뢰도가 없는 발화는 제외).
+ */
+@Getter
+@Embeddable
+public class TranscriptStats {
+
+    // 낮은 신뢰도 기준 (이 값 미만)
+    public static final float LOW_CONFIDENCE_THRESHOLD = 0.7f;
+
+    // 신뢰도 구간 경계 (FLOAT 그대로 비교)
+    public static final float[] CONFIDENCE_EDGES = {0.5f, LOW_CONFIDENCE_THRESHOLD, 0.8f, 0.9f};
+
+    @ColumnDefault("0")
+    @Column(name = "stats_user_count", nullable = false, updatable = false)
+    private long userCount;
+
+    @ColumnDefault("0")
+    @Column(name = "stats_ai_count", nullable = false, updatable = false)
+    private long aiCount;
+
+    // 발화 글자 수 합 (code point 기준, LENGTH(content)와 같음)
+    @ColumnDefault("0")
+    @Column(name = "stats_user_chars", nullable = false, updatable = false)
+    private long userChars;
+
+    @ColumnDefault("0")
+    @Column(name = "stats_ai_chars", nullable = false, updatable = false)
+    private long aiChars;
+
+    // 시작 / 종료 시각이 모두 있는 발화의 길이 합 (밀리초)
+    @ColumnDefault("0")
+    @Column(name = "stats_speaking_time_ms", nullable = false, updatable = false)
+    private long speakingTimeMs;
+
+    // 신뢰도 [0, 0.5)
+    @ColumnDefault("0")
+    @Column(name = "stats_confidence_under_50", nullable = false, updatable = false)
+    private long confidenceUnder50;
+
+    // 신뢰도 [0.5, 0.7)
+    @ColumnDefault("0")
+    @Column(name = "stats_confidence_50_70", nullable = false, updatable = false)
+    private long confidence50To70;
+
+    // 신뢰도 [0.7, 0.8)
+    @ColumnDefault("0")
+    @Column(name = "stats_confidence_70_80", nullable = false, updatable = false)
+    private long confidence70To80;
+
+    // 신뢰도 [0.8, 0.9)
+    @ColumnDefault("0")
+    @Column(name = "stats_confidence_80_90", nullable = false, updatable = false)
+    private long confidence80To90;
+
+    // 신뢰도 [0.9, 1.0]
+    @ColumnDefault("0")
+    @Column(name = "stats_confidence_90_plus", nullable = false, updatable = false)
+    private long confidence90Plus;
+
+    /**
+     * 발화 한 건을 통계에 반영합니다 (증가분 계산용, 저장되지 않음).
+     */
+    public void add(Transcript transcript) {
+        String content = transcript.getContent();
+        long chars = content != null ? content.codePointCount(0, content.length()) : 0;
+        if (transcript.getSpeaker().isUser()) {
+            userCount++;
+            userChars += chars;
+        } else {
+            aiCount++;
+            aiChars += chars;
+        }
+
+        Long durationMs = transcript.getDurationMs();
+        if (durationMs != null) {
+            speakingTimeMs += durationMs;
+        }
+
+        Float confidence = transcript.getConfidenceScore();
+        if (confidence == null) {
+            return;
+        }
+        if (confidence < CONFIDENCE_EDGES[0]) {
+            confidenceUnder50++;
+        } else if (confidence < CONFIDENCE_EDGES[1]) {
+            confidence50To70++;
+        } else if (confidence < CONFIDENCE_EDGES[2]) {
+            confidence70To80++;
+        } else if (confidence < CONFIDENCE_EDGES[3]) {
+            confidence80To90++;
+        } else {
+            confidence90Plus++;
+        }
+    }
+
+    public long count(Speaker speaker) {
+        return speaker.isUser() ? userCount : aiCount;
+    }
+
+    public long totalCount() {
+        return userCount + aiCount;
+    }
+
+    /**
+     * 발화자별 평균 글자 수
+     *
+     * @return 발화가 없으면 null
+     */
+    public Double averageContentLength(Speaker speaker) {
+        long count = count(speaker);
+        if (count == 0) {
+            return null;
+        }
+        return (double) (speaker.isUser() ? userChars : aiChars) / count;
+    }
+
+    /**
+     * 신뢰도가 {@link #LOW_CONFIDENCE_THRESHOLD} 미만인 발화 수
+     */
+    public long lowConfidenceCount() {
+        return confidenceUnder50 + confidence50To70;
+    }
+
+    /**
+     * 신뢰도 구간별 발화 수 ([0, 0.5), [0.5, 0.7), [0.7, 0.8), [0.8, 0.9), [0.9, 1.0])
+     */
+    public long[] confidenceHistogram() {
+        return new long[]{confidenceUnder50, confidence50To70, confidence70To80, confidence80To90, confidence90Plus};
+    }
+}
@@ -0,0 +1,52 @@
+package com.aid.train.backend.global.common.export;
+
+import org.springframework.http.MediaType;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+/**
+ * 내보내기 형식
+ */
+public enum ExportFormat {
+
+    // 한 줄에 JSON 객체 하나 (application/x-ndjson)
+    NDJSON("ndjson", MediaType.APPLICATION_NDJSON),
+
+    // RFC 4180 CSV, 첫 줄은 헤더
+    CSV("csv", new MediaType("text", "csv", StandardCharsets.UTF_8));
+
+    private final String extension;
+    private final MediaType mediaType;
+
+    ExportFormat(String extension, MediaType mediaType) {
+        this.extension = extension;
+        this.mediaType = mediaType;
+    }
+
+    public String extension() {
+        return extension;
+    }
+
+    public MediaType mediaType() {
+        return mediaType;
+    }
+
+    /**
+     * 요청 파라미터(ndjson / csv, 대소문자 무시)를 형식으로 바꿉니다.
+     *
+     * @return 알 수 없는 값이면 null
+     */
+    public static ExportFormat from(String value) {
+        if (value == null) {
+            return null;
+        }
+        String normalized = value.trim().toLowerCase(Locale.ROOT);
+        for (ExportFormat format : values()) {
+            if (format.extension.equals(normalized)) {
+                return format;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,161 @@
+package com.aid.train.backend.global.common.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 행 단위 내보내기 writer
+ *
+ * 행을 받는 즉시 출력 스트림에 쓰고 보관하지 않으므로, 행 수와 관계없이 메모리 사용량이 일정합니다.
+ * {@link #finish()}는 남은 버퍼를 내보내지만 출력 스트림은 닫지 않습니다 (응답 스트림은 컨테이너가 닫음).
+ * CSV의 문자열 값은 스프레드시트에서 수식으로 실행되지 않도록 =, +, -, @, 탭, CR 로 시작하면 앞에 ' 를 붙입니다.
+ *
+ * @param <T> 행 타입
+ */
+public abstract class ExportWriter<T> {
+
+    // 이 행 수마다 클라이언트로 내보냄 (내보내기 중에도 다운로드가 진행되도록)
+    private static final int FLUSH_EVERY_ROWS = 500;
+
+    private long rowCount;
+
+    /**
+     * @param mapper  NDJSON 직렬화에 사용할 ObjectMapper (날짜 형식 등 애플리케이션 설정을 따름)
+     * @param header  CSV 헤더
+     * @param columns CSV 열 값 (header 순서)
+     */
+    public static <T> ExportWriter<T> of(ExportFormat format, OutputStream out, ObjectMapper mapper, Class<T> rowType,
+                                         List<String> header, Function<T, List<?>> columns) throws IOException {
+        return switch (format) {
+            case NDJSON -> new NdjsonWriter<>(out, mapper, rowType);
+            case CSV -> new CsvWriter<>(out, header, columns);
+        };
+    }
+
+    public final void write(T row) throws IOException {
+        writeRow(row);
+        if (++rowCount % FLUSH_EVERY_ROWS == 0) {
+            flush();
+        }
+    }
+
+    public final void finish() throws IOException {
+        flush();
+    }
+
+    public long rowCount() {
+        return rowCount;
+    }
+
+    protected abstract void writeRow(T row) throws IOException;
+
+    protected abstract void flush() throws IOException;
+
+    private static final class NdjsonWriter<T> extends ExportWriter<T> {
+
+        private final JsonGenerator generator;
+        private final ObjectWriter writer;
+
+        private NdjsonWriter(OutputStream out, ObjectMapper mapper, Class<T> rowType) throws IOException {
+            this.generator = mapper.getFactory().createGenerator(out);
+            this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            // 행 구분은 직접 쓰는 줄바꿈으로만
+            this.generator.setRootValueSeparator(null);
+            // 행마다 flush 하지 않음 (FLUSH_EVERY_ROWS 단위로만)
+            this.writer = mapper.writerFor(rowType).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        }
+
+        @Override
+        protected void writeRow(T row) throws IOException {
+            writer.writeValue(generator, row);
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        protected void flush() throws IOException {
+            generator.flush();
+        }
+    }
+
+    private static final class CsvWriter<T> extends ExportWriter<T> {
+
+        // 스프레드시트가 수식으로 해석하는 첫 글자 (OWASP CSV Injection)
+        private static final String FORMULA_PREFIXES = "=+-@\t\r";
+
+        private final Writer out;
+        private final Function<T, List<?>> columns;
+
+        private CsvWriter(OutputStream out, List<String> header, Function<T, List<?>> columns) throws IOException {
+            this.out = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            this.columns = columns;
+            writeLine(header);
+        }
+
+        @Override
+        protected void writeRow(T row) throws IOException {
+            writeLine(columns.apply(row));
+        }
+
+        @Override
+        protected void flush() throws IOException {
+            out.flush();
+        }
+
+        private void writeLine(List<?> values) throws IOException {
+            for (int i = 0; i < values.size(); i++) {
+                if (i > 0) {
+                    out.write(',');
+                }
+                Object value = values.get(i);
+                if (value instanceof CharSequence text) {
+                    writeField(neutralize(text.toString()));
+                } else if (value != null) {
+                    // 숫자 / 날짜는 그대로 (음수도 값으로 읽혀야 하므로)
+                    writeField(value.toString());
+                }
+            }
+            out.write("\r\n");
+        }
+
+        // 발화 내용 등 사용자가 입력한 문자열이 =HYPERLINK(...) 같은 수식으로 실행되지 않도록 텍스트로 고정
+        private static String neutralize(String value) {
+            if (!value.isEmpty() && FORMULA_PREFIXES.indexOf(value.charAt(0)) >= 0) {
+                return "'" + value;
+            }
+            return value;
+        }
+
+        // RFC 4180: 쉼표, 큰따옴표, 줄바꿈이 있으면 큰따옴표로 감싸고 안의 큰따옴표는 두 번 씀
+        private void writeField(String value) throws IOException {
+            boolean quote = false;
+            for (int i = 0; i < value.length() && !quote; i++) {
+                char c = value.charAt(i);
+                quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+            }
+            if (!quote) {
+                out.write(value);
+                return;
+            }
+            out.write('"');
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == '"') {
+                    out.write('"');
+                }
+                out.write(c);
+            }
+            out.write('"');
+        }
+    }
+}
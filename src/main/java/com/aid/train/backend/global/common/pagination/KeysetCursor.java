@@ -0,0 +1,94 @@
+package com.aid.train.backend.global.common.pagination;
+
+import com.aid.train.backend.global.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+/**
+ * 키셋(seek) 페이지네이션 커서
+ *
+ * 마지막으로 내려준 행의 정렬 키(시각)와 id를 담으며, 클라이언트에는 {@link #encode()}한 불투명 토큰으로만 전달합니다.
+ * 다음 페이지는 OFFSET 없이 "(정렬 키, id)가 커서보다 뒤인 행"을 인덱스로 바로 찾아 읽으므로
+ * 몇 번째 페이지든 조회 비용이 같습니다.
+ *
+ * 정렬 / 필터를 바꿀 수 있는 목록은 발급 조건을 scope로 함께 담고, 다른 조건의 요청에 쓰이면 거절합니다
+ * (예: 최신순으로 받은 커서를 오래된순 요청에 쓰면 엉뚱한 페이지가 나오므로).
+ *
+ * @param sortKey 정렬 기준 시각 (started_at, timestamp 등)
+ * @param id      같은 시각의 행을 구분하는 PK
+ * @param scope   커서를 발급한 조회 조건 (정렬 / 필터), 조건이 고정된 목록이면 빈 문자열
+ */
+public record KeysetCursor(LocalDateTime sortKey, Long id, String scope) {
+
+    private static final String VERSION = "v1";
+    private static final String SCOPED_VERSION = "v2";
+
+    public KeysetCursor {
+        if (sortKey == null || id == null) {
+            throw new IllegalArgumentException("커서의 정렬 키와 id는 필수입니다.");
+        }
+        scope = scope == null ? "" : scope;
+        if (scope.indexOf(':') >= 0) {
+            throw new IllegalArgumentException("커서 scope에는 ':'를 쓸 수 없습니다.");
+        }
+    }
+
+    public KeysetCursor(LocalDateTime sortKey, Long id) {
+        this(sortKey, id, "");
+    }
+
+    /**
+     * 커서를 URL에 그대로 쓸 수 있는 토큰으로 만듭니다.
+     */
+    public String encode() {
+        String raw = (scope.isEmpty() ? VERSION : SCOPED_VERSION)
+                + ':' + sortKey.toEpochSecond(ZoneOffset.UTC) + ':' + sortKey.getNano() + ':' + id
+                + (scope.isEmpty() ? "" : ":" + scope);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * 조회 조건이 고정된 목록의 토큰을 커서로 되돌립니다.
+     *
+     * @see #decode(String, String)
+     */
+    public static KeysetCursor decode(String token) {
+        return decode(token, "");
+    }
+
+    /**
+     * 토큰을 커서로 되돌립니다.
+     *
+     * @param token         {@link #encode()} 결과, 첫 페이지면 null 또는 빈 문자열
+     * @param expectedScope 이번 요청의 조회 조건 (발급 시 scope와 같아야 함)
+     * @return 커서, 첫 페이지면 null
+     * @throws InvalidCursorException 형식이 올바르지 않거나 다른 조회 조건으로 발급된 토큰 (400 응답)
+     */
+    public static KeysetCursor decode(String token, String expectedScope) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        KeysetCursor cursor;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.US_ASCII);
+            String[] parts = raw.split(":", -1);
+            boolean scoped = parts.length == 5 && SCOPED_VERSION.equals(parts[0]);
+            if (!scoped && (parts.length != 4 || !VERSION.equals(parts[0]))) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            LocalDateTime sortKey = LocalDateTime.ofEpochSecond(
+                    Long.parseLong(parts[1]), Integer.parseInt(parts[2]), ZoneOffset.UTC);
+            cursor = new KeysetCursor(sortKey, Long.parseLong(parts[3]), scoped ? parts[4] : "");
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new InvalidCursorException("잘못된 커서입니다.", e);
+        }
+        if (!cursor.scope().equals(expectedScope == null ? "" : expectedScope)) {
+            throw new InvalidCursorException("다른 정렬 / 조건으로 발급된 커서입니다.");
+        }
+        return cursor;
+    }
+}
@@ -0,0 +1,41 @@
+package com.aid.train.backend.global.common.pagination;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 키셋 페이지네이션 결과
+ *
+ * 전체 건수(COUNT)는 계산하지 않습니다. 다음 페이지 여부는 size + 1건을 조회해서 판단합니다.
+ *
+ * @param content    이번 페이지 행
+ * @param nextCursor 다음 페이지 요청에 넘길 토큰 (마지막 페이지면 null)
+ * @param hasNext    다음 페이지 존재 여부
+ */
+public record KeysetPage<T>(List<T> content, String nextCursor, boolean hasNext) {
+
+    // 한 페이지 최대 크기
+    public static final int MAX_SIZE = 100;
+
+    /**
+     * size + 1건까지 조회한 결과로 페이지를 만듭니다.
+     *
+     * @param fetched  커서 이후 최대 size + 1건
+     * @param size     요청한 페이지 크기
+     * @param cursorOf 행 → 커서
+     */
+    public static <T> KeysetPage<T> of(List<T> fetched, int size, Function<T, KeysetCursor> cursorOf) {
+        if (fetched.size() <= size) {
+            return new KeysetPage<>(fetched, null, false);
+        }
+        List<T> content = fetched.subList(0, size);
+        return new KeysetPage<>(content, cursorOf.apply(content.get(size - 1)).encode(), true);
+    }
+
+    /**
+     * 요청한 페이지 크기를 1 ~ {@link #MAX_SIZE} 범위로 맞춥니다.
+     */
+    public static int clampSize(int size) {
+        return Math.max(1, Math.min(size, MAX_SIZE));
+    }
+}
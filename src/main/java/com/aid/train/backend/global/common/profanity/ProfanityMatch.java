@@ -0,0 +1,22 @@
+package com.aid.train.backend.global.common.profanity;
+
+import java.util.Comparator;
+
+/**
+ * 찾은 비속어
+ *
+ * @param word  사전에 등록된 표기
+ * @param start 원문 시작 위치 (char index, 포함)
+ * @param end   원문 끝 위치 (char index, 제외)
+ */
+public record ProfanityMatch(String word, int start, int end) implements Comparable<ProfanityMatch> {
+
+    private static final Comparator<ProfanityMatch> ORDER = Comparator
+            .comparingInt(ProfanityMatch::start)
+            .thenComparingInt(ProfanityMatch::end);
+
+    @Override
+    public int compareTo(ProfanityMatch other) {
+        return ORDER.compare(this, other);
+    }
+}
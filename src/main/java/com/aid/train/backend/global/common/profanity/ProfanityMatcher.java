@@ -0,0 +1,244 @@
+package com.aid.train.backend.global.common.profanity;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 비속어 사전 Aho-Corasick 오토마톤
+ *
+ * 사전 단어 수와 관계없이 정규화된 텍스트를 한 번 순회하며 모든 단어를 찾습니다 (O(텍스트 길이 + 찾은 수)).
+ * 단어와 텍스트는 모두 {@link ProfanityNormalizer}로 정규화한 뒤 비교합니다.
+ *
+ * 허용 단어("시발점" 등)에 완전히 포함된 비속어는 결과에서 제외합니다.
+ * 한 번 만든 뒤에는 바뀌지 않으므로 여러 스레드가 잠금 없이 함께 사용할 수 있습니다.
+ */
+public final class ProfanityMatcher {
+
+    private static final int ROOT = 0;
+    private static final int NONE = -1;
+
+    // 상태별 자식 (글자 오름차순)과 이동할 상태
+    private final char[][] edgeChars;
+    private final int[][] edgeTargets;
+    private final int[] fail;
+    // 이 상태에서 끝나는 단어 (없으면 NONE)
+    private final int[] output;
+    // fail 경로에서 가장 가까운, 단어가 끝나는 상태 (없으면 NONE)
+    private final int[] outputLink;
+
+    // 단어 id → 원래 사전 표기 / 정규화 길이 / 허용 단어 여부
+    private final String[] words;
+    private final int[] wordLengths;
+    private final boolean[] allowed;
+
+    private final int bannedCount;
+
+    private ProfanityMatcher(char[][] edgeChars, int[][] edgeTargets, int[] fail, int[] output, int[] outputLink,
+                             String[] words, int[] wordLengths, boolean[] allowed, int bannedCount) {
+        this.edgeChars = edgeChars;
+        this.edgeTargets = edgeTargets;
+        this.fail = fail;
+        this.output = output;
+        this.outputLink = outputLink;
+        this.words = words;
+        this.wordLengths = wordLengths;
+        this.allowed = allowed;
+        this.bannedCount = bannedCount;
+    }
+
+    public static ProfanityMatcher empty() {
+        return compile(List.of(), List.of());
+    }
+
+    /**
+     * @param banned  비속어
+     * @param allowed 비속어를 포함하지만 허용할 단어
+     */
+    public static ProfanityMatcher compile(Collection<String> banned, Collection<String> allowed) {
+        List<String> words = new ArrayList<>();
+        List<Boolean> allowedFlags = new ArrayList<>();
+        List<Map<Character, Integer>> children = new ArrayList<>();
+        List<Integer> outputs = new ArrayList<>();
+        children.add(new TreeMap<>());
+        outputs.add(NONE);
+
+        int bannedCount = 0;
+        List<Integer> lengths = new ArrayList<>();
+        List<Collection<String>> sources = List.of(banned, allowed);
+        for (int source = 0; source < sources.size(); source++) {
+            boolean allow = source == 1;
+            for (String word : sources.get(source)) {
+                ProfanityNormalizer.Normalized normalized = ProfanityNormalizer.normalize(word);
+                if (normalized.length() == 0) {
+                    continue;
+                }
+                int state = ROOT;
+                for (int i = 0; i < normalized.length(); i++) {
+                    char c = normalized.chars()[i];
+                    Integer next = children.get(state).get(c);
+                    if (next == null) {
+                        next = children.size();
+                        children.get(state).put(c, next);
+                        children.add(new TreeMap<>());
+                        outputs.add(NONE);
+                    }
+                    state = next;
+                }
+                // 같은 정규화 결과가 이미 있으면 먼저 등록된 단어 유지 (비속어 우선)
+                if (outputs.get(state) == NONE) {
+                    outputs.set(state, words.size());
+                    words.add(word);
+                    lengths.add(normalized.length());
+                    allowedFlags.add(allow);
+                    if (!allow) {
+                        bannedCount++;
+                    }
+                }
+            }
+        }
+
+        int size = children.size();
+        char[][] edgeChars = new char[size][];
+        int[][] edgeTargets = new int[size][];
+        for (int state = 0; state < size; state++) {
+            Map<Character, Integer> edges = children.get(state);
+            edgeChars[state] = new char[edges.size()];
+            edgeTargets[state] = new int[edges.size()];
+            int i = 0;
+            for (Map.Entry<Character, Integer> edge : edges.entrySet()) {
+                edgeChars[state][i] = edge.getKey();
+                edgeTargets[state][i++] = edge.getValue();
+            }
+        }
+
+        int[] output = outputs.stream().mapToInt(Integer::intValue).toArray();
+        int[] fail = new int[size];
+        int[] outputLink = new int[size];
+        Arrays.fill(outputLink, NONE);
+
+        // 너비 우선으로 실패 링크 계산
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (int child : edgeTargets[ROOT]) {
+            fail[child] = ROOT;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (int i = 0; i < edgeChars[state].length; i++) {
+                char c = edgeChars[state][i];
+                int child = edgeTargets[state][i];
+                int f = fail[state];
+                int target;
+                while ((target = step(edgeChars, edgeTargets, f, c)) == NONE && f != ROOT) {
+                    f = fail[f];
+                }
+                fail[child] = target != NONE ? target : ROOT;
+                outputLink[child] = output[fail[child]] != NONE ? fail[child] : outputLink[fail[child]];
+                queue.add(child);
+            }
+        }
+
+        boolean[] allowedArray = new boolean[allowedFlags.size()];
+        for (int i = 0; i < allowedArray.length; i++) {
+            allowedArray[i] = allowedFlags.get(i);
+        }
+        return new ProfanityMatcher(edgeChars, edgeTargets, fail, output, outputLink,
+                words.toArray(String[]::new), lengths.stream().mapToInt(Integer::intValue).toArray(),
+                allowedArray, bannedCount);
+    }
+
+    /**
+     * 텍스트에 있는 비속어를 모두 찾습니다 (원문 위치 순).
+     */
+    public List<ProfanityMatch> findAll(CharSequence text) {
+        if (text == null || text.isEmpty() || bannedCount == 0) {
+            return List.of();
+        }
+        ProfanityNormalizer.Normalized normalized = ProfanityNormalizer.normalize(text);
+        char[] chars = normalized.chars();
+        int[] origins = normalized.origins();
+
+        List<int[]> bannedHits = null;   // {word id, 정규화 시작, 정규화 끝(포함)}
+        List<int[]> allowedHits = null;  // {정규화 시작, 정규화 끝(포함)}
+        int state = ROOT;
+        for (int i = 0; i < normalized.length(); i++) {
+            state = next(state, chars[i]);
+            for (int s = output[state] != NONE ? state : outputLink[state]; s != NONE; s = outputLink[s]) {
+                int word = output[s];
+                int start = i - wordLengths[word] + 1;
+                if (allowed[word]) {
+                    if (allowedHits == null) {
+                        allowedHits = new ArrayList<>();
+                    }
+                    allowedHits.add(new int[]{start, i});
+                } else {
+                    if (bannedHits == null) {
+                        bannedHits = new ArrayList<>();
+                    }
+                    bannedHits.add(new int[]{word, start, i});
+                }
+            }
+        }
+        if (bannedHits == null) {
+            return List.of();
+        }
+
+        List<ProfanityMatch> matches = new ArrayList<>(bannedHits.size());
+        for (int[] hit : bannedHits) {
+            if (!coveredBy(allowedHits, hit[1], hit[2])) {
+                matches.add(new ProfanityMatch(words[hit[0]], origins[hit[1]], origins[hit[2]] + 1));
+            }
+        }
+        matches.sort(null);
+        return matches;
+    }
+
+    /**
+     * 비속어가 하나라도 있는지 확인합니다.
+     */
+    public boolean containsAny(CharSequence text) {
+        return !findAll(text).isEmpty();
+    }
+
+    /**
+     * 사전의 비속어 수 (허용 단어 제외)
+     */
+    public int size() {
+        return bannedCount;
+    }
+
+    private int next(int state, char c) {
+        while (true) {
+            int target = step(edgeChars, edgeTargets, state, c);
+            if (target != NONE) {
+                return target;
+            }
+            if (state == ROOT) {
+                return ROOT;
+            }
+            state = fail[state];
+        }
+    }
+
+    private static int step(char[][] edgeChars, int[][] edgeTargets, int state, char c) {
+        int index = Arrays.binarySearch(edgeChars[state], c);
+        return index >= 0 ? edgeTargets[state][index] : NONE;
+    }
+
+    private static boolean coveredBy(List<int[]> allowedHits, int start, int end) {
+        if (allowedHits == null) {
+            return false;
+        }
+        for (int[] allowed : allowedHits) {
+            if (allowed[0] <= start && end <= allowed[1]) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,148 @@
+package com.aid.train.backend.global.common.profanity;
+
+/**
+ * 비속어 검사용 텍스트 정규화
+ *
+ * 같은 단어를 다르게 적는 우회 표기가 같은 문자열이 되도록 한 번 순회하며 변환합니다.
+ * <ul>
+ *     <li>완성형 한글, 조합형(NFD) 한글, 호환 자모를 모두 호환 자모 나열로 풀어 씁니다 ("시발", "ㅅㅣㅂㅏㄹ" → ㅅㅣㅂㅏㄹ)</li>
+ *     <li>음절 첫소리의 ㅇ은 소리가 없으므로 버립니다 ("십알" → ㅅㅣㅂㅏㄹ)</li>
+ *     <li>글자가 아닌 문자(공백, 숫자, 문장 부호, 이모지)는 양쪽 조각이 모두 한 음절(또는 자모만)일 때만 건너뜁니다
+ *     ("시 발", "시.발", "시1발", "ㅅ ㅂ"). 한쪽이라도 두 음절 이상인 단어면 그 자리에 {@link #BOUNDARY}를 넣어
+ *     단어 경계를 넘는 일치를 막습니다 ("다시 발생", "질병 신고", "요청 시 팔로우업")</li>
+ *     <li>라틴 문자는 소문자로, 전각 영문은 반각으로 바꿉니다</li>
+ * </ul>
+ * 결과의 각 글자는 원문에서의 위치를 함께 가지므로 찾은 구간을 원문 위치로 돌려줄 수 있습니다.
+ */
+public final class ProfanityNormalizer {
+
+    /**
+     * 단어 경계 표시 (사전 단어에는 나오지 않으므로 이 글자를 넘는 일치는 없음)
+     */
+    public static final char BOUNDARY = ' ';
+
+    private static final char[] CHOSEONG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ".toCharArray();
+    private static final char[] JUNGSEONG = "ㅏㅐㅑㅒㅓㅔㅕㅖㅗㅘㅙㅚㅛㅜㅝㅞㅟㅠㅡㅢㅣ".toCharArray();
+    // 받침 없음(0) 제외
+    private static final char[] JONGSEONG = "ㄱㄲㄳㄴㄵㄶㄷㄹㄺㄻㄼㄽㄾㄿㅀㅁㅂㅄㅅㅆㅇㅈㅊㅋㅌㅍㅎ".toCharArray();
+
+    private static final int SILENT_CHOSEONG = 11; // ㅇ
+
+    private static final char SYLLABLE_BASE = '가';
+    private static final char SYLLABLE_LAST = '힣';
+    private static final int JUNGSEONG_COUNT = 21;
+    private static final int JONGSEONG_COUNT = 28;
+
+    private ProfanityNormalizer() {
+    }
+
+    /**
+     * 정규화된 텍스트
+     *
+     * @param chars   정규화된 글자 (length 까지만 유효)
+     * @param origins 각 글자의 원문 위치 (char index)
+     * @param length  정규화된 글자 수
+     */
+    public record Normalized(char[] chars, int[] origins, int length) {
+
+        public String text() {
+            return new String(chars, 0, length);
+        }
+    }
+
+    public static Normalized normalize(CharSequence text) {
+        int n = text.length();
+        // 완성형 한 글자는 최대 세 글자로 늘어남
+        char[] chars = new char[n * 3];
+        int[] origins = new int[n * 3];
+        int length = 0;
+
+        // 직전 조각이 짧은지(한 음절 이하), 직전 조각 뒤 첫 구분 문자 위치 (없으면 -1)
+        boolean previousShort = false;
+        boolean hasPrevious = false;
+        int separatorAt = -1;
+
+        for (int i = 0; i < n; i++) {
+            char c = text.charAt(i);
+            if (!Character.isLetter(c)) {
+                if (hasPrevious && separatorAt < 0) {
+                    separatorAt = i;
+                }
+                continue;
+            }
+            if (i == 0 || !Character.isLetter(text.charAt(i - 1))) {
+                // 새 조각 시작: 양쪽이 모두 짧을 때만 구분 문자를 건너뛰고, 아니면 경계를 남김
+                boolean currentShort = isShortPiece(text, i);
+                if (separatorAt >= 0 && !(previousShort && currentShort)) {
+                    chars[length] = BOUNDARY;
+                    origins[length++] = separatorAt;
+                }
+                previousShort = currentShort;
+                hasPrevious = true;
+                separatorAt = -1;
+            }
+
+            if (c >= SYLLABLE_BASE && c <= SYLLABLE_LAST) {
+                int offset = c - SYLLABLE_BASE;
+                int cho = offset / (JUNGSEONG_COUNT * JONGSEONG_COUNT);
+                int jung = (offset / JONGSEONG_COUNT) % JUNGSEONG_COUNT;
+                int jong = offset % JONGSEONG_COUNT;
+                if (cho != SILENT_CHOSEONG) {
+                    chars[length] = CHOSEONG[cho];
+                    origins[length++] = i;
+                }
+                chars[length] = JUNGSEONG[jung];
+                origins[length++] = i;
+                if (jong != 0) {
+                    chars[length] = JONGSEONG[jong - 1];
+                    origins[length++] = i;
+                }
+            } else if (c >= 'ᄀ' && c <= 'ᄒ') {
+                // 조합형 초성
+                if (c - 'ᄀ' != SILENT_CHOSEONG) {
+                    chars[length] = CHOSEONG[c - 'ᄀ'];
+                    origins[length++] = i;
+                }
+            } else if (c >= 'ᅡ' && c <= 'ᅵ') {
+                // 조합형 중성
+                chars[length] = JUNGSEONG[c - 'ᅡ'];
+                origins[length++] = i;
+            } else if (c >= 'ᆨ' && c <= 'ᇂ') {
+                // 조합형 종성
+                chars[length] = JONGSEONG[c - 'ᆨ'];
+                origins[length++] = i;
+            } else if (c >= 'ㄱ' && c <= 'ㅣ') {
+                // 호환 자모는 그대로
+                chars[length] = c;
+                origins[length++] = i;
+            } else if (c >= 'Ａ' && c <= 'Ｚ' || c >= 'ａ' && c <= 'ｚ') {
+                // 전각 영문
+                chars[length] = Character.toLowerCase((char) (c - 0xFEE0));
+                origins[length++] = i;
+            } else {
+                chars[length] = Character.toLowerCase(c);
+                origins[length++] = i;
+            }
+        }
+        return new Normalized(chars, origins, length);
+    }
+
+    /**
+     * start에서 시작하는 글자 조각이 음절(또는 라틴 문자) 한 개 이하인지 확인합니다. 자모만으로 된 조각은 짧은 것으로 봅니다.
+     */
+    private static boolean isShortPiece(CharSequence text, int start) {
+        int units = 0;
+        for (int i = start; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (!Character.isLetter(c)) {
+                break;
+            }
+            // 조합형 중성 / 종성, 호환 자모는 음절 수에 넣지 않음
+            boolean jamo = c >= 'ᅡ' && c <= 'ᅵ' || c >= 'ᆨ' && c <= 'ᇂ' || c >= 'ㄱ' && c <= 'ㅣ';
+            if (!jamo && ++units > 1) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
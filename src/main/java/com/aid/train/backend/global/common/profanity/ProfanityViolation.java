@@ -0,0 +1,16 @@
+package com.aid.train.backend.global.common.profanity;
+
+/**
+ * 필드에서 찾은 비속어
+ *
+ * @param field 필드 이름 (title, description, prompt 등)
+ * @param word  사전에 등록된 표기
+ * @param start 필드 값에서의 시작 위치 (포함)
+ * @param end   필드 값에서의 끝 위치 (제외)
+ */
+public record ProfanityViolation(String field, String word, int start, int end) {
+
+    public static ProfanityViolation of(String field, ProfanityMatch match) {
+        return new ProfanityViolation(field, match.word(), match.start(), match.end());
+    }
+}
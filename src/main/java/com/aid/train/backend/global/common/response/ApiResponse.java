@@ -53,4 +53,19 @@ public class ApiResponse<T> {
                 .data(data)
                 .build();
     }
+
+    /**
+     * Api 실패 응답을 생성합니다.
+     *
+     * @param message 실패 사유
+     * @param <T> 응답 데이터의 타입
+     * @return ApiResponse 실패 응답 객체 (data 없음)
+     */
+    public static <T> ApiResponse<T> fail(String message) {
+        return ApiResponse.<T>builder()
+                .success(false)
+                .message(message)
+                .timestamp(LocalDateTime.now())
+                .build();
+    }
 }
@@ -0,0 +1,16 @@
+package com.aid.train.backend.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+/**
+ * {@code @Async} 활성화
+ *
+ * Executor는 Spring Boot 기본 applicationTaskExecutor를 사용합니다.
+ * spring.threads.virtual.enabled=true 이면 가상 스레드 기반 SimpleAsyncTaskExecutor로,
+ * 아니면 spring.task.execution.pool.* 설정의 스레드 풀로 구성됩니다.
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+}
@@ -0,0 +1,37 @@
+package com.aid.train.backend.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 사용자 시나리오 검수 파이프라인 설정 (train.scenario.moderation.*)
+ *
+ * 큐는 메모리에만 있지만 검수 대기 상태는 DB(status=DRAFT)에 남으므로, 큐가 가득 차거나 서버가 재시작되어도
+ * sweepInterval마다 DRAFT 시나리오를 다시 큐에 넣어 결국 검수됩니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "train.scenario.moderation")
+public class ScenarioModerationProperties {
+
+    // 대기 큐 최대 건수 (넘치면 DRAFT로 남고 다음 sweep 때 다시 시도)
+    private int queueCapacity = 1000;
+
+    // 검수 스레드 수
+    private int workerThreads = 2;
+
+    // 한 트랜잭션에서 검수할 최대 건수
+    private int batchSize = 50;
+
+    // DRAFT 시나리오를 다시 큐에 넣는 주기
+    private Duration sweepInterval = Duration.ofMinutes(1);
+
+    // 생성 후 이 시간이 지나도 DRAFT 이면 sweep 대상 (방금 만들어져 큐에 있는 시나리오 제외)
+    private Duration sweepGrace = Duration.ofSeconds(30);
+
+    // 프롬프트 최대 글자 수
+    private int maxPromptLength = 4000;
+}
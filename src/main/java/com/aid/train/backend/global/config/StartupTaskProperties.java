@@ -0,0 +1,34 @@
+package com.aid.train.backend.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * 기동 시 한 번 실행할 백필 / 재계산 작업 설정 (train.startup.*)
+ *
+ * 예: train.startup.tasks=feedback-backfill,history-rollup
+ * 집계 테이블 도입 직후 기존 데이터를 채우거나 불일치를 복구할 때 한 번 켜고 배포합니다 (트래픽이 적을 때).
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "train.startup")
+public class StartupTaskProperties {
+
+    // 실행할 작업 (선언 순서대로 실행)
+    private Set<Task> tasks = EnumSet.noneOf(Task.class);
+
+    public enum Task {
+        // 점수 컬럼 도입 전 피드백의 원본 JSON을 파싱해 점수 컬럼 / 개선점 테이블을 채움
+        FEEDBACK_BACKFILL,
+        // history 에서 일 / 주 / 월 집계 재계산 (비어 있는 scenario_id 를 채운 뒤 순위표도 다시 반영)
+        HISTORY_ROLLUP,
+        // dialogue_sessions 에서 세션 집계 재계산
+        SESSION_AGGREGATE,
+        // transcripts 에서 세션별 발화 통계(dialogue_sessions.stats_*) 재계산
+        TRANSCRIPT_STATS
+    }
+}
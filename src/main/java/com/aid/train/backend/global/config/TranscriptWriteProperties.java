@@ -0,0 +1,36 @@
+package com.aid.train.backend.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 발화 내역 write-behind 설정 (train.transcript.write-behind.*)
+ *
+ * 버퍼에 있는 발화는 아직 DB에 없으므로, 프로세스가 비정상 종료(kill -9, OOM, 장비 장애)되면 유실됩니다.
+ * 유실 가능 범위는 세션당 최대 "flushInterval 동안 쌓인 발화" 또는 "flushSize 건" 중 먼저 도달하는 쪽이며,
+ * 정상 종료 / 세션 완료 / 세션 실패 시에는 항상 DB에 기록됩니다.
+ * enabled=false 이면 발화마다 즉시 INSERT 합니다 (유실 없음, 실시간 경로에 DB 지연 포함).
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "train.transcript.write-behind")
+public class TranscriptWriteProperties {
+
+    // write-behind 사용 여부
+    private boolean enabled = true;
+
+    // 세션 버퍼가 이 건수에 도달하면 바로 기록
+    private int flushSize = 50;
+
+    // 버퍼의 가장 오래된 발화가 이 시간을 넘기면 기록 (비정상 종료 시 유실 가능 시간)
+    private Duration flushInterval = Duration.ofSeconds(2);
+
+    // 세션당 최대 보관 건수. 넘으면 append 호출 스레드에서 바로 기록합니다 (DB 장애 시 메모리 무한 증가 방지).
+    private int maxPendingPerSession = 1000;
+
+    // 기록 전용 스레드 수
+    private int flushThreads = 2;
+}
@@ -0,0 +1,34 @@
+package com.aid.train.backend.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 가상 스레드 실행 모드 부가 설정 (train.virtual-threads.*)
+ *
+ * 가상 스레드 모드 자체는 Spring Boot 표준 설정인 spring.threads.virtual.enabled=true 로 켭니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "train.virtual-threads")
+public class VirtualThreadProperties {
+
+    private final PinningMonitor pinningMonitor = new PinningMonitor();
+
+    @Getter
+    @Setter
+    public static class PinningMonitor {
+        // 가상 스레드 모드일 때 carrier 스레드 pinning 감시 여부
+        private boolean enabled = true;
+
+        // 이 시간 이상 pinning 된 경우만 보고
+        private Duration threshold = Duration.ofMillis(20);
+
+        // 이 패키지의 프레임이 스택에 있으면 핫 패스로 보고 WARN 로그를 남김
+        private List<String> hotPathPackages = List.of("com.aid.train.backend");
+    }
+}
@@ -0,0 +1,24 @@
+package com.aid.train.backend.global.exception;
+
+import com.aid.train.backend.global.common.response.ApiResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * 컨트롤러 공통 예외 응답
+ */
+@Slf4j
+@RestControllerAdvice
+public class GlobalExceptionHandler {
+
+    /**
+     * 변조되었거나 다른 조건으로 발급된 커서는 서버 오류가 아니라 잘못된 요청으로 응답합니다.
+     */
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ApiResponse<Void>> handleInvalidCursor(InvalidCursorException e) {
+        log.debug("잘못된 커서 요청: {}", e.getMessage());
+        return ResponseEntity.badRequest().body(ApiResponse.fail(e.getMessage()));
+    }
+}
@@ -0,0 +1,15 @@
+package com.aid.train.backend.global.exception;
+
+/**
+ * 클라이언트가 보낸 페이지 커서가 형식에 맞지 않거나 다른 조회 조건으로 발급된 경우 (400 응답)
+ */
+public class InvalidCursorException extends IllegalArgumentException {
+
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+
+    public InvalidCursorException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
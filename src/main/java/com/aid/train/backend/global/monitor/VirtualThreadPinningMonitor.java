@@ -0,0 +1,129 @@
+package com.aid.train.backend.global.monitor;
+
+import com.aid.train.backend.global.config.VirtualThreadProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 가상 스레드 carrier pinning 감시기
+ *
+ * JFR의 jdk.VirtualThreadPinned 이벤트를 애플리케이션 안에서 스트리밍으로 구독합니다.
+ * synchronized 블록이나 native 프레임 안에서 블로킹되어 carrier 스레드를 붙잡은 경우
+ * 지표(train.virtual.pinned)를 올리고, 스택에 애플리케이션 코드(핫 패스)가 있으면 WARN 로그로 위치를 남깁니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+@ConditionalOnProperty(prefix = "train.virtual-threads.pinning-monitor", name = "enabled", matchIfMissing = true)
+@EnableConfigurationProperties(VirtualThreadProperties.class)
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int LOGGED_FRAMES = 8;
+
+    private final VirtualThreadProperties.PinningMonitor properties;
+    private final MeterRegistry meterRegistry;
+
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(VirtualThreadProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties.getPinningMonitor();
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (stream != null) {
+            return;
+        }
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT)
+                .withThreshold(properties.getThreshold())
+                .withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::report);
+        stream.startAsync();
+        log.info("가상 스레드 pinning 감시 시작: threshold={}", properties.getThreshold());
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (stream != null) {
+            stream.close();
+            stream = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return stream != null;
+    }
+
+    private void report(RecordedEvent event) {
+        RecordedFrame hotFrame = findHotPathFrame(event.getStackTrace());
+        String location = hotFrame != null
+                ? hotFrame.getMethod().getType().getName() + "." + hotFrame.getMethod().getName()
+                : "external";
+        Counter.builder("train.virtual.pinned")
+                .description("carrier 스레드 pinning 발생 횟수")
+                .tag("location", location)
+                .register(meterRegistry)
+                .increment();
+
+        if (hotFrame != null) {
+            log.warn("가상 스레드 pinning 감지 - duration={}ms, location={}:{}\n{}",
+                    event.getDuration().toMillis(), location, hotFrame.getLineNumber(),
+                    formatStack(event.getStackTrace()));
+        } else {
+            log.debug("가상 스레드 pinning 감지 (라이브러리 내부) - duration={}ms\n{}",
+                    event.getDuration().toMillis(), formatStack(event.getStackTrace()));
+        }
+    }
+
+    private RecordedFrame findHotPathFrame(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return null;
+        }
+        List<String> packages = properties.getHotPathPackages();
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            if (!frame.isJavaFrame()) {
+                continue;
+            }
+            String type = frame.getMethod().getType().getName();
+            for (String pkg : packages) {
+                if (type.startsWith(pkg)) {
+                    return frame;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static String formatStack(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "  (stack trace 없음)";
+        }
+        StringBuilder sb = new StringBuilder();
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        for (int i = 0; i < Math.min(frames.size(), LOGGED_FRAMES); i++) {
+            RecordedFrame frame = frames.get(i);
+            sb.append("  at ")
+                    .append(frame.getMethod().getType().getName()).append('.')
+                    .append(frame.getMethod().getName()).append(':')
+                    .append(frame.getLineNumber()).append('\n');
+        }
+        return sb.toString();
+    }
+}
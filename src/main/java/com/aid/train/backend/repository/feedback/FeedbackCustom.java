@@ -0,0 +1,39 @@
+package com.aid.train.backend.repository.feedback;
+
+import com.aid.train.backend.domain.feedback.dto.response.FeedbackScoreAverages;
+import com.aid.train.backend.domain.feedback.dto.response.FeedbackScorePoint;
+import com.aid.train.backend.domain.feedback.enums.ScoreDimension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface FeedbackCustom {
+
+    /**
+     * 사용자의 최근 점수 추이를 세션 시작 시각 순으로 조회합니다. (점수 컬럼만 읽고 JSON은 읽지 않음)
+     * limit을 넘으면 가장 최근 limit 건만 돌려줍니다.
+     *
+     * @param userId    사용자 ID
+     * @param dimension 점수 항목, null 이면 종합 점수
+     * @param from      이 시각 이후 시작한 세션만, null 이면 전체
+     * @param limit     최대 건수 (최근 세션부터)
+     */
+    List<FeedbackScorePoint> findScoreSeries(Long userId, ScoreDimension dimension, LocalDateTime from, int limit);
+
+    /**
+     * 점수 항목이 threshold 미만인 세션을 점수가 낮은 순으로 조회합니다.
+     */
+    List<FeedbackScorePoint> findScoresBelow(Long userId, ScoreDimension dimension, int threshold, int limit);
+
+    /**
+     * 사용자의 점수 항목별 평균을 한 번의 집계 쿼리로 조회합니다.
+     *
+     * @param from 이 시각 이후 시작한 세션만, null 이면 전체
+     */
+    FeedbackScoreAverages averageScores(Long userId, LocalDateTime from);
+
+    /**
+     * 원본 JSON은 있지만 점수 컬럼이 비어 있는 피드백 id (백필용, id 오름차순)
+     */
+    List<Long> findUnparsedIds(Long afterId, int limit);
+}
@@ -0,0 +1,11 @@
+package com.aid.train.backend.repository.feedback;
+
+import com.aid.train.backend.domain.feedback.entity.Feedback;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface FeedbackRepository extends JpaRepository<Feedback, Long>, FeedbackCustom {
+
+    Optional<Feedback> findByDialogueSessionId(Long dialogueSessionId);
+}
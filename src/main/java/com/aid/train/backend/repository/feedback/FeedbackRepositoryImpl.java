@@ -0,0 +1,108 @@
+package com.aid.train.backend.repository.feedback;
+
+import com.aid.train.backend.domain.feedback.dto.response.FeedbackScoreAverages;
+import com.aid.train.backend.domain.feedback.dto.response.FeedbackScorePoint;
+import com.aid.train.backend.domain.feedback.enums.ScoreDimension;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static com.aid.train.backend.domain.feedback.entity.QFeedback.feedback;
+import static com.aid.train.backend.domain.session.entity.QDialogueSession.dialogueSession;
+
+@RequiredArgsConstructor
+public class FeedbackRepositoryImpl implements FeedbackCustom {
+
+    // queryDsl 을 사용하기 위한 의존객체
+    private final JPAQueryFactory factory;
+
+    @Override
+    public List<FeedbackScorePoint> findScoreSeries(Long userId, ScoreDimension dimension, LocalDateTime from, int limit) {
+        NumberPath<Integer> score = scorePath(dimension);
+        BooleanBuilder where = new BooleanBuilder(dialogueSession.user.id.eq(userId)).and(score.isNotNull());
+        if (from != null) {
+            where.and(dialogueSession.startedAt.goe(from));
+        }
+        // 최근 limit 건을 고른 뒤 시간순으로 뒤집음 (asc + limit이면 가장 오래된 세션만 나옴)
+        List<FeedbackScorePoint> latest = factory
+                .select(Projections.constructor(FeedbackScorePoint.class,
+                        dialogueSession.id, dialogueSession.startedAt, score))
+                .from(feedback)
+                .join(dialogueSession).on(dialogueSession.id.eq(feedback.dialogueSessionId))
+                .where(where)
+                .orderBy(dialogueSession.startedAt.desc(), dialogueSession.id.desc())
+                .limit(limit)
+                .fetch();
+        List<FeedbackScorePoint> series = new ArrayList<>(latest);
+        Collections.reverse(series);
+        return series;
+    }
+
+    @Override
+    public List<FeedbackScorePoint> findScoresBelow(Long userId, ScoreDimension dimension, int threshold, int limit) {
+        NumberPath<Integer> score = scorePath(dimension);
+        return factory
+                .select(Projections.constructor(FeedbackScorePoint.class,
+                        dialogueSession.id, dialogueSession.startedAt, score))
+                .from(feedback)
+                .join(dialogueSession).on(dialogueSession.id.eq(feedback.dialogueSessionId))
+                .where(dialogueSession.user.id.eq(userId), score.lt(threshold))
+                .orderBy(score.asc(), dialogueSession.startedAt.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public FeedbackScoreAverages averageScores(Long userId, LocalDateTime from) {
+        BooleanBuilder where = new BooleanBuilder(dialogueSession.user.id.eq(userId));
+        if (from != null) {
+            where.and(dialogueSession.startedAt.goe(from));
+        }
+        return factory
+                .select(Projections.constructor(FeedbackScoreAverages.class,
+                        feedback.id.count(),
+                        feedback.scores.clarity.avg(),
+                        feedback.scores.fluency.avg(),
+                        feedback.scores.logic.avg(),
+                        feedback.scores.empathy.avg(),
+                        feedback.scores.attitude.avg(),
+                        feedback.scores.total.avg()))
+                .from(feedback)
+                .join(dialogueSession).on(dialogueSession.id.eq(feedback.dialogueSessionId))
+                .where(where)
+                .fetchOne();
+    }
+
+    @Override
+    public List<Long> findUnparsedIds(Long afterId, int limit) {
+        return factory
+                .select(feedback.id)
+                .from(feedback)
+                .where(feedback.id.gt(afterId),
+                        feedback.scores.total.isNull(),
+                        feedback.rawScores.isNotNull())
+                .orderBy(feedback.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    private static NumberPath<Integer> scorePath(ScoreDimension dimension) {
+        if (dimension == null) {
+            return feedback.scores.total;
+        }
+        return switch (dimension) {
+            case CLARITY -> feedback.scores.clarity;
+            case FLUENCY -> feedback.scores.fluency;
+            case LOGIC -> feedback.scores.logic;
+            case EMPATHY -> feedback.scores.empathy;
+            case ATTITUDE -> feedback.scores.attitude;
+        };
+    }
+}
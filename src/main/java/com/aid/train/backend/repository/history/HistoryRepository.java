@@ -0,0 +1,52 @@
+package com.aid.train.backend.repository.history;
+
+import com.aid.train.backend.domain.history.dto.UserBestScore;
+import com.aid.train.backend.domain.history.entity.History;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface HistoryRepository extends JpaRepository<History, Long> {
+
+    Optional<History> findByDialogueSessionId(Long dialogueSessionId);
+
+    /**
+     * 사용자 / 시나리오별 최고 점수 (순위표 전체 적재)
+     */
+    @Query("select new com.aid.train.backend.domain.history.dto.UserBestScore(" +
+            "h.user.id, h.scenarioId, max(h.totalScore), max(h.id)) " +
+            "from History h " +
+            "group by h.user.id, h.scenarioId")
+    List<UserBestScore> findBestScores();
+
+    /**
+     * 스냅샷 이후 저장된 히스토리의 사용자 / 시나리오별 최고 점수 (순위표 이어 받기)
+     *
+     * @param afterId 스냅샷의 watermark
+     * @param since   이 시각 이후 생성된 히스토리도 포함 (watermark 보다 작은 id가 늦게 커밋된 경우)
+     */
+    @Query("select new com.aid.train.backend.domain.history.dto.UserBestScore(" +
+            "h.user.id, h.scenarioId, max(h.totalScore), max(h.id)) " +
+            "from History h " +
+            "where h.id > :afterId or h.createdAt >= :since " +
+            "group by h.user.id, h.scenarioId")
+    List<UserBestScore> findBestScoresSince(@Param("afterId") long afterId, @Param("since") LocalDateTime since);
+
+    /**
+     * scenario_id 컬럼 추가 전에 저장된 히스토리의 시나리오를 세션에서 채웁니다.
+     *
+     * @return 채운 행 수
+     */
+    @Modifying
+    @Query(value = "UPDATE history h " +
+            "JOIN dialogue_sessions s ON s.id = h.dialogue_session_id " +
+            "SET h.scenario_id = s.scenario_id " +
+            "WHERE h.scenario_id IS NULL",
+            nativeQuery = true)
+    int fillMissingScenarioIds();
+}
@@ -0,0 +1,142 @@
+package com.aid.train.backend.repository.history;
+
+import com.aid.train.backend.domain.history.entity.HistoryRollup;
+import com.aid.train.backend.domain.history.entity.HistoryRollupKey;
+import com.aid.train.backend.domain.history.enums.RollupGranularity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * HistoryRollup Repository
+ *
+ * 집계 행은 INSERT ... ON DUPLICATE KEY UPDATE 로 누적합니다. 구간 시작일 식(BUCKET_*)은
+ * {@link RollupGranularity#bucketStart}와 같은 날짜를 만들어야 증분 반영과 재계산 결과가 일치합니다.
+ */
+public interface HistoryRollupRepository extends JpaRepository<HistoryRollup, HistoryRollupKey> {
+
+    String ROLLUP_COLUMNS = "INSERT INTO history_rollups (user_id, granularity, category, bucket_start, " +
+            "session_count, score_sum, score_min, score_max, updated_at) ";
+
+    String ROLLUP_UPSERT = "ON DUPLICATE KEY UPDATE " +
+            "session_count = session_count + 1, " +
+            "score_sum = score_sum + VALUES(score_sum), " +
+            "score_min = LEAST(score_min, VALUES(score_min)), " +
+            "score_max = GREATEST(score_max, VALUES(score_max)), " +
+            "updated_at = NOW()";
+
+    String BUCKET_DAY = "DATE(h.completed_at)";
+    String BUCKET_WEEK = "DATE_SUB(DATE(h.completed_at), INTERVAL WEEKDAY(h.completed_at) DAY)";
+    String BUCKET_MONTH = "DATE_SUB(DATE(h.completed_at), INTERVAL DAYOFMONTH(h.completed_at) - 1 DAY)";
+
+    String AGGREGATE_COLUMNS = "COUNT(*), SUM(h.total_score), MIN(h.total_score), MAX(h.total_score), NOW()";
+
+    /**
+     * 히스토리 한 건을 카테고리 전체 / 해당 카테고리의 일 / 주 / 월 집계에 누적합니다. (한 문장, 6행)
+     *
+     * @param category Scenario.Category 이름
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query(value = ROLLUP_COLUMNS + "VALUES " +
+            "(:userId, 'DAY', 'ALL', :day, 1, :score, :score, :score, NOW()), " +
+            "(:userId, 'WEEK', 'ALL', :week, 1, :score, :score, :score, NOW()), " +
+            "(:userId, 'MONTH', 'ALL', :month, 1, :score, :score, :score, NOW()), " +
+            "(:userId, 'DAY', :category, :day, 1, :score, :score, :score, NOW()), " +
+            "(:userId, 'WEEK', :category, :week, 1, :score, :score, :score, NOW()), " +
+            "(:userId, 'MONTH', :category, :month, 1, :score, :score, :score, NOW()) " +
+            ROLLUP_UPSERT,
+            nativeQuery = true)
+    int addScore(@Param("userId") Long userId, @Param("category") String category,
+                 @Param("day") LocalDate day, @Param("week") LocalDate week, @Param("month") LocalDate month,
+                 @Param("score") int score);
+
+    /**
+     * 카테고리를 알 수 없는 히스토리 한 건을 카테고리 전체 집계에만 누적합니다.
+     *
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query(value = ROLLUP_COLUMNS + "VALUES " +
+            "(:userId, 'DAY', 'ALL', :day, 1, :score, :score, :score, NOW()), " +
+            "(:userId, 'WEEK', 'ALL', :week, 1, :score, :score, :score, NOW()), " +
+            "(:userId, 'MONTH', 'ALL', :month, 1, :score, :score, :score, NOW()) " +
+            ROLLUP_UPSERT,
+            nativeQuery = true)
+    int addScoreWithoutCategory(@Param("userId") Long userId,
+                                @Param("day") LocalDate day, @Param("week") LocalDate week,
+                                @Param("month") LocalDate month, @Param("score") int score);
+
+    /**
+     * 사용자 / 단위 / 카테고리의 구간 목록 (bucket_start 오름차순, PK 범위 스캔)
+     */
+    @Query("select r from HistoryRollup r " +
+            "where r.key.userId = :userId and r.key.granularity = :granularity and r.key.category = :category " +
+            "and r.key.bucketStart between :from and :to " +
+            "order by r.key.bucketStart")
+    List<HistoryRollup> findSeries(@Param("userId") Long userId,
+                                   @Param("granularity") RollupGranularity granularity,
+                                   @Param("category") String category,
+                                   @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    /**
+     * category 컬럼 추가 전에 저장된 히스토리의 카테고리를 세션의 시나리오에서 채웁니다.
+     *
+     * @return 채운 행 수
+     */
+    @Modifying
+    @Query(value = "UPDATE history h " +
+            "JOIN dialogue_sessions s ON s.id = h.dialogue_session_id " +
+            "JOIN Scenario sc ON sc.id = s.scenario_id " +
+            "SET h.category = sc.category " +
+            "WHERE h.category IS NULL",
+            nativeQuery = true)
+    int fillMissingCategories();
+
+    /**
+     * 모든 집계 행을 삭제합니다. (재계산 전)
+     */
+    @Modifying
+    @Query(value = "DELETE FROM history_rollups", nativeQuery = true)
+    int deleteAllRollups();
+
+    /**
+     * history 에서 카테고리 전체 집계를 다시 만듭니다.
+     *
+     * @return 생성된 행 수
+     */
+    @Modifying
+    @Query(value = ROLLUP_COLUMNS +
+            "SELECT h.user_id, 'DAY', 'ALL', " + BUCKET_DAY + ", " + AGGREGATE_COLUMNS + " " +
+            "FROM history h GROUP BY h.user_id, " + BUCKET_DAY + " " +
+            "UNION ALL " +
+            "SELECT h.user_id, 'WEEK', 'ALL', " + BUCKET_WEEK + ", " + AGGREGATE_COLUMNS + " " +
+            "FROM history h GROUP BY h.user_id, " + BUCKET_WEEK + " " +
+            "UNION ALL " +
+            "SELECT h.user_id, 'MONTH', 'ALL', " + BUCKET_MONTH + ", " + AGGREGATE_COLUMNS + " " +
+            "FROM history h GROUP BY h.user_id, " + BUCKET_MONTH,
+            nativeQuery = true)
+    int rebuildAllCategoryRollups();
+
+    /**
+     * history 에서 카테고리별 집계를 다시 만듭니다. (카테고리가 없는 행 제외)
+     *
+     * @return 생성된 행 수
+     */
+    @Modifying
+    @Query(value = ROLLUP_COLUMNS +
+            "SELECT h.user_id, 'DAY', h.category, " + BUCKET_DAY + ", " + AGGREGATE_COLUMNS + " " +
+            "FROM history h WHERE h.category IS NOT NULL GROUP BY h.user_id, h.category, " + BUCKET_DAY + " " +
+            "UNION ALL " +
+            "SELECT h.user_id, 'WEEK', h.category, " + BUCKET_WEEK + ", " + AGGREGATE_COLUMNS + " " +
+            "FROM history h WHERE h.category IS NOT NULL GROUP BY h.user_id, h.category, " + BUCKET_WEEK + " " +
+            "UNION ALL " +
+            "SELECT h.user_id, 'MONTH', h.category, " + BUCKET_MONTH + ", " + AGGREGATE_COLUMNS + " " +
+            "FROM history h WHERE h.category IS NOT NULL GROUP BY h.user_id, h.category, " + BUCKET_MONTH,
+            nativeQuery = true)
+    int rebuildCategoryRollups();
+}
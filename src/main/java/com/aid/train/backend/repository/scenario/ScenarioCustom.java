@@ -1,11 +1,30 @@
 package com.aid.train.backend.repository.scenario;
 
+import com.aid.train.backend.domain.scenario.dto.request.ScenarioFilterCondition;
+import com.aid.train.backend.domain.scenario.dto.response.ScenarioSummary;
 import com.aid.train.backend.domain.scenario.entity.Scenario;
+import com.aid.train.backend.global.common.pagination.KeysetPage;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface ScenarioCustom {
 
     public Scenario findScenarioByScenarioId(Long id);
     public List<Scenario> findAllScenario();
+
+    /**
+     * 공개 시나리오를 조건으로 걸러 커서 기반으로 조회합니다. (idx_scenario_filter 사용, COUNT 없음)
+     *
+     * @param condition 필터 / 정렬 조건
+     * @param cursor    이전 페이지의 nextCursor, 첫 페이지면 null
+     * @param size      페이지 크기 (최대 {@link KeysetPage#MAX_SIZE})
+     * @return 시나리오 요약 페이지
+     */
+    public KeysetPage<ScenarioSummary> findPublishedPage(ScenarioFilterCondition condition, String cursor, int size);
+
+    /**
+     * 검수 대기(DRAFT) 중 createdBefore 이전에 만들어진 시나리오 id (오래된 순)
+     */
+    public List<Long> findDraftIdsCreatedBefore(LocalDateTime createdBefore, int limit);
 }
@@ -1,9 +1,19 @@
 package com.aid.train.backend.repository.scenario;
 
+import com.aid.train.backend.domain.scenario.dto.request.ScenarioFilterCondition;
+import com.aid.train.backend.domain.scenario.dto.request.ScenarioFilterCondition.ScenarioSort;
+import com.aid.train.backend.domain.scenario.dto.response.ScenarioSummary;
 import com.aid.train.backend.domain.scenario.entity.Scenario;
+import com.aid.train.backend.global.common.pagination.KeysetCursor;
+import com.aid.train.backend.global.common.pagination.KeysetPage;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.DateTimePath;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static com.aid.train.backend.domain.scenario.entity.QScenario.scenario;
@@ -35,6 +45,87 @@ public class ScenarioRepositoryImpl implements ScenarioCustom{
                 .fetch();
     }
 
+    // 1-3. 조건별 공개 시나리오 조회 (키셋 페이지네이션)
+    @Override
+    public KeysetPage<ScenarioSummary> findPublishedPage(ScenarioFilterCondition condition, String cursor, int size) {
+        int pageSize = KeysetPage.clampSize(size);
+        ScenarioSort sort = condition.sortOrDefault();
+        DateTimePath<LocalDateTime> sortKey = sortKey(sort);
+        boolean ascending = sort == ScenarioSort.OLDEST;
+        // 다른 정렬 / 필터로 발급된 커서는 400 (엉뚱한 페이지를 돌려주지 않도록)
+        String scope = condition.cursorScope();
+
+        List<ScenarioSummary> fetched = factory
+                .select(Projections.constructor(ScenarioSummary.class,
+                        scenario.id,
+                        scenario.title,
+                        scenario.description,
+                        scenario.voice,
+                        scenario.difficulty,
+                        scenario.category,
+                        scenario.locale,
+                        scenario.isDefault,
+                        scenario.createdAt,
+                        scenario.updatedAt))
+                .from(scenario)
+                .where(filter(condition), after(sortKey, ascending, KeysetCursor.decode(cursor, scope)))
+                .orderBy(ascending
+                        ? new OrderSpecifier[]{sortKey.asc(), scenario.id.asc()}
+                        : new OrderSpecifier[]{sortKey.desc(), scenario.id.desc()})
+                .limit(pageSize + 1)
+                .fetch();
+        return KeysetPage.of(fetched, pageSize, row -> new KeysetCursor(
+                sort == ScenarioSort.RECENTLY_UPDATED ? row.updatedAt() : row.createdAt(), row.id(), scope));
+    }
+
+    // 인덱스 컬럼 순서(status, locale, category, difficulty)대로 조건 추가
+    private BooleanBuilder filter(ScenarioFilterCondition condition) {
+        BooleanBuilder builder = new BooleanBuilder(scenario.status.eq(PUBLISHED));
+        if (condition.locale() != null && !condition.locale().isBlank()) {
+            builder.and(scenario.locale.eq(condition.locale()));
+        }
+        if (condition.category() != null) {
+            builder.and(scenario.category.eq(condition.category()));
+        }
+        if (condition.difficulty() != null) {
+            builder.and(scenario.difficulty.eq(condition.difficulty()));
+        }
+        if (condition.voice() != null) {
+            builder.and(scenario.voice.eq(condition.voice()));
+        }
+        return builder;
+    }
+
+    // 정렬 방향 기준으로 (sortKey, id)가 커서 뒤인 행
+    private BooleanBuilder after(DateTimePath<LocalDateTime> sortKey, boolean ascending, KeysetCursor cursor) {
+        BooleanBuilder builder = new BooleanBuilder();
+        if (cursor == null) {
+            return builder;
+        }
+        if (ascending) {
+            return builder.and(sortKey.gt(cursor.sortKey())
+                    .or(sortKey.eq(cursor.sortKey()).and(scenario.id.gt(cursor.id()))));
+        }
+        return builder.and(sortKey.lt(cursor.sortKey())
+                .or(sortKey.eq(cursor.sortKey()).and(scenario.id.lt(cursor.id()))));
+    }
+
+    private static DateTimePath<LocalDateTime> sortKey(ScenarioSort sort) {
+        return sort == ScenarioSort.RECENTLY_UPDATED ? scenario.updatedAt : scenario.createdAt;
+    }
+
     // 2. 사용자 시나리오
     // 2-1. 사용자 시나리오 저장
+
+    // 2-2. 검수 대기 시나리오 조회
+    @Override
+    public List<Long> findDraftIdsCreatedBefore(LocalDateTime createdBefore, int limit) {
+        return factory
+                .select(scenario.id)
+                .from(scenario)
+                .where(scenario.status.eq(DRAFT), scenario.createdAt.lt(createdBefore))
+                .orderBy(scenario.id.asc())
+                .limit(limit)
+                .fetch();
+    }
 }
@@ -0,0 +1,34 @@
+package com.aid.train.backend.repository.session;
+
+import com.aid.train.backend.domain.session.dto.response.SessionSummary;
+import com.aid.train.backend.domain.session.entity.DialogueSession;
+import com.aid.train.backend.domain.session.enums.SessionStatus;
+import com.aid.train.backend.global.common.pagination.KeysetPage;
+
+public interface DialogueSessionCustom {
+
+    /**
+     * 사용자의 세션 목록을 최신순(started_at DESC, id DESC)으로 커서 기반 조회합니다.
+     * User, Scenario를 함께 조회하며 COUNT 쿼리는 실행하지 않습니다. (idx_user_started_at_summary 사용)
+     *
+     * @param userId 사용자 ID
+     * @param cursor 이전 페이지의 nextCursor, 첫 페이지면 null
+     * @param size   페이지 크기 (최대 {@link KeysetPage#MAX_SIZE})
+     * @return 세션 페이지
+     */
+    KeysetPage<DialogueSession> findPageByUserId(Long userId, String cursor, int size);
+
+    /**
+     * 사용자의 세션 요약 목록을 최신순(started_at DESC, id DESC)으로 커서 기반 조회합니다.
+     *
+     * 목록 화면에 필요한 컬럼만 DTO로 조회하므로 realtime_metrics, audio_url, Scenario.prompt 등을 읽지 않고
+     * 영속성 컨텍스트에도 올리지 않습니다. dialogue_sessions 쪽은 idx_user_started_at_summary 만으로 처리됩니다 (커버링 인덱스).
+     *
+     * @param userId 사용자 ID
+     * @param status 세션 상태, null 이면 전체
+     * @param cursor 이전 페이지의 nextCursor, 첫 페이지면 null
+     * @param size   페이지 크기 (최대 {@link KeysetPage#MAX_SIZE})
+     * @return 세션 요약 페이지
+     */
+    KeysetPage<SessionSummary> findSummaryPageByUserId(Long userId, SessionStatus status, String cursor, int size);
+}
@@ -1,16 +1,25 @@
 package com.aid.train.backend.repository.session;
 
+import com.aid.train.backend.domain.session.dto.response.SessionExportRow;
 import com.aid.train.backend.domain.session.entity.DialogueSession;
+import com.aid.train.backend.domain.session.entity.TranscriptStats;
 import com.aid.train.backend.domain.session.enums.SessionStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * DialogueSession Repository
@@ -21,7 +30,11 @@ import java.util.Optional;
  * @since 2025-10-08
  * @version 1.0
  */
-public interface DialogueSessionRepository extends JpaRepository<DialogueSession, Long> {
+public interface DialogueSessionRepository extends JpaRepository<DialogueSession, Long>, DialogueSessionCustom {
+
+    // 내보내기 조회 시 드라이버가 한 번에 가져올 행 수 (결과 전체를 메모리에 올리지 않음)
+    String EXPORT_FETCH_SIZE = "500";
+
     /**
      * session_id로 세션을 조회합니다.
      *
@@ -97,6 +110,17 @@ public interface DialogueSessionRepository extends JpaRepository<DialogueSession
     List<DialogueSession> findByUserIdAndScenarioIdAndStatusOrderByStartedAtDesc(
             Long userId, Long scenarioId, SessionStatus status);
 
+    /**
+     * 상태 변경용으로 세션 행을 잠가 조회합니다 (SELECT ... FOR UPDATE).
+     * 완료 / 실패 / 유휴 타임아웃이 동시에 들어와도 먼저 잠근 트랜잭션만 ONGOING 을 보고, 나머지는 커밋 뒤의 상태를 봅니다.
+     *
+     * @param dialogueSessionId dialogue_sessions PK
+     * @return 세션
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM DialogueSession s WHERE s.id = :dialogueSessionId")
+    Optional<DialogueSession> findByIdForUpdate(@Param("dialogueSessionId") Long dialogueSessionId);
+
     /**
      * Fetch Join을 사용하여 User와 Scenario를 함께 조회합니다.
      * N+1 문제를 방지합니다.
@@ -136,28 +160,92 @@ public interface DialogueSessionRepository extends JpaRepository<DialogueSession
 
     /**
      * 완료된 세션의 평균 소요 시간을 계산합니다 (초 단위).
+     * 전체 세션을 스캔하므로 화면 조회에는 SessionAggregateService 의 집계를 사용하세요.
      *
      * @return 평균 소요 시간 (초), 데이터가 없으면 null
      */
     @Query(value = "SELECT AVG(TIMESTAMPDIFF(SECOND, started_at, ended_at)) " +
-            "FROM dialogue_session " +
+            "FROM dialogue_sessions " +
             "WHERE status = 'COMPLETED' AND ended_at IS NOT NULL",
             nativeQuery = true)
     Double findAverageSessionDuration();
 
     /**
      * 특정 사용자의 완료된 세션 평균 소요 시간을 계산합니다 (초 단위).
+     * 사용자의 세션을 모두 스캔하므로 화면 조회에는 SessionAggregateService 의 집계를 사용하세요.
      *
      * @param userId 사용자 ID
      * @return 평균 소요 시간 (초), 데이터가 없으면 null
      */
     @Query(value = "SELECT AVG(TIMESTAMPDIFF(SECOND, started_at, ended_at)) " +
-            "FROM dialogue_session " +
+            "FROM dialogue_sessions " +
             "WHERE user_id = :userId " +
             "AND status = 'COMPLETED' AND ended_at IS NOT NULL",
             nativeQuery = true)
     Double findAverageSessionDurationByUserId(@Param("userId") Long userId);
 
+    /**
+     * 세션의 발화 통계를 조회합니다. transcripts 를 집계하지 않고 세션 행에 누적된 값을 읽습니다.
+     * write-behind 버퍼에 있는 발화는 기록된 뒤에 반영됩니다.
+     *
+     * @param dialogueSessionId dialogue_sessions PK
+     * @return 발화 통계
+     */
+    @Query("SELECT s.transcriptStats FROM DialogueSession s WHERE s.id = :dialogueSessionId")
+    Optional<TranscriptStats> findTranscriptStatsById(@Param("dialogueSessionId") Long dialogueSessionId);
+
+    /**
+     * 모든 세션 PK를 조회합니다. (발화 통계 재계산용)
+     *
+     * @return 세션 PK 목록 (오름차순)
+     */
+    @Query("SELECT s.id FROM DialogueSession s ORDER BY s.id")
+    List<Long> findAllIds();
+
+    /**
+     * 발화 통계를 transcripts 에서 다시 계산해 덮어씁니다.
+     * 통계 컬럼이 추가되기 전 세션의 백필이나 불일치 복구용이며 (train.startup.tasks=transcript-stats), 평소 조회에는 사용하지 않습니다.
+     *
+     * @param dialogueSessionId dialogue_sessions PK
+     * @return 변경된 행 수
+     */
+    default int recalculateTranscriptStats(Long dialogueSessionId) {
+        float[] edges = TranscriptStats.CONFIDENCE_EDGES;
+        return recalculateTranscriptStats(dialogueSessionId, edges[0], edges[1], edges[2], edges[3]);
+    }
+
+    /**
+     * 신뢰도 구간 경계는 FLOAT 컬럼과 같은 정밀도로 비교하도록 Float 파라미터로 전달합니다.
+     * (SQL 리터럴 0.7은 DOUBLE 비교가 되어 0.7f가 [0.5, 0.7) 구간으로 들어감)
+     */
+    @Modifying
+    @Query(value = "UPDATE dialogue_sessions s SET " +
+            "stats_user_count = (SELECT COUNT(*) FROM transcripts t WHERE t.session_id = s.id AND t.speaker = 'USER'), " +
+            "stats_ai_count = (SELECT COUNT(*) FROM transcripts t WHERE t.session_id = s.id AND t.speaker = 'AI'), " +
+            "stats_user_chars = (SELECT COALESCE(SUM(CHAR_LENGTH(t.content)), 0) FROM transcripts t " +
+            "WHERE t.session_id = s.id AND t.speaker = 'USER'), " +
+            "stats_ai_chars = (SELECT COALESCE(SUM(CHAR_LENGTH(t.content)), 0) FROM transcripts t " +
+            "WHERE t.session_id = s.id AND t.speaker = 'AI'), " +
+            "stats_speaking_time_ms = (SELECT COALESCE(SUM(t.end_time_ms - t.start_time_ms), 0) FROM transcripts t " +
+            "WHERE t.session_id = s.id AND t.start_time_ms IS NOT NULL AND t.end_time_ms IS NOT NULL), " +
+            "stats_confidence_under_50 = (SELECT COUNT(*) FROM transcripts t " +
+            "WHERE t.session_id = s.id AND t.confidence_score < :edge50), " +
+            "stats_confidence_50_70 = (SELECT COUNT(*) FROM transcripts t " +
+            "WHERE t.session_id = s.id AND t.confidence_score >= :edge50 AND t.confidence_score < :edge70), " +
+            "stats_confidence_70_80 = (SELECT COUNT(*) FROM transcripts t " +
+            "WHERE t.session_id = s.id AND t.confidence_score >= :edge70 AND t.confidence_score < :edge80), " +
+            "stats_confidence_80_90 = (SELECT COUNT(*) FROM transcripts t " +
+            "WHERE t.session_id = s.id AND t.confidence_score >= :edge80 AND t.confidence_score < :edge90), " +
+            "stats_confidence_90_plus = (SELECT COUNT(*) FROM transcripts t " +
+            "WHERE t.session_id = s.id AND t.confidence_score >= :edge90) " +
+            "WHERE s.id = :dialogueSessionId",
+            nativeQuery = true)
+    int recalculateTranscriptStats(@Param("dialogueSessionId") Long dialogueSessionId,
+                                   @Param("edge50") Float edge50,
+                                   @Param("edge70") Float edge70,
+                                   @Param("edge80") Float edge80,
+                                   @Param("edge90") Float edge90);
+
     /**
      * Janus Room ID로 세션을 조회합니다.
      *
@@ -173,4 +261,26 @@ public interface DialogueSessionRepository extends JpaRepository<DialogueSession
      * @return 세션
      */
     Optional<DialogueSession> findByAiRealtimeSessionId(String aiRealtimeSessionId);
+
+    /**
+     * 사용자의 세션 이력을 내보내기용으로 스트리밍 조회합니다 (시작 시각순).
+     *
+     * 엔티티가 아닌 DTO로 조회하므로 영속성 컨텍스트가 커지지 않으며, 읽기 전용 트랜잭션 안에서 사용하고 반드시 닫아야 합니다.
+     *
+     * @param userId 사용자 ID
+     * @return 세션 행 스트림
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.aid.train.backend.domain.session.dto.response.SessionExportRow(" +
+            "s.id, s.sessionId, sc.id, sc.title, sc.category, sc.difficulty, s.status, s.startedAt, s.endedAt, " +
+            "s.audioDurationSeconds, " +
+            "(SELECT COUNT(t) FROM Transcript t WHERE t.dialogueSession = s)) " +
+            "FROM DialogueSession s " +
+            "JOIN s.scenario sc " +
+            "WHERE s.user.id = :userId " +
+            "ORDER BY s.startedAt ASC, s.id ASC")
+    Stream<SessionExportRow> streamExportRowsByUserId(@Param("userId") Long userId);
 }
@@ -0,0 +1,80 @@
+package com.aid.train.backend.repository.session;
+
+import com.aid.train.backend.domain.session.dto.response.SessionSummary;
+import com.aid.train.backend.domain.session.entity.DialogueSession;
+import com.aid.train.backend.domain.session.enums.SessionStatus;
+import com.aid.train.backend.global.common.pagination.KeysetCursor;
+import com.aid.train.backend.global.common.pagination.KeysetPage;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+import static com.aid.train.backend.domain.scenario.entity.QScenario.scenario;
+import static com.aid.train.backend.domain.session.entity.QDialogueSession.dialogueSession;
+import static com.aid.train.backend.domain.user.entity.QUser.user;
+
+@RequiredArgsConstructor
+public class DialogueSessionRepositoryImpl implements DialogueSessionCustom {
+
+    // queryDsl 을 사용하기 위한 의존객체
+    private final JPAQueryFactory factory;
+
+    @Override
+    public KeysetPage<DialogueSession> findPageByUserId(Long userId, String cursor, int size) {
+        int pageSize = KeysetPage.clampSize(size);
+        List<DialogueSession> fetched = factory
+                .selectFrom(dialogueSession)
+                .join(dialogueSession.user, user).fetchJoin()
+                .join(dialogueSession.scenario, scenario).fetchJoin()
+                .where(dialogueSession.user.id.eq(userId),
+                        startedBefore(KeysetCursor.decode(cursor)))
+                .orderBy(dialogueSession.startedAt.desc(), dialogueSession.id.desc())
+                .limit(pageSize + 1)
+                .fetch();
+        return KeysetPage.of(fetched, pageSize,
+                session -> new KeysetCursor(session.getStartedAt(), session.getId()));
+    }
+
+    @Override
+    public KeysetPage<SessionSummary> findSummaryPageByUserId(Long userId, SessionStatus status, String cursor,
+                                                              int size) {
+        int pageSize = KeysetPage.clampSize(size);
+        List<SessionSummary> fetched = factory
+                .select(Projections.constructor(SessionSummary.class,
+                        dialogueSession.id,
+                        dialogueSession.sessionId,
+                        dialogueSession.status,
+                        dialogueSession.startedAt,
+                        dialogueSession.endedAt,
+                        scenario.id,
+                        scenario.title,
+                        scenario.category,
+                        scenario.difficulty))
+                .from(dialogueSession)
+                .join(dialogueSession.scenario, scenario)
+                .where(dialogueSession.user.id.eq(userId),
+                        statusEq(status),
+                        startedBefore(KeysetCursor.decode(cursor)))
+                .orderBy(dialogueSession.startedAt.desc(), dialogueSession.id.desc())
+                .limit(pageSize + 1)
+                .fetch();
+        return KeysetPage.of(fetched, pageSize,
+                summary -> new KeysetCursor(summary.startedAt(), summary.id()));
+    }
+
+    private BooleanExpression statusEq(SessionStatus status) {
+        return status != null ? dialogueSession.status.eq(status) : null;
+    }
+
+    // (started_at, id) < (cursor.sortKey, cursor.id)
+    private BooleanExpression startedBefore(KeysetCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        return dialogueSession.startedAt.lt(cursor.sortKey())
+                .or(dialogueSession.startedAt.eq(cursor.sortKey()).and(dialogueSession.id.lt(cursor.id())));
+    }
+}
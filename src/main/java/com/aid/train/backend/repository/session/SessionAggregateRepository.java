@@ -0,0 +1,101 @@
+package com.aid.train.backend.repository.session;
+
+import com.aid.train.backend.domain.session.entity.SessionAggregate;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * SessionAggregate Repository
+ *
+ * 집계 행은 INSERT ... ON DUPLICATE KEY UPDATE 로 누적하므로 행 잠금 한 번으로 끝나며, 읽고 쓰는 사이에 값이 유실되지 않습니다.
+ */
+public interface SessionAggregateRepository extends JpaRepository<SessionAggregate, Long> {
+
+    // 재계산용 집계 컬럼 (소요 시간은 완료된 세션만)
+    String AGGREGATE_COLUMNS =
+            "COALESCE(SUM(CASE WHEN s.status = 'COMPLETED' THEN 1 ELSE 0 END), 0), " +
+            "COALESCE(SUM(CASE WHEN s.status = 'FAILED' THEN 1 ELSE 0 END), 0), " +
+            "COALESCE(SUM(CASE WHEN s.status = 'COMPLETED' AND s.ended_at IS NOT NULL THEN 1 ELSE 0 END), 0), " +
+            "COALESCE(SUM(CASE WHEN s.status = 'COMPLETED' AND s.ended_at IS NOT NULL " +
+            "THEN TIMESTAMPDIFF(SECOND, s.started_at, s.ended_at) END), 0), " +
+            "MIN(CASE WHEN s.status = 'COMPLETED' AND s.ended_at IS NOT NULL " +
+            "THEN TIMESTAMPDIFF(SECOND, s.started_at, s.ended_at) END), " +
+            "MAX(CASE WHEN s.status = 'COMPLETED' AND s.ended_at IS NOT NULL " +
+            "THEN TIMESTAMPDIFF(SECOND, s.started_at, s.ended_at) END), " +
+            "NOW()";
+
+    /**
+     * 완료된 세션 한 건을 누적합니다.
+     *
+     * @param userId          사용자 ID
+     * @param durationSeconds 세션 소요 시간 (초)
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query(value = "INSERT INTO session_aggregates (user_id, completed_count, failed_count, duration_count, " +
+            "duration_sum_seconds, duration_min_seconds, duration_max_seconds, updated_at) " +
+            "VALUES (:userId, 1, 0, 1, :durationSeconds, :durationSeconds, :durationSeconds, NOW()) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "completed_count = completed_count + 1, " +
+            "duration_count = duration_count + 1, " +
+            "duration_sum_seconds = duration_sum_seconds + :durationSeconds, " +
+            "duration_min_seconds = LEAST(COALESCE(duration_min_seconds, :durationSeconds), :durationSeconds), " +
+            "duration_max_seconds = GREATEST(COALESCE(duration_max_seconds, :durationSeconds), :durationSeconds), " +
+            "updated_at = NOW()",
+            nativeQuery = true)
+    int addCompleted(@Param("userId") Long userId, @Param("durationSeconds") long durationSeconds);
+
+    /**
+     * 실패한 세션 한 건을 누적합니다.
+     *
+     * @param userId 사용자 ID
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query(value = "INSERT INTO session_aggregates (user_id, completed_count, failed_count, duration_count, " +
+            "duration_sum_seconds, updated_at) " +
+            "VALUES (:userId, 0, 1, 0, 0, NOW()) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "failed_count = failed_count + 1, " +
+            "updated_at = NOW()",
+            nativeQuery = true)
+    int addFailed(@Param("userId") Long userId);
+
+    /**
+     * 사용자별 집계를 합산한 전체 집계를 조회합니다.
+     * 예전 버전이 남긴 전체 집계 행(user_id = 0)은 재계산 전까지 남아 있을 수 있으므로 제외합니다.
+     *
+     * @return 종료된 세션이 없으면 값이 0인 집계
+     */
+    @Query("SELECT new com.aid.train.backend.domain.session.entity.SessionAggregate(" +
+            "0L, COALESCE(SUM(a.completedCount), 0L), COALESCE(SUM(a.failedCount), 0L), " +
+            "COALESCE(SUM(a.durationCount), 0L), COALESCE(SUM(a.durationSumSeconds), 0L), " +
+            "MIN(a.durationMinSeconds), MAX(a.durationMaxSeconds), MAX(a.updatedAt)) " +
+            "FROM SessionAggregate a " +
+            "WHERE a.userId > 0")
+    SessionAggregate sumUserAggregates();
+
+    /**
+     * 모든 집계 행을 삭제합니다. (재계산 전)
+     */
+    @Modifying
+    @Query(value = "DELETE FROM session_aggregates", nativeQuery = true)
+    int deleteAllAggregates();
+
+    /**
+     * dialogue_sessions 에서 사용자별 집계를 다시 만듭니다.
+     *
+     * @return 생성된 행 수
+     */
+    @Modifying
+    @Query(value = "INSERT INTO session_aggregates (user_id, completed_count, failed_count, duration_count, " +
+            "duration_sum_seconds, duration_min_seconds, duration_max_seconds, updated_at) " +
+            "SELECT s.user_id, " + AGGREGATE_COLUMNS + " " +
+            "FROM dialogue_sessions s " +
+            "WHERE s.status IN ('COMPLETED', 'FAILED') " +
+            "GROUP BY s.user_id",
+            nativeQuery = true)
+    int rebuildUserAggregates();
+}
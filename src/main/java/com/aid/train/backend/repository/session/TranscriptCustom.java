@@ -0,0 +1,69 @@
+package com.aid.train.backend.repository.session;
+
+import com.aid.train.backend.domain.session.entity.Transcript;
+import com.aid.train.backend.global.common.pagination.KeysetPage;
+
+import java.util.List;
+
+/**
+ * Transcript 대량 저장용 커스텀 Repository
+ *
+ * Transcript는 IDENTITY 전략이라 JPA 저장 시 Hibernate JDBC 배치가 꺼지고 한 건마다 INSERT 한 번이 나갑니다.
+ * 발화는 가장 많이 쓰는 데이터이므로 JDBC multi-row INSERT로 모아서 저장하는 경로를 따로 둡니다.
+ *
+ * 세션 발화 통계(TranscriptStats)는 {@link #batchInsert(List)}에서만 누적되므로 발화를 저장하는 경로는 이것 하나입니다.
+ * JpaRepository 의 save 계열도 여기서 재정의해 batchInsert로 보내며, DialogueSession 은 발화를 cascade persist 하지 않습니다.
+ */
+public interface TranscriptCustom {
+
+    /**
+     * 발화 내역을 multi-row INSERT로 저장합니다. (train.transcript.batch-size 건씩 한 문장)
+     *
+     * 영속성 컨텍스트를 거치지 않으므로 전달한 엔티티에는 id가 채워지지 않고, created_at은 저장 시각으로 기록됩니다.
+     * 세션별 발화 통계(TranscriptStats)도 같은 트랜잭션에서 누적합니다. 현재 트랜잭션이 있으면 그 안에서 실행됩니다.
+     *
+     * @param transcripts 저장할 발화 (dialogueSession의 id가 있어야 함)
+     * @return 저장된 행 수
+     */
+    int batchInsert(List<Transcript> transcripts);
+
+    /**
+     * {@link #batchInsert(List)}로 저장합니다. (JpaRepository#save 재정의, id는 채워지지 않음)
+     */
+    <S extends Transcript> S save(S transcript);
+
+    /**
+     * {@link #batchInsert(List)}로 저장합니다. (JpaRepository#saveAndFlush 재정의, JDBC로 바로 기록되므로 flush 불필요)
+     */
+    <S extends Transcript> S saveAndFlush(S transcript);
+
+    /**
+     * {@link #batchInsert(List)}로 저장합니다. (JpaRepository#saveAll 재정의, id는 채워지지 않음)
+     */
+    <S extends Transcript> List<S> saveAll(Iterable<S> transcripts);
+
+    /**
+     * {@link #batchInsert(List)}로 저장합니다. (JpaRepository#saveAllAndFlush 재정의)
+     */
+    <S extends Transcript> List<S> saveAllAndFlush(Iterable<S> transcripts);
+
+    /**
+     * 세션의 발화 내역을 시간순으로 조회합니다. write-behind 버퍼에 아직 기록되지 않은 발화도 포함됩니다.
+     * (버퍼의 발화는 id, createdAt이 null)
+     *
+     * @param dialogueSessionId dialogue_sessions PK
+     * @return 발화 내역 목록 (시간순)
+     */
+    List<Transcript> findSessionTranscripts(Long dialogueSessionId);
+
+    /**
+     * 세션의 발화 내역을 시간순(timestamp ASC, id ASC)으로 커서 기반 조회합니다.
+     * COUNT 쿼리는 실행하지 않으며 DB에 기록된 발화만 대상입니다. (idx_session_timestamp_id 사용)
+     *
+     * @param dialogueSessionId dialogue_sessions PK
+     * @param cursor            이전 페이지의 nextCursor, 첫 페이지면 null
+     * @param size              페이지 크기 (최대 {@link KeysetPage#MAX_SIZE})
+     * @return 발화 페이지
+     */
+    KeysetPage<Transcript> findPageBySession(Long dialogueSessionId, String cursor, int size);
+}
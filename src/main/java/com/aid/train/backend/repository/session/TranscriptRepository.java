@@ -1,12 +1,17 @@
 package com.aid.train.backend.repository.session;
 
+import com.aid.train.backend.domain.session.dto.response.TranscriptExportRow;
 import com.aid.train.backend.domain.session.enums.Speaker;
 import com.aid.train.backend.domain.session.entity.Transcript;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Transcript Repository
@@ -17,7 +22,20 @@ import java.util.List;
  * @since 2025-10-08
  * @version 1.0
  */
-public interface TranscriptRepository extends JpaRepository<Transcript, Long> {
+public interface TranscriptRepository extends JpaRepository<Transcript, Long>, TranscriptCustom {
+
+    // save 계열은 TranscriptCustom 구현(batchInsert)으로 보냄 (두 상위 선언 중 어느 쪽인지 모호하지 않도록 다시 선언)
+    @Override
+    <S extends Transcript> S save(S transcript);
+
+    @Override
+    <S extends Transcript> S saveAndFlush(S transcript);
+
+    @Override
+    <S extends Transcript> List<S> saveAll(Iterable<S> transcripts);
+
+    @Override
+    <S extends Transcript> List<S> saveAllAndFlush(Iterable<S> transcripts);
 
     /**
      * 특정 세션의 모든 발화 내역을 시간순으로 조회합니다.
@@ -96,4 +114,23 @@ public interface TranscriptRepository extends JpaRepository<Transcript, Long> {
             "AND t.startTimeMs IS NOT NULL " +
             "AND t.endTimeMs IS NOT NULL")
     Long calculateTotalSpeakingTime(@Param("sessionId") Long sessionId);
-}
\ No newline at end of file
+
+    /**
+     * 세션의 발화 내역을 내보내기용으로 스트리밍 조회합니다 (시간순).
+     *
+     * 엔티티가 아닌 DTO로 조회하므로 영속성 컨텍스트가 커지지 않으며, 읽기 전용 트랜잭션 안에서 사용하고 반드시 닫아야 합니다.
+     *
+     * @param sessionId 세션 ID (dialogue_sessions PK)
+     * @return 발화 행 스트림
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = DialogueSessionRepository.EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.aid.train.backend.domain.session.dto.response.TranscriptExportRow(" +
+            "t.id, t.speaker, t.content, t.timestamp, t.startTimeMs, t.endTimeMs, t.confidenceScore) " +
+            "FROM Transcript t " +
+            "WHERE t.dialogueSession.id = :sessionId " +
+            "ORDER BY t.timestamp ASC, t.id ASC")
+    Stream<TranscriptExportRow> streamExportRowsBySessionId(@Param("sessionId") Long sessionId);
+}
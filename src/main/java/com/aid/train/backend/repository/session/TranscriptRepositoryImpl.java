@@ -0,0 +1,213 @@
+package com.aid.train.backend.repository.session;
+
+import com.aid.train.backend.domain.session.entity.Transcript;
+import com.aid.train.backend.domain.session.entity.TranscriptStats;
+import com.aid.train.backend.global.common.pagination.KeysetCursor;
+import com.aid.train.backend.global.common.pagination.KeysetPage;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.transaction.Transactional;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.aid.train.backend.domain.session.entity.QTranscript.transcript;
+
+public class TranscriptRepositoryImpl implements TranscriptCustom {
+
+    private static final String INSERT_PREFIX = "INSERT INTO transcripts "
+            + "(session_id, speaker, content, timestamp, start_time_ms, end_time_ms, confidence_score, created_at) VALUES ";
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final int COLUMN_COUNT = 8;
+
+    // 세션별 발화 통계 누적 (TranscriptStats 컬럼)
+    private static final String UPDATE_STATS_SQL = "UPDATE dialogue_sessions SET "
+            + "stats_user_count = stats_user_count + ?, "
+            + "stats_ai_count = stats_ai_count + ?, "
+            + "stats_user_chars = stats_user_chars + ?, "
+            + "stats_ai_chars = stats_ai_chars + ?, "
+            + "stats_speaking_time_ms = stats_speaking_time_ms + ?, "
+            + "stats_confidence_under_50 = stats_confidence_under_50 + ?, "
+            + "stats_confidence_50_70 = stats_confidence_50_70 + ?, "
+            + "stats_confidence_70_80 = stats_confidence_70_80 + ?, "
+            + "stats_confidence_80_90 = stats_confidence_80_90 + ?, "
+            + "stats_confidence_90_plus = stats_confidence_90_plus + ? "
+            + "WHERE id = ?";
+
+    // 한 문장에 바인딩할 수 있는 최대 파라미터 수 (MariaDB prepared statement 제한)
+    private static final int MAX_PARAMETERS = 65_535;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // queryDsl 을 사용하기 위한 의존객체
+    private final JPAQueryFactory factory;
+
+    // write-behind 버퍼 (버퍼가 이 Repository를 사용하므로 지연 조회)
+    private final ObjectProvider<TranscriptWriteBuffer> writeBuffer;
+
+    // 한 INSERT 문에 담을 행 수
+    private final int batchSize;
+
+    // batchSize 행짜리 INSERT 문 (마지막 나머지 묶음만 따로 만듦)
+    private final String fullBatchSql;
+
+    public TranscriptRepositoryImpl(JdbcTemplate jdbcTemplate,
+                                    JPAQueryFactory factory,
+                                    ObjectProvider<TranscriptWriteBuffer> writeBuffer,
+                                    @Value("${train.transcript.batch-size:100}") int batchSize) {
+        if (batchSize <= 0 || batchSize * COLUMN_COUNT > MAX_PARAMETERS) {
+            throw new IllegalArgumentException(
+                    "train.transcript.batch-size는 1 ~ " + MAX_PARAMETERS / COLUMN_COUNT + " 사이여야 합니다.");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.factory = factory;
+        this.writeBuffer = writeBuffer;
+        this.batchSize = batchSize;
+        this.fullBatchSql = insertSql(batchSize);
+    }
+
+    @Override
+    @Transactional
+    public int batchInsert(List<Transcript> transcripts) {
+        LocalDateTime createdAt = LocalDateTime.now();
+        int inserted = 0;
+        for (int from = 0; from < transcripts.size(); from += batchSize) {
+            List<Transcript> chunk = transcripts.subList(from, Math.min(from + batchSize, transcripts.size()));
+            String sql = chunk.size() == batchSize ? fullBatchSql : insertSql(chunk.size());
+            inserted += jdbcTemplate.update(sql, ps -> bind(ps, chunk, createdAt));
+        }
+        updateStats(transcripts);
+        return inserted;
+    }
+
+    @Override
+    public <S extends Transcript> S save(S transcript) {
+        batchInsert(List.of(transcript));
+        return transcript;
+    }
+
+    @Override
+    public <S extends Transcript> S saveAndFlush(S transcript) {
+        return save(transcript);
+    }
+
+    @Override
+    public <S extends Transcript> List<S> saveAll(Iterable<S> transcripts) {
+        List<S> list = new ArrayList<>();
+        transcripts.forEach(list::add);
+        batchInsert(new ArrayList<>(list));
+        return list;
+    }
+
+    @Override
+    public <S extends Transcript> List<S> saveAllAndFlush(Iterable<S> transcripts) {
+        return saveAll(transcripts);
+    }
+
+    // 세션별로 증가분을 모아 세션당 UPDATE 한 번 (INSERT와 같은 트랜잭션)
+    private void updateStats(List<Transcript> transcripts) {
+        if (transcripts.isEmpty()) {
+            return;
+        }
+        Map<Long, TranscriptStats> deltas = new LinkedHashMap<>();
+        for (Transcript transcript : transcripts) {
+            deltas.computeIfAbsent(transcript.getDialogueSession().getId(), id -> new TranscriptStats())
+                    .add(transcript);
+        }
+        List<Object[]> args = new ArrayList<>(deltas.size());
+        deltas.forEach((dialogueSessionId, delta) -> args.add(new Object[]{
+                delta.getUserCount(), delta.getAiCount(), delta.getUserChars(), delta.getAiChars(),
+                delta.getSpeakingTimeMs(), delta.getConfidenceUnder50(), delta.getConfidence50To70(),
+                delta.getConfidence70To80(), delta.getConfidence80To90(), delta.getConfidence90Plus(),
+                dialogueSessionId}));
+        jdbcTemplate.batchUpdate(UPDATE_STATS_SQL, args);
+    }
+
+    @Override
+    public List<Transcript> findSessionTranscripts(Long dialogueSessionId) {
+        TranscriptWriteBuffer buffer = writeBuffer.getIfAvailable();
+        if (buffer == null) {
+            return findStored(dialogueSessionId);
+        }
+        return buffer.readThrough(dialogueSessionId, () -> findStored(dialogueSessionId));
+    }
+
+    @Override
+    public KeysetPage<Transcript> findPageBySession(Long dialogueSessionId, String cursor, int size) {
+        int pageSize = KeysetPage.clampSize(size);
+        List<Transcript> fetched = factory
+                .selectFrom(transcript)
+                .where(transcript.dialogueSession.id.eq(dialogueSessionId),
+                        after(KeysetCursor.decode(cursor)))
+                .orderBy(transcript.timestamp.asc(), transcript.id.asc())
+                .limit(pageSize + 1)
+                .fetch();
+        return KeysetPage.of(fetched, pageSize, row -> new KeysetCursor(row.getTimestamp(), row.getId()));
+    }
+
+    // (timestamp, id) > (cursor.sortKey, cursor.id)
+    private BooleanExpression after(KeysetCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        return transcript.timestamp.gt(cursor.sortKey())
+                .or(transcript.timestamp.eq(cursor.sortKey()).and(transcript.id.gt(cursor.id())));
+    }
+
+    private List<Transcript> findStored(Long dialogueSessionId) {
+        return factory
+                .selectFrom(transcript)
+                .where(transcript.dialogueSession.id.eq(dialogueSessionId))
+                .orderBy(transcript.timestamp.asc(), transcript.id.asc())
+                .fetch();
+    }
+
+    private static void bind(PreparedStatement ps, List<Transcript> chunk, LocalDateTime createdAt)
+            throws SQLException {
+        int index = 1;
+        for (Transcript transcript : chunk) {
+            ps.setLong(index++, transcript.getDialogueSession().getId());
+            ps.setString(index++, transcript.getSpeaker().name());
+            ps.setString(index++, transcript.getContent());
+            ps.setTimestamp(index++, Timestamp.valueOf(transcript.getTimestamp()));
+            setNullableLong(ps, index++, transcript.getStartTimeMs());
+            setNullableLong(ps, index++, transcript.getEndTimeMs());
+            if (transcript.getConfidenceScore() != null) {
+                ps.setFloat(index++, transcript.getConfidenceScore());
+            } else {
+                ps.setNull(index++, Types.REAL);
+            }
+            ps.setTimestamp(index++, Timestamp.valueOf(createdAt));
+        }
+    }
+
+    private static void setNullableLong(PreparedStatement ps, int index, Long value) throws SQLException {
+        if (value != null) {
+            ps.setLong(index, value);
+        } else {
+            ps.setNull(index, Types.BIGINT);
+        }
+    }
+
+    private static String insertSql(int rows) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + rows * (ROW_PLACEHOLDER.length() + 2));
+        sql.append(INSERT_PREFIX);
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(ROW_PLACEHOLDER);
+        }
+        return sql.toString();
+    }
+}
@@ -0,0 +1,345 @@
+package com.aid.train.backend.repository.session;
+
+import com.aid.train.backend.domain.session.entity.Transcript;
+import com.aid.train.backend.global.config.TranscriptWriteProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 발화 내역 write-behind 버퍼
+ *
+ * 진행 중인 대화 세션마다 발화를 메모리에 모아 두었다가 {@link TranscriptRepository#batchInsert(List)}로 한 번에 기록합니다.
+ * 실시간 경로({@link #append(Transcript)})는 DB를 기다리지 않습니다.
+ *
+ * 기록 시점
+ * <ul>
+ *     <li>세션 버퍼가 flushSize 건에 도달했을 때 (기록 스레드)</li>
+ *     <li>가장 오래된 발화가 flushInterval을 넘겼을 때 (기록 스레드)</li>
+ *     <li>세션 완료 / 실패 시 {@link #flush(Long)} (호출 트랜잭션 안에서, 롤백되면 버퍼로 되돌림)</li>
+ *     <li>애플리케이션 종료 시 전체 (웹 서버가 내려간 뒤)</li>
+ * </ul>
+ * 유실 가능 범위는 {@link TranscriptWriteProperties} 참고.
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties(TranscriptWriteProperties.class)
+public class TranscriptWriteBuffer implements SmartLifecycle {
+
+    private static final Comparator<Transcript> BY_TIMESTAMP = Comparator.comparing(Transcript::getTimestamp);
+
+    private final TranscriptRepository transcriptRepository;
+    private final TranscriptWriteProperties properties;
+    private final long flushIntervalNanos;
+
+    // dialogue_sessions PK → 세션 버퍼
+    private final ConcurrentMap<Long, SessionBuffer> buffers = new ConcurrentHashMap<>();
+
+    private volatile ScheduledExecutorService flusher;
+
+    public TranscriptWriteBuffer(TranscriptRepository transcriptRepository, TranscriptWriteProperties properties) {
+        this.transcriptRepository = transcriptRepository;
+        this.properties = properties;
+        this.flushIntervalNanos = properties.getFlushInterval().toNanos();
+    }
+
+    /**
+     * 발화를 버퍼에 추가합니다. 버퍼가 maxPendingPerSession을 넘었거나 write-behind가 꺼져 있으면 바로 기록합니다.
+     *
+     * @param transcript dialogueSession의 id가 있는 발화
+     */
+    public void append(Transcript transcript) {
+        ScheduledExecutorService executor = flusher;
+        if (!properties.isEnabled() || executor == null) {
+            transcriptRepository.batchInsert(List.of(transcript));
+            return;
+        }
+
+        Long dialogueSessionId = transcript.getDialogueSession().getId();
+        // 빈 버퍼 제거(removeIfEmpty)와 겹치지 않도록 맵 갱신 안에서 추가
+        SessionBuffer buffer = buffers.compute(dialogueSessionId, (id, existing) -> {
+            SessionBuffer target = existing != null ? existing : new SessionBuffer();
+            target.add(transcript);
+            return target;
+        });
+
+        int size = buffer.size.get();
+        if (size >= properties.getMaxPendingPerSession()) {
+            flush(dialogueSessionId);
+        } else if (size >= properties.getFlushSize()) {
+            scheduleFlush(dialogueSessionId, buffer, executor);
+        }
+    }
+
+    /**
+     * 세션 버퍼를 지금 기록합니다. 호출 스레드의 트랜잭션이 있으면 그 안에서 실행되며,
+     * 그 트랜잭션이 롤백되면 기록한 발화를 버퍼로 되돌려 다음 기록 때 다시 시도합니다.
+     *
+     * @throws RuntimeException 기록 실패 시 (발화는 버퍼에 남아 다음 기록 때 다시 시도)
+     */
+    public void flush(Long dialogueSessionId) {
+        SessionBuffer buffer = buffers.get(dialogueSessionId);
+        if (buffer == null) {
+            return;
+        }
+        flushBuffer(dialogueSessionId, buffer);
+    }
+
+    /**
+     * DB에 저장된 발화와 아직 버퍼에 있는 발화를 합쳐 시간순으로 돌려줍니다.
+     * 조회하는 동안에는 해당 세션의 기록이 진행되지 않으므로 같은 발화가 두 번 나오거나 빠지지 않습니다.
+     * 단, 다른 트랜잭션 안에서 {@link #flush(Long)}로 기록한 발화는 그 트랜잭션이 커밋되기 전까지 보이지 않습니다.
+     *
+     * @param dialogueSessionId dialogue_sessions PK
+     * @param stored            DB 조회 (시간순)
+     */
+    public List<Transcript> readThrough(Long dialogueSessionId, Supplier<List<Transcript>> stored) {
+        SessionBuffer buffer = buffers.get(dialogueSessionId);
+        if (buffer == null) {
+            return stored.get();
+        }
+        buffer.flushLock.lock();
+        try {
+            List<Transcript> pending = buffer.snapshot();
+            List<Transcript> merged = new ArrayList<>(stored.get());
+            if (!pending.isEmpty()) {
+                merged.addAll(pending);
+                merged.sort(BY_TIMESTAMP);
+            }
+            return merged;
+        } finally {
+            buffer.flushLock.unlock();
+        }
+    }
+
+    /**
+     * 아직 버퍼에 있는 발화(추가 순)를 넘겨 reader 를 실행합니다. 기록하지 않고 읽기만 합니다.
+     * reader 가 DB를 읽는 동안에는 해당 세션의 기록이 진행되지 않으므로, DB 조회 결과와 넘겨받은 발화 사이에
+     * 같은 발화가 두 번 나오거나 빠지지 않습니다. (엔티티 목록으로 합치지 않고 DTO 스트림과 함께 읽을 때 사용)
+     *
+     * @param dialogueSessionId dialogue_sessions PK
+     * @param reader            버퍼의 발화를 받아 DB 조회와 함께 처리
+     */
+    public <R> R readPending(Long dialogueSessionId, Function<List<Transcript>, R> reader) {
+        SessionBuffer buffer = buffers.get(dialogueSessionId);
+        if (buffer == null) {
+            return reader.apply(List.of());
+        }
+        buffer.flushLock.lock();
+        try {
+            return reader.apply(buffer.snapshot());
+        } finally {
+            buffer.flushLock.unlock();
+        }
+    }
+
+    /**
+     * 버퍼에 남아 있는 발화 수 (전체 세션)
+     */
+    public int pendingCount() {
+        return buffers.values().stream().mapToInt(buffer -> buffer.size.get()).sum();
+    }
+
+    private void scheduleFlush(Long dialogueSessionId, SessionBuffer buffer, ScheduledExecutorService executor) {
+        if (buffer.flushScheduled.compareAndSet(false, true)) {
+            executor.execute(() -> flushQuietly(dialogueSessionId, buffer));
+        }
+    }
+
+    private void flushBuffer(Long dialogueSessionId, SessionBuffer buffer) {
+        List<Transcript> batch = buffer.flushTo(transcriptRepository);
+        if (batch.isEmpty() || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            buffer.committed(batch.size());
+            removeIfEmpty(dialogueSessionId, buffer);
+            return;
+        }
+        // 호출 트랜잭션이 끝날 때까지는 기록이 확정되지 않았으므로 결과를 보고 반영
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    buffer.restore(batch);
+                    log.warn("트랜잭션 롤백으로 발화 내역을 버퍼로 되돌림 - dialogueSessionId={}, count={}",
+                            dialogueSessionId, batch.size());
+                    return;
+                }
+                buffer.committed(batch.size());
+                removeIfEmpty(dialogueSessionId, buffer);
+            }
+        });
+    }
+
+    private void flushQuietly(Long dialogueSessionId, SessionBuffer buffer) {
+        try {
+            flushBuffer(dialogueSessionId, buffer);
+        } catch (RuntimeException e) {
+            // 버퍼에 남겨 두고 다음 주기에 다시 시도
+            log.error("발화 내역 기록 실패 - dialogueSessionId={}, pending={}",
+                    dialogueSessionId, buffer.size.get(), e);
+        }
+    }
+
+    private void removeIfEmpty(Long dialogueSessionId, SessionBuffer buffer) {
+        buffers.computeIfPresent(dialogueSessionId,
+                (id, current) -> current == buffer && current.size.get() == 0 ? null : current);
+    }
+
+    // 시간 조건 확인 (기록 스레드)
+    private void tick() {
+        ScheduledExecutorService executor = flusher;
+        if (executor == null) {
+            return;
+        }
+        long now = System.nanoTime();
+        buffers.forEach((dialogueSessionId, buffer) -> {
+            if (buffer.size.get() > 0 && now - buffer.oldestNanos >= flushIntervalNanos) {
+                scheduleFlush(dialogueSessionId, buffer, executor);
+            }
+        });
+    }
+
+    @Override
+    public synchronized void start() {
+        if (flusher != null) {
+            return;
+        }
+        AtomicInteger threadNumber = new AtomicInteger();
+        ScheduledExecutorService executor = Executors.newScheduledThreadPool(properties.getFlushThreads(), runnable -> {
+            Thread thread = new Thread(runnable, "transcript-flush-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        long tickNanos = Math.max(TimeUnit.MILLISECONDS.toNanos(50), flushIntervalNanos / 4);
+        executor.scheduleWithFixedDelay(this::tick, tickNanos, tickNanos, TimeUnit.NANOSECONDS);
+        flusher = executor;
+    }
+
+    @Override
+    public synchronized void stop() {
+        ScheduledExecutorService executor = flusher;
+        if (executor == null) {
+            return;
+        }
+        // 이후 append는 바로 기록됨
+        flusher = null;
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        int pending = pendingCount();
+        buffers.forEach(this::flushQuietly);
+        log.info("종료 전 발화 내역 기록 완료: {}건, 남은 건수={}", pending, pendingCount());
+    }
+
+    @Override
+    public boolean isRunning() {
+        return flusher != null;
+    }
+
+    /**
+     * 웹 서버(WebSocket 포함)가 먼저 내려간 뒤에 멈추도록 웹 서버 lifecycle보다 낮은 phase 사용
+     */
+    @Override
+    public int getPhase() {
+        return DEFAULT_PHASE - 4096;
+    }
+
+    private static final class SessionBuffer {
+
+        private final Queue<Transcript> pending = new ConcurrentLinkedQueue<>();
+
+        // 기록이 확정되지 않은 발화 수 (호출 트랜잭션이 아직 끝나지 않은 발화 포함)
+        private final AtomicInteger size = new AtomicInteger();
+        private final AtomicBoolean flushScheduled = new AtomicBoolean();
+        private final ReentrantLock flushLock = new ReentrantLock();
+
+        // 버퍼가 비어 있다가 처음 발화가 들어온 시각
+        private volatile long oldestNanos;
+
+        // 기록 실패나 롤백으로 되돌아온 발화 (flushLock 안에서만 접근)
+        private List<Transcript> retry = new ArrayList<>();
+
+        private void add(Transcript transcript) {
+            if (size.getAndIncrement() == 0) {
+                oldestNanos = System.nanoTime();
+            }
+            pending.add(transcript);
+        }
+
+        /**
+         * @return 기록한 발화 (size는 기록이 확정된 뒤 {@link #committed(int)}로 줄임)
+         */
+        private List<Transcript> flushTo(TranscriptRepository repository) {
+            flushLock.lock();
+            try {
+                flushScheduled.set(false);
+                List<Transcript> batch = retry;
+                retry = new ArrayList<>();
+                Transcript transcript;
+                while ((transcript = pending.poll()) != null) {
+                    batch.add(transcript);
+                }
+                if (batch.isEmpty()) {
+                    return batch;
+                }
+                try {
+                    repository.batchInsert(batch);
+                } catch (RuntimeException e) {
+                    retry = batch;
+                    throw e;
+                }
+                return batch;
+            } finally {
+                flushLock.unlock();
+            }
+        }
+
+        private void committed(int count) {
+            size.addAndGet(-count);
+        }
+
+        // 롤백된 발화를 다음 기록 대상 앞쪽에 되돌림
+        private void restore(List<Transcript> batch) {
+            flushLock.lock();
+            try {
+                List<Transcript> restored = new ArrayList<>(batch.size() + retry.size());
+                restored.addAll(batch);
+                restored.addAll(retry);
+                retry = restored;
+            } finally {
+                flushLock.unlock();
+            }
+        }
+
+        // flushLock 안에서 호출
+        private List<Transcript> snapshot() {
+            List<Transcript> snapshot = new ArrayList<>(retry);
+            snapshot.addAll(pending);
+            return snapshot;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.aid.train.backend.service;
+
+import com.aid.train.backend.domain.scenario.prompt.CompiledPrompt;
+import com.aid.train.backend.domain.session.entity.DialogueSession;
+import com.aid.train.backend.repository.feedback.FeedbackRepository;
+import com.aid.train.backend.repository.session.DialogueSessionRepository;
+import com.aid.train.backend.repository.session.TranscriptWriteBuffer;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+/**
+ * 대화 세션 상태 변경 서비스
+ *
+ * 종료 처리는 세션 행을 잠근 뒤 상태를 확인하므로, 같은 세션에 완료 / 실패 / 유휴 타임아웃이 겹쳐도 집계는 한 번만 반영됩니다.
+ */
+@Slf4j
+@Transactional
+@Service
+@RequiredArgsConstructor
+public class DialogueSessionService {
+
+    private final DialogueSessionRepository dialogueSessionRepository;
+    private final TranscriptWriteBuffer transcriptWriteBuffer;
+    private final SessionAggregateService sessionAggregateService;
+    private final FeedbackRepository feedbackRepository;
+    private final HistoryService historyService;
+    private final ScenarioPromptCache scenarioPromptCache;
+
+    /**
+     * AI 실시간 세션을 열 때 전달할 시스템 프롬프트 (세션 시작 흐름에서 서버 내부로만 사용, API로 노출하지 않음)
+     * 세션의 시나리오 엔티티로 버전을 비교하므로 DB를 다시 읽지 않고 최신 프롬프트를 받습니다.
+     *
+     * @param dialogueSessionId dialogue_sessions PK
+     * @throws IllegalStateException 이미 종료된 세션일 때
+     */
+    public CompiledPrompt getSystemPrompt(Long dialogueSessionId) {
+        DialogueSession session = dialogueSessionRepository.findById(dialogueSessionId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 대화 세션입니다. id=" + dialogueSessionId));
+        if (!session.getStatus().isOngoing()) {
+            throw new IllegalStateException("이미 종료된 대화 세션입니다. status=" + session.getStatus());
+        }
+        return scenarioPromptCache.get(session.getScenario());
+    }
+
+    /**
+     * 세션을 완료 처리합니다. 버퍼에 남은 발화를 같은 트랜잭션에서 먼저 기록하고, 세션 집계를 함께 갱신합니다.
+     * 피드백이 완료보다 먼저 저장되었으면 히스토리도 여기서 저장합니다. (나중에 저장되면 FeedbackService 가 저장)
+     *
+     * @param dialogueSessionId dialogue_sessions PK
+     */
+    public void complete(Long dialogueSessionId) {
+        DialogueSession session = getOngoingSession(dialogueSessionId);
+        transcriptWriteBuffer.flush(dialogueSessionId);
+        session.complete();
+        sessionAggregateService.recordTermination(session);
+        feedbackRepository.findByDialogueSessionId(dialogueSessionId)
+                .filter(feedback -> feedback.getScores() != null && feedback.getScores().getTotal() != null)
+                .ifPresent(feedback -> historyService.record(session, feedback));
+    }
+
+    /**
+     * 세션을 실패 처리합니다. 버퍼에 남은 발화를 같은 트랜잭션에서 먼저 기록하고, 세션 집계를 함께 갱신합니다.
+     *
+     * @param dialogueSessionId dialogue_sessions PK
+     */
+    public void fail(Long dialogueSessionId) {
+        DialogueSession session = getOngoingSession(dialogueSessionId);
+        transcriptWriteBuffer.flush(dialogueSessionId);
+        session.fail();
+        sessionAggregateService.recordTermination(session);
+    }
+
+    /**
+     * 시그널링 연결이 유휴 타임아웃으로 끊긴 세션을 실패 처리합니다.
+     * 이미 완료/실패된 세션은 건드리지 않습니다. 타이머 스레드를 막지 않도록 비동기로 실행됩니다.
+     *
+     * @param dialogueSessionId dialogue_sessions PK
+     */
+    @Async
+    public void failOnIdleTimeout(Long dialogueSessionId) {
+        dialogueSessionRepository.findByIdForUpdate(dialogueSessionId)
+                .filter(session -> session.getStatus().isOngoing())
+                .ifPresent(session -> {
+                    transcriptWriteBuffer.flush(dialogueSessionId);
+                    session.fail();
+                    sessionAggregateService.recordTermination(session);
+                    log.info("유휴 타임아웃으로 세션 실패 처리: sessionId={}", session.getSessionId());
+                });
+    }
+
+    /**
+     * 모든 세션의 발화 통계를 transcripts 에서 다시 계산합니다. (백필 / 불일치 복구)
+     *
+     * 버퍼에 남은 발화는 기록될 때 batchInsert가 누적하므로 함께 맞춰집니다.
+     * 실행 중에 기록되는 발화가 있으면 어긋날 수 있으므로 트래픽이 적을 때 실행합니다.
+     */
+    public void rebuildTranscriptStats() {
+        long started = System.currentTimeMillis();
+        int sessions = 0;
+        for (Long dialogueSessionId : dialogueSessionRepository.findAllIds()) {
+            sessions += dialogueSessionRepository.recalculateTranscriptStats(dialogueSessionId);
+        }
+        log.info("발화 통계 재계산 완료 - sessions={}, elapsedMs={}", sessions, System.currentTimeMillis() - started);
+    }
+
+    private DialogueSession getOngoingSession(Long dialogueSessionId) {
+        DialogueSession session = dialogueSessionRepository.findByIdForUpdate(dialogueSessionId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 대화 세션입니다. id=" + dialogueSessionId));
+        if (!session.getStatus().isOngoing()) {
+            throw new IllegalStateException("이미 종료된 대화 세션입니다. status=" + session.getStatus());
+        }
+        return session;
+    }
+}
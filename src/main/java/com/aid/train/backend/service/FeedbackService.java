@@ -0,0 +1,141 @@
+package com.aid.train.backend.service;
+
+import com.aid.train.backend.domain.feedback.dto.response.FeedbackScoreAverages;
+import com.aid.train.backend.domain.feedback.dto.response.FeedbackScorePoint;
+import com.aid.train.backend.domain.feedback.entity.Feedback;
+import com.aid.train.backend.domain.feedback.enums.ScoreDimension;
+import com.aid.train.backend.domain.feedback.parser.FeedbackParser;
+import com.aid.train.backend.domain.feedback.parser.ParsedFeedback;
+import com.aid.train.backend.domain.session.enums.SessionStatus;
+import com.aid.train.backend.repository.feedback.FeedbackRepository;
+import com.aid.train.backend.repository.session.DialogueSessionRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 피드백 저장 / 점수 조회
+ *
+ * AI 피드백 JSON은 저장할 때 한 번만 파싱해 점수 컬럼과 개선점 테이블에 나눠 담고, 조회는 컬럼만 사용합니다.
+ * 완료된 세션의 종합 점수가 있으면 같은 트랜잭션에서 히스토리({@link HistoryService#record})도 저장합니다.
+ */
+@Slf4j
+@Service
+public class FeedbackService {
+
+    public static final int MAX_SERIES_SIZE = 500;
+    public static final int MAX_SCORE = 100;
+    private static final int BACKFILL_BATCH_SIZE = 500;
+
+    private final FeedbackRepository feedbackRepository;
+    private final DialogueSessionRepository dialogueSessionRepository;
+    private final HistoryService historyService;
+    private final FeedbackParser feedbackParser;
+    // 배치마다 트랜잭션을 나누는 백필용 (자기 호출이라 @Transactional 이 적용되지 않음)
+    private final TransactionTemplate transaction;
+
+    public FeedbackService(FeedbackRepository feedbackRepository, DialogueSessionRepository dialogueSessionRepository,
+                           HistoryService historyService, ObjectMapper objectMapper,
+                           PlatformTransactionManager transactionManager) {
+        this.feedbackRepository = feedbackRepository;
+        this.dialogueSessionRepository = dialogueSessionRepository;
+        this.historyService = historyService;
+        this.feedbackParser = new FeedbackParser(objectMapper);
+        this.transaction = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 세션 피드백을 저장합니다. 완료된 세션이고 종합 점수가 있으면 히스토리 / 성장 집계 / 순위표에도 반영합니다.
+     *
+     * @param scoresJson       AI 점수 JSON (원본도 함께 보관)
+     * @param improvementsJson AI 개선점 JSON
+     * @throws IllegalArgumentException JSON 형식이 아닐 때
+     */
+    @Transactional
+    public Feedback record(Long dialogueSessionId, String audioUrl, String transcript,
+                           String scoresJson, String improvementsJson) {
+        ParsedFeedback parsed = feedbackParser.parse(scoresJson, improvementsJson);
+        Feedback feedback = Feedback.builder()
+                .dialogueSessionId(dialogueSessionId)
+                .audioUrl(audioUrl)
+                .transcript(transcript)
+                .rawScores(scoresJson)
+                .rawImprovements(improvementsJson)
+                .build();
+        feedback.applyParsed(parsed.scores(), parsed.improvements());
+        Feedback saved = feedbackRepository.save(feedback);
+        if (saved.getScores() != null && saved.getScores().getTotal() != null) {
+            // 세션 완료와 겹치면 세션 행 잠금으로 순서를 정해 둘 중 한쪽만 히스토리를 저장
+            dialogueSessionRepository.findByIdForUpdate(dialogueSessionId)
+                    .filter(session -> session.getStatus() == SessionStatus.COMPLETED)
+                    .ifPresent(session -> historyService.record(session, saved));
+        }
+        return saved;
+    }
+
+    /**
+     * @param dimension 점수 항목, null 이면 종합 점수
+     * @param size      최대 건수 (1 ~ {@link #MAX_SERIES_SIZE})
+     */
+    public List<FeedbackScorePoint> getScoreSeries(Long userId, ScoreDimension dimension, LocalDateTime from, int size) {
+        return feedbackRepository.findScoreSeries(userId, dimension, from, Math.max(1, Math.min(size, MAX_SERIES_SIZE)));
+    }
+
+    /**
+     * 점수가 threshold 미만인 세션 (점수가 낮은 순, 보완할 세션 추천용)
+     *
+     * @param dimension 점수 항목, null 이면 종합 점수
+     * @param threshold 기준 점수 (0 ~ {@link #MAX_SCORE})
+     * @param size      최대 건수 (1 ~ {@link #MAX_SERIES_SIZE})
+     */
+    public List<FeedbackScorePoint> getScoresBelow(Long userId, ScoreDimension dimension, int threshold, int size) {
+        return feedbackRepository.findScoresBelow(userId, dimension, Math.max(0, Math.min(threshold, MAX_SCORE)),
+                Math.max(1, Math.min(size, MAX_SERIES_SIZE)));
+    }
+
+    public FeedbackScoreAverages getScoreAverages(Long userId, LocalDateTime from) {
+        return feedbackRepository.averageScores(userId, from);
+    }
+
+    /**
+     * 점수 컬럼이 비어 있는 기존 피드백을 원본 JSON으로 채웁니다. (500건씩 별도 트랜잭션)
+     *
+     * @return 채운 건수
+     */
+    public int backfill() {
+        int parsed = 0;
+        long afterId = 0;
+        while (true) {
+            List<Long> ids = feedbackRepository.findUnparsedIds(afterId, BACKFILL_BATCH_SIZE);
+            if (ids.isEmpty()) {
+                break;
+            }
+            Integer done = transaction.execute(status -> backfill(ids));
+            parsed += done != null ? done : 0;
+            afterId = ids.get(ids.size() - 1);
+        }
+        log.info("피드백 점수 백필 완료: {}건", parsed);
+        return parsed;
+    }
+
+    private int backfill(List<Long> ids) {
+        int parsed = 0;
+        for (Feedback feedback : feedbackRepository.findAllById(ids)) {
+            try {
+                ParsedFeedback result = feedbackParser.parse(feedback.getRawScores(), feedback.getRawImprovements());
+                feedback.applyParsed(result.scores(), result.improvements());
+                parsed++;
+            } catch (IllegalArgumentException e) {
+                // 형식이 깨진 원본은 건너뛰고 계속 진행
+                log.warn("피드백 JSON 파싱 실패 - feedbackId={}", feedback.getId(), e);
+            }
+        }
+        return parsed;
+    }
+}
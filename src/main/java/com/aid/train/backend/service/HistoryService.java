@@ -0,0 +1,134 @@
+package com.aid.train.backend.service;
+
+import com.aid.train.backend.domain.feedback.entity.Feedback;
+import com.aid.train.backend.domain.history.dto.response.GrowthPoint;
+import com.aid.train.backend.domain.history.entity.History;
+import com.aid.train.backend.domain.history.entity.HistoryRollupKey;
+import com.aid.train.backend.domain.history.enums.RollupGranularity;
+import com.aid.train.backend.domain.history.event.HistoryRecordedEvent;
+import com.aid.train.backend.domain.scenario.entity.Scenario;
+import com.aid.train.backend.domain.session.entity.DialogueSession;
+import com.aid.train.backend.domain.session.enums.SessionStatus;
+import com.aid.train.backend.repository.history.HistoryRepository;
+import com.aid.train.backend.repository.history.HistoryRollupRepository;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 히스토리 저장 / 성장 추이 조회
+ *
+ * 히스토리를 저장하는 트랜잭션에서 일 / 주 / 월 집계(history_rollups)를 함께 누적하므로,
+ * 성장 그래프는 history 전체가 아니라 요청한 구간 수만큼의 집계 행만 읽습니다.
+ * 저장 후에는 HistoryRecordedEvent 를 발행해 커밋 뒤 순위표({@link LeaderboardService})에 반영합니다.
+ */
+@Slf4j
+@Transactional
+@Service
+@RequiredArgsConstructor
+public class HistoryService {
+
+    // 한 번에 조회할 수 있는 최대 구간 수
+    public static final int MAX_BUCKETS = 366;
+
+    private final HistoryRepository historyRepository;
+    private final HistoryRollupRepository historyRollupRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 완료된 세션의 히스토리를 저장하고 집계에 반영합니다. 세션마다 한 번만 저장하며, 이미 있으면 집계를 다시 더하지 않습니다.
+     *
+     * @param session  완료된 세션
+     * @param feedback 종합 점수가 있는 세션 피드백
+     * @return 저장한 히스토리, 이미 있으면 기존 히스토리
+     * @throws IllegalStateException 완료되지 않은 세션이거나 종합 점수가 없을 때
+     */
+    public History record(DialogueSession session, Feedback feedback) {
+        if (session.getStatus() != SessionStatus.COMPLETED || session.getEndedAt() == null) {
+            throw new IllegalStateException("완료되지 않은 세션입니다. status=" + session.getStatus());
+        }
+        Integer totalScore = feedback.getScores() != null ? feedback.getScores().getTotal() : null;
+        if (totalScore == null) {
+            throw new IllegalStateException("종합 점수가 없는 피드백입니다. feedbackId=" + feedback.getId());
+        }
+        History existing = historyRepository.findByDialogueSessionId(session.getId()).orElse(null);
+        if (existing != null) {
+            log.debug("이미 히스토리가 있는 세션 - dialogueSessionId={}, historyId={}", session.getId(), existing.getId());
+            return existing;
+        }
+        Scenario scenario = session.getScenario();
+        History history = historyRepository.save(History.builder()
+                .user(session.getUser())
+                .dialogueSessionId(session.getId())
+                .scenarioId(scenario.getId())
+                .totalScore(totalScore)
+                .completedAt(session.getEndedAt())
+                .scenarioTitle(scenario.getTitle())
+                .category(scenario.getCategory())
+                .build());
+        addToRollups(history);
+        eventPublisher.publishEvent(new HistoryRecordedEvent(history.getId(), history.getUser().getId(),
+                history.getScenarioId(), history.getTotalScore()));
+        return history;
+    }
+
+    /**
+     * 성장 추이 (구간 시작일 오름차순, 세션이 없는 구간은 빠짐)
+     *
+     * @param category 카테고리, null 이면 전체
+     * @param from     시작일, null 이면 to 에서 단위별 기본 구간 수만큼 이전
+     * @param to       종료일, null 이면 오늘
+     * @throws IllegalArgumentException 기간이 뒤바뀌었거나 {@link #MAX_BUCKETS}개 구간을 넘을 때
+     */
+    public List<GrowthPoint> getGrowth(Long userId, RollupGranularity granularity, Scenario.Category category,
+                                       LocalDate from, LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : granularity.startOfLast(granularity.defaultBuckets(), end);
+        if (start.isAfter(end)) {
+            throw new IllegalArgumentException("시작일이 종료일보다 늦습니다. from=" + start + ", to=" + end);
+        }
+        if (granularity.bucketsBetween(start, end) > MAX_BUCKETS) {
+            throw new IllegalArgumentException("조회 구간은 " + MAX_BUCKETS + "개 이하여야 합니다.");
+        }
+        String categoryKey = category != null ? category.name() : HistoryRollupKey.ALL_CATEGORIES;
+        return historyRollupRepository.findSeries(userId, granularity, categoryKey,
+                        granularity.bucketStart(start), end).stream()
+                .map(GrowthPoint::from)
+                .toList();
+    }
+
+    /**
+     * 집계를 history 에서 다시 계산합니다. (백필 / 불일치 복구)
+     *
+     * 한 트랜잭션에서 삭제 후 다시 만들며, 실행 중에 저장되는 히스토리가 있으면 어긋날 수 있으므로 트래픽이 적을 때 실행합니다.
+     */
+    public void rebuild() {
+        long started = System.currentTimeMillis();
+        historyRepository.fillMissingScenarioIds();
+        int categorized = historyRollupRepository.fillMissingCategories();
+        historyRollupRepository.deleteAllRollups();
+        int rows = historyRollupRepository.rebuildAllCategoryRollups();
+        rows += historyRollupRepository.rebuildCategoryRollups();
+        log.info("히스토리 집계 재계산 완료 - rows={}, categorized={}, elapsedMs={}",
+                rows, categorized, System.currentTimeMillis() - started);
+    }
+
+    private void addToRollups(History history) {
+        Long userId = history.getUser().getId();
+        LocalDate date = history.getCompletedAt().toLocalDate();
+        LocalDate day = RollupGranularity.DAY.bucketStart(date);
+        LocalDate week = RollupGranularity.WEEK.bucketStart(date);
+        LocalDate month = RollupGranularity.MONTH.bucketStart(date);
+        if (history.getCategory() == null) {
+            historyRollupRepository.addScoreWithoutCategory(userId, day, week, month, history.getTotalScore());
+        } else {
+            historyRollupRepository.addScore(userId, history.getCategory().name(), day, week, month,
+                    history.getTotalScore());
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package com.aid.train.backend.service;
+
+import com.aid.train.backend.domain.history.dto.UserBestScore;
+import com.aid.train.backend.domain.history.dto.response.LeaderboardEntry;
+import com.aid.train.backend.domain.history.dto.response.LeaderboardRank;
+import com.aid.train.backend.domain.history.event.HistoryRecordedEvent;
+import com.aid.train.backend.domain.history.leaderboard.LeaderboardSnapshot;
+import com.aid.train.backend.domain.history.leaderboard.ScoreLeaderboard;
+import com.aid.train.backend.repository.history.HistoryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 전체 / 시나리오별 점수 순위표 (사용자별 최고 종합 점수)
+ *
+ * 기동 시 history 에서 메모리 순위표({@link ScoreLeaderboard})를 만들고, 이후에는 HistoryRecordedEvent 로 커밋된 기록만 반영합니다.
+ * train.leaderboard.snapshot-path 가 있으면 train.leaderboard.snapshot-interval(기본 5분)마다, 그리고 종료 시 스냅샷을 저장하고,
+ * 다음 기동 때는 스냅샷을 읽은 뒤 그 이후의 히스토리만 조회합니다.
+ *
+ * 최고 점수만 반영하므로 같은 히스토리가 스냅샷과 이어 받기에 모두 포함되어도 결과는 같습니다.
+ * 여러 서버에서 실행하면 다른 서버에서 저장된 기록은 다음 기동 때 반영됩니다.
+ */
+@Slf4j
+@Service
+public class LeaderboardService implements SmartLifecycle {
+
+    public static final int DEFAULT_SIZE = 10;
+    public static final int MAX_SIZE = 100;
+
+    // watermark 보다 작은 id가 스냅샷 뒤에 커밋되는 경우를 위해 이어 받기에 포함할 시간
+    private static final Duration CATCH_UP_GRACE = Duration.ofMinutes(5);
+
+    private final HistoryRepository historyRepository;
+    private final Path snapshotPath;
+    private final Duration snapshotInterval;
+
+    private final ScoreLeaderboard global = new ScoreLeaderboard();
+    private final Map<Long, ScoreLeaderboard> scenarios = new ConcurrentHashMap<>();
+
+    // 반영한 가장 큰 히스토리 id
+    private final AtomicLong watermark = new AtomicLong();
+
+    private volatile ScheduledExecutorService snapshotter;
+    private volatile boolean running;
+
+    public LeaderboardService(HistoryRepository historyRepository,
+                              @Value("${train.leaderboard.snapshot-path:}") String snapshotPath,
+                              @Value("${train.leaderboard.snapshot-interval:5m}") Duration snapshotInterval) {
+        this.historyRepository = historyRepository;
+        this.snapshotPath = snapshotPath.isBlank() ? null : Path.of(snapshotPath);
+        this.snapshotInterval = snapshotInterval;
+    }
+
+    /**
+     * @param size 최대 인원 (1 ~ {@link #MAX_SIZE})
+     */
+    public List<LeaderboardEntry> top(int size) {
+        return global.top(clampSize(size));
+    }
+
+    public List<LeaderboardEntry> top(Long scenarioId, int size) {
+        ScoreLeaderboard board = scenarios.get(scenarioId);
+        return board == null ? List.of() : board.top(clampSize(size));
+    }
+
+    /**
+     * @throws IllegalArgumentException 기록이 없는 사용자일 때
+     */
+    public LeaderboardRank rank(Long userId) {
+        return requireRank(global.rank(userId), userId);
+    }
+
+    /**
+     * @throws IllegalArgumentException 시나리오 기록이 없는 사용자일 때
+     */
+    public LeaderboardRank rank(Long scenarioId, Long userId) {
+        ScoreLeaderboard board = scenarios.get(scenarioId);
+        return requireRank(board == null ? null : board.rank(userId), userId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onHistoryRecorded(HistoryRecordedEvent event) {
+        apply(event.userId(), event.scenarioId(), event.totalScore(), event.historyId());
+    }
+
+    /**
+     * 스냅샷이 있으면 스냅샷 + 이후 히스토리, 없으면 history 전체에서 순위표를 채웁니다.
+     */
+    void load() {
+        long started = System.currentTimeMillis();
+        LeaderboardSnapshot snapshot = readSnapshot();
+        List<UserBestScore> rows;
+        if (snapshot != null) {
+            snapshot.global().forEach(global::offer);
+            snapshot.scenarios().forEach((scenarioId, board) -> board.forEach(board(scenarioId)::offer));
+            watermark.accumulateAndGet(snapshot.watermark(), Math::max);
+            rows = historyRepository.findBestScoresSince(snapshot.watermark(),
+                    snapshot.takenAt().minus(CATCH_UP_GRACE));
+        } else {
+            rows = historyRepository.findBestScores();
+        }
+        for (UserBestScore row : rows) {
+            apply(row.userId(), row.scenarioId(), row.score(), row.lastHistoryId());
+        }
+        log.info("순위표 적재 완료 - snapshot={}, rows={}, users={}, scenarios={}, elapsedMs={}",
+                snapshot != null, rows.size(), global.size(), scenarios.size(), System.currentTimeMillis() - started);
+    }
+
+    /**
+     * history 전체의 최고 점수를 현재 순위표에 다시 반영하고 스냅샷을 저장합니다.
+     *
+     * 기동 시 적재(start)는 ApplicationRunner 보다 먼저 실행되므로, history-rollup 작업이 채운 scenario_id 는
+     * 이 호출로 시나리오별 순위표에 들어갑니다. 최고 점수만 반영하므로 비우지 않고 덧씌워도 결과가 같습니다.
+     */
+    public void reloadFromHistory() {
+        long started = System.currentTimeMillis();
+        List<UserBestScore> rows = historyRepository.findBestScores();
+        for (UserBestScore row : rows) {
+            apply(row.userId(), row.scenarioId(), row.score(), row.lastHistoryId());
+        }
+        snapshot();
+        log.info("순위표 재적재 완료 - rows={}, users={}, scenarios={}, elapsedMs={}",
+                rows.size(), global.size(), scenarios.size(), System.currentTimeMillis() - started);
+    }
+
+    /**
+     * 현재 순위표를 스냅샷 파일로 저장합니다. (snapshot-path 가 없으면 아무것도 하지 않음)
+     */
+    void snapshot() {
+        if (snapshotPath == null) {
+            return;
+        }
+        // 복사 전에 읽어야 복사 중 반영된 기록이 다음 이어 받기 범위에 들어감
+        long currentWatermark = watermark.get();
+        LocalDateTime takenAt = LocalDateTime.now();
+        Map<Long, Map<Long, Integer>> scenarioScores = new HashMap<>(scenarios.size() * 2);
+        scenarios.forEach((scenarioId, board) -> scenarioScores.put(scenarioId, board.bestScores()));
+        try {
+            new LeaderboardSnapshot(currentWatermark, takenAt, global.bestScores(), scenarioScores).write(snapshotPath);
+            log.debug("순위표 스냅샷 저장 - watermark={}, users={}", currentWatermark, global.size());
+        } catch (IOException | RuntimeException e) {
+            log.error("순위표 스냅샷 저장 실패 - path={}", snapshotPath, e);
+        }
+    }
+
+    private void apply(Long userId, Long scenarioId, int score, Long historyId) {
+        global.offer(userId, score);
+        if (scenarioId != null) {
+            board(scenarioId).offer(userId, score);
+        }
+        if (historyId != null) {
+            watermark.accumulateAndGet(historyId, Math::max);
+        }
+    }
+
+    private ScoreLeaderboard board(Long scenarioId) {
+        return scenarios.computeIfAbsent(scenarioId, id -> new ScoreLeaderboard());
+    }
+
+    // 파일이 없거나 읽을 수 없으면 null (history 전체에서 적재)
+    private LeaderboardSnapshot readSnapshot() {
+        if (snapshotPath == null || !Files.exists(snapshotPath)) {
+            return null;
+        }
+        try {
+            return LeaderboardSnapshot.read(snapshotPath);
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException | RuntimeException e) {
+            log.warn("순위표 스냅샷 읽기 실패, history 전체에서 적재 - path={}", snapshotPath, e);
+            return null;
+        }
+    }
+
+    private static LeaderboardRank requireRank(LeaderboardRank rank, Long userId) {
+        if (rank == null) {
+            throw new IllegalArgumentException("순위표에 기록이 없는 사용자입니다: " + userId);
+        }
+        return rank;
+    }
+
+    private static int clampSize(int size) {
+        return Math.max(1, Math.min(size, MAX_SIZE));
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        load();
+        if (snapshotPath != null) {
+            snapshotter = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "leaderboard-snapshot");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long intervalMillis = snapshotInterval.toMillis();
+            snapshotter.scheduleWithFixedDelay(this::snapshot, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        }
+        running = true;
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        if (snapshotter != null) {
+            snapshotter.shutdownNow();
+            snapshotter = null;
+        }
+        snapshot();
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
@@ -0,0 +1,151 @@
+package com.aid.train.backend.service;
+
+import com.aid.train.backend.domain.scenario.entity.Scenario;
+import com.aid.train.backend.global.common.profanity.ProfanityMatcher;
+import com.aid.train.backend.global.common.profanity.ProfanityViolation;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 비속어 검사
+ *
+ * 사전(train.profanity.dictionary, 기본 classpath:profanity/dictionary.txt)을 Aho-Corasick 오토마톤으로 만들어 보관합니다.
+ * 사전 파일이 바뀌면 train.profanity.reload-check-interval(기본 30초)마다 한 번 확인해 새 오토마톤으로 교체합니다.
+ * 교체는 참조만 바꾸므로 검사 중인 요청은 기존 오토마톤으로 끝까지 진행하고, 교체를 기다리지 않습니다.
+ * 기동 때 사전을 읽지 못하면 빈 사전으로 모든 글을 통과시키지 않도록 기동을 실패시킵니다.
+ */
+@Slf4j
+@Service
+public class ProfanityFilterService {
+
+    private static final String ALLOW_PREFIX = "!";
+    private static final String COMMENT_PREFIX = "#";
+
+    private final Resource dictionary;
+    private final long checkIntervalNanos;
+
+    private final AtomicReference<ProfanityMatcher> matcher = new AtomicReference<>(ProfanityMatcher.empty());
+    private final ReentrantLock reloadLock = new ReentrantLock();
+
+    private volatile long lastCheckedAt;
+    private volatile long dictionaryModifiedAt;
+
+    public ProfanityFilterService(@Value("${train.profanity.dictionary:classpath:profanity/dictionary.txt}") Resource dictionary,
+                                  @Value("${train.profanity.reload-check-interval:30s}") Duration checkInterval) {
+        this.dictionary = dictionary;
+        this.checkIntervalNanos = checkInterval.toNanos();
+        if (!reload()) {
+            throw new IllegalStateException("비속어 사전을 읽을 수 없습니다. dictionary=" + dictionary);
+        }
+    }
+
+    /**
+     * 시나리오 제목 / 설명 / 프롬프트에서 비속어를 찾습니다.
+     *
+     * @return 비속어가 없으면 빈 목록
+     */
+    public List<ProfanityViolation> inspect(Scenario scenario) {
+        ProfanityMatcher current = current();
+        List<ProfanityViolation> violations = new ArrayList<>();
+        collect(current, "title", scenario.getTitle(), violations);
+        collect(current, "description", scenario.getDescription(), violations);
+        collect(current, "prompt", scenario.getPrompt(), violations);
+        return violations;
+    }
+
+    public boolean containsProfanity(String text) {
+        return current().containsAny(text);
+    }
+
+    /**
+     * 사전에 금지어가 하나라도 있는지 확인합니다. 비어 있으면 검사 결과를 믿을 수 없으므로 검수를 미룹니다.
+     */
+    public boolean isReady() {
+        return current().size() > 0;
+    }
+
+    /**
+     * 사전을 다시 읽어 오토마톤을 교체합니다. 읽기에 실패하면 기존 오토마톤을 유지합니다.
+     *
+     * @return 교체했으면 true
+     */
+    public boolean reload() {
+        reloadLock.lock();
+        try {
+            long modifiedAt = lastModified();
+            List<String> banned = new ArrayList<>();
+            List<String> allowed = new ArrayList<>();
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(dictionary.getInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    String word = line.strip();
+                    if (word.isEmpty() || word.startsWith(COMMENT_PREFIX)) {
+                        continue;
+                    }
+                    if (word.startsWith(ALLOW_PREFIX)) {
+                        allowed.add(word.substring(ALLOW_PREFIX.length()).strip());
+                    } else {
+                        banned.add(word);
+                    }
+                }
+            } catch (IOException e) {
+                log.error("비속어 사전 읽기 실패, 기존 사전 유지 - dictionary={}", dictionary, e);
+                return false;
+            }
+            ProfanityMatcher compiled = ProfanityMatcher.compile(banned, allowed);
+            matcher.set(compiled);
+            dictionaryModifiedAt = modifiedAt;
+            lastCheckedAt = System.nanoTime();
+            log.info("비속어 사전 적용 - words={}, allowed={}", compiled.size(), allowed.size());
+            return true;
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    // 확인 주기가 지났으면 한 요청만 사전 변경 여부를 확인 (나머지는 기존 오토마톤 사용)
+    private ProfanityMatcher current() {
+        if (System.nanoTime() - lastCheckedAt >= checkIntervalNanos && reloadLock.tryLock()) {
+            try {
+                lastCheckedAt = System.nanoTime();
+                long modifiedAt = lastModified();
+                if (modifiedAt != dictionaryModifiedAt) {
+                    reload();
+                }
+            } catch (UncheckedIOException e) {
+                log.warn("비속어 사전 변경 확인 실패", e);
+            } finally {
+                reloadLock.unlock();
+            }
+        }
+        return matcher.get();
+    }
+
+    // jar 안의 classpath 리소스처럼 수정 시각이 없으면 0 (다시 읽지 않음)
+    private long lastModified() {
+        try {
+            return dictionary.isFile() ? dictionary.lastModified() : 0L;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void collect(ProfanityMatcher matcher, String field, String value,
+                                List<ProfanityViolation> violations) {
+        matcher.findAll(value).forEach(match -> violations.add(ProfanityViolation.of(field, match)));
+    }
+}
@@ -0,0 +1,168 @@
+package com.aid.train.backend.service;
+
+import com.aid.train.backend.domain.scenario.dto.response.ScenarioCatalogItem;
+import com.aid.train.backend.domain.scenario.event.ScenarioChangedEvent;
+import com.aid.train.backend.global.common.response.ApiResponse;
+import com.aid.train.backend.repository.scenario.ScenarioRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 공개(PUBLISHED) 시나리오 카탈로그 캐시
+ *
+ * 응답 JSON을 직렬화된 바이트(원본 + gzip)와 ETag로 보관하므로, 캐시가 채워진 뒤에는 요청마다 DB 조회와 직렬화가 없습니다.
+ * 시나리오가 저장 / 수정 / 삭제되면 해당 트랜잭션이 커밋된 뒤 비우고, 다음 요청에서 다시 채웁니다 (read-through).
+ *
+ * 다른 서버에서의 변경은 이벤트가 전달되지 않으므로 train.scenario.catalog-max-age(기본 5분)가 지나면 다시 만듭니다.
+ *
+ * 응답의 timestamp는 캐시를 만든 시각입니다. ETag는 data 부분만으로 계산하므로 내용이 같으면 다시 만들어도 바뀌지 않습니다.
+ */
+@Slf4j
+@Component
+public class ScenarioCatalogCache {
+
+    private static final String MESSAGE = "전체 시나리오 조회를 성공했습니다.";
+
+    private final ScenarioRepository scenarioRepository;
+    private final ObjectMapper objectMapper;
+    private final long maxAgeNanos;
+
+    // 캐시된 카탈로그와 무효화 버전을 한 객체로 보관 (버전 확인과 저장을 compareAndSet 한 번으로 처리)
+    private final AtomicReference<State> state = new AtomicReference<>(new State(null, 0));
+
+    public ScenarioCatalogCache(ScenarioRepository scenarioRepository, ObjectMapper objectMapper,
+                                @Value("${train.scenario.catalog-max-age:5m}") Duration maxAge) {
+        this.scenarioRepository = scenarioRepository;
+        this.objectMapper = objectMapper;
+        this.maxAgeNanos = maxAge.toNanos();
+    }
+
+    /**
+     * 캐시된 카탈로그를 돌려주고, 비어 있으면 DB에서 읽어 채웁니다.
+     */
+    public Catalog get() {
+        Catalog cached = state.get().catalog();
+        if (cached != null && !cached.isExpired(maxAgeNanos)) {
+            return cached;
+        }
+        return load();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onScenarioChanged(ScenarioChangedEvent event) {
+        invalidate();
+        log.debug("시나리오 변경으로 카탈로그 캐시 무효화 - scenarioId={}", event.scenarioId());
+    }
+
+    public void invalidate() {
+        state.updateAndGet(State::invalidated);
+    }
+
+    // 동시에 비어 있는 캐시를 만난 요청은 한 번만 DB를 읽음
+    private synchronized Catalog load() {
+        State loading = state.get();
+        Catalog cached = loading.catalog();
+        if (cached != null && !cached.isExpired(maxAgeNanos)) {
+            return cached;
+        }
+        List<ScenarioCatalogItem> items = scenarioRepository.findAllScenario().stream()
+                .map(ScenarioCatalogItem::from)
+                .toList();
+        Catalog built = build(items);
+        // 읽는 도중 무효화되었으면 state가 바뀌어 있으므로 이번 결과는 응답에만 쓰고 보관하지 않음
+        state.compareAndSet(loading, new State(built, loading.version()));
+        log.info("시나리오 카탈로그 캐시 생성 - scenarios={}, bytes={}, gzipBytes={}",
+                items.size(), built.json().length, built.gzip().length);
+        return built;
+    }
+
+    private Catalog build(List<ScenarioCatalogItem> items) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(ApiResponse.success(MESSAGE, items));
+            String etag = etag(objectMapper.writeValueAsBytes(items));
+            return new Catalog(json, gzip(json), '"' + etag + '"', "\"" + etag + "-gzip\"", System.nanoTime());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("시나리오 카탈로그 직렬화에 실패했습니다.", e);
+        }
+    }
+
+    private static String etag(byte[] data) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(data);
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static byte[] gzip(byte[] data) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, data.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * @param catalog 캐시된 카탈로그 (비어 있으면 null)
+     * @param version 무효화될 때마다 증가 (무효화 전에 읽은 데이터로 만든 캐시가 나중에 들어오지 않도록)
+     */
+    private record State(Catalog catalog, long version) {
+
+        private State invalidated() {
+            return new State(null, version + 1);
+        }
+    }
+
+    /**
+     * 직렬화된 카탈로그 (바이트 배열은 수정하지 않고 응답에만 사용)
+     *
+     * @param json     ApiResponse JSON
+     * @param gzip     json의 gzip 압축본
+     * @param etag     json의 ETag (따옴표 포함)
+     * @param gzipEtag gzip 표현의 ETag (표현마다 다른 강한 ETag)
+     * @param builtAt  만든 시각 (System.nanoTime)
+     */
+    public record Catalog(byte[] json, byte[] gzip, String etag, String gzipEtag, long builtAt) {
+
+        private boolean isExpired(long maxAgeNanos) {
+            return System.nanoTime() - builtAt >= maxAgeNanos;
+        }
+
+        /**
+         * If-None-Match 값이 현재 카탈로그(어느 표현이든)와 일치하는지 확인합니다.
+         */
+        public boolean matches(String ifNoneMatch) {
+            if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+                return false;
+            }
+            for (String candidate : ifNoneMatch.split(",")) {
+                String tag = candidate.trim();
+                if (tag.startsWith("W/")) {
+                    tag = tag.substring(2);
+                }
+                if (tag.equals("*") || tag.equals(etag) || tag.equals(gzipEtag)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
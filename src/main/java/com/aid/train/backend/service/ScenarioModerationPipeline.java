@@ -0,0 +1,267 @@
+package com.aid.train.backend.service;
+
+import com.aid.train.backend.domain.scenario.entity.Scenario;
+import com.aid.train.backend.global.common.profanity.ProfanityViolation;
+import com.aid.train.backend.global.config.ScenarioModerationProperties;
+import com.aid.train.backend.repository.scenario.ScenarioRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자 시나리오 검수 파이프라인
+ *
+ * 생성 요청은 DRAFT로 저장하고 id만 큐에 넣은 뒤 바로 응답합니다 (검수 시간은 요청 지연에 포함되지 않음).
+ * 검수 스레드가 큐에서 최대 batchSize 건씩 꺼내 한 트랜잭션에서 다음 단계를 거칩니다.
+ * <ol>
+ *     <li>검증: 필수 값, 길이, 지역 형식</li>
+ *     <li>비속어 검사: {@link ProfanityFilterService}</li>
+ *     <li>반영: PUBLISHED 또는 REJECTED(사유 포함)</li>
+ * </ol>
+ * 상태가 바뀌면 엔티티 리스너가 ScenarioChangedEvent를 발행하므로 커밋 뒤 카탈로그 캐시 / 검색 색인에 반영됩니다.
+ *
+ * 큐가 가득 차면 요청 스레드는 기다리지 않고 DRAFT로 남겨 두며, sweep 이 나중에 다시 큐에 넣습니다.
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties(ScenarioModerationProperties.class)
+public class ScenarioModerationPipeline implements SmartLifecycle {
+
+    private static final Pattern LOCALE = Pattern.compile("^[a-z]{2}-[A-Z]{2}$");
+    private static final int TITLE_MAX_LENGTH = 120;
+
+    private final ScenarioRepository scenarioRepository;
+    private final ProfanityFilterService profanityFilterService;
+    private final ScenarioModerationProperties properties;
+    private final TransactionTemplate transaction;
+
+    private final BlockingQueue<Long> queue;
+
+    // 큐에 있거나 검수 중인 id (sweep 중복 방지)
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+
+    private volatile ExecutorService workers;
+    private volatile ScheduledExecutorService sweeper;
+
+    public ScenarioModerationPipeline(ScenarioRepository scenarioRepository,
+                                      ProfanityFilterService profanityFilterService,
+                                      ScenarioModerationProperties properties,
+                                      PlatformTransactionManager transactionManager) {
+        this.scenarioRepository = scenarioRepository;
+        this.profanityFilterService = profanityFilterService;
+        this.properties = properties;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+    }
+
+    /**
+     * 시나리오를 검수 대기열에 넣습니다. 호출 스레드에 트랜잭션이 있으면 커밋된 뒤에 넣습니다.
+     */
+    public void submitAfterCommit(Long scenarioId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submit(scenarioId);
+                }
+            });
+            return;
+        }
+        submit(scenarioId);
+    }
+
+    /**
+     * @return 대기열에 넣었으면 true, 가득 찼거나 이미 대기 중이면 false (DRAFT로 남아 sweep 대상)
+     */
+    public boolean submit(Long scenarioId) {
+        if (!inFlight.add(scenarioId)) {
+            return false;
+        }
+        if (!queue.offer(scenarioId)) {
+            inFlight.remove(scenarioId);
+            log.warn("검수 대기열이 가득 차 다음 sweep 때 처리 - scenarioId={}, capacity={}",
+                    scenarioId, properties.getQueueCapacity());
+            return false;
+        }
+        return true;
+    }
+
+    public int pendingCount() {
+        return queue.size();
+    }
+
+    /**
+     * 시나리오 묶음을 한 트랜잭션에서 검수합니다. (DRAFT가 아닌 시나리오는 건너뜀)
+     * 비속어 사전이 비어 있으면 검사 없이 공개하지 않도록 DRAFT로 남겨 두고, 사전이 채워진 뒤 sweep 때 다시 검수합니다.
+     */
+    void moderate(List<Long> scenarioIds) {
+        if (!profanityFilterService.isReady()) {
+            log.warn("비속어 사전이 비어 있어 검수를 미룸 - scenarioIds={}", scenarioIds);
+            return;
+        }
+        transaction.executeWithoutResult(status -> {
+            for (Scenario scenario : scenarioRepository.findAllById(scenarioIds)) {
+                if (scenario.getStatus() != Scenario.Status.DRAFT) {
+                    continue;
+                }
+                String reason = validate(scenario);
+                if (reason == null) {
+                    reason = moderationReason(profanityFilterService.inspect(scenario));
+                }
+                if (reason == null) {
+                    Scenario.updateStatus(scenario);
+                } else {
+                    Scenario.reject(scenario, reason);
+                    log.info("시나리오 검수 반려 - scenarioId={}, reason={}", scenario.getId(), reason);
+                }
+            }
+        });
+    }
+
+    // 검증 단계: 문제가 없으면 null
+    private String validate(Scenario scenario) {
+        if (isBlank(scenario.getTitle()) || isBlank(scenario.getDescription()) || isBlank(scenario.getPrompt())) {
+            return "제목, 설명, 프롬프트는 필수입니다.";
+        }
+        if (scenario.getTitle().length() > TITLE_MAX_LENGTH) {
+            return "제목은 " + TITLE_MAX_LENGTH + "자 이하여야 합니다.";
+        }
+        if (scenario.getPrompt().length() > properties.getMaxPromptLength()) {
+            return "프롬프트는 " + properties.getMaxPromptLength() + "자 이하여야 합니다.";
+        }
+        if (scenario.getLocale() == null || !LOCALE.matcher(scenario.getLocale()).matches()) {
+            return "지역은 예: ko-KR, en-US 형식이어야 합니다.";
+        }
+        return null;
+    }
+
+    // 비속어 검사 단계: 없으면 null
+    private static String moderationReason(List<ProfanityViolation> violations) {
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return "비속어가 포함되어 있습니다: " + violations.stream()
+                .map(violation -> violation.field() + "(" + violation.word() + ")")
+                .distinct()
+                .collect(Collectors.joining(", "));
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private void work() {
+        List<Long> batch = new ArrayList<>(properties.getBatchSize());
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                Long first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, properties.getBatchSize() - 1);
+                moderate(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                // DRAFT로 남아 다음 sweep 때 다시 시도
+                log.error("시나리오 검수 실패 - scenarioIds={}", batch, e);
+            } finally {
+                batch.forEach(inFlight::remove);
+                batch.clear();
+            }
+        }
+    }
+
+    // 큐에 넣지 못했거나 재시작 전에 남은 DRAFT 시나리오를 다시 대기열에 넣음
+    private void sweep() {
+        try {
+            int room = queue.remainingCapacity();
+            if (room == 0) {
+                return;
+            }
+            LocalDateTime createdBefore = LocalDateTime.now().minus(properties.getSweepGrace());
+            int submitted = 0;
+            for (Long scenarioId : scenarioRepository.findDraftIdsCreatedBefore(createdBefore, room)) {
+                if (submit(scenarioId)) {
+                    submitted++;
+                }
+            }
+            if (submitted > 0) {
+                log.info("검수 대기 시나리오 재등록: {}건", submitted);
+            }
+        } catch (RuntimeException e) {
+            log.error("검수 대기 시나리오 조회 실패", e);
+        }
+    }
+
+    @Override
+    public synchronized void start() {
+        if (workers != null) {
+            return;
+        }
+        AtomicInteger threadNumber = new AtomicInteger();
+        workers = Executors.newFixedThreadPool(properties.getWorkerThreads(), runnable -> {
+            Thread thread = new Thread(runnable, "scenario-moderation-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < properties.getWorkerThreads(); i++) {
+            workers.execute(this::work);
+        }
+        sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "scenario-moderation-sweep");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long sweepMillis = properties.getSweepInterval().toMillis();
+        sweeper.scheduleWithFixedDelay(this::sweep, sweepMillis, sweepMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (workers == null) {
+            return;
+        }
+        sweeper.shutdownNow();
+        // 검수 중인 묶음은 마치고, 큐에 남은 시나리오는 DRAFT로 남아 다음 기동 후 sweep 때 처리
+        workers.shutdownNow();
+        try {
+            if (!workers.awaitTermination(10, TimeUnit.SECONDS)) {
+                log.warn("시나리오 검수 스레드 종료 대기 시간 초과");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        log.info("시나리오 검수 파이프라인 종료 - 대기 중이던 시나리오={}건", queue.size());
+        queue.clear();
+        inFlight.clear();
+        workers = null;
+        sweeper = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return workers != null;
+    }
+}
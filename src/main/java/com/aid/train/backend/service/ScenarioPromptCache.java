@@ -0,0 +1,186 @@
+package com.aid.train.backend.service;
+
+import com.aid.train.backend.domain.scenario.entity.Scenario;
+import com.aid.train.backend.domain.scenario.event.ScenarioChangedEvent;
+import com.aid.train.backend.domain.scenario.prompt.CompiledPrompt;
+import com.aid.train.backend.domain.scenario.prompt.PromptCompiler;
+import com.aid.train.backend.repository.scenario.ScenarioRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 시나리오별 AI 시스템 프롬프트 캐시 (LRU, 최대 train.scenario.prompt-cache-size 개)
+ *
+ * 시나리오 id마다 가장 최근 버전(updatedAt) 하나만 보관하며, 더 오래된 버전으로 바꾸지 않습니다.
+ * 시나리오 엔티티를 이미 가진 호출자는 {@link #get(Scenario)}로 버전을 비교하므로 DB 조회 없이 항상 최신 프롬프트를 받습니다.
+ * id만 가진 호출자는 {@link #get(Long)}을 사용하며, 시나리오 변경 이벤트로 비워지고
+ * 다른 서버에서의 변경은 train.scenario.prompt-cache-max-age(기본 5분)가 지나면 DB의 updatedAt과 비교해 반영합니다.
+ * DB를 읽는 사이 변경 이벤트가 오면 읽은 결과는 응답에만 쓰고 보관하지 않습니다 ({@link ScenarioCatalogCache}와 같은 방식).
+ */
+@Slf4j
+@Component
+public class ScenarioPromptCache {
+
+    // store()에 넘기는 readEpoch 값: DB와 맞춰 보지 않은 항목
+    private static final long NOT_CHECKED = -1;
+
+    private final ScenarioRepository scenarioRepository;
+    private final long maxAgeNanos;
+
+    // 시나리오 id → 캐시 항목 (접근 순서, 가장 오래 쓰지 않은 항목부터 제거)
+    private final LinkedHashMap<Long, Entry> entries;
+
+    // 변경 이벤트마다 증가 (DB에서 읽는 사이 변경된 시나리오의 이전 버전을 다시 보관하지 않도록, entries 잠금 안에서만 접근)
+    private long epoch;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public ScenarioPromptCache(ScenarioRepository scenarioRepository,
+                               @Value("${train.scenario.prompt-cache-size:256}") int maxSize,
+                               @Value("${train.scenario.prompt-cache-max-age:5m}") Duration maxAge) {
+        this.scenarioRepository = scenarioRepository;
+        this.maxAgeNanos = maxAge.toNanos();
+        this.entries = new LinkedHashMap<>(Math.min(maxSize, 1024), 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * 시나리오의 현재 버전 프롬프트 (버전이 다르면 다시 렌더링)
+     */
+    public CompiledPrompt get(Scenario scenario) {
+        Entry entry = lookup(scenario.getId());
+        if (entry != null && Objects.equals(entry.prompt().version(), scenario.getUpdatedAt())) {
+            hits.incrementAndGet();
+            return entry.prompt();
+        }
+        misses.incrementAndGet();
+        // 호출자가 엔티티를 언제 읽었는지 알 수 없으므로 id 조회에서는 DB와 한 번 맞춰 본 뒤에 사용
+        return store(PromptCompiler.compile(scenario), NOT_CHECKED);
+    }
+
+    /**
+     * 공개 시나리오의 프롬프트
+     *
+     * @throws IllegalArgumentException 시나리오가 없을 때
+     * @throws IllegalStateException    공개(PUBLISHED) 상태가 아닐 때
+     */
+    public CompiledPrompt get(Long scenarioId) {
+        Entry entry;
+        long readEpoch;
+        synchronized (entries) {
+            entry = entries.get(scenarioId);
+            readEpoch = epoch;
+        }
+        if (entry != null && entry.isFresh(System.nanoTime(), maxAgeNanos)) {
+            hits.incrementAndGet();
+            return entry.prompt();
+        }
+        Scenario scenario = scenarioRepository.findById(scenarioId)
+                .orElseThrow(() -> new IllegalArgumentException("시나리오를 찾을 수 없습니다: " + scenarioId));
+        if (scenario.getStatus() != Scenario.Status.PUBLISHED) {
+            throw new IllegalStateException("공개되지 않은 시나리오입니다: " + scenarioId);
+        }
+        // 만료된 항목이라도 버전이 같으면 다시 렌더링하지 않고 확인 시각만 갱신
+        CompiledPrompt prompt;
+        if (entry != null && Objects.equals(entry.prompt().version(), scenario.getUpdatedAt())) {
+            hits.incrementAndGet();
+            prompt = entry.prompt();
+        } else {
+            misses.incrementAndGet();
+            prompt = PromptCompiler.compile(scenario);
+        }
+        return store(prompt, readEpoch);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onScenarioChanged(ScenarioChangedEvent event) {
+        synchronized (entries) {
+            epoch++;
+            entries.remove(event.scenarioId());
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * 캐시 적중률 (조회가 없으면 0)
+     */
+    public double hitRatio() {
+        long hit = hits.get();
+        long total = hit + misses.get();
+        return total == 0 ? 0 : (double) hit / total;
+    }
+
+    private Entry lookup(Long scenarioId) {
+        synchronized (entries) {
+            return entries.get(scenarioId);
+        }
+    }
+
+    /**
+     * 프롬프트를 보관합니다. 다음 경우에는 보관하지 않고 호출자에게만 돌려줍니다.
+     * <ul>
+     *     <li>DB에서 읽는 사이 변경 이벤트가 있었을 때 (readEpoch가 현재 epoch와 다름)</li>
+     *     <li>이미 더 최신 버전이 보관되어 있을 때</li>
+     * </ul>
+     *
+     * @param readEpoch DB에서 읽기 전의 epoch, 엔티티를 받아 렌더링했으면 {@link #NOT_CHECKED}
+     */
+    private CompiledPrompt store(CompiledPrompt prompt, long readEpoch) {
+        boolean checked = readEpoch != NOT_CHECKED;
+        synchronized (entries) {
+            if (checked && readEpoch != epoch) {
+                return prompt;
+            }
+            Entry current = entries.get(prompt.scenarioId());
+            if (current != null && isNewer(current.prompt().version(), prompt.version())) {
+                return prompt;
+            }
+            if (current != null && current.prompt() == prompt) {
+                // 같은 버전을 DB와 다시 맞춰 본 경우 확인 시각만 갱신
+                if (checked) {
+                    entries.put(prompt.scenarioId(), new Entry(prompt, System.nanoTime(), true));
+                }
+                return prompt;
+            }
+            entries.put(prompt.scenarioId(), new Entry(prompt, System.nanoTime(), checked));
+        }
+        log.debug("시나리오 프롬프트 렌더링 - scenarioId={}, version={}, length={}",
+                prompt.scenarioId(), prompt.version(), prompt.instructions().length());
+        return prompt;
+    }
+
+    private static boolean isNewer(LocalDateTime version, LocalDateTime than) {
+        return version != null && than != null && version.isAfter(than);
+    }
+
+    /**
+     * @param prompt    렌더링된 프롬프트
+     * @param checkedAt 보관하거나 DB 버전과 마지막으로 맞춰 본 시각 (System.nanoTime)
+     * @param checked   DB에서 읽은 버전인지 (엔티티를 받아 렌더링한 항목은 id 조회 시 DB와 한 번 맞춰 봄)
+     */
+    private record Entry(CompiledPrompt prompt, long checkedAt, boolean checked) {
+
+        private boolean isFresh(long now, long maxAgeNanos) {
+            return checked && now - checkedAt < maxAgeNanos;
+        }
+    }
+}
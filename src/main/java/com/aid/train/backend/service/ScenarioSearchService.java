@@ -0,0 +1,116 @@
+package com.aid.train.backend.service;
+
+import com.aid.train.backend.domain.scenario.dto.response.ScenarioSearchHit;
+import com.aid.train.backend.domain.scenario.entity.Scenario;
+import com.aid.train.backend.domain.scenario.event.ScenarioChangedEvent;
+import com.aid.train.backend.domain.scenario.search.ScenarioSearchIndex;
+import com.aid.train.backend.repository.scenario.ScenarioRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 공개(PUBLISHED) 시나리오 검색
+ *
+ * 검색은 메모리 색인({@link ScenarioSearchIndex})만 사용하므로 입력할 때마다 DB를 조회하지 않습니다.
+ * 색인은 첫 검색 때 만들고, 시나리오가 저장 / 수정 / 삭제되면 커밋 뒤 해당 시나리오만 다시 색인합니다.
+ * 다른 서버에서의 변경은 train.scenario.search-max-age(기본 5분)가 지난 뒤 첫 검색에서 전체를 다시 만들어 반영합니다.
+ */
+@Slf4j
+@Service
+public class ScenarioSearchService {
+
+    public static final int DEFAULT_SIZE = 10;
+    public static final int MAX_SIZE = 50;
+
+    private final ScenarioRepository scenarioRepository;
+    private final long maxAgeNanos;
+
+    private final ScenarioSearchIndex index = new ScenarioSearchIndex();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    // 마지막 전체 색인 시각 (System.nanoTime), 0이면 아직 색인 전
+    private volatile long builtAt;
+
+    public ScenarioSearchService(ScenarioRepository scenarioRepository,
+                                 @Value("${train.scenario.search-max-age:5m}") Duration maxAge) {
+        this.scenarioRepository = scenarioRepository;
+        this.maxAgeNanos = maxAge.toNanos();
+    }
+
+    /**
+     * @param query 검색어
+     * @param size  최대 결과 수 (1 ~ {@link #MAX_SIZE})
+     */
+    public List<ScenarioSearchHit> search(String query, int size) {
+        ensureFresh();
+        return index.search(query, Math.max(1, Math.min(size, MAX_SIZE)));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onScenarioChanged(ScenarioChangedEvent event) {
+        if (builtAt == 0) {
+            return;
+        }
+        // 전체 재색인 중이면 끝난 뒤에 반영 (재색인 결과에 덮어써지지 않도록)
+        rebuildLock.lock();
+        try {
+            Scenario scenario = scenarioRepository.findById(event.scenarioId()).orElse(null);
+            if (scenario != null && scenario.getStatus() == Scenario.Status.PUBLISHED) {
+                index.put(scenario);
+            } else {
+                index.remove(event.scenarioId());
+            }
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * 전체 공개 시나리오로 색인을 다시 만듭니다.
+     */
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            long startedAt = System.nanoTime();
+            index.replaceAll(scenarioRepository.findAllScenario());
+            builtAt = System.nanoTime();
+            log.info("시나리오 검색 색인 생성 - scenarios={}, elapsedMs={}",
+                    index.size(), (builtAt - startedAt) / 1_000_000);
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    // 첫 검색은 색인이 만들어질 때까지 기다리고, 만료된 경우에는 한 요청만 다시 만들고 나머지는 기존 색인을 사용
+    private void ensureFresh() {
+        long built = builtAt;
+        if (built == 0) {
+            rebuildLock.lock();
+            try {
+                if (builtAt == 0) {
+                    rebuild();
+                }
+            } finally {
+                rebuildLock.unlock();
+            }
+            return;
+        }
+        if (System.nanoTime() - built >= maxAgeNanos && rebuildLock.tryLock()) {
+            try {
+                if (builtAt == built) {
+                    rebuild();
+                }
+            } catch (RuntimeException e) {
+                log.warn("시나리오 검색 색인 재생성 실패, 기존 색인 사용", e);
+            } finally {
+                rebuildLock.unlock();
+            }
+        }
+    }
+}
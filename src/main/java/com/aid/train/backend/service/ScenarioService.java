@@ -1,12 +1,40 @@
 package com.aid.train.backend.service;
 
+import com.aid.train.backend.domain.scenario.dto.request.ScenarioRequestDto;
+import com.aid.train.backend.domain.scenario.dto.response.ScenarioModerationStatus;
+import com.aid.train.backend.domain.scenario.entity.Scenario;
+import com.aid.train.backend.domain.user.entity.User;
+import com.aid.train.backend.repository.scenario.ScenarioRepository;
+import com.aid.train.backend.repository.user.UserRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.Optional;
+
 @Transactional
 @Service
 @RequiredArgsConstructor
 public class ScenarioService {
 
+    private final ScenarioRepository scenarioRepository;
+    private final UserRepository userRepository;
+    private final ScenarioModerationPipeline scenarioModerationPipeline;
+
+    /**
+     * 사용자 시나리오 생성
+     *
+     * DRAFT로 저장하고 커밋 뒤 검수 파이프라인에 넘깁니다. 검수 결과(PUBLISHED / REJECTED)는 {@link #getModerationStatus(Long)}로 확인합니다.
+     */
+    public ScenarioModerationStatus createScenario(ScenarioRequestDto dto) {
+        User user = userRepository.findById(dto.ownerId())
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + dto.ownerId()));
+        Scenario saved = scenarioRepository.save(Scenario.toEntity(dto, user));
+        scenarioModerationPipeline.submitAfterCommit(saved.getId());
+        return ScenarioModerationStatus.from(saved);
+    }
+
+    public Optional<ScenarioModerationStatus> getModerationStatus(Long scenarioId) {
+        return scenarioRepository.findById(scenarioId).map(ScenarioModerationStatus::from);
+    }
 }
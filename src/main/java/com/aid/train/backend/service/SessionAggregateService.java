@@ -0,0 +1,79 @@
+package com.aid.train.backend.service;
+
+import com.aid.train.backend.domain.session.entity.DialogueSession;
+import com.aid.train.backend.domain.session.entity.SessionAggregate;
+import com.aid.train.backend.repository.session.SessionAggregateRepository;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 세션 집계 서비스
+ *
+ * 세션 상태 변경과 같은 트랜잭션에서 사용자별 집계만 누적합니다.
+ * 전체 집계는 모든 종료 트랜잭션이 같은 행을 잠그지 않도록 따로 두지 않고, 조회할 때 사용자별 행을 합산합니다.
+ */
+@Slf4j
+@Transactional
+@Service
+@RequiredArgsConstructor
+public class SessionAggregateService {
+
+    private final SessionAggregateRepository sessionAggregateRepository;
+
+    /**
+     * 방금 완료 / 실패 처리된 세션을 집계에 반영합니다. 상태 변경과 같은 트랜잭션에서 호출해야 합니다.
+     *
+     * @param session complete() 또는 fail()이 호출된 세션
+     */
+    public void recordTermination(DialogueSession session) {
+        Long userId = session.getUser().getId();
+        switch (session.getStatus()) {
+            case COMPLETED -> {
+                sessionAggregateRepository.addCompleted(userId, durationSeconds(session));
+            }
+            case FAILED -> sessionAggregateRepository.addFailed(userId);
+            default -> throw new IllegalStateException("종료되지 않은 세션입니다. status=" + session.getStatus());
+        }
+    }
+
+    /**
+     * 사용자의 세션 집계를 조회합니다.
+     *
+     * @param userId 사용자 ID
+     * @return 종료된 세션이 없으면 값이 0인 집계
+     */
+    public SessionAggregate getUserAggregate(Long userId) {
+        return sessionAggregateRepository.findById(userId).orElseGet(() -> SessionAggregate.empty(userId));
+    }
+
+    /**
+     * 전체 세션 집계를 조회합니다. (사용자별 행 합산, 사용자 수만큼 읽음)
+     */
+    public SessionAggregate getGlobalAggregate() {
+        return sessionAggregateRepository.sumUserAggregates();
+    }
+
+    /**
+     * 집계를 dialogue_sessions 에서 다시 계산합니다. (백필 / 불일치 복구)
+     *
+     * 한 트랜잭션에서 삭제 후 다시 만들며, 실행 중에 종료되는 세션이 있으면 어긋날 수 있으므로 트래픽이 적을 때 실행합니다.
+     */
+    public void rebuild() {
+        long started = System.currentTimeMillis();
+        sessionAggregateRepository.deleteAllAggregates();
+        int users = sessionAggregateRepository.rebuildUserAggregates();
+        log.info("세션 집계 재계산 완료 - users={}, elapsedMs={}", users, System.currentTimeMillis() - started);
+    }
+
+    // TIMESTAMPDIFF(SECOND, started_at, ended_at)와 같은 값 (DATETIME은 초 단위로 저장)
+    private static long durationSeconds(DialogueSession session) {
+        return Duration.between(
+                session.getStartedAt().truncatedTo(ChronoUnit.SECONDS),
+                session.getEndedAt().truncatedTo(ChronoUnit.SECONDS)).getSeconds();
+    }
+}
@@ -0,0 +1,138 @@
+package com.aid.train.backend.service;
+
+import com.aid.train.backend.domain.session.dto.response.SessionExportRow;
+import com.aid.train.backend.domain.session.dto.response.TranscriptExportRow;
+import com.aid.train.backend.global.common.export.ExportFormat;
+import com.aid.train.backend.global.common.export.ExportWriter;
+import com.aid.train.backend.repository.session.DialogueSessionRepository;
+import com.aid.train.backend.repository.session.TranscriptRepository;
+import com.aid.train.backend.repository.session.TranscriptWriteBuffer;
+import com.aid.train.backend.repository.user.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * 발화 내역 / 세션 이력 내보내기 서비스
+ *
+ * 조회 결과를 엔티티 목록으로 모으지 않고 DTO 스트림(드라이버 fetch size 단위)으로 읽어 응답에 바로 씁니다.
+ * 응답 본문은 요청 스레드가 아닌 비동기 스레드에서 쓰이므로, 스트림을 여는 읽기 전용 트랜잭션도 그 안에서 시작합니다.
+ */
+@Slf4j
+@Service
+public class SessionExportService {
+
+    private static final List<String> TRANSCRIPT_HEADER = List.of(
+            "id", "speaker", "content", "timestamp", "startTimeMs", "endTimeMs", "confidenceScore");
+
+    private static final List<String> SESSION_HEADER = List.of(
+            "id", "sessionId", "scenarioId", "scenarioTitle", "category", "difficulty", "status",
+            "startedAt", "endedAt", "audioDurationSeconds", "transcriptCount");
+
+    private final DialogueSessionRepository dialogueSessionRepository;
+    private final TranscriptRepository transcriptRepository;
+    private final UserRepository userRepository;
+    private final TranscriptWriteBuffer transcriptWriteBuffer;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public SessionExportService(DialogueSessionRepository dialogueSessionRepository,
+                                TranscriptRepository transcriptRepository,
+                                UserRepository userRepository,
+                                TranscriptWriteBuffer transcriptWriteBuffer,
+                                ObjectMapper objectMapper,
+                                PlatformTransactionManager transactionManager) {
+        this.dialogueSessionRepository = dialogueSessionRepository;
+        this.transcriptRepository = transcriptRepository;
+        this.userRepository = userRepository;
+        this.transcriptWriteBuffer = transcriptWriteBuffer;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * 세션의 발화 내역을 시간순으로 내보냅니다. 아직 버퍼에 있는 발화는 먼저 기록한 뒤 읽습니다.
+     *
+     * @param dialogueSessionId dialogue_sessions PK
+     * @return 세션이 없으면 empty
+     */
+    public Optional<StreamingResponseBody> exportTranscripts(Long dialogueSessionId, ExportFormat format) {
+        if (!dialogueSessionRepository.existsById(dialogueSessionId)) {
+            return Optional.empty();
+        }
+        return Optional.of(out -> {
+            transcriptWriteBuffer.flush(dialogueSessionId);
+            write(out, format, TranscriptExportRow.class, TRANSCRIPT_HEADER, SessionExportService::transcriptColumns,
+                    () -> transcriptRepository.streamExportRowsBySessionId(dialogueSessionId));
+        });
+    }
+
+    /**
+     * 사용자의 전체 세션 이력을 시작 시각순으로 내보냅니다.
+     *
+     * @param userId 사용자 ID
+     * @return 사용자가 없으면 empty
+     */
+    public Optional<StreamingResponseBody> exportSessions(Long userId, ExportFormat format) {
+        if (!userRepository.existsById(userId)) {
+            return Optional.empty();
+        }
+        return Optional.of(out -> write(out, format, SessionExportRow.class, SESSION_HEADER,
+                SessionExportService::sessionColumns,
+                () -> dialogueSessionRepository.streamExportRowsByUserId(userId)));
+    }
+
+    private <T> void write(OutputStream out, ExportFormat format, Class<T> rowType, List<String> header,
+                           Function<T, List<?>> columns, StreamQuery<T> query) throws IOException {
+        long started = System.nanoTime();
+        ExportWriter<T> writer = ExportWriter.of(format, out, objectMapper, rowType, header, columns);
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<T> rows = query.open()) {
+                    rows.forEach(row -> {
+                        try {
+                            writer.write(row);
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    });
+                }
+            });
+        } catch (UncheckedIOException e) {
+            // 클라이언트가 다운로드를 중단한 경우 등
+            throw e.getCause();
+        }
+        writer.finish();
+        log.info("내보내기 완료 - type={}, format={}, rows={}, elapsedMs={}",
+                rowType.getSimpleName(), format, writer.rowCount(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private static List<?> transcriptColumns(TranscriptExportRow row) {
+        return Arrays.asList(row.id(), row.speaker(), row.content(), row.timestamp(),
+                row.startTimeMs(), row.endTimeMs(), row.confidenceScore());
+    }
+
+    private static List<?> sessionColumns(SessionExportRow row) {
+        return Arrays.asList(row.id(), row.sessionId(), row.scenarioId(), row.scenarioTitle(), row.category(),
+                row.difficulty(), row.status(), row.startedAt(), row.endedAt(), row.audioDurationSeconds(),
+                row.transcriptCount());
+    }
+
+    @FunctionalInterface
+    private interface StreamQuery<T> {
+        Stream<T> open();
+    }
+}
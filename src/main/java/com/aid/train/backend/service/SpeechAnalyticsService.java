@@ -0,0 +1,56 @@
+package com.aid.train.backend.service;
+
+import com.aid.train.backend.domain.session.analytics.SessionTimeline;
+import com.aid.train.backend.domain.session.analytics.SpeechAnalytics;
+import com.aid.train.backend.domain.session.analytics.SpeechAnalyticsEngine;
+import com.aid.train.backend.domain.session.dto.response.TranscriptExportRow;
+import com.aid.train.backend.repository.session.DialogueSessionRepository;
+import com.aid.train.backend.repository.session.TranscriptRepository;
+import com.aid.train.backend.repository.session.TranscriptWriteBuffer;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * 세션 발화 분석 서비스
+ *
+ * 발화를 엔티티로 올리지 않고 DTO 스트림에서 바로 {@link SessionTimeline} 배열로 옮긴 뒤 한 번에 분석합니다.
+ * 조회만 하므로 write-behind 버퍼를 기록하지 않고, 버퍼에 남은 발화는 DB 조회와 함께 읽어 뒤에 붙입니다.
+ */
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class SpeechAnalyticsService {
+
+    private final DialogueSessionRepository dialogueSessionRepository;
+    private final TranscriptRepository transcriptRepository;
+    private final TranscriptWriteBuffer transcriptWriteBuffer;
+
+    private final SpeechAnalyticsEngine engine = new SpeechAnalyticsEngine();
+
+    /**
+     * 세션의 발화를 분석합니다. 버퍼에 남은 발화도 포함합니다. (기록하지 않음)
+     *
+     * @param dialogueSessionId dialogue_sessions PK
+     * @return 세션이 없으면 empty
+     */
+    public Optional<SpeechAnalytics> analyze(Long dialogueSessionId) {
+        if (!dialogueSessionRepository.existsById(dialogueSessionId)) {
+            return Optional.empty();
+        }
+        return Optional.of(transcriptWriteBuffer.readPending(dialogueSessionId, pending -> {
+            SessionTimeline timeline = new SessionTimeline();
+            try (Stream<TranscriptExportRow> rows = transcriptRepository.streamExportRowsBySessionId(dialogueSessionId)) {
+                rows.forEach(row -> timeline.add(row.speaker(), row.content(), row.startTimeMs(), row.endTimeMs(),
+                        row.confidenceScore()));
+            }
+            // 시작 시각순이 아니면 SessionTimeline 이 분석 전에 정렬함
+            pending.forEach(transcript -> timeline.add(transcript.getSpeaker(), transcript.getContent(),
+                    transcript.getStartTimeMs(), transcript.getEndTimeMs(), transcript.getConfidenceScore()));
+            return engine.analyze(timeline);
+        }));
+    }
+}
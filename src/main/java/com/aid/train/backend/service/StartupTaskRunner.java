@@ -0,0 +1,48 @@
+package com.aid.train.backend.service;
+
+import com.aid.train.backend.global.config.StartupTaskProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumSet;
+
+/**
+ * 기동 시 설정된 백필 / 재계산 작업 실행 (train.startup.tasks)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@EnableConfigurationProperties(StartupTaskProperties.class)
+public class StartupTaskRunner implements ApplicationRunner {
+
+    private final StartupTaskProperties properties;
+    private final FeedbackService feedbackService;
+    private final HistoryService historyService;
+    private final LeaderboardService leaderboardService;
+    private final SessionAggregateService sessionAggregateService;
+    private final DialogueSessionService dialogueSessionService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        // 설정 순서와 관계없이 선언 순서대로 실행 (피드백 점수를 먼저 채운 뒤 집계)
+        EnumSet<StartupTaskProperties.Task> tasks = EnumSet.noneOf(StartupTaskProperties.Task.class);
+        tasks.addAll(properties.getTasks());
+        for (StartupTaskProperties.Task task : tasks) {
+            log.info("기동 작업 시작: {}", task);
+            switch (task) {
+                case FEEDBACK_BACKFILL -> feedbackService.backfill();
+                case HISTORY_ROLLUP -> {
+                    historyService.rebuild();
+                    // 순위표는 이 작업보다 먼저 적재되므로, 채워진 scenario_id 를 시나리오별 순위표에 다시 반영
+                    leaderboardService.reloadFromHistory();
+                }
+                case SESSION_AGGREGATE -> sessionAggregateService.rebuild();
+                case TRANSCRIPT_STATS -> dialogueSessionService.rebuildTranscriptStats();
+            }
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.aid.train.backend.websocket.cluster;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * JVM 메모리 기반 세션 레지스트리 (기본 구현)
+ *
+ * 단일 노드에서는 그대로 쓰고, {@link LoopbackSignalingCluster}에서는 여러 노드가 하나의 인스턴스를 공유합니다.
+ */
+public class InMemorySignalingSessionRegistry implements SignalingSessionRegistry {
+
+    private final Map<String, Set<SignalingEndpoint>> endpoints = new ConcurrentHashMap<>();
+
+    @Override
+    public void register(SignalingEndpoint endpoint) {
+        endpoints.computeIfAbsent(endpoint.sessionId(), key -> ConcurrentHashMap.newKeySet()).add(endpoint);
+    }
+
+    @Override
+    public void unregister(SignalingEndpoint endpoint) {
+        endpoints.computeIfPresent(endpoint.sessionId(), (key, set) -> {
+            set.remove(endpoint);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    @Override
+    public Collection<SignalingEndpoint> endpoints(String sessionId) {
+        Set<SignalingEndpoint> set = endpoints.get(sessionId);
+        return set != null ? set : List.of();
+    }
+}
@@ -0,0 +1,24 @@
+package com.aid.train.backend.websocket.cluster;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.function.Consumer;
+
+/**
+ * 단일 노드용 전송 (기본 구현)
+ *
+ * 다른 노드가 없으므로 전달 요청은 레지스트리 불일치로 보고 로그만 남깁니다.
+ */
+@Slf4j
+public class LocalSignalingNodeTransport implements SignalingNodeTransport {
+
+    @Override
+    public void subscribe(String nodeId, Consumer<SignalingEnvelope> receiver) {
+    }
+
+    @Override
+    public void forward(String targetNodeId, SignalingEnvelope envelope) {
+        log.warn("단일 노드 모드에서 다른 노드로 전달 요청 - targetNodeId={}, sessionId={}",
+                targetNodeId, envelope.sessionId());
+    }
+}
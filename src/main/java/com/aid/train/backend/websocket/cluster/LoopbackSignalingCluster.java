@@ -0,0 +1,52 @@
+package com.aid.train.backend.websocket.cluster;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 한 JVM 안에서 여러 노드를 흉내 내는 루프백 클러스터
+ *
+ * 모든 노드가 하나의 레지스트리와 전송을 공유하며, 노드별로 {@link SignalingRouter}를 만들어
+ * 노드 간 라우팅을 한 머신에서 테스트할 때 사용합니다.
+ * <pre>
+ * LoopbackSignalingCluster cluster = new LoopbackSignalingCluster();
+ * SignalingRouter nodeA = new SignalingRouter("node-a", cluster.registry(), cluster.transport());
+ * SignalingRouter nodeB = new SignalingRouter("node-b", cluster.registry(), cluster.transport());
+ * </pre>
+ */
+public class LoopbackSignalingCluster {
+
+    private final InMemorySignalingSessionRegistry registry = new InMemorySignalingSessionRegistry();
+    private final Map<String, Consumer<SignalingEnvelope>> receivers = new ConcurrentHashMap<>();
+
+    private final SignalingNodeTransport transport = new SignalingNodeTransport() {
+        @Override
+        public void subscribe(String nodeId, Consumer<SignalingEnvelope> receiver) {
+            receivers.put(nodeId, receiver);
+        }
+
+        @Override
+        public void forward(String targetNodeId, SignalingEnvelope envelope) {
+            Consumer<SignalingEnvelope> receiver = receivers.get(targetNodeId);
+            if (receiver != null) {
+                receiver.accept(envelope);
+            }
+        }
+    };
+
+    public SignalingSessionRegistry registry() {
+        return registry;
+    }
+
+    public SignalingNodeTransport transport() {
+        return transport;
+    }
+
+    /**
+     * 노드 장애를 흉내 냅니다. 이후 해당 노드로의 전달은 버려집니다.
+     */
+    public void disconnect(String nodeId) {
+        receivers.remove(nodeId);
+    }
+}
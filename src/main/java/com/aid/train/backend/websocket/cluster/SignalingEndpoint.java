@@ -0,0 +1,11 @@
+package com.aid.train.backend.websocket.cluster;
+
+/**
+ * 시그널링 세션에 참여 중인 연결 하나의 위치
+ *
+ * @param sessionId    대화 세션 ID (/ws/signaling/{sessionId})
+ * @param connectionId WebSocket 연결 ID (노드 안에서만 고유하므로 nodeId와 함께 식별)
+ * @param nodeId       연결을 소유한 서버 노드 ID
+ */
+public record SignalingEndpoint(String sessionId, String connectionId, String nodeId) {
+}
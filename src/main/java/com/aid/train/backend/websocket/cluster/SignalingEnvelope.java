@@ -0,0 +1,14 @@
+package com.aid.train.backend.websocket.cluster;
+
+import com.aid.train.backend.websocket.protocol.SignalingMessage;
+
+/**
+ * 노드 간에 전달되는 시그널링 메시지
+ *
+ * @param sessionId            대상 대화 세션 ID
+ * @param senderNodeId         보낸 연결을 소유한 노드 ID
+ * @param senderConnectionId   보낸 연결 ID (senderNodeId와 함께 수신 노드에서 되돌려 보내지 않기 위함)
+ * @param message              전달할 메시지
+ */
+public record SignalingEnvelope(String sessionId, String senderNodeId, String senderConnectionId, SignalingMessage message) {
+}
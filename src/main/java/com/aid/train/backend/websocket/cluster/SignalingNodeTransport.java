@@ -0,0 +1,19 @@
+package com.aid.train.backend.websocket.cluster;
+
+import java.util.function.Consumer;
+
+/**
+ * 노드 간 시그널링 메시지 전달 수단 (SPI)
+ */
+public interface SignalingNodeTransport {
+
+    /**
+     * 이 노드로 들어오는 메시지를 받을 수신자를 등록합니다.
+     */
+    void subscribe(String nodeId, Consumer<SignalingEnvelope> receiver);
+
+    /**
+     * 다른 노드로 메시지를 전달합니다.
+     */
+    void forward(String targetNodeId, SignalingEnvelope envelope);
+}
@@ -0,0 +1,108 @@
+package com.aid.train.backend.websocket.cluster;
+
+import com.aid.train.backend.websocket.protocol.SignalingMessage;
+import com.aid.train.backend.websocket.session.SignalingConnection;
+import lombok.Getter;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 같은 시그널링 세션에 참여한 연결끼리 메시지를 전달합니다.
+ *
+ * 이 노드의 연결은 직접 송신 대기열에 넣고, 다른 노드의 연결은 노드당 한 번만
+ * {@link SignalingNodeTransport}로 전달합니다. 수신 노드는 자신의 연결에게만 다시 분배합니다.
+ * 따라서 두 참여자가 서로 다른 노드에 붙어 있어도 sticky session 없이 시그널링할 수 있습니다.
+ */
+public class SignalingRouter {
+
+    @Getter
+    private final String nodeId;
+    private final SignalingSessionRegistry registry;
+    private final SignalingNodeTransport transport;
+
+    // 이 노드가 소유한 연결 (연결 ID → 연결)
+    private final Map<String, SignalingConnection> localConnections = new ConcurrentHashMap<>();
+
+    public SignalingRouter(String nodeId, SignalingSessionRegistry registry, SignalingNodeTransport transport) {
+        this.nodeId = nodeId;
+        this.registry = registry;
+        this.transport = transport;
+        transport.subscribe(nodeId, this::deliverLocally);
+    }
+
+    public void join(SignalingConnection connection) {
+        localConnections.put(connection.getId(), connection);
+        registry.register(endpointOf(connection));
+    }
+
+    public void leave(SignalingConnection connection) {
+        registry.unregister(endpointOf(connection));
+        localConnections.remove(connection.getId(), connection);
+    }
+
+    /**
+     * 보낸 연결을 제외한 같은 세션의 모든 참여자에게 메시지를 전달합니다.
+     *
+     * @return 메시지를 전달한 참여자 수 (다른 노드 참여자 포함)
+     */
+    public int relay(SignalingConnection sender, SignalingMessage message) {
+        Collection<SignalingEndpoint> endpoints = registry.endpoints(sender.getSessionId());
+        int delivered = 0;
+        Set<String> remoteNodes = null;
+        for (SignalingEndpoint endpoint : endpoints) {
+            if (isSender(endpoint, nodeId, sender.getId())) {
+                continue;
+            }
+            delivered++;
+            if (nodeId.equals(endpoint.nodeId())) {
+                SignalingConnection peer = localConnections.get(endpoint.connectionId());
+                if (peer != null) {
+                    peer.send(message);
+                }
+            } else {
+                if (remoteNodes == null) {
+                    remoteNodes = new HashSet<>(2);
+                }
+                remoteNodes.add(endpoint.nodeId());
+            }
+        }
+        if (remoteNodes != null) {
+            SignalingEnvelope envelope = new SignalingEnvelope(sender.getSessionId(), nodeId, sender.getId(), message);
+            for (String remoteNode : remoteNodes) {
+                transport.forward(remoteNode, envelope);
+            }
+        }
+        return delivered;
+    }
+
+    public int localConnectionCount() {
+        return localConnections.size();
+    }
+
+    // 다른 노드에서 전달된 메시지를 이 노드의 참여자에게 분배
+    private void deliverLocally(SignalingEnvelope envelope) {
+        for (SignalingEndpoint endpoint : registry.endpoints(envelope.sessionId())) {
+            if (!nodeId.equals(endpoint.nodeId())
+                    || isSender(endpoint, envelope.senderNodeId(), envelope.senderConnectionId())) {
+                continue;
+            }
+            SignalingConnection peer = localConnections.get(endpoint.connectionId());
+            if (peer != null) {
+                peer.send(envelope.message());
+            }
+        }
+    }
+
+    // WebSocket 연결 ID는 노드마다 따로 매기는 값이라 다른 노드의 연결과 겹칠 수 있으므로 노드 ID까지 비교
+    private static boolean isSender(SignalingEndpoint endpoint, String senderNodeId, String senderConnectionId) {
+        return endpoint.nodeId().equals(senderNodeId) && endpoint.connectionId().equals(senderConnectionId);
+    }
+
+    private SignalingEndpoint endpointOf(SignalingConnection connection) {
+        return new SignalingEndpoint(connection.getSessionId(), connection.getId(), nodeId);
+    }
+}
@@ -0,0 +1,21 @@
+package com.aid.train.backend.websocket.cluster;
+
+import java.util.Collection;
+
+/**
+ * 시그널링 세션 참여 연결과 소유 노드를 기록하는 저장소 (SPI)
+ *
+ * 기본 구현은 단일 JVM용 {@link InMemorySignalingSessionRegistry}이며,
+ * 여러 노드로 확장할 때는 공유 저장소(Redis 등) 기반 구현을 Bean으로 등록해 교체합니다.
+ */
+public interface SignalingSessionRegistry {
+
+    void register(SignalingEndpoint endpoint);
+
+    void unregister(SignalingEndpoint endpoint);
+
+    /**
+     * 세션에 참여 중인 모든 연결을 조회합니다 (다른 노드 포함).
+     */
+    Collection<SignalingEndpoint> endpoints(String sessionId);
+}
@@ -0,0 +1,47 @@
+package com.aid.train.backend.websocket.config;
+
+import com.aid.train.backend.websocket.cluster.InMemorySignalingSessionRegistry;
+import com.aid.train.backend.websocket.cluster.LocalSignalingNodeTransport;
+import com.aid.train.backend.websocket.cluster.SignalingNodeTransport;
+import com.aid.train.backend.websocket.cluster.SignalingRouter;
+import com.aid.train.backend.websocket.cluster.SignalingSessionRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+import java.util.UUID;
+
+/**
+ * 시그널링 세션 레지스트리 / 노드 간 전송 설정
+ *
+ * 기본값(train.signaling.cluster.mode=local)은 단일 노드 in-memory 구현입니다.
+ * 다른 구현을 쓰려면 mode를 다른 값으로 바꾸고 {@link SignalingSessionRegistry}와
+ * {@link SignalingNodeTransport} Bean을 직접 등록하세요 (Bean 등록 순서와 관계없이 기본 구현은 등록되지 않음).
+ */
+@Configuration
+public class SignalingClusterConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "train.signaling.cluster", name = "mode", havingValue = "local", matchIfMissing = true)
+    public SignalingSessionRegistry signalingSessionRegistry() {
+        return new InMemorySignalingSessionRegistry();
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "train.signaling.cluster", name = "mode", havingValue = "local", matchIfMissing = true)
+    public SignalingNodeTransport signalingNodeTransport() {
+        return new LocalSignalingNodeTransport();
+    }
+
+    @Bean
+    public SignalingRouter signalingRouter(SignalingProperties properties,
+                                           SignalingSessionRegistry registry,
+                                           SignalingNodeTransport transport) {
+        String nodeId = properties.getCluster().getNodeId();
+        if (!StringUtils.hasText(nodeId)) {
+            nodeId = UUID.randomUUID().toString();
+        }
+        return new SignalingRouter(nodeId, registry, transport);
+    }
+}
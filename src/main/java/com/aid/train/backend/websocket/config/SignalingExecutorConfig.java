@@ -0,0 +1,40 @@
+package com.aid.train.backend.websocket.config;
+
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 시그널링 송신 전용 Executor
+ *
+ * 세션마다 drain 작업이 최대 하나만 등록되므로 작업 수는 연결 수를 넘지 않습니다.
+ * drain 작업은 session.sendMessage 에서 블로킹되므로 기본값은 작업마다 가상 스레드를 사용합니다.
+ * 고정 크기 풀이면 멈춘 클라이언트 threads 개가 풀을 모두 붙잡아 노드 전체의 송신이 멈출 수 있습니다.
+ *
+ * train.signaling.outbound.virtual-threads=false 이고 spring.threads.virtual.enabled 가 꺼져 있을 때만
+ * train.signaling.outbound.threads 크기의 플랫폼 스레드 풀을 사용합니다. 이때 멈춘 전송은
+ * SignalingSendWatchdog 이 sendTimeLimit 뒤에 끊어 스레드를 돌려받습니다.
+ */
+@Configuration
+public class SignalingExecutorConfig {
+
+    @Bean(name = "signalingOutboundExecutor")
+    public TaskExecutor signalingOutboundExecutor(SignalingProperties properties, Environment environment) {
+        if (properties.getOutbound().isVirtualThreads() || Threading.VIRTUAL.isActive(environment)) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("signaling-out-");
+            executor.setVirtualThreads(true);
+            return executor;
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.getOutbound().getThreads());
+        executor.setMaxPoolSize(properties.getOutbound().getThreads());
+        executor.setThreadNamePrefix("signaling-out-");
+        executor.setDaemon(true);
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+}
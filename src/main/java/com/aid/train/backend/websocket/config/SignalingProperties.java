@@ -0,0 +1,116 @@
+package com.aid.train.backend.websocket.config;
+
+import com.aid.train.backend.websocket.session.OverflowPolicy;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 시그널링 WebSocket 설정 (train.signaling.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "train.signaling")
+public class SignalingProperties {
+
+    private final Buffer buffer = new Buffer();
+    private final Outbound outbound = new Outbound();
+    private final Cluster cluster = new Cluster();
+    private final Heartbeat heartbeat = new Heartbeat();
+    private final RateLimit rateLimit = new RateLimit();
+
+    @Getter
+    @Setter
+    public static class Buffer {
+        // 풀에 보관하는 버퍼 하나의 크기 (바이트). 이보다 큰 프레임은 풀을 거치지 않고 할당합니다.
+        private int pooledBufferSize = 4096;
+
+        // 풀에 보관할 최대 버퍼 개수
+        private int maxPooledBuffers = 1024;
+    }
+
+    @Getter
+    @Setter
+    public static class Outbound {
+        // 세션별 송신 대기열에 쌓을 수 있는 최대 메시지 수
+        private int bufferSize = 256;
+
+        // 한 프레임 전송이 이 시간보다 오래 걸리고 있으면 느린 클라이언트로 보고 연결을 끊습니다.
+        private Duration sendTimeLimit = Duration.ofSeconds(5);
+
+        // 대기열이 가득 찼을 때의 처리 방식
+        private OverflowPolicy overflowPolicy = OverflowPolicy.DROP_OLDEST;
+
+        // 송신 drain 작업을 가상 스레드에서 실행 (false 이면 threads 크기의 플랫폼 스레드 풀)
+        private boolean virtualThreads = true;
+
+        // virtualThreads=false 일 때 송신 전용 스레드 수 (세션 수와 무관하게 고정)
+        private int threads = 16;
+    }
+
+    @Getter
+    @Setter
+    public static class Cluster {
+        // 이 서버 노드의 ID. 비워 두면 기동 시 UUID로 생성합니다.
+        private String nodeId;
+
+        // 세션 레지스트리 / 노드 간 전송 구현. local 이면 단일 노드 in-memory 구현을 등록하고,
+        // 다른 값이면 기본 구현을 등록하지 않으므로 해당 구현의 Bean을 직접 등록해야 합니다.
+        private String mode = "local";
+    }
+
+    @Getter
+    @Setter
+    public static class Heartbeat {
+        // 이 시간 동안 수신이 없으면 WebSocket ping을 보냅니다.
+        private Duration pingInterval = Duration.ofSeconds(20);
+
+        // 이 시간 동안 수신(pong 포함)이 없으면 연결을 끊고 대화 세션을 실패 처리합니다.
+        private Duration idleTimeout = Duration.ofSeconds(60);
+
+        // 타이밍 휠 tick 간격 (감지 정밀도)
+        private Duration tick = Duration.ofSeconds(1);
+
+        // 타이밍 휠 버킷 수 (2의 거듭제곱으로 올림)
+        private int wheelSize = 512;
+    }
+
+    @Getter
+    @Setter
+    public static class RateLimit {
+        // 수신 프레임 속도 제한 사용 여부
+        private boolean enabled = true;
+
+        // 연결 하나의 한도
+        private Bucket connection = new Bucket(50, 100);
+
+        // 사용자 한 명의 모든 연결 합산 한도
+        private Bucket user = new Bucket(100, 200);
+
+        // 연결 하나가 잘못된 프레임에 대해 받는 ERROR 응답 한도. 넘으면 응답 없이 버립니다.
+        private Bucket errorReply = new Bucket(1, 5);
+
+        // 협상(OFFER / ANSWER) 1회당 받을 ICE candidate 최대 수. 넘는 candidate는 버립니다.
+        private int maxCandidatesPerNegotiation = 64;
+    }
+
+    @Getter
+    @Setter
+    public static class Bucket {
+        // 초당 충전되는 토큰 수 (지속 허용 프레임 수)
+        private double refillPerSecond;
+
+        // 한 번에 허용하는 최대 프레임 수
+        private int burst;
+
+        public Bucket() {
+        }
+
+        public Bucket(double refillPerSecond, int burst) {
+            this.refillPerSecond = refillPerSecond;
+            this.burst = burst;
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package com.aid.train.backend.websocket.config;
 
 import com.aid.train.backend.websocket.handler.SignalingHandler;
+import com.aid.train.backend.websocket.interceptor.SignalingHandshakeInterceptor;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.socket.config.annotation.EnableWebSocket;
 import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
@@ -9,14 +11,17 @@ import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry
 
 @Configuration
 @EnableWebSocket
+@EnableConfigurationProperties(SignalingProperties.class)
 @RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketConfigurer {
 
     private final SignalingHandler signalingHandler;
+    private final SignalingHandshakeInterceptor signalingHandshakeInterceptor;
 
     @Override
     public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
         registry.addHandler(signalingHandler, "/ws/signaling/{sessionId}")
+                .addInterceptors(signalingHandshakeInterceptor) // 세션 검증 및 컨텍스트 저장 (핸드셰이크 1회)
                 .setAllowedOriginPatterns("*"); // 개발 중에는 *, 배포 시 특정 도메인으로 제한
     }
 }
@@ -1,73 +1,162 @@
 package com.aid.train.backend.websocket.handler;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.aid.train.backend.websocket.cluster.SignalingRouter;
+import com.aid.train.backend.websocket.heartbeat.SignalingHeartbeatScheduler;
+import com.aid.train.backend.websocket.protocol.SignalingCodecs;
+import com.aid.train.backend.websocket.protocol.SignalingMessage;
+import com.aid.train.backend.websocket.protocol.SignalingOpcode;
+import com.aid.train.backend.websocket.protocol.SignalingProtocol;
+import com.aid.train.backend.websocket.protocol.SignalingProtocolException;
+import com.aid.train.backend.websocket.ratelimit.RateLimitResult;
+import com.aid.train.backend.websocket.ratelimit.SignalingRateLimiter;
+import com.aid.train.backend.websocket.session.SignalingConnection;
+import com.aid.train.backend.websocket.session.SignalingConnectionFactory;
+import com.aid.train.backend.websocket.session.SignalingSessionContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
+import org.springframework.web.socket.BinaryMessage;
 import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.PongMessage;
+import org.springframework.web.socket.SubProtocolCapable;
 import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
 import org.springframework.web.socket.WebSocketSession;
-import org.springframework.web.socket.handler.TextWebSocketHandler;
+import org.springframework.web.socket.handler.AbstractWebSocketHandler;
 
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.List;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class SignalingHandler extends TextWebSocketHandler {
+public class SignalingHandler extends AbstractWebSocketHandler implements SubProtocolCapable {
 
-    private final ObjectMapper objectMapper;
+    // SignalingConnection을 저장하는 세션 속성 키
+    private static final String CONNECTION_ATTRIBUTE = SignalingConnection.class.getName();
 
-    // 세션 ID → WebSocketSession 매핑
-    private final Map<String, WebSocketSession> sessions = new ConcurrentHashMap<>();
+    // 클라이언트가 요청할 수 있는 서브프로토콜 (선호 순서는 클라이언트 요청 순서를 따름)
+    private static final List<String> SUB_PROTOCOLS = List.of(
+            SignalingProtocol.BINARY.getSubProtocol(),
+            SignalingProtocol.JSON.getSubProtocol());
+
+    private final SignalingCodecs codecs;
+    private final SignalingConnectionFactory connectionFactory;
+
+    // 같은 세션 참여자 간 메시지 전달 (참여자가 다른 노드에 있어도 전달)
+    private final SignalingRouter router;
+
+    // 유휴 연결 감시 (타이밍 휠)
+    private final SignalingHeartbeatScheduler heartbeatScheduler;
+
+    // 수신 프레임 속도 제한 (연결별 / 사용자별)
+    private final SignalingRateLimiter rateLimiter;
+
+    @Override
+    public List<String> getSubProtocols() {
+        return SUB_PROTOCOLS;
+    }
 
     @Override
     public void afterConnectionEstablished(WebSocketSession session) throws Exception {
-        String sessionId = extractSessionId(session);
-        sessions.put(sessionId, session);
-        log.info("WebSocket 연결 성공: sessionId={}", sessionId);
+        // 핸드셰이크 인터셉터에서 검증/저장한 컨텍스트
+        SignalingSessionContext context = SignalingSessionContext.from(session);
+        SignalingConnection connection = connectionFactory.create(context, session);
+        session.getAttributes().put(CONNECTION_ATTRIBUTE, connection);
+        router.join(connection);
+        heartbeatScheduler.register(connection);
+        log.info("WebSocket 연결 성공: sessionId={}, protocol={}, nodeId={}",
+                context.sessionId(), connection.getProtocol(), router.getNodeId());
 
         // 연결 성공 메시지 전송
-        session.sendMessage(new TextMessage("Connected to session: " + sessionId));
+        connection.send(SignalingMessage.connected(context.sessionId()));
     }
 
     @Override
     protected void handleTextMessage(WebSocketSession session, TextMessage message) throws Exception {
-        String sessionId = extractSessionId(session);
-        String payload = message.getPayload();
+        handleFrame(session, message);
+    }
+
+    @Override
+    protected void handleBinaryMessage(WebSocketSession session, BinaryMessage message) throws Exception {
+        handleFrame(session, message);
+    }
+
+    @Override
+    protected void handlePongMessage(WebSocketSession session, PongMessage message) {
+        connection(session).touch();
+    }
+
+    private void handleFrame(WebSocketSession session, WebSocketMessage<?> frame) {
+        SignalingConnection connection = connection(session);
+
+        // 한도를 넘은 프레임은 디코딩하지 않고 버림 (잘못된 프레임도 한도에 포함)
+        RateLimitResult admission = rateLimiter.admitFrame(connection.getInboundLimit());
+        if (!admission.isAllowed()) {
+            log.debug("수신 프레임 제한 - sessionId={}, result={}", connection.getSessionId(), admission);
+            return;
+        }
+
+        SignalingMessage message;
+        try {
+            message = codecs.forFrame(frame).decode(frame);
+        } catch (SignalingProtocolException e) {
+            log.debug("잘못된 시그널링 프레임 - sessionId={}, reason={}", connection.getSessionId(), e.getMessage());
+            // ERROR 응답도 한도를 두어 잘못된 프레임 폭주가 송신량까지 늘리지 않도록 함
+            if (rateLimiter.rejectMalformed(connection.getInboundLimit())) {
+                connection.send(SignalingMessage.error(CloseStatus.BAD_DATA.getCode(), e.getMessage()));
+            }
+            return;
+        }
+
+        // 한도 안의 올바른 프레임만 활동으로 기록 (잘못된 프레임 폭주로 연결이 유지되지 않도록 함)
+        connection.touch();
+        log.debug("메시지 수신 - sessionId={}, type={}", connection.getSessionId(), message.type());
+
+        // 중복 ICE candidate와 협상당 개수를 넘은 candidate는 처리하지 않고 버림
+        admission = rateLimiter.admitMessage(connection.getInboundLimit(), message);
+        if (!admission.isAllowed()) {
+            log.debug("수신 프레임 제한 - sessionId={}, type={}, result={}",
+                    connection.getSessionId(), message.type(), admission);
+            return;
+        }
 
-        log.info("메시지 수신 - sessionId={}, payload={}", sessionId, payload);
+        if (message.type() == SignalingOpcode.PING) {
+            connection.send(SignalingMessage.pong(message.nonce()));
+            return;
+        }
 
-        // Sprint 2: Echo 테스트 (받은 메시지 그대로 돌려보냄)
-        String response = String.format("Echo from %s: %s", sessionId, payload);
-        session.sendMessage(new TextMessage(response));
+        // 서버만 보내는 제어 프레임(CONNECTED / PONG / ERROR)은 전달하지 않고 거절
+        if (!message.type().isRelayable()) {
+            log.debug("전달할 수 없는 프레임 - sessionId={}, type={}", connection.getSessionId(), message.type());
+            if (rateLimiter.rejectMalformed(connection.getInboundLimit())) {
+                connection.send(SignalingMessage.error(CloseStatus.POLICY_VIOLATION.getCode(),
+                        "전달할 수 없는 type: " + message.type().getWireName()));
+            }
+            return;
+        }
 
-        log.info("메시지 전송 - sessionId={}", sessionId);
+        // SDP / ICE / BYE 는 같은 세션의 다른 참여자에게 전달 (참여자별 협상된 인코딩으로 재인코딩됨)
+        router.relay(connection, message);
     }
 
     @Override
     public void afterConnectionClosed(WebSocketSession session, CloseStatus status) throws Exception {
-        String sessionId = extractSessionId(session);
-        sessions.remove(sessionId);
-        log.info("WebSocket 연결 종료: sessionId={}, status={}", sessionId, status);
+        SignalingConnection connection = connection(session);
+        if (connection != null) {
+            router.leave(connection);
+            connection.release();
+        }
+        log.info("WebSocket 연결 종료: sessionId={}, status={}",
+                SignalingSessionContext.from(session).sessionId(), status);
     }
 
     @Override
     public void handleTransportError(WebSocketSession session, Throwable exception) throws Exception {
-        String sessionId = extractSessionId(session);
-        log.error("WebSocket 에러 - sessionId={}", sessionId, exception);
+        log.error("WebSocket 에러 - sessionId={}", SignalingSessionContext.from(session).sessionId(), exception);
     }
 
-    /**
-     * WebSocket URI에서 sessionId 추출
-     * 예: /ws/signaling/test-123 → "test-123"
-     */
-    private String extractSessionId(WebSocketSession session) {
-        String path = session.getUri().getPath();
-        // /ws/signaling/test-123 → test-123
-        String[] parts = path.split("/");
-        return parts[parts.length - 1];  // 마지막 부분이 sessionId
+    private SignalingConnection connection(WebSocketSession session) {
+        return (SignalingConnection) session.getAttributes().get(CONNECTION_ATTRIBUTE);
     }
 
 }
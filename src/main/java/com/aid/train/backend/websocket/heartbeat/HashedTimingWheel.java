@@ -0,0 +1,138 @@
+package com.aid.train.backend.websocket.heartbeat;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+
+/**
+ * 해시 타이밍 휠
+ *
+ * 타임아웃 수만큼 예약 작업을 만들지 않고, 한 스레드가 tick 마다 버킷 하나만 훑어 만료된 항목을 처리합니다.
+ * 등록/취소는 O(1)이며 수만 개의 연결 타이머를 스레드 하나로 관리할 수 있습니다.
+ *
+ * <ul>
+ *     <li>{@link #schedule}, {@link Timeout#cancel()}은 어느 스레드에서나 호출할 수 있습니다.</li>
+ *     <li>{@link #advance(long)}는 tick 스레드 하나에서만 호출해야 하며, 만료 콜백도 그 스레드에서 실행됩니다.</li>
+ *     <li>정밀도는 tick 단위이며, 만료는 최대 1 tick 늦게 처리될 수 있습니다.</li>
+ * </ul>
+ *
+ * @param <T> 타임아웃 대상
+ */
+public class HashedTimingWheel<T> {
+
+    private final long tickNanos;
+    private final int mask;
+    private final ArrayDeque<Timeout<T>>[] buckets;
+    private final Consumer<Timeout<T>> expiryHandler;
+    private final long startNanos;
+
+    // 다른 스레드에서 등록한 타임아웃. tick 스레드가 버킷으로 옮김
+    private final Queue<Timeout<T>> pending = new ConcurrentLinkedQueue<>();
+
+    // tick 스레드 전용
+    private long currentTick;
+
+    @SuppressWarnings("unchecked")
+    public HashedTimingWheel(long tickNanos, int wheelSize, long startNanos, Consumer<Timeout<T>> expiryHandler) {
+        if (tickNanos <= 0) {
+            throw new IllegalArgumentException("tickNanos는 0보다 커야 합니다.");
+        }
+        int size = Integer.highestOneBit(Math.max(wheelSize, 2) - 1) << 1;
+        this.tickNanos = tickNanos;
+        this.mask = size - 1;
+        this.buckets = new ArrayDeque[size];
+        for (int i = 0; i < size; i++) {
+            buckets[i] = new ArrayDeque<>();
+        }
+        this.expiryHandler = expiryHandler;
+        this.startNanos = startNanos;
+    }
+
+    /**
+     * 지금부터 delayNanos 뒤에 만료되는 타임아웃을 등록합니다.
+     */
+    public Timeout<T> schedule(T target, long delayNanos, long nowNanos) {
+        Timeout<T> timeout = new Timeout<>(target, nowNanos - startNanos + Math.max(delayNanos, 0));
+        pending.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * nowNanos 시점까지 지난 tick을 모두 처리합니다 (tick 스레드 전용).
+     */
+    public void advance(long nowNanos) {
+        long targetTick = (nowNanos - startNanos) / tickNanos;
+        while (currentTick <= targetTick) {
+            transferPending();
+            expire(buckets[(int) (currentTick & mask)]);
+            currentTick++;
+        }
+    }
+
+    /**
+     * 아직 버킷으로 옮겨지지 않은 항목을 포함해 대략적인 등록 개수를 반환합니다.
+     */
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    private void transferPending() {
+        Timeout<T> timeout;
+        while ((timeout = pending.poll()) != null) {
+            if (timeout.cancelled) {
+                continue;
+            }
+            // 올림 처리해서 만료가 예정보다 일찍 처리되지 않도록 함
+            long deadlineTick = Math.max((timeout.deadlineNanos + tickNanos - 1) / tickNanos, currentTick);
+            timeout.remainingRounds = (deadlineTick - currentTick) >> Integer.numberOfTrailingZeros(mask + 1);
+            buckets[(int) (deadlineTick & mask)].addLast(timeout);
+        }
+    }
+
+    private void expire(ArrayDeque<Timeout<T>> bucket) {
+        for (int i = bucket.size(); i > 0; i--) {
+            Timeout<T> timeout = bucket.pollFirst();
+            if (timeout.cancelled) {
+                continue;
+            }
+            if (timeout.remainingRounds > 0) {
+                timeout.remainingRounds--;
+                bucket.addLast(timeout);
+                continue;
+            }
+            expiryHandler.accept(timeout);
+        }
+    }
+
+    /**
+     * 등록된 타임아웃 하나
+     */
+    public static final class Timeout<T> {
+
+        private final T target;
+        private final long deadlineNanos;
+        private long remainingRounds;
+        private volatile boolean cancelled;
+
+        private Timeout(T target, long deadlineNanos) {
+            this.target = target;
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        public T target() {
+            return target;
+        }
+
+        /**
+         * 만료 전이면 취소합니다. 버킷에서는 다음 tick에 지나갈 때 제거됩니다.
+         */
+        public void cancel() {
+            cancelled = true;
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+    }
+}
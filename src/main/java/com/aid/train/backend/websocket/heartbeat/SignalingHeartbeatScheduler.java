@@ -0,0 +1,157 @@
+package com.aid.train.backend.websocket.heartbeat;
+
+import com.aid.train.backend.service.DialogueSessionService;
+import com.aid.train.backend.websocket.cluster.SignalingRouter;
+import com.aid.train.backend.websocket.config.SignalingProperties;
+import com.aid.train.backend.websocket.metrics.SignalingMetrics;
+import com.aid.train.backend.websocket.session.SignalingConnection;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+
+import java.io.IOException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 시그널링 연결 heartbeat / 유휴 연결 정리
+ *
+ * 연결마다 예약 작업을 두지 않고 {@link HashedTimingWheel} 하나에 타이머를 등록합니다.
+ * 프레임 수신 시에는 {@link SignalingConnection#touch()}로 시각만 갱신하고, 타이머가 만료되면
+ * 마지막 활동 시각을 보고 다음 중 하나를 합니다.
+ * <ul>
+ *     <li>idleTimeout 이상 수신 없음 → 연결을 레지스트리에서 제거하고 끊은 뒤 대화 세션을 실패 처리</li>
+ *     <li>pingInterval 이상 수신 없음 → WebSocket ping 전송 후 다시 대기</li>
+ *     <li>그 외 → 남은 시간만큼 다시 대기</li>
+ * </ul>
+ * 반쯤 열린(half-open) 연결도 close 완료를 기다리지 않고 라우터와 송신 대기열에서 먼저 정리합니다.
+ */
+@Slf4j
+@Component
+public class SignalingHeartbeatScheduler implements SmartLifecycle {
+
+    private final SignalingRouter router;
+    private final DialogueSessionService dialogueSessionService;
+    private final SignalingMetrics metrics;
+    private final Executor executor;
+
+    private final long pingIntervalNanos;
+    private final long idleTimeoutNanos;
+    private final long tickNanos;
+    private final HashedTimingWheel<SignalingConnection> wheel;
+
+    private ScheduledExecutorService ticker;
+
+    public SignalingHeartbeatScheduler(SignalingRouter router,
+                                       DialogueSessionService dialogueSessionService,
+                                       SignalingMetrics metrics,
+                                       @Qualifier("signalingOutboundExecutor") Executor executor,
+                                       SignalingProperties properties) {
+        this.router = router;
+        this.dialogueSessionService = dialogueSessionService;
+        this.metrics = metrics;
+        this.executor = executor;
+
+        SignalingProperties.Heartbeat heartbeat = properties.getHeartbeat();
+        this.pingIntervalNanos = heartbeat.getPingInterval().toNanos();
+        this.idleTimeoutNanos = heartbeat.getIdleTimeout().toNanos();
+        this.tickNanos = heartbeat.getTick().toNanos();
+        this.wheel = new HashedTimingWheel<>(tickNanos, heartbeat.getWheelSize(), System.nanoTime(), this::onExpired);
+    }
+
+    /**
+     * 연결을 유휴 감시 대상으로 등록합니다.
+     */
+    public void register(SignalingConnection connection) {
+        connection.setHeartbeatTimeout(wheel.schedule(connection, pingIntervalNanos, System.nanoTime()));
+    }
+
+    // tick 스레드에서 실행되므로 블로킹 작업은 executor로 넘김
+    private void onExpired(HashedTimingWheel.Timeout<SignalingConnection> timeout) {
+        SignalingConnection connection = timeout.target();
+        // 이미 정리됐거나 닫히는 중인 연결은 afterConnectionClosed에서 정리되므로 다시 예약하지 않음
+        if (connection.isReleased() || !connection.getSession().isOpen()) {
+            return;
+        }
+        long now = System.nanoTime();
+        long idle = now - connection.getLastActivityNanos();
+
+        if (idle >= idleTimeoutNanos || connection.getOutbound().isSendStalled(now)) {
+            evict(connection);
+            return;
+        }
+
+        long nextCheck;
+        if (idle >= pingIntervalNanos) {
+            connection.getOutbound().requestPing();
+            metrics.heartbeatPing();
+            nextCheck = Math.min(pingIntervalNanos, idleTimeoutNanos - idle);
+        } else {
+            nextCheck = pingIntervalNanos - idle;
+        }
+        HashedTimingWheel.Timeout<SignalingConnection> next = wheel.schedule(connection, nextCheck, now);
+        connection.setHeartbeatTimeout(next);
+        // 예약하는 사이에 release()가 끝났다면 release()가 보지 못한 새 타이머를 직접 취소
+        if (connection.isReleased()) {
+            next.cancel();
+        }
+    }
+
+    private void evict(SignalingConnection connection) {
+        // 정상 종료와 겹친 경우 먼저 정리한 쪽만 처리하고, 정상 종료된 세션은 실패 처리하지 않음
+        if (!connection.release()) {
+            return;
+        }
+        metrics.idleEvicted();
+        router.leave(connection);
+        log.info("유휴 연결 정리: sessionId={}, wsId={}", connection.getSessionId(), connection.getId());
+
+        executor.execute(() -> {
+            try {
+                connection.getSession().close(CloseStatus.SESSION_NOT_RELIABLE.withReason("idle timeout"));
+            } catch (IOException | RuntimeException e) {
+                log.debug("유휴 연결 종료 실패 - wsId={}", connection.getId(), e);
+            }
+        });
+        dialogueSessionService.failOnIdleTimeout(connection.getContext().dialogueSessionId());
+    }
+
+    @Override
+    public synchronized void start() {
+        if (ticker != null) {
+            return;
+        }
+        ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "signaling-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleAtFixedRate(this::tick, tickNanos, tickNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private void tick() {
+        try {
+            wheel.advance(System.nanoTime());
+        } catch (RuntimeException e) {
+            // 예외로 주기 작업이 중단되지 않도록 기록만 함
+            log.error("heartbeat tick 처리 실패", e);
+        }
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (ticker != null) {
+            ticker.shutdownNow();
+            ticker = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return ticker != null;
+    }
+}
@@ -0,0 +1,73 @@
+package com.aid.train.backend.websocket.interceptor;
+
+import com.aid.train.backend.domain.session.entity.DialogueSession;
+import com.aid.train.backend.repository.session.DialogueSessionRepository;
+import com.aid.train.backend.websocket.session.SignalingSessionContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 시그널링 핸드셰이크 인터셉터
+ *
+ * /ws/signaling/{sessionId} 의 sessionId를 한 번만 해석하고, 대화 세션을 User/Scenario와 함께 조회해
+ * 존재하지 않으면 404, 이미 종료된 세션이면 410으로 핸드셰이크를 거절합니다.
+ * 통과하면 {@link SignalingSessionContext}를 세션 속성에 저장합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SignalingHandshakeInterceptor implements HandshakeInterceptor {
+
+    private final DialogueSessionRepository dialogueSessionRepository;
+
+    @Override
+    public boolean beforeHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                                   WebSocketHandler wsHandler, Map<String, Object> attributes) {
+        String sessionId = extractSessionId(request.getURI().getPath());
+        if (sessionId.isEmpty()) {
+            response.setStatusCode(HttpStatus.BAD_REQUEST);
+            return false;
+        }
+
+        Optional<DialogueSession> found = dialogueSessionRepository.findWithUserAndScenarioBySessionId(sessionId);
+        if (found.isEmpty()) {
+            log.info("WebSocket 핸드셰이크 거절 (존재하지 않는 세션): sessionId={}", sessionId);
+            response.setStatusCode(HttpStatus.NOT_FOUND);
+            return false;
+        }
+        DialogueSession dialogueSession = found.get();
+        if (dialogueSession.getStatus().isTerminated()) {
+            log.info("WebSocket 핸드셰이크 거절 (종료된 세션): sessionId={}, status={}",
+                    sessionId, dialogueSession.getStatus());
+            response.setStatusCode(HttpStatus.GONE);
+            return false;
+        }
+
+        attributes.put(SignalingSessionContext.ATTRIBUTE, SignalingSessionContext.of(dialogueSession));
+        return true;
+    }
+
+    @Override
+    public void afterHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                               WebSocketHandler wsHandler, Exception exception) {
+    }
+
+    /**
+     * 경로의 마지막 세그먼트를 sessionId로 사용합니다.
+     * 예: /ws/signaling/test-123 → "test-123"
+     */
+    private static String extractSessionId(String path) {
+        int end = path.endsWith("/") ? path.length() - 1 : path.length();
+        int start = path.lastIndexOf('/', end - 1) + 1;
+        return start < end ? path.substring(start, end) : "";
+    }
+}
@@ -0,0 +1,136 @@
+package com.aid.train.backend.websocket.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 시그널링 계층 Micrometer 지표
+ *
+ * 세션별 태그는 카디널리티가 커지므로 두지 않고, 전체 합계와 분포로만 기록합니다.
+ */
+@Component
+public class SignalingMetrics {
+
+    private final AtomicInteger queuedMessages = new AtomicInteger();
+
+    private final DistributionSummary queueDepth;
+    private final Counter sent;
+    private final Counter droppedOldest;
+    private final Counter coalesced;
+    private final Counter closedOverflow;
+    private final Counter closedSendTimeout;
+    private final Counter sendFailed;
+    private final Counter heartbeatPings;
+    private final Counter idleEvictions;
+    private final Counter rejectedConnectionLimit;
+    private final Counter rejectedUserLimit;
+    private final Counter rejectedDuplicateCandidate;
+    private final Counter rejectedCandidateLimit;
+    private final Counter rejectedMalformed;
+
+    public SignalingMetrics(MeterRegistry registry) {
+        Gauge.builder("train.signaling.outbound.queued", queuedMessages, AtomicInteger::get)
+                .description("전체 세션 송신 대기열에 쌓인 메시지 수")
+                .register(registry);
+        this.queueDepth = DistributionSummary.builder("train.signaling.outbound.depth")
+                .description("메시지를 넣은 직후의 세션별 송신 대기열 길이")
+                .publishPercentiles(0.5, 0.99)
+                .register(registry);
+        this.sent = Counter.builder("train.signaling.outbound.sent").register(registry);
+        this.droppedOldest = dropped(registry, "drop_oldest");
+        this.coalesced = dropped(registry, "coalesced");
+        this.closedOverflow = closed(registry, "overflow");
+        this.closedSendTimeout = closed(registry, "send_timeout");
+        this.sendFailed = closed(registry, "send_error");
+        this.heartbeatPings = Counter.builder("train.signaling.heartbeat.pings").register(registry);
+        this.idleEvictions = Counter.builder("train.signaling.heartbeat.evicted")
+                .description("유휴 타임아웃으로 끊은 연결 수")
+                .register(registry);
+        this.rejectedConnectionLimit = rejected(registry, "connection_limit");
+        this.rejectedUserLimit = rejected(registry, "user_limit");
+        this.rejectedDuplicateCandidate = rejected(registry, "duplicate_candidate");
+        this.rejectedCandidateLimit = rejected(registry, "candidate_limit");
+        this.rejectedMalformed = rejected(registry, "malformed");
+    }
+
+    private static Counter dropped(MeterRegistry registry, String reason) {
+        return Counter.builder("train.signaling.outbound.dropped").tag("reason", reason).register(registry);
+    }
+
+    private static Counter closed(MeterRegistry registry, String reason) {
+        return Counter.builder("train.signaling.outbound.closed").tag("reason", reason).register(registry);
+    }
+
+    private static Counter rejected(MeterRegistry registry, String reason) {
+        return Counter.builder("train.signaling.inbound.rejected")
+                .description("속도 제한이나 디코딩 실패로 처리하지 않고 버린 수신 프레임 수")
+                .tag("reason", reason)
+                .register(registry);
+    }
+
+    public void enqueued(int depth) {
+        queuedMessages.incrementAndGet();
+        queueDepth.record(depth);
+    }
+
+    public void dequeued(int count) {
+        queuedMessages.addAndGet(-count);
+    }
+
+    public void sent() {
+        sent.increment();
+    }
+
+    public void droppedOldest() {
+        droppedOldest.increment();
+    }
+
+    public void coalesced() {
+        coalesced.increment();
+    }
+
+    public void closedOnOverflow() {
+        closedOverflow.increment();
+    }
+
+    public void closedOnSendTimeout() {
+        closedSendTimeout.increment();
+    }
+
+    public void sendFailed() {
+        sendFailed.increment();
+    }
+
+    public void heartbeatPing() {
+        heartbeatPings.increment();
+    }
+
+    public void idleEvicted() {
+        idleEvictions.increment();
+    }
+
+    public void rejectedConnectionLimit() {
+        rejectedConnectionLimit.increment();
+    }
+
+    public void rejectedUserLimit() {
+        rejectedUserLimit.increment();
+    }
+
+    public void rejectedDuplicateCandidate() {
+        rejectedDuplicateCandidate.increment();
+    }
+
+    public void rejectedCandidateLimit() {
+        rejectedCandidateLimit.increment();
+    }
+
+    public void rejectedMalformed() {
+        rejectedMalformed.increment();
+    }
+}
@@ -0,0 +1,287 @@
+package com.aid.train.backend.websocket.protocol;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.WebSocketMessage;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 바이너리 시그널링 코덱 (train.signaling.v1.binary)
+ *
+ * <pre>
+ * [0] version (0x01)
+ * [1] opcode
+ * [2..] body
+ *   OFFER / ANSWER      : str sdp
+ *   ICE_CANDIDATE       : str candidate, str sdpMid, nint sdpMLineIndex
+ *   CONNECTED           : str sessionId
+ *   PING / PONG         : i64 nonce
+ *   ERROR               : varint code, str reason
+ *   END_OF_CANDIDATES / BYE : (없음)
+ *
+ * varint : unsigned LEB128
+ * str    : varint(byteLength + 1) + UTF-8 바이트 (0 이면 null)
+ * nint   : varint(value + 1) (0 이면 null)
+ * i64    : big-endian 8 바이트
+ * </pre>
+ *
+ * 인코딩은 {@link SignalingBufferPool}에서 빌린 버퍼에 바로 기록하며, 문자열도 중간 byte[] 없이 UTF-8로 씁니다.
+ * 디코딩은 heap 버퍼면 backing array에서 바로 문자열을 만들고, direct 버퍼면 풀의 버퍼로 복사해서 읽습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BinarySignalingCodec implements SignalingCodec {
+
+    static final byte VERSION = 0x01;
+    private static final int HEADER_SIZE = 2;
+
+    private final SignalingBufferPool bufferPool;
+
+    @Override
+    public SignalingProtocol protocol() {
+        return SignalingProtocol.BINARY;
+    }
+
+    @Override
+    public SignalingMessage decode(WebSocketMessage<?> frame) {
+        if (!(frame instanceof BinaryMessage binary)) {
+            throw new SignalingProtocolException("바이너리 프레임이 아닙니다.");
+        }
+        return decode(binary.getPayload());
+    }
+
+    /**
+     * 버퍼의 position부터 limit까지를 한 프레임으로 해석합니다. 버퍼의 position은 변경하지 않습니다.
+     */
+    public SignalingMessage decode(ByteBuffer buffer) {
+        int start = buffer.position();
+        try {
+            if (buffer.remaining() < HEADER_SIZE) {
+                throw new SignalingProtocolException("프레임 길이가 너무 짧습니다.");
+            }
+            byte version = buffer.get();
+            if (version != VERSION) {
+                throw new SignalingProtocolException("지원하지 않는 프레임 버전: " + version);
+            }
+            SignalingOpcode opcode = SignalingOpcode.fromCode(buffer.get());
+            SignalingMessage message = switch (opcode) {
+                case OFFER -> SignalingMessage.offer(readString(buffer));
+                case ANSWER -> SignalingMessage.answer(readString(buffer));
+                case ICE_CANDIDATE -> SignalingMessage.iceCandidate(
+                        readString(buffer), readString(buffer), readNullableInt(buffer));
+                case CONNECTED -> SignalingMessage.connected(readString(buffer));
+                case PING -> SignalingMessage.ping(buffer.getLong());
+                case PONG -> SignalingMessage.pong(buffer.getLong());
+                case ERROR -> SignalingMessage.error(readVarint(buffer), readString(buffer));
+                case END_OF_CANDIDATES, BYE -> SignalingMessage.control(opcode);
+            };
+            if (buffer.hasRemaining()) {
+                throw new SignalingProtocolException("프레임 끝에 해석되지 않은 바이트가 있습니다.");
+            }
+            return message;
+        } catch (BufferUnderflowException e) {
+            throw new SignalingProtocolException("프레임이 중간에 끝났습니다.", e);
+        } finally {
+            buffer.position(start);
+        }
+    }
+
+    @Override
+    public BinaryMessage encode(SignalingMessage message) {
+        ByteBuffer buffer = bufferPool.acquire(encodedSize(message));
+        buffer.put(VERSION);
+        buffer.put(message.type().getCode());
+        switch (message.type()) {
+            case OFFER, ANSWER -> writeString(buffer, message.sdp());
+            case ICE_CANDIDATE -> {
+                writeString(buffer, message.candidate());
+                writeString(buffer, message.sdpMid());
+                writeNullableInt(buffer, message.sdpMLineIndex());
+            }
+            case CONNECTED -> writeString(buffer, message.sessionId());
+            case PING, PONG -> buffer.putLong(message.nonce() != null ? message.nonce() : 0L);
+            case ERROR -> {
+                writeVarint(buffer, message.code() != null ? message.code() : 0);
+                writeString(buffer, message.reason());
+            }
+            case END_OF_CANDIDATES, BYE -> {
+            }
+        }
+        buffer.flip();
+        return new BinaryMessage(buffer, true);
+    }
+
+    @Override
+    public void release(WebSocketMessage<?> frame) {
+        if (frame instanceof BinaryMessage binary) {
+            bufferPool.release(binary.getPayload());
+        }
+    }
+
+    /**
+     * 인코딩 결과의 정확한 바이트 수를 계산합니다.
+     */
+    int encodedSize(SignalingMessage message) {
+        int size = HEADER_SIZE;
+        switch (message.type()) {
+            case OFFER, ANSWER -> size += stringSize(message.sdp());
+            case ICE_CANDIDATE -> size += stringSize(message.candidate())
+                    + stringSize(message.sdpMid())
+                    + varintSize(message.sdpMLineIndex() != null ? message.sdpMLineIndex() + 1 : 0);
+            case CONNECTED -> size += stringSize(message.sessionId());
+            case PING, PONG -> size += Long.BYTES;
+            case ERROR -> size += varintSize(message.code() != null ? message.code() : 0)
+                    + stringSize(message.reason());
+            case END_OF_CANDIDATES, BYE -> {
+            }
+        }
+        return size;
+    }
+
+    // ===== 문자열 =====
+
+    private String readString(ByteBuffer buffer) {
+        int header = readVarint(buffer);
+        if (header == 0) {
+            return null;
+        }
+        int length = header - 1;
+        if (length > buffer.remaining()) {
+            throw new SignalingProtocolException("문자열 길이가 프레임을 벗어납니다.");
+        }
+        if (buffer.hasArray()) {
+            String value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length,
+                    StandardCharsets.UTF_8);
+            buffer.position(buffer.position() + length);
+            return value;
+        }
+        ByteBuffer scratch = bufferPool.acquire(length);
+        try {
+            buffer.get(scratch.array(), 0, length);
+            return new String(scratch.array(), 0, length, StandardCharsets.UTF_8);
+        } finally {
+            bufferPool.release(scratch);
+        }
+    }
+
+    private static void writeString(ByteBuffer buffer, String value) {
+        if (value == null) {
+            writeVarint(buffer, 0);
+            return;
+        }
+        writeVarint(buffer, utf8Length(value) + 1);
+        for (int i = 0, n = value.length(); i < n; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                buffer.put((byte) c);
+            } else if (c < 0x800) {
+                buffer.put((byte) (0xC0 | (c >> 6)));
+                buffer.put((byte) (0x80 | (c & 0x3F)));
+            } else if (Character.isSurrogate(c)) {
+                int codePoint = surrogatePair(value, i);
+                if (codePoint < 0) {
+                    buffer.put((byte) '?');
+                    continue;
+                }
+                buffer.put((byte) (0xF0 | (codePoint >> 18)));
+                buffer.put((byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+                buffer.put((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+                buffer.put((byte) (0x80 | (codePoint & 0x3F)));
+                i++;
+            } else {
+                buffer.put((byte) (0xE0 | (c >> 12)));
+                buffer.put((byte) (0x80 | ((c >> 6) & 0x3F)));
+                buffer.put((byte) (0x80 | (c & 0x3F)));
+            }
+        }
+    }
+
+    private static int stringSize(String value) {
+        if (value == null) {
+            return 1;
+        }
+        int length = utf8Length(value);
+        return varintSize(length + 1) + length;
+    }
+
+    // String.getBytes(UTF_8)와 같은 규칙으로 길이를 계산합니다 (짝이 없는 surrogate는 '?' 1바이트).
+    static int utf8Length(String value) {
+        int length = 0;
+        for (int i = 0, n = value.length(); i < n; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                length += 1;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isSurrogate(c)) {
+                if (surrogatePair(value, i) < 0) {
+                    length += 1;
+                } else {
+                    length += 4;
+                    i++;
+                }
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
+    private static int surrogatePair(String value, int index) {
+        char high = value.charAt(index);
+        if (Character.isHighSurrogate(high) && index + 1 < value.length()) {
+            char low = value.charAt(index + 1);
+            if (Character.isLowSurrogate(low)) {
+                return Character.toCodePoint(high, low);
+            }
+        }
+        return -1;
+    }
+
+    // ===== 정수 =====
+
+    private static Integer readNullableInt(ByteBuffer buffer) {
+        int value = readVarint(buffer);
+        return value == 0 ? null : value - 1;
+    }
+
+    private static void writeNullableInt(ByteBuffer buffer, Integer value) {
+        writeVarint(buffer, value != null ? value + 1 : 0);
+    }
+
+    private static int readVarint(ByteBuffer buffer) {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            byte b = buffer.get();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                if (value < 0) {
+                    throw new SignalingProtocolException("varint 값이 범위를 벗어납니다.");
+                }
+                return value;
+            }
+        }
+        throw new SignalingProtocolException("varint 길이가 너무 깁니다.");
+    }
+
+    private static void writeVarint(ByteBuffer buffer, int value) {
+        while ((value & ~0x7F) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    private static int varintSize(int value) {
+        int size = 1;
+        while ((value & ~0x7F) != 0) {
+            value >>>= 7;
+            size++;
+        }
+        return size;
+    }
+}
@@ -0,0 +1,53 @@
+package com.aid.train.backend.websocket.protocol;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+
+/**
+ * JSON 텍스트 시그널링 코덱 (train.signaling.v1.json)
+ *
+ * 바이너리 프로토콜을 협상하지 않은 클라이언트를 위한 폴백입니다.
+ * 예: {"type":"candidate","candidate":"candidate:1 1 udp ...","sdpMid":"0","sdpMLineIndex":0}
+ */
+@Component
+public class JsonSignalingCodec implements SignalingCodec {
+
+    private final ObjectReader reader;
+    private final ObjectWriter writer;
+
+    public JsonSignalingCodec(ObjectMapper objectMapper) {
+        this.reader = objectMapper.readerFor(SignalingMessage.class);
+        this.writer = objectMapper.writerFor(SignalingMessage.class);
+    }
+
+    @Override
+    public SignalingProtocol protocol() {
+        return SignalingProtocol.JSON;
+    }
+
+    @Override
+    public SignalingMessage decode(WebSocketMessage<?> frame) {
+        if (!(frame instanceof TextMessage text)) {
+            throw new SignalingProtocolException("텍스트 프레임이 아닙니다.");
+        }
+        try {
+            return reader.readValue(text.getPayload());
+        } catch (JsonProcessingException e) {
+            throw new SignalingProtocolException("JSON 시그널링 메시지를 해석할 수 없습니다.", e);
+        }
+    }
+
+    @Override
+    public TextMessage encode(SignalingMessage message) {
+        try {
+            return new TextMessage(writer.writeValueAsString(message));
+        } catch (JsonProcessingException e) {
+            throw new SignalingProtocolException("JSON 시그널링 메시지를 생성할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.aid.train.backend.websocket.protocol;
+
+import com.aid.train.backend.websocket.config.SignalingProperties;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 바이너리 프레임 인코딩/디코딩에 재사용하는 고정 크기 ByteBuffer 풀
+ *
+ * 풀 크기보다 큰 요청은 풀을 거치지 않고 새로 할당하며, 반환 시에도 풀에 넣지 않습니다.
+ */
+@Component
+public class SignalingBufferPool {
+
+    private final int bufferSize;
+    private final int maxPooled;
+    private final Queue<ByteBuffer> pool = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pooled = new AtomicInteger();
+
+    public SignalingBufferPool(SignalingProperties properties) {
+        this.bufferSize = properties.getBuffer().getPooledBufferSize();
+        this.maxPooled = properties.getBuffer().getMaxPooledBuffers();
+    }
+
+    /**
+     * 최소 capacity 이상의 비어 있는 버퍼를 빌립니다.
+     *
+     * @param minCapacity 필요한 최소 크기 (바이트)
+     * @return position=0, limit=capacity 상태의 버퍼
+     */
+    public ByteBuffer acquire(int minCapacity) {
+        if (minCapacity > bufferSize) {
+            return ByteBuffer.allocate(minCapacity);
+        }
+        ByteBuffer buffer = pool.poll();
+        if (buffer == null) {
+            return ByteBuffer.allocate(bufferSize);
+        }
+        pooled.decrementAndGet();
+        return buffer;
+    }
+
+    /**
+     * 빌린 버퍼를 반환합니다. 풀 크기가 아니거나 풀이 가득 찬 경우 버립니다.
+     */
+    public void release(ByteBuffer buffer) {
+        if (buffer == null || buffer.capacity() != bufferSize || !buffer.hasArray()) {
+            return;
+        }
+        if (pooled.incrementAndGet() > maxPooled) {
+            pooled.decrementAndGet();
+            return;
+        }
+        buffer.clear();
+        pool.offer(buffer);
+    }
+}
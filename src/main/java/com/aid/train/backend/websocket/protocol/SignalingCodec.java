@@ -0,0 +1,30 @@
+package com.aid.train.backend.websocket.protocol;
+
+import org.springframework.web.socket.WebSocketMessage;
+
+/**
+ * 시그널링 메시지 ↔ WebSocket 프레임 변환기
+ */
+public interface SignalingCodec {
+
+    SignalingProtocol protocol();
+
+    /**
+     * 수신 프레임을 메시지로 변환합니다.
+     *
+     * @throws SignalingProtocolException 프레임 형식이 올바르지 않은 경우
+     */
+    SignalingMessage decode(WebSocketMessage<?> frame);
+
+    /**
+     * 메시지를 송신 프레임으로 변환합니다.
+     * 전송이 끝난 프레임은 반드시 {@link #release(WebSocketMessage)}로 반환해야 합니다.
+     */
+    WebSocketMessage<?> encode(SignalingMessage message);
+
+    /**
+     * 전송이 끝난 프레임의 버퍼를 풀에 반환합니다.
+     */
+    default void release(WebSocketMessage<?> frame) {
+    }
+}
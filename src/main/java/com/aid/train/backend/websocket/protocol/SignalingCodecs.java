@@ -0,0 +1,28 @@
+package com.aid.train.backend.websocket.protocol;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.WebSocketMessage;
+
+/**
+ * 협상된 서브프로토콜 / 수신 프레임 종류에 맞는 코덱을 고릅니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SignalingCodecs {
+
+    private final BinarySignalingCodec binaryCodec;
+    private final JsonSignalingCodec jsonCodec;
+
+    public SignalingCodec forProtocol(SignalingProtocol protocol) {
+        return protocol == SignalingProtocol.BINARY ? binaryCodec : jsonCodec;
+    }
+
+    /**
+     * 수신 프레임은 협상 결과와 관계없이 프레임 종류로 코덱을 고릅니다.
+     */
+    public SignalingCodec forFrame(WebSocketMessage<?> frame) {
+        return frame instanceof BinaryMessage ? binaryCodec : jsonCodec;
+    }
+}
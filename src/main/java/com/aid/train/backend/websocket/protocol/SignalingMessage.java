@@ -0,0 +1,68 @@
+package com.aid.train.backend.websocket.protocol;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * 디코딩된 시그널링 프레임
+ *
+ * opcode에 따라 사용하는 필드가 다르며, 사용하지 않는 필드는 null 입니다.
+ * <ul>
+ *     <li>OFFER / ANSWER: sdp</li>
+ *     <li>ICE_CANDIDATE: candidate, sdpMid, sdpMLineIndex</li>
+ *     <li>CONNECTED: sessionId</li>
+ *     <li>PING / PONG: nonce</li>
+ *     <li>ERROR: code, reason</li>
+ * </ul>
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record SignalingMessage(
+        SignalingOpcode type,
+        String sdp,
+        String candidate,
+        String sdpMid,
+        Integer sdpMLineIndex,
+        String sessionId,
+        Long nonce,
+        Integer code,
+        String reason
+) {
+
+    public SignalingMessage {
+        if (type == null) {
+            throw new SignalingProtocolException("type은 필수입니다.");
+        }
+    }
+
+    public static SignalingMessage offer(String sdp) {
+        return new SignalingMessage(SignalingOpcode.OFFER, sdp, null, null, null, null, null, null, null);
+    }
+
+    public static SignalingMessage answer(String sdp) {
+        return new SignalingMessage(SignalingOpcode.ANSWER, sdp, null, null, null, null, null, null, null);
+    }
+
+    public static SignalingMessage iceCandidate(String candidate, String sdpMid, Integer sdpMLineIndex) {
+        return new SignalingMessage(SignalingOpcode.ICE_CANDIDATE, null, candidate, sdpMid, sdpMLineIndex,
+                null, null, null, null);
+    }
+
+    public static SignalingMessage control(SignalingOpcode opcode) {
+        return new SignalingMessage(opcode, null, null, null, null, null, null, null, null);
+    }
+
+    public static SignalingMessage connected(String sessionId) {
+        return new SignalingMessage(SignalingOpcode.CONNECTED, null, null, null, null, sessionId, null, null, null);
+    }
+
+    public static SignalingMessage ping(long nonce) {
+        return new SignalingMessage(SignalingOpcode.PING, null, null, null, null, null, nonce, null, null);
+    }
+
+    public static SignalingMessage pong(Long nonce) {
+        return new SignalingMessage(SignalingOpcode.PONG, null, null, null, null, null, nonce, null, null);
+    }
+
+    public static SignalingMessage error(int code, String reason) {
+        return new SignalingMessage(SignalingOpcode.ERROR, null, null, null, null, null, null, code, reason);
+    }
+}
@@ -0,0 +1,99 @@
+package com.aid.train.backend.websocket.protocol;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+import lombok.Getter;
+
+/**
+ * 시그널링 프레임 종류
+ *
+ * 바이너리 프레임에서는 {@link #code}, JSON 프레임에서는 {@link #wireName}으로 식별합니다.
+ */
+@Getter
+public enum SignalingOpcode {
+    // SDP / ICE
+    OFFER((byte) 0x01, "offer"),
+    ANSWER((byte) 0x02, "answer"),
+    ICE_CANDIDATE((byte) 0x03, "candidate"),
+    END_OF_CANDIDATES((byte) 0x04, "end-of-candidates"),
+
+    // 제어 프레임
+    CONNECTED((byte) 0x10, "connected"),
+    PING((byte) 0x11, "ping"),
+    PONG((byte) 0x12, "pong"),
+    BYE((byte) 0x13, "bye"),
+    ERROR((byte) 0x1F, "error");
+
+    private static final SignalingOpcode[] BY_CODE = new SignalingOpcode[0x20];
+
+    static {
+        for (SignalingOpcode opcode : values()) {
+            BY_CODE[opcode.code] = opcode;
+        }
+    }
+
+    private final byte code;
+    private final String wireName;
+
+    SignalingOpcode(byte code, String wireName) {
+        this.code = code;
+        this.wireName = wireName;
+    }
+
+    @JsonValue
+    public String getWireName() {
+        return wireName;
+    }
+
+    public boolean isControl() {
+        return code >= 0x10;
+    }
+
+    /**
+     * 클라이언트가 보내 같은 세션의 다른 참여자에게 전달할 수 있는 프레임인지 여부
+     * (CONNECTED / PONG / ERROR 는 서버만 보내므로 클라이언트가 보내도 전달하지 않음)
+     */
+    public boolean isRelayable() {
+        return this == OFFER || this == ANSWER || this == ICE_CANDIDATE || this == END_OF_CANDIDATES || this == BYE;
+    }
+
+    /**
+     * 송신 대기열에 같은 종류의 프레임이 이미 있으면 최신 것 하나로 합쳐도 되는지 여부
+     * (SDP는 최신 offer/answer만 의미가 있고, ICE candidate와 BYE는 하나도 빠지면 안 됨)
+     */
+    public boolean isCoalescable() {
+        return this == OFFER || this == ANSWER || this == PING || this == PONG || this == ERROR;
+    }
+
+    /**
+     * 바이너리 opcode 값으로 조회합니다.
+     *
+     * @param code opcode 바이트
+     * @return 대응하는 opcode
+     * @throws SignalingProtocolException 알 수 없는 opcode인 경우
+     */
+    public static SignalingOpcode fromCode(byte code) {
+        SignalingOpcode opcode = code >= 0 && code < BY_CODE.length ? BY_CODE[code] : null;
+        if (opcode == null) {
+            throw new SignalingProtocolException("알 수 없는 opcode: " + code);
+        }
+        return opcode;
+    }
+
+    /**
+     * JSON type 값으로 조회합니다.
+     *
+     * @param wireName JSON "type" 필드 값
+     * @return 대응하는 opcode
+     * @throws SignalingProtocolException 알 수 없는 type인 경우
+     */
+    @JsonCreator
+    public static SignalingOpcode fromWireName(String wireName) {
+        for (SignalingOpcode opcode : values()) {
+            if (opcode.wireName.equals(wireName)) {
+                return opcode;
+            }
+        }
+        throw new SignalingProtocolException("알 수 없는 type: " + wireName);
+    }
+}
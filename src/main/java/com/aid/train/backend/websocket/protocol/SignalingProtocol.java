@@ -0,0 +1,28 @@
+package com.aid.train.backend.websocket.protocol;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * WebSocket 서브프로토콜(Sec-WebSocket-Protocol)로 협상하는 시그널링 인코딩 방식
+ *
+ * 클라이언트가 서브프로토콜을 요청하지 않으면 JSON 텍스트 프레임으로 동작합니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum SignalingProtocol {
+    BINARY("train.signaling.v1.binary"),
+    JSON("train.signaling.v1.json");
+
+    private final String subProtocol;
+
+    /**
+     * 핸드셰이크에서 수락된 서브프로토콜로 인코딩 방식을 결정합니다.
+     *
+     * @param acceptedProtocol {@code WebSocketSession.getAcceptedProtocol()} 값 (null 가능)
+     * @return 협상된 방식, 협상되지 않았으면 JSON
+     */
+    public static SignalingProtocol fromSubProtocol(String acceptedProtocol) {
+        return BINARY.subProtocol.equals(acceptedProtocol) ? BINARY : JSON;
+    }
+}
@@ -0,0 +1,15 @@
+package com.aid.train.backend.websocket.protocol;
+
+/**
+ * 시그널링 프레임을 해석할 수 없을 때 발생하는 예외
+ */
+public class SignalingProtocolException extends RuntimeException {
+
+    public SignalingProtocolException(String message) {
+        super(message);
+    }
+
+    public SignalingProtocolException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,101 @@
+package com.aid.train.backend.websocket.ratelimit;
+
+import com.aid.train.backend.websocket.protocol.SignalingMessage;
+import com.aid.train.backend.websocket.protocol.SignalingOpcode;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 연결 하나의 수신 프레임 제한 상태
+ *
+ * 프레임을 디코딩하기 전에 연결별 버킷과 사용자별 버킷(같은 사용자의 연결끼리 공유)을 차례로 차감하고
+ * ({@link #admitFrame(long)}), 디코딩한 뒤 ICE candidate는 협상(OFFER / ANSWER) 단위로 중복과 개수를 확인합니다
+ * ({@link #admitMessage(SignalingMessage)}). 잘못된 프레임에 대한 ERROR 응답은 별도 버킷으로 제한합니다.
+ *
+ * candidate 상태는 프레임 수신 스레드에서만 접근합니다 (한 WebSocket 세션의 프레임은 순서대로 하나씩 전달됨).
+ */
+public class InboundRateLimit {
+
+    // 제한 비활성화 시 사용 (상태 없음)
+    public static final InboundRateLimit UNLIMITED = new InboundRateLimit(null, null, null, 0, () -> {
+    });
+
+    private final TokenBucket connectionBucket;
+    private final TokenBucket userBucket;
+    private final TokenBucket errorReplyBucket;
+    private final int maxCandidatesPerNegotiation;
+    private final Runnable onClose;
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    // 이번 협상에서 받은 ICE candidate (sdpMid / sdpMLineIndex / candidate)
+    private final Set<String> candidates = new HashSet<>();
+
+    InboundRateLimit(TokenBucket connectionBucket, TokenBucket userBucket, TokenBucket errorReplyBucket,
+                     int maxCandidatesPerNegotiation, Runnable onClose) {
+        this.connectionBucket = connectionBucket;
+        this.userBucket = userBucket;
+        this.errorReplyBucket = errorReplyBucket;
+        this.maxCandidatesPerNegotiation = maxCandidatesPerNegotiation;
+        this.onClose = onClose;
+    }
+
+    /**
+     * 수신 프레임 하나를 디코딩 전에 연결별 / 사용자별 버킷에서 차감합니다.
+     * 잘못된 프레임도 똑같이 차감되므로 디코딩 실패를 반복해 한도를 우회할 수 없습니다.
+     */
+    public RateLimitResult admitFrame(long nowNanos) {
+        if (connectionBucket == null) {
+            return RateLimitResult.ALLOWED;
+        }
+        if (!connectionBucket.tryAcquire(nowNanos)) {
+            return RateLimitResult.CONNECTION_LIMITED;
+        }
+        if (!userBucket.tryAcquire(nowNanos)) {
+            return RateLimitResult.USER_LIMITED;
+        }
+        return RateLimitResult.ALLOWED;
+    }
+
+    /**
+     * 디코딩한 메시지의 ICE candidate 중복 / 개수를 확인합니다. 프레임 수신 스레드에서만 호출합니다.
+     */
+    public RateLimitResult admitMessage(SignalingMessage message) {
+        if (connectionBucket == null) {
+            return RateLimitResult.ALLOWED;
+        }
+        switch (message.type()) {
+            case OFFER, ANSWER -> candidates.clear(); // 새 협상 시작
+            case ICE_CANDIDATE -> {
+                String key = message.sdpMid() + '/' + message.sdpMLineIndex() + '/' + message.candidate();
+                if (candidates.contains(key)) {
+                    return RateLimitResult.DUPLICATE_CANDIDATE;
+                }
+                if (candidates.size() >= maxCandidatesPerNegotiation) {
+                    return RateLimitResult.CANDIDATE_LIMIT;
+                }
+                candidates.add(key);
+            }
+            default -> {
+            }
+        }
+        return RateLimitResult.ALLOWED;
+    }
+
+    /**
+     * 잘못된 프레임에 ERROR 응답을 보낼 수 있는지 확인합니다. 한도를 넘으면 응답 없이 버립니다.
+     */
+    public boolean allowErrorReply(long nowNanos) {
+        return errorReplyBucket == null || errorReplyBucket.tryAcquire(nowNanos);
+    }
+
+    /**
+     * 연결 종료 시 사용자별 버킷 참조를 반환합니다. 여러 번 호출해도 한 번만 반영됩니다.
+     */
+    public void close() {
+        if (closed.compareAndSet(false, true)) {
+            onClose.run();
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.aid.train.backend.websocket.ratelimit;
+
+/**
+ * 수신 프레임 허용 여부
+ */
+public enum RateLimitResult {
+    ALLOWED,
+
+    // 연결별 토큰 버킷 초과
+    CONNECTION_LIMITED,
+
+    // 사용자별 토큰 버킷 초과 (같은 사용자의 모든 연결 합산)
+    USER_LIMITED,
+
+    // 이번 협상에서 이미 받은 ICE candidate와 동일
+    DUPLICATE_CANDIDATE,
+
+    // 협상 1회당 ICE candidate 수 초과
+    CANDIDATE_LIMIT;
+
+    public boolean isAllowed() {
+        return this == ALLOWED;
+    }
+}
@@ -0,0 +1,109 @@
+package com.aid.train.backend.websocket.ratelimit;
+
+import com.aid.train.backend.websocket.config.SignalingProperties;
+import com.aid.train.backend.websocket.metrics.SignalingMetrics;
+import com.aid.train.backend.websocket.protocol.SignalingMessage;
+import com.aid.train.backend.websocket.session.SignalingSessionContext;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 시그널링 수신 프레임 속도 제한
+ *
+ * 연결마다 {@link InboundRateLimit}을 하나 만들어 주고, 사용자별 버킷은 그 사용자의 연결이 남아 있는 동안만 보관합니다.
+ * 버킷은 프레임을 디코딩하기 전에 차감하므로 잘못된 프레임도 한도에 포함됩니다.
+ * 한도를 넘은 프레임은 처리하지 않고 버리며(shed) 사유별로 지표에 남깁니다.
+ */
+@Component
+public class SignalingRateLimiter {
+
+    private final SignalingMetrics metrics;
+    private final SignalingProperties.RateLimit config;
+
+    // userId → 버킷 + 열린 연결 수
+    private final ConcurrentMap<Long, UserBucket> users = new ConcurrentHashMap<>();
+
+    public SignalingRateLimiter(SignalingMetrics metrics, SignalingProperties properties) {
+        this.metrics = metrics;
+        this.config = properties.getRateLimit();
+    }
+
+    /**
+     * 새 연결의 제한 상태를 만듭니다. 연결 종료 시 {@link InboundRateLimit#close()}를 호출해야 합니다.
+     */
+    public InboundRateLimit open(SignalingSessionContext context) {
+        if (!config.isEnabled()) {
+            return InboundRateLimit.UNLIMITED;
+        }
+        long now = System.nanoTime();
+        Long userId = context.userId();
+        UserBucket user = users.compute(userId, (id, existing) -> {
+            UserBucket bucket = existing != null ? existing : new UserBucket(newBucket(config.getUser(), now));
+            bucket.connections++;
+            return bucket;
+        });
+        return new InboundRateLimit(
+                newBucket(config.getConnection(), now),
+                user.bucket,
+                newBucket(config.getErrorReply(), now),
+                config.getMaxCandidatesPerNegotiation(),
+                () -> users.computeIfPresent(userId, (id, bucket) -> --bucket.connections == 0 ? null : bucket));
+    }
+
+    /**
+     * 디코딩 전에 프레임 하나를 버킷에서 차감하고, 거절이면 지표에 기록합니다.
+     */
+    public RateLimitResult admitFrame(InboundRateLimit limit) {
+        return record(limit.admitFrame(System.nanoTime()));
+    }
+
+    /**
+     * 디코딩한 메시지의 ICE candidate 중복 / 개수를 확인하고, 거절이면 지표에 기록합니다.
+     */
+    public RateLimitResult admitMessage(InboundRateLimit limit, SignalingMessage message) {
+        return record(limit.admitMessage(message));
+    }
+
+    /**
+     * 디코딩에 실패했거나 전달할 수 없는 프레임을 기록하고, ERROR 응답을 보내도 되는지 반환합니다.
+     */
+    public boolean rejectMalformed(InboundRateLimit limit) {
+        metrics.rejectedMalformed();
+        return limit.allowErrorReply(System.nanoTime());
+    }
+
+    /**
+     * 사용자별 버킷을 보관 중인 사용자 수
+     */
+    public int trackedUsers() {
+        return users.size();
+    }
+
+    private RateLimitResult record(RateLimitResult result) {
+        switch (result) {
+            case CONNECTION_LIMITED -> metrics.rejectedConnectionLimit();
+            case USER_LIMITED -> metrics.rejectedUserLimit();
+            case DUPLICATE_CANDIDATE -> metrics.rejectedDuplicateCandidate();
+            case CANDIDATE_LIMIT -> metrics.rejectedCandidateLimit();
+            default -> {
+            }
+        }
+        return result;
+    }
+
+    private static TokenBucket newBucket(SignalingProperties.Bucket bucket, long now) {
+        return new TokenBucket(bucket.getRefillPerSecond(), bucket.getBurst(), now);
+    }
+
+    // connections는 ConcurrentMap.compute 안에서만 변경
+    private static final class UserBucket {
+        private final TokenBucket bucket;
+        private int connections;
+
+        private UserBucket(TokenBucket bucket) {
+            this.bucket = bucket;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.aid.train.backend.websocket.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 락 없는 토큰 버킷 (GCRA, Generic Cell Rate Algorithm)
+ *
+ * 남은 토큰 수와 마지막 충전 시각을 따로 두지 않고, "다음 요청이 이상적으로 도착해야 하는 시각"(TAT) 하나만
+ * {@link AtomicLong}에 저장합니다. 요청 하나가 TAT를 emission interval 만큼 미루고,
+ * 미뤄진 TAT가 현재 시각보다 burst 이상 앞서면 거절합니다. 상태가 long 하나라 CAS 한 번으로 갱신됩니다.
+ *
+ * <ul>
+ *     <li>refillPerSecond: 초당 충전되는 토큰 수 (지속 허용 속도)</li>
+ *     <li>burst: 쉬고 있던 버킷이 한 번에 허용하는 최대 요청 수</li>
+ * </ul>
+ * 시각은 {@link System#nanoTime()} 기준이며 호출자가 넘깁니다.
+ */
+public class TokenBucket {
+
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final AtomicLong theoreticalArrivalNanos;
+
+    public TokenBucket(double refillPerSecond, int burst, long nowNanos) {
+        if (refillPerSecond <= 0 || burst <= 0) {
+            throw new IllegalArgumentException("refillPerSecond, burst는 0보다 커야 합니다.");
+        }
+        this.emissionIntervalNanos = Math.max(1, (long) (1_000_000_000L / refillPerSecond));
+        this.burstToleranceNanos = emissionIntervalNanos * burst;
+        this.theoreticalArrivalNanos = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * 토큰 하나를 사용합니다.
+     *
+     * @return 허용되면 true, 한도를 넘었으면 false (상태는 바뀌지 않음)
+     */
+    public boolean tryAcquire(long nowNanos) {
+        while (true) {
+            long tat = theoreticalArrivalNanos.get();
+            long next = (tat - nowNanos > 0 ? tat : nowNanos) + emissionIntervalNanos;
+            if (next - nowNanos > burstToleranceNanos) {
+                return false;
+            }
+            if (theoreticalArrivalNanos.compareAndSet(tat, next)) {
+                return true;
+            }
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.aid.train.backend.websocket.session;
+
+/**
+ * 세션 송신 대기열이 가득 찼을 때의 처리 방식
+ */
+public enum OverflowPolicy {
+    // 가장 오래된 메시지를 버리고 새 메시지를 넣음
+    DROP_OLDEST,
+    // 같은 종류의 합칠 수 있는 메시지(SDP, ping/pong 등)가 있으면 그 자리에서 새 메시지로 대체, 없으면 DROP_OLDEST
+    COALESCE,
+    // 느린 클라이언트로 보고 연결을 끊음
+    CLOSE
+}
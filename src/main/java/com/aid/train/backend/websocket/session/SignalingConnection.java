@@ -0,0 +1,105 @@
+package com.aid.train.backend.websocket.session;
+
+import com.aid.train.backend.websocket.heartbeat.HashedTimingWheel;
+import com.aid.train.backend.websocket.protocol.SignalingMessage;
+import com.aid.train.backend.websocket.protocol.SignalingProtocol;
+import com.aid.train.backend.websocket.ratelimit.InboundRateLimit;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 시그널링 WebSocket 연결 하나
+ *
+ * 원본 {@link WebSocketSession}에 직접 sendMessage 하지 않고, 항상 {@link #send(SignalingMessage)}로
+ * 세션별 송신 대기열을 거쳐 전송합니다.
+ */
+@Getter
+public class SignalingConnection {
+
+    private final SignalingSessionContext context;
+    private final WebSocketSession session;
+    private final SignalingProtocol protocol;
+    private final SignalingOutboundQueue outbound;
+
+    // 수신 프레임 속도 제한 상태
+    private final InboundRateLimit inboundLimit;
+
+    // 마지막으로 클라이언트에게서 프레임(pong 포함)을 받은 시각 (System.nanoTime)
+    private volatile long lastActivityNanos = System.nanoTime();
+
+    // 유휴 감시 타이머 (연결 종료 시 취소)
+    @Setter
+    private volatile HashedTimingWheel.Timeout<SignalingConnection> heartbeatTimeout;
+
+    // release() 호출 여부 (정상 종료와 유휴 정리가 겹쳐도 한 번만 정리하기 위함)
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    public SignalingConnection(SignalingSessionContext context, WebSocketSession session, SignalingProtocol protocol,
+                               SignalingOutboundQueue outbound) {
+        this(context, session, protocol, outbound, InboundRateLimit.UNLIMITED);
+    }
+
+    public SignalingConnection(SignalingSessionContext context, WebSocketSession session, SignalingProtocol protocol,
+                               SignalingOutboundQueue outbound, InboundRateLimit inboundLimit) {
+        this.context = context;
+        this.session = session;
+        this.protocol = protocol;
+        this.outbound = outbound;
+        this.inboundLimit = inboundLimit;
+    }
+
+    /**
+     * 대화 세션 UUID (/ws/signaling/{sessionId})
+     */
+    public String getSessionId() {
+        return context.sessionId();
+    }
+
+    /**
+     * WebSocket 연결 자체의 ID (같은 sessionId에 여러 연결이 있을 수 있음)
+     */
+    public String getId() {
+        return session.getId();
+    }
+
+    /**
+     * 메시지를 송신 대기열에 넣습니다.
+     *
+     * @return 대기열에 들어갔으면 true
+     */
+    public boolean send(SignalingMessage message) {
+        return outbound.offer(message);
+    }
+
+    /**
+     * 클라이언트 활동을 기록합니다. 프레임마다 호출되므로 타이머는 건드리지 않고 시각만 갱신합니다.
+     */
+    public void touch() {
+        lastActivityNanos = System.nanoTime();
+    }
+
+    public boolean isReleased() {
+        return released.get();
+    }
+
+    /**
+     * 연결 종료 후 남은 송신 대기열, 유휴 감시 타이머, 사용자별 속도 제한 참조를 정리합니다.
+     *
+     * @return 이번 호출에서 정리했으면 true, 이미 정리된 연결이면 false
+     */
+    public boolean release() {
+        if (!released.compareAndSet(false, true)) {
+            return false;
+        }
+        outbound.close();
+        inboundLimit.close();
+        HashedTimingWheel.Timeout<SignalingConnection> timeout = heartbeatTimeout;
+        if (timeout != null) {
+            timeout.cancel();
+        }
+        return true;
+    }
+}
@@ -0,0 +1,54 @@
+package com.aid.train.backend.websocket.session;
+
+import com.aid.train.backend.websocket.config.SignalingProperties;
+import com.aid.train.backend.websocket.metrics.SignalingMetrics;
+import com.aid.train.backend.websocket.protocol.SignalingCodecs;
+import com.aid.train.backend.websocket.protocol.SignalingProtocol;
+import com.aid.train.backend.websocket.ratelimit.SignalingRateLimiter;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.concurrent.Executor;
+
+/**
+ * 협상 결과와 송신 설정으로 {@link SignalingConnection}을 만듭니다.
+ */
+@Component
+public class SignalingConnectionFactory {
+
+    private final SignalingCodecs codecs;
+    private final Executor outboundExecutor;
+    private final SignalingMetrics metrics;
+    private final SignalingRateLimiter rateLimiter;
+    private final SignalingSendWatchdog sendWatchdog;
+    private final SignalingProperties.Outbound outbound;
+
+    public SignalingConnectionFactory(SignalingCodecs codecs,
+                                      @Qualifier("signalingOutboundExecutor") Executor outboundExecutor,
+                                      SignalingMetrics metrics,
+                                      SignalingRateLimiter rateLimiter,
+                                      SignalingSendWatchdog sendWatchdog,
+                                      SignalingProperties properties) {
+        this.codecs = codecs;
+        this.outboundExecutor = outboundExecutor;
+        this.metrics = metrics;
+        this.rateLimiter = rateLimiter;
+        this.sendWatchdog = sendWatchdog;
+        this.outbound = properties.getOutbound();
+    }
+
+    public SignalingConnection create(SignalingSessionContext context, WebSocketSession session) {
+        SignalingProtocol protocol = SignalingProtocol.fromSubProtocol(session.getAcceptedProtocol());
+        SignalingOutboundQueue queue = new SignalingOutboundQueue(
+                session,
+                codecs.forProtocol(protocol),
+                outboundExecutor,
+                metrics,
+                outbound.getBufferSize(),
+                outbound.getSendTimeLimit().toNanos(),
+                outbound.getOverflowPolicy(),
+                sendWatchdog);
+        return new SignalingConnection(context, session, protocol, queue, rateLimiter.open(context));
+    }
+}
@@ -0,0 +1,323 @@
+package com.aid.train.backend.websocket.session;
+
+import com.aid.train.backend.websocket.heartbeat.HashedTimingWheel;
+import com.aid.train.backend.websocket.metrics.SignalingMetrics;
+import com.aid.train.backend.websocket.protocol.SignalingCodec;
+import com.aid.train.backend.websocket.protocol.SignalingMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.PingMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 세션별 송신 대기열
+ *
+ * 수신 스레드는 {@link #offer(SignalingMessage)}로 메시지를 넣기만 하고, 실제 전송은 송신 전용 Executor에서
+ * 세션당 최대 하나의 drain 작업이 순서대로 수행합니다. 느린 클라이언트가 있어도 다른 세션의 수신 스레드는 막히지 않습니다.
+ *
+ * <ul>
+ *     <li>대기열이 bufferSize에 도달하면 {@link OverflowPolicy}에 따라 처리합니다.</li>
+ *     <li>진행 중인 전송이 sendTimeLimit을 넘기면 {@link SignalingSendWatchdog}이 연결을 끊습니다
+ *     (감시가 없으면 다음 offer 또는 heartbeat 시점).</li>
+ *     <li>WebSocket ping은 대기열 자리를 차지하지 않고, 다음 drain 때 가장 먼저 한 번만 전송됩니다.</li>
+ * </ul>
+ */
+@Slf4j
+public class SignalingOutboundQueue {
+
+    private final WebSocketSession session;
+    private final SignalingCodec codec;
+    private final Executor executor;
+    private final SignalingMetrics metrics;
+    private final int capacity;
+    private final long sendTimeLimitNanos;
+    private final OverflowPolicy overflowPolicy;
+    private final SignalingSendWatchdog watchdog;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ArrayDeque<SignalingMessage> queue = new ArrayDeque<>();
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean pingRequested = new AtomicBoolean();
+
+    // 진행 중인 전송의 시작 시각 (System.nanoTime), 전송 중이 아니면 0
+    private volatile long sendStartedAt;
+    private volatile boolean closed;
+
+    // 진행 중인 drain 작업의 송신 정지 감시 타이머
+    private volatile HashedTimingWheel.Timeout<SignalingOutboundQueue> sendWatch;
+
+    public SignalingOutboundQueue(WebSocketSession session, SignalingCodec codec, Executor executor,
+                                  SignalingMetrics metrics, int capacity, long sendTimeLimitNanos,
+                                  OverflowPolicy overflowPolicy) {
+        this(session, codec, executor, metrics, capacity, sendTimeLimitNanos, overflowPolicy, null);
+    }
+
+    /**
+     * @param watchdog 송신 정지 감시, null 이면 offer / heartbeat 시점에만 확인
+     */
+    public SignalingOutboundQueue(WebSocketSession session, SignalingCodec codec, Executor executor,
+                                  SignalingMetrics metrics, int capacity, long sendTimeLimitNanos,
+                                  OverflowPolicy overflowPolicy, SignalingSendWatchdog watchdog) {
+        this.session = session;
+        this.codec = codec;
+        this.executor = executor;
+        this.metrics = metrics;
+        this.capacity = capacity;
+        this.sendTimeLimitNanos = sendTimeLimitNanos;
+        this.overflowPolicy = overflowPolicy;
+        this.watchdog = watchdog;
+    }
+
+    /**
+     * 메시지를 송신 대기열에 넣습니다. 호출 스레드에서 전송하지 않습니다.
+     *
+     * @return 대기열에 들어갔으면 true, 연결이 닫혔거나 닫히는 중이면 false
+     */
+    public boolean offer(SignalingMessage message) {
+        if (closed) {
+            return false;
+        }
+        if (isSendStalled(System.nanoTime())) {
+            metrics.closedOnSendTimeout();
+            closeSession(CloseStatus.SESSION_NOT_RELIABLE, "send time limit exceeded");
+            return false;
+        }
+
+        lock.lock();
+        try {
+            if (closed) {
+                return false;
+            }
+            if (queue.size() < capacity) {
+                queue.addLast(message);
+                metrics.enqueued(queue.size());
+            } else if (!makeRoom(message)) {
+                return false;
+            }
+        } finally {
+            lock.unlock();
+        }
+        scheduleDrain();
+        return true;
+    }
+
+    /**
+     * WebSocket ping 프레임 전송을 요청합니다. 아직 전송되지 않은 요청이 있으면 합쳐집니다.
+     */
+    public void requestPing() {
+        if (closed) {
+            return;
+        }
+        pingRequested.set(true);
+        scheduleDrain();
+    }
+
+    /**
+     * 진행 중인 전송이 sendTimeLimit을 넘겼는지 여부
+     */
+    public boolean isSendStalled(long nowNanos) {
+        long startedAt = sendStartedAt;
+        return startedAt != 0 && nowNanos - startedAt > sendTimeLimitNanos;
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return queue.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 대기 중인 메시지를 버리고 대기열을 닫습니다. 연결 종료 후 호출합니다.
+     */
+    public void close() {
+        lock.lock();
+        try {
+            closed = true;
+            metrics.dequeued(queue.size());
+            queue.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 송신 정지 감시 타이머가 만료되었을 때 호출됩니다 (SignalingSendWatchdog tick 스레드).
+     * 전송이 계속 진행 중이면 그 전송 기준으로 다시 감시합니다.
+     *
+     * @return 전송이 sendTimeLimit을 넘겨 대기열을 닫았으면 true (세션 종료는 {@link #closeStalledSession()})
+     */
+    boolean expireSendWatch(long nowNanos) {
+        if (closed || !draining.get()) {
+            return false;
+        }
+        long startedAt = sendStartedAt;
+        if (startedAt != 0 && nowNanos - startedAt > sendTimeLimitNanos) {
+            metrics.closedOnSendTimeout();
+            close();
+            return true;
+        }
+        long elapsed = startedAt != 0 ? nowNanos - startedAt : 0;
+        sendWatch = watchdog.watch(this, sendTimeLimitNanos - elapsed + 1, nowNanos);
+        return false;
+    }
+
+    void closeStalledSession() {
+        closeSession(CloseStatus.SESSION_NOT_RELIABLE, "send time limit exceeded");
+    }
+
+    // lock 보유 상태에서 호출. 새 메시지를 대기열에 반영했으면 true
+    private boolean makeRoom(SignalingMessage message) {
+        switch (overflowPolicy) {
+            case CLOSE -> {
+                metrics.closedOnOverflow();
+                // lock 밖에서 닫아도 되지만, 이후 offer를 즉시 막기 위해 먼저 closed 처리
+                closed = true;
+                executor.execute(() -> closeSession(CloseStatus.SESSION_NOT_RELIABLE, "outbound buffer overflow"));
+                return false;
+            }
+            case COALESCE -> {
+                if (message.type().isCoalescable() && replaceLastOfType(message)) {
+                    metrics.coalesced();
+                    return true;
+                }
+                dropOldest();
+                appendLast(message);
+                return true;
+            }
+            default -> {
+                dropOldest();
+                appendLast(message);
+                return true;
+            }
+        }
+    }
+
+    // 같은 종류의 마지막 메시지를 그 자리에서 새 메시지로 바꿈 (사이에 들어온 메시지와의 순서 유지)
+    private boolean replaceLastOfType(SignalingMessage message) {
+        int index = -1;
+        int i = 0;
+        for (SignalingMessage queued : queue) {
+            if (queued.type() == message.type()) {
+                index = i;
+            }
+            i++;
+        }
+        if (index < 0) {
+            return false;
+        }
+        // ArrayDeque는 위치 지정 교체가 없으므로 앞쪽 메시지를 잠시 꺼냈다가 되돌림 (가득 찬 경우에만 수행)
+        SignalingMessage[] head = new SignalingMessage[index];
+        for (int j = 0; j < index; j++) {
+            head[j] = queue.pollFirst();
+        }
+        queue.pollFirst();
+        queue.addFirst(message);
+        for (int j = index - 1; j >= 0; j--) {
+            queue.addFirst(head[j]);
+        }
+        return true;
+    }
+
+    private void appendLast(SignalingMessage message) {
+        queue.addLast(message);
+        metrics.enqueued(queue.size());
+    }
+
+    private void dropOldest() {
+        queue.pollFirst();
+        metrics.dequeued(1);
+        metrics.droppedOldest();
+    }
+
+    private void scheduleDrain() {
+        if (draining.compareAndSet(false, true)) {
+            try {
+                executor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                draining.set(false);
+                log.warn("송신 작업 등록 실패 - wsId={}", session.getId(), e);
+            }
+        }
+    }
+
+    private void drain() {
+        if (watchdog != null) {
+            sendWatch = watchdog.watch(this, sendTimeLimitNanos + 1, System.nanoTime());
+        }
+        try {
+            while (!closed) {
+                if (pingRequested.compareAndSet(true, false)) {
+                    transmit(new PingMessage());
+                    continue;
+                }
+                SignalingMessage next = poll();
+                if (next == null) {
+                    break;
+                }
+                WebSocketMessage<?> frame = codec.encode(next);
+                try {
+                    transmit(frame);
+                } finally {
+                    codec.release(frame);
+                }
+            }
+        } finally {
+            HashedTimingWheel.Timeout<SignalingOutboundQueue> watch = sendWatch;
+            if (watch != null) {
+                watch.cancel();
+            }
+            draining.set(false);
+        }
+        // drain 종료 직전에 들어온 메시지나 ping 요청이 남아 있을 수 있음
+        if (!closed && (pingRequested.get() || size() > 0)) {
+            scheduleDrain();
+        }
+    }
+
+    private SignalingMessage poll() {
+        lock.lock();
+        try {
+            SignalingMessage message = queue.pollFirst();
+            if (message != null) {
+                metrics.dequeued(1);
+            }
+            return message;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void transmit(WebSocketMessage<?> frame) {
+        sendStartedAt = System.nanoTime();
+        try {
+            session.sendMessage(frame);
+            metrics.sent();
+        } catch (IOException | IllegalStateException e) {
+            log.debug("메시지 전송 실패 - wsId={}, reason={}", session.getId(), e.getMessage());
+            metrics.sendFailed();
+            closeSession(CloseStatus.SESSION_NOT_RELIABLE, "send failed");
+        } finally {
+            sendStartedAt = 0;
+        }
+    }
+
+    private void closeSession(CloseStatus status, String reason) {
+        close();
+        try {
+            session.close(status.withReason(reason));
+        } catch (IOException e) {
+            log.debug("WebSocket 종료 실패 - wsId={}", session.getId(), e);
+        }
+    }
+}
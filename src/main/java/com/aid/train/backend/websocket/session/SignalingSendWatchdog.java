@@ -0,0 +1,98 @@
+package com.aid.train.backend.websocket.session;
+
+import com.aid.train.backend.websocket.config.SignalingProperties;
+import com.aid.train.backend.websocket.heartbeat.HashedTimingWheel;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 송신 정지 감시
+ *
+ * drain 작업이 시작되면 송신 대기열을 {@link HashedTimingWheel}에 sendTimeLimit 뒤로 등록합니다.
+ * 만료 시점에도 같은 전송이 끝나지 않았으면 다음 offer 나 heartbeat 를 기다리지 않고 연결을 끊습니다.
+ * 세션 종료(close frame 전송)도 막힐 수 있으므로 tick 스레드나 송신 Executor 가 아닌 별도 가상 스레드에서 실행합니다.
+ */
+@Slf4j
+@Component
+public class SignalingSendWatchdog implements SmartLifecycle {
+
+    private final long tickNanos;
+    private final HashedTimingWheel<SignalingOutboundQueue> wheel;
+    private final ExecutorService closer = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("signaling-send-stall-", 0).factory());
+
+    // 현재 처리 중인 tick 시각 (tick 스레드 전용)
+    private long now;
+
+    private ScheduledExecutorService ticker;
+
+    public SignalingSendWatchdog(SignalingProperties properties) {
+        this.tickNanos = properties.getHeartbeat().getTick().toNanos();
+        this.wheel = new HashedTimingWheel<>(tickNanos, properties.getHeartbeat().getWheelSize(), System.nanoTime(),
+                this::onExpired);
+    }
+
+    /**
+     * delayNanos 뒤에 대기열의 전송이 멈췄는지 확인합니다.
+     */
+    HashedTimingWheel.Timeout<SignalingOutboundQueue> watch(SignalingOutboundQueue queue, long delayNanos,
+                                                             long nowNanos) {
+        return wheel.schedule(queue, delayNanos, nowNanos);
+    }
+
+    /**
+     * nowNanos 시점까지 만료된 감시를 처리합니다 (tick 스레드 전용).
+     */
+    void advance(long nowNanos) {
+        now = nowNanos;
+        wheel.advance(nowNanos);
+    }
+
+    private void onExpired(HashedTimingWheel.Timeout<SignalingOutboundQueue> timeout) {
+        SignalingOutboundQueue queue = timeout.target();
+        if (queue.expireSendWatch(now)) {
+            closer.execute(queue::closeStalledSession);
+        }
+    }
+
+    @Override
+    public synchronized void start() {
+        if (ticker != null) {
+            return;
+        }
+        ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "signaling-send-watchdog");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleAtFixedRate(this::tick, tickNanos, tickNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private void tick() {
+        try {
+            advance(System.nanoTime());
+        } catch (RuntimeException e) {
+            // 예외로 주기 작업이 중단되지 않도록 기록만 함
+            log.error("송신 정지 감시 tick 처리 실패", e);
+        }
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (ticker != null) {
+            ticker.shutdownNow();
+            ticker = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return ticker != null;
+    }
+}
@@ -0,0 +1,50 @@
+package com.aid.train.backend.websocket.session;
+
+import com.aid.train.backend.domain.scenario.entity.Scenario;
+import com.aid.train.backend.domain.session.entity.DialogueSession;
+import org.springframework.web.socket.WebSocketSession;
+
+/**
+ * 핸드셰이크 시점에 한 번 확인한 대화 세션 정보
+ *
+ * WebSocket 세션 속성에 저장되며, 이후 프레임 처리에서는 URI 파싱이나 DB 조회 없이 이 값만 사용합니다.
+ *
+ * @param sessionId         대화 세션 UUID (/ws/signaling/{sessionId})
+ * @param dialogueSessionId dialogue_sessions PK
+ * @param userId            세션 소유 사용자 ID
+ * @param scenarioId        시나리오 ID
+ * @param voice             AI 음성
+ * @param difficulty        난이도
+ * @param locale            시나리오 지역
+ */
+public record SignalingSessionContext(
+        String sessionId,
+        Long dialogueSessionId,
+        Long userId,
+        Long scenarioId,
+        Scenario.Voice voice,
+        Scenario.Difficulty difficulty,
+        String locale
+) {
+
+    public static final String ATTRIBUTE = SignalingSessionContext.class.getName();
+
+    /**
+     * User, Scenario가 함께 조회된 세션으로 컨텍스트를 만듭니다.
+     */
+    public static SignalingSessionContext of(DialogueSession session) {
+        Scenario scenario = session.getScenario();
+        return new SignalingSessionContext(
+                session.getSessionId(),
+                session.getId(),
+                session.getUser().getId(),
+                scenario.getId(),
+                scenario.getVoice(),
+                scenario.getDifficulty(),
+                scenario.getLocale());
+    }
+
+    public static SignalingSessionContext from(WebSocketSession session) {
+        return (SignalingSessionContext) session.getAttributes().get(ATTRIBUTE);
+    }
+}
@@ -0,0 +1,71 @@
+package com.aid.train.backend.domain.feedback.parser;
+
+import com.aid.train.backend.domain.feedback.entity.FeedbackImprovement;
+import com.aid.train.backend.domain.feedback.entity.FeedbackScores;
+import com.aid.train.backend.domain.feedback.enums.ScoreDimension;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * AI 피드백 JSON 파싱 테스트
+ */
+class FeedbackParserTest {
+
+    private final FeedbackParser parser = new FeedbackParser(new ObjectMapper());
+
+    @Test
+    @DisplayName("점수 객체를 항목별 컬럼 값으로 나누고, 범위를 벗어난 값은 0 ~ 100으로 맞춘다")
+    void parseScoreObject() {
+        // when
+        FeedbackScores scores = parser.parseScores(
+                "{\"scores\": {\"clarity\": 80, \"Fluency\": \"75\", \"logic\": 79.6, \"empathy\": 120, \"unknown\": 1, \"total\": 82}}");
+
+        // then
+        assertEquals(80, scores.get(ScoreDimension.CLARITY));
+        assertEquals(75, scores.get(ScoreDimension.FLUENCY));
+        assertEquals(80, scores.get(ScoreDimension.LOGIC));
+        assertEquals(100, scores.get(ScoreDimension.EMPATHY));
+        assertNull(scores.get(ScoreDimension.ATTITUDE));
+        assertEquals(82, scores.getTotal());
+    }
+
+    @Test
+    @DisplayName("점수 배열도 받고, 종합 점수가 없으면 있는 항목의 평균으로 채운다")
+    void parseScoreArrayWithoutTotal() {
+        // when
+        FeedbackScores scores = parser.parseScores(
+                "[{\"dimension\": \"clarity\", \"score\": 70}, {\"name\": \"attitude\", \"value\": 91}]");
+
+        // then
+        assertEquals(70, scores.get(ScoreDimension.CLARITY));
+        assertEquals(91, scores.get(ScoreDimension.ATTITUDE));
+        assertEquals(81, scores.getTotal());
+        assertTrue(parser.parseScores(null).isEmpty());
+    }
+
+    @Test
+    @DisplayName("개선점은 문자열 / 객체를 모두 받아 순서대로 만들고, 빈 항목은 건너뛴다")
+    void parseImprovements() {
+        // when
+        List<FeedbackImprovement> improvements = parser.parseImprovements(
+                "[\"결론을 먼저 말해 보세요.\", {\"dimension\": \"logic\", \"text\": \"대안을 두 가지 제시하세요.\"}, \" \"]");
+
+        // then
+        assertEquals(2, improvements.size());
+        assertEquals("결론을 먼저 말해 보세요.", improvements.get(0).getContent());
+        assertNull(improvements.get(0).getDimension());
+        assertEquals(1, improvements.get(1).getPosition());
+        assertEquals(ScoreDimension.LOGIC, improvements.get(1).getDimension());
+    }
+
+    @Test
+    @DisplayName("JSON 형식이 아니면 IllegalArgumentException")
+    void malformed() {
+        assertThrows(IllegalArgumentException.class, () -> parser.parseScores("{clarity: "));
+    }
+}
@@ -0,0 +1,44 @@
+package com.aid.train.backend.domain.history.enums;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RollupGranularityTest {
+
+    @Test
+    @DisplayName("구간 시작일은 날짜 / 그 주 월요일 / 그 달 1일이다")
+    void bucketStart() {
+        // given (2025-10-08 수요일)
+        LocalDate date = LocalDate.of(2025, 10, 8);
+
+        // when & then
+        assertEquals(date, RollupGranularity.DAY.bucketStart(date));
+        assertEquals(LocalDate.of(2025, 10, 6), RollupGranularity.WEEK.bucketStart(date));
+        assertEquals(LocalDate.of(2025, 10, 1), RollupGranularity.MONTH.bucketStart(date));
+        // 월요일과 일요일
+        assertEquals(LocalDate.of(2025, 10, 6), RollupGranularity.WEEK.bucketStart(LocalDate.of(2025, 10, 6)));
+        assertEquals(LocalDate.of(2025, 10, 6), RollupGranularity.WEEK.bucketStart(LocalDate.of(2025, 10, 12)));
+    }
+
+    @Test
+    @DisplayName("기본 조회 시작일과 구간 수는 종료일이 속한 구간을 포함한다")
+    void startOfLastAndBucketsBetween() {
+        // given
+        LocalDate to = LocalDate.of(2025, 10, 8);
+
+        // when
+        LocalDate weekStart = RollupGranularity.WEEK.startOfLast(26, to);
+        LocalDate monthStart = RollupGranularity.MONTH.startOfLast(24, to);
+
+        // then
+        assertEquals(LocalDate.of(2025, 4, 14), weekStart);
+        assertEquals(26, RollupGranularity.WEEK.bucketsBetween(weekStart, to));
+        assertEquals(LocalDate.of(2023, 11, 1), monthStart);
+        assertEquals(24, RollupGranularity.MONTH.bucketsBetween(monthStart, to));
+        assertEquals(1, RollupGranularity.DAY.bucketsBetween(to, to));
+    }
+}
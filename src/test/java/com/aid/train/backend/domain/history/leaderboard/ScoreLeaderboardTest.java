@@ -0,0 +1,68 @@
+package com.aid.train.backend.domain.history.leaderboard;
+
+import com.aid.train.backend.domain.history.dto.response.LeaderboardEntry;
+import com.aid.train.backend.domain.history.dto.response.LeaderboardRank;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScoreLeaderboardTest {
+
+    private ScoreLeaderboard leaderboard;
+
+    @BeforeEach
+    void setUp() {
+        leaderboard = new ScoreLeaderboard();
+        leaderboard.offer(1L, 70);
+        leaderboard.offer(2L, 90);
+        leaderboard.offer(3L, 80);
+        leaderboard.offer(4L, 80);
+    }
+
+    @Test
+    @DisplayName("같은 점수는 같은 순위이고 사용자 id 순으로 나열된다")
+    void topWithTies() {
+        // when
+        List<LeaderboardEntry> top = leaderboard.top(3);
+
+        // then
+        assertEquals(List.of(
+                new LeaderboardEntry(1, 2L, 90),
+                new LeaderboardEntry(2, 3L, 80),
+                new LeaderboardEntry(2, 4L, 80)), top);
+    }
+
+    @Test
+    @DisplayName("최고 점수만 반영되고 순위와 상위 비율이 갱신된다")
+    void offerKeepsBestScore() {
+        // when
+        boolean lowered = leaderboard.offer(2L, 50);
+        boolean raised = leaderboard.offer(1L, 95);
+
+        // then
+        assertFalse(lowered);
+        assertTrue(raised);
+        assertEquals(new LeaderboardRank(1L, 95, 1, 4, 25.0), leaderboard.rank(1L));
+        assertEquals(new LeaderboardRank(2L, 90, 2, 4, 50.0), leaderboard.rank(2L));
+        assertEquals(4, leaderboard.size());
+        assertNull(leaderboard.rank(99L));
+    }
+
+    @Test
+    @DisplayName("범위를 벗어난 점수는 0 ~ 100으로 맞춘다")
+    void clampsScore() {
+        // when
+        leaderboard.offer(5L, 150);
+        leaderboard.offer(6L, -10);
+
+        // then
+        assertEquals(100, leaderboard.rank(5L).score());
+        assertEquals(1, leaderboard.rank(5L).rank());
+        assertEquals(0, leaderboard.rank(6L).score());
+        assertEquals(6, leaderboard.rank(6L).rank());
+    }
+}
@@ -0,0 +1,93 @@
+package com.aid.train.backend.domain.scenario.search;
+
+import com.aid.train.backend.domain.scenario.dto.response.ScenarioSearchHit;
+import com.aid.train.backend.domain.scenario.entity.Scenario;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 시나리오 검색 색인 테스트
+ */
+class ScenarioSearchIndexTest {
+
+    private ScenarioSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ScenarioSearchIndex();
+        index.replaceAll(List.of(
+                scenario(1L, "상사에게 일정 지연 보고", "프로젝트 일정이 3일 지연된 상황에서 보고하는 연습", "원인, 영향, 대안 순서로 보고"),
+                scenario(2L, "친구에게 약속 시간 변경 요청", "약속 시간을 예의 있게 바꾸는 연습", "짧게 사과하고 대안 제시"),
+                scenario(3L, "부모님과 하루 나눔 대화", "저녁 식탁에서 하루 일정을 공유하는 연습", "공감 먼저")));
+    }
+
+    @Test
+    @DisplayName("조사가 붙은 단어도 bigram으로 찾고, 제목에 나온 시나리오가 먼저 나온다")
+    void rankByField() {
+        // when
+        List<ScenarioSearchHit> hits = index.search("일정", 10);
+
+        // then
+        assertEquals(List.of(1L, 3L), ids(hits));
+        assertTrue(hits.get(0).score() > hits.get(1).score());
+    }
+
+    @Test
+    @DisplayName("입력 중인 마지막 자음은 무시하고, 한 글자 검색은 글자 단위로 찾는다")
+    void searchAsYouType() {
+        // when & then
+        assertEquals(List.of(2L), ids(index.search("약속ㅅ", 10)));
+        assertEquals(List.of(2L), ids(index.search("친", 10)));
+        assertTrue(index.search("ㅅ", 10).isEmpty());
+        assertTrue(index.search("  ", 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("수정하면 기존 토큰이 빠지고, 삭제하면 검색되지 않는다")
+    void putAndRemove() {
+        // when
+        index.put(scenario(2L, "면접 자기소개", "면접 연습", "간결하게"));
+
+        // then
+        assertTrue(index.search("약속", 10).isEmpty());
+        assertEquals(List.of(2L), ids(index.search("면접", 10)));
+
+        index.remove(2L);
+        assertTrue(index.search("면접", 10).isEmpty());
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    @DisplayName("limit 개까지만 점수순으로 돌려준다")
+    void topK() {
+        // when
+        List<ScenarioSearchHit> hits = index.search("연습", 2);
+
+        // then
+        assertEquals(2, hits.size());
+        assertTrue(hits.get(0).score() >= hits.get(1).score());
+    }
+
+    private static List<Long> ids(List<ScenarioSearchHit> hits) {
+        return hits.stream().map(hit -> hit.scenario().id()).toList();
+    }
+
+    private static Scenario scenario(Long id, String title, String description, String prompt) {
+        return Scenario.builder()
+                .id(id)
+                .title(title)
+                .description(description)
+                .prompt(prompt)
+                .voice(Scenario.Voice.NOVA)
+                .difficulty(Scenario.Difficulty.EASY)
+                .category(Scenario.Category.WORK)
+                .locale("ko-KR")
+                .status(Scenario.Status.PUBLISHED)
+                .build();
+    }
+}
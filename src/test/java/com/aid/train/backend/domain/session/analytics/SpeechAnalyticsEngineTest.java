@@ -0,0 +1,79 @@
+package com.aid.train.backend.domain.session.analytics;
+
+import com.aid.train.backend.domain.session.enums.Speaker;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 세션 발화 분석기 테스트
+ */
+class SpeechAnalyticsEngineTest {
+
+    private final SpeechAnalyticsEngine engine = new SpeechAnalyticsEngine(2_000, 0.7f);
+
+    @Test
+    @DisplayName("음절 수는 완성형 / 조합형 한글, 숫자, 영어 단어를 발음 기준으로 센다")
+    void syllableCount() {
+        assertEquals(5, KoreanTextMetrics.syllableCount("안녕하세요!"));
+        assertEquals(2, KoreanTextMetrics.syllableCount("\u1112\u1161\u11AB\u1100\u1173\u11AF")); // 한글 (NFD)
+        assertEquals(2, KoreanTextMetrics.syllableCount("10"));
+        assertEquals(3, KoreanTextMetrics.syllableCount("OK meeting"));
+        assertEquals(0, KoreanTextMetrics.syllableCount(" ,.?"));
+        assertEquals("가 나\t다\n".replaceAll("\\s", "").length(), KoreanTextMetrics.nonWhitespaceLength("가 나\t다\n"));
+    }
+
+    @Test
+    @DisplayName("한 번의 순회로 발화 속도, 턴 전환 지연, 침묵, 겹침, 신뢰도를 계산한다")
+    void analyze() {
+        // given
+        SessionTimeline timeline = new SessionTimeline(2);
+        timeline.add(Speaker.USER, "안녕하세요", 0L, 1_000L, 0.9f);
+        timeline.add(Speaker.AI, "네 반가워요", 1_500L, 3_000L, 0.6f);     // AI 응답 지연 500
+        timeline.add(Speaker.USER, "오늘은", 2_800L, 3_500L, null);         // 겹침 200, 사용자 응답 없음
+        timeline.add(Speaker.USER, "회의가 있어요", 6_000L, 7_000L, 0.8f);   // 사용자 침묵 2500
+        timeline.add(Speaker.AI, "알겠어요", 8_000L, 9_000L, 0.5f);         // AI 응답 지연 1000
+        timeline.add(Speaker.USER, "시간 없음", null, null, 0.95f);          // 시간 정보 없음
+
+        // when
+        SpeechAnalytics analytics = engine.analyze(timeline);
+
+        // then
+        assertEquals(4, analytics.user().count());
+        assertEquals(2, analytics.ai().count());
+        assertEquals(2_700, analytics.user().speakingTimeMs());
+        // 길이가 있는 사용자 발화 14음절 / 2.7초
+        assertEquals(14 * 60_000.0 / 2_700, analytics.user().syllablesPerMinute(), 1e-9);
+
+        assertEquals(2, analytics.aiResponseLatency().count());
+        assertEquals(750.0, analytics.aiResponseLatency().averageMs());
+        assertEquals(1_000, analytics.aiResponseLatency().maxMs());
+        assertEquals(0, analytics.userResponseLatency().count());
+        assertEquals(1, analytics.pauses().count());
+        assertEquals(2_500, analytics.pauses().totalMs());
+        assertEquals(1, analytics.overlaps().count());
+        assertEquals(200, analytics.overlaps().totalMs());
+
+        assertEquals(5, analytics.confidence().count());
+        assertEquals(2, analytics.confidence().lowCount());
+        assertEquals(0.5f, analytics.confidence().min());
+    }
+
+    @Test
+    @DisplayName("발화가 시작 시각순으로 들어오지 않아도 시간 순서로 계산한다")
+    void analyzeUnordered() {
+        // given
+        SessionTimeline timeline = new SessionTimeline();
+        timeline.add(Speaker.AI, "응답", 1_300L, 2_000L, null);
+        timeline.add(Speaker.USER, "질문", 0L, 1_000L, null);
+
+        // when
+        SpeechAnalytics analytics = engine.analyze(timeline);
+
+        // then
+        assertEquals(1, analytics.aiResponseLatency().count());
+        assertEquals(300, analytics.aiResponseLatency().totalMs());
+        assertEquals(0, analytics.overlaps().count());
+    }
+}
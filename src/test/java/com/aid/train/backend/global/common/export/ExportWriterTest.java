@@ -0,0 +1,42 @@
+package com.aid.train.backend.global.common.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 내보내기 writer 테스트
+ */
+class ExportWriterTest {
+
+    @Test
+    @DisplayName("CSV 문자열 값이 수식 문자로 시작하면 ' 를 붙이고, 숫자는 그대로 쓴다")
+    void csvFormulaInjection() throws IOException {
+        // given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ExportWriter<List<Object>> writer = ExportWriter.of(ExportFormat.CSV, out, new ObjectMapper(), null,
+                List.of("content", "score"), row -> row);
+
+        // when
+        writer.write(List.of("=HYPERLINK(\"http://x\",\"y\")", -5));
+        writer.write(List.of("@SUM(A1)", 3));
+        writer.write(List.of("-1+2", 0));
+        writer.write(List.of("안녕하세요, 반갑습니다", 7));
+        writer.finish();
+
+        // then
+        assertEquals("content,score\r\n"
+                + "\"'=HYPERLINK(\"\"http://x\"\",\"\"y\"\")\",-5\r\n"
+                + "'@SUM(A1),3\r\n"
+                + "'-1+2,0\r\n"
+                + "\"안녕하세요, 반갑습니다\",7\r\n", out.toString(StandardCharsets.UTF_8));
+        assertEquals(4, writer.rowCount());
+    }
+}
@@ -0,0 +1,56 @@
+package com.aid.train.backend.global.common.pagination;
+
+import com.aid.train.backend.global.exception.InvalidCursorException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 키셋 커서 인코딩 / 디코딩 테스트
+ */
+class KeysetCursorTest {
+
+    @Test
+    @DisplayName("인코딩한 커서는 같은 값으로 디코딩되고, 비어 있으면 첫 페이지(null)다")
+    void roundTrip() {
+        // given
+        KeysetCursor cursor = new KeysetCursor(LocalDateTime.of(2025, 10, 8, 12, 0, 0, 123_000_000), 42L);
+
+        // when & then
+        assertEquals(cursor, KeysetCursor.decode(cursor.encode()));
+        assertNull(KeysetCursor.decode(null));
+        assertNull(KeysetCursor.decode(" "));
+    }
+
+    @Test
+    @DisplayName("변조된 커서는 400으로 응답할 InvalidCursorException을 던진다")
+    void tamperedCursor() {
+        // given
+        String wrongVersion = Base64.getUrlEncoder().encodeToString("v0:1:0:1".getBytes(StandardCharsets.US_ASCII));
+        String notNumber = Base64.getUrlEncoder().encodeToString("v1:x:0:1".getBytes(StandardCharsets.US_ASCII));
+
+        // when & then
+        assertThrows(InvalidCursorException.class, () -> KeysetCursor.decode("%%%"));
+        assertThrows(InvalidCursorException.class, () -> KeysetCursor.decode(wrongVersion));
+        assertThrows(InvalidCursorException.class, () -> KeysetCursor.decode(notNumber));
+    }
+
+    @Test
+    @DisplayName("조회 조건을 담은 커서는 같은 조건에서만 디코딩되고, 다른 조건이면 거절한다")
+    void scopedCursor() {
+        // given
+        String token = new KeysetCursor(LocalDateTime.of(2025, 10, 8, 12, 0), 7L, "NEWEST.1a2b").encode();
+        String unscoped = new KeysetCursor(LocalDateTime.of(2025, 10, 8, 12, 0), 7L).encode();
+
+        // when & then
+        assertEquals(Long.valueOf(7L), KeysetCursor.decode(token, "NEWEST.1a2b").id());
+        assertThrows(InvalidCursorException.class, () -> KeysetCursor.decode(token, "OLDEST.1a2b"));
+        assertThrows(InvalidCursorException.class, () -> KeysetCursor.decode(token));
+        assertThrows(InvalidCursorException.class, () -> KeysetCursor.decode(unscoped, "NEWEST.1a2b"));
+    }
+}
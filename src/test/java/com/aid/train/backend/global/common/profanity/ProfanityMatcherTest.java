@@ -0,0 +1,71 @@
+package com.aid.train.backend.global.common.profanity;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 비속어 Aho-Corasick 검사 테스트
+ */
+class ProfanityMatcherTest {
+
+    private final ProfanityMatcher matcher = ProfanityMatcher.compile(
+            List.of("시발", "병신", "개새끼", "새끼손", "shit"),
+            List.of("시발점"));
+
+    @Test
+    @DisplayName("여러 단어를 한 번에 찾고 원문 위치를 돌려준다")
+    void findAllWithPositions() {
+        // when
+        List<ProfanityMatch> matches = matcher.findAll("야 이 병신아, 시발 진짜");
+
+        // then
+        assertEquals(2, matches.size());
+        assertEquals(new ProfanityMatch("병신", 4, 6), matches.get(0));
+        assertEquals(new ProfanityMatch("시발", 9, 11), matches.get(1));
+    }
+
+    @Test
+    @DisplayName("자모 분리, 띄어쓰기, 문장 부호, 소리 없는 ㅇ, 조합형 한글 우회를 찾는다")
+    void normalizedEvasions() {
+        // when & then
+        assertEquals("시발", matcher.findAll("ㅅㅣㅂㅏㄹ").get(0).word());
+        assertEquals("시발", matcher.findAll("시 . 발").get(0).word());
+        assertEquals("시발", matcher.findAll("십알").get(0).word());
+        assertEquals("병신", matcher.findAll("병1신").get(0).word());
+        assertEquals("병신", matcher.findAll("병신").get(0).word());
+        assertEquals("shit", matcher.findAll("S H I T").get(0).word());
+    }
+
+    @Test
+    @DisplayName("겹치는 단어는 모두 찾고, 허용 단어에 포함된 비속어는 제외한다")
+    void overlapsAndAllowList() {
+        // when
+        List<ProfanityMatch> overlapping = matcher.findAll("개새끼손");
+
+        // then
+        assertEquals(List.of("개새끼", "새끼손"), overlapping.stream().map(ProfanityMatch::word).toList());
+        assertTrue(matcher.findAll("오늘이 프로젝트의 시발점이다").isEmpty());
+        assertFalse(matcher.findAll("시발점 말고 시발").isEmpty());
+        assertFalse(matcher.containsAny("안녕하세요 반갑습니다"));
+        assertFalse(ProfanityMatcher.empty().containsAny("시발"));
+    }
+
+    @Test
+    @DisplayName("두 음절 이상인 단어 사이의 띄어쓰기는 건너뛰지 않아 단어 경계를 넘는 일치를 만들지 않는다")
+    void wordBoundaries() {
+        // given
+        ProfanityMatcher boundaryMatcher = ProfanityMatcher.compile(List.of("시발", "시바", "시팔", "병신"), List.of());
+
+        // when & then
+        assertTrue(boundaryMatcher.findAll("회의 시 발표 자료").isEmpty());
+        assertTrue(boundaryMatcher.findAll("다시 발생하지 않도록").isEmpty());
+        assertTrue(boundaryMatcher.findAll("질병 신고").isEmpty());
+        assertTrue(boundaryMatcher.findAll("다시 바꿔 주세요").isEmpty());
+        assertTrue(boundaryMatcher.findAll("요청 시 팔로우업").isEmpty());
+        assertEquals(List.of(new ProfanityMatch("시바", 3, 8), new ProfanityMatch("시발", 3, 8)), boundaryMatcher.findAll("회의 시 . 발 자료"));
+    }
+}
@@ -1,11 +1,13 @@
 package com.aid.train.backend.repository;
 
 import com.aid.train.backend.domain.scenario.entity.Scenario;
+import com.aid.train.backend.domain.session.dto.response.SessionSummary;
 import com.aid.train.backend.domain.session.entity.DialogueSession;
 import com.aid.train.backend.domain.user.entity.User;
 import com.aid.train.backend.domain.user.enums.Provider;
 import com.aid.train.backend.domain.session.enums.SessionStatus;
 import com.aid.train.backend.domain.user.enums.UserStatus;
+import com.aid.train.backend.global.common.pagination.KeysetPage;
 import com.aid.train.backend.repository.scenario.ScenarioRepository;
 import com.aid.train.backend.repository.session.DialogueSessionRepository;
 import com.aid.train.backend.repository.user.UserRepository;
@@ -23,6 +25,8 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 
@@ -388,4 +392,86 @@ class DialogueSessionRepositoryTest {
         assertTrue(found.isPresent());
         assertEquals(aiSessionId, found.get().getAiRealtimeSessionId());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("사용자 세션 목록을 커서로 끝까지 넘겨 보면 최신순으로 중복/누락 없이 조회된다")
+    void findPageByUserId() {
+        // given - 같은 시작 시각의 세션 3개 포함 (id로 순서 결정)
+        LocalDateTime sameTime = LocalDateTime.now().minusMinutes(30);
+        for (int i = 0; i < 3; i++) {
+            dialogueSessionRepository.save(DialogueSession.builder()
+                    .user(testUser)
+                    .scenario(testScenario)
+                    .status(SessionStatus.COMPLETED)
+                    .startedAt(sameTime)
+                    .build());
+        }
+        dialogueSessionRepository.save(DialogueSession.builder()
+                .user(testUser)
+                .scenario(testScenario)
+                .status(SessionStatus.COMPLETED)
+                .startedAt(LocalDateTime.now().minusHours(2))
+                .build());
+        List<Long> expected = dialogueSessionRepository.findByUserIdOrderByStartedAtDesc(testUser.getId()).stream()
+                .sorted(Comparator.comparing(DialogueSession::getStartedAt)
+                        .thenComparing(DialogueSession::getId).reversed())
+                .map(DialogueSession::getId)
+                .toList();
+
+        // when
+        List<Long> paged = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            KeysetPage<DialogueSession> page = dialogueSessionRepository.findPageByUserId(testUser.getId(), cursor, 2);
+            page.content().forEach(session -> paged.add(session.getId()));
+            assertEquals(testScenario.getId(), page.content().get(0).getScenario().getId());
+            cursor = page.nextCursor();
+            pages++;
+        } while (cursor != null);
+
+        // then
+        assertEquals(5, expected.size());
+        assertEquals(expected, paged);
+        assertEquals(3, pages);
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 커서로 조회하면 예외가 발생한다")
+    void findPageByUserId_InvalidCursor() {
+        assertThrows(IllegalArgumentException.class,
+                () -> dialogueSessionRepository.findPageByUserId(testUser.getId(), "not-a-cursor", 10));
+    }
+
+    @Test
+    @DisplayName("세션 요약 목록은 상태로 거를 수 있고, 시나리오 요약 컬럼을 함께 조회한다")
+    void findSummaryPageByUserId() {
+        // given
+        DialogueSession completed = DialogueSession.builder()
+                .user(testUser)
+                .scenario(testScenario)
+                .status(SessionStatus.ONGOING)
+                .startedAt(LocalDateTime.now().minusMinutes(5))
+                .build();
+        completed.complete();
+        dialogueSessionRepository.save(completed);
+
+        // when
+        KeysetPage<SessionSummary> all = dialogueSessionRepository.findSummaryPageByUserId(testUser.getId(), null, null, 100);
+        KeysetPage<SessionSummary> onlyCompleted = dialogueSessionRepository.findSummaryPageByUserId(
+                testUser.getId(), SessionStatus.COMPLETED, null, 100);
+
+        // then
+        assertTrue(all.content().stream().anyMatch(summary -> summary.id().equals(testSession.getId())));
+        assertTrue(onlyCompleted.content().stream().allMatch(summary -> summary.status() == SessionStatus.COMPLETED));
+        SessionSummary summary = onlyCompleted.content().stream()
+                .filter(row -> row.id().equals(completed.getId()))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(completed.getSessionId(), summary.sessionId());
+        assertNotNull(summary.endedAt());
+        assertEquals(testScenario.getTitle(), summary.scenarioTitle());
+        assertEquals(Scenario.Category.WORK, summary.scenarioCategory());
+        assertEquals(Scenario.Difficulty.EASY, summary.scenarioDifficulty());
+    }
+}
@@ -1,10 +1,13 @@
 package com.aid.train.backend.repository;
 
+import com.aid.train.backend.domain.scenario.dto.request.ScenarioFilterCondition;
 import com.aid.train.backend.domain.scenario.dto.request.ScenarioRequestDto;
+import com.aid.train.backend.domain.scenario.dto.response.ScenarioSummary;
 import com.aid.train.backend.domain.scenario.entity.Scenario;
 import com.aid.train.backend.domain.user.entity.User;
 import com.aid.train.backend.domain.user.enums.Provider;
 import com.aid.train.backend.domain.user.enums.UserStatus;
+import com.aid.train.backend.global.common.pagination.KeysetPage;
 import com.aid.train.backend.repository.scenario.ScenarioRepository;
 import com.aid.train.backend.repository.user.UserRepository;
 import jakarta.persistence.EntityManager;
@@ -17,12 +20,15 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.annotation.Rollback;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 
 import static com.aid.train.backend.domain.scenario.entity.Scenario.Category.*;
 import static com.aid.train.backend.domain.scenario.entity.Scenario.Difficulty.*;
 import static com.aid.train.backend.domain.scenario.entity.Scenario.Status.PUBLISHED;
 import static com.aid.train.backend.domain.scenario.entity.Scenario.Voice.*;
+import static org.junit.jupiter.api.Assertions.*;
 
 @SpringBootTest
 @Transactional
@@ -157,4 +163,29 @@ class ScenarioRepositoryTest {
         // then
         System.out.println("saved = " + saved + "저장되었습니다.");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("조건에 맞는 공개 시나리오만 커서 페이지로 중복 없이 조회합니다.")
+    void findPublishedPageWithFilter() {
+        // given
+        ScenarioFilterCondition condition = new ScenarioFilterCondition(null, EASY, null, "ko-KR", null);
+
+        // when
+        List<ScenarioSummary> collected = new ArrayList<>();
+        String cursor = null;
+        do {
+            KeysetPage<ScenarioSummary> page = scenarioRepository.findPublishedPage(condition, cursor, 1);
+            assertTrue(page.content().size() <= 1);
+            collected.addAll(page.content());
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        // then
+        assertFalse(collected.isEmpty());
+        assertTrue(collected.stream().allMatch(s -> s.difficulty() == EASY && "ko-KR".equals(s.locale())));
+        assertEquals(collected.size(), new HashSet<>(collected.stream().map(ScenarioSummary::id).toList()).size());
+        for (int i = 1; i < collected.size(); i++) {
+            assertFalse(collected.get(i).createdAt().isAfter(collected.get(i - 1).createdAt()));
+        }
+    }
+}
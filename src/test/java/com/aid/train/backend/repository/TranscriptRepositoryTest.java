@@ -3,11 +3,15 @@ package com.aid.train.backend.repository;
 import com.aid.train.backend.domain.scenario.entity.Scenario;
 import com.aid.train.backend.domain.session.entity.DialogueSession;
 import com.aid.train.backend.domain.session.entity.Transcript;
+import com.aid.train.backend.domain.session.entity.TranscriptStats;
 import com.aid.train.backend.domain.user.entity.User;
 import com.aid.train.backend.domain.user.enums.Provider;
 import com.aid.train.backend.domain.session.enums.SessionStatus;
 import com.aid.train.backend.domain.session.enums.Speaker;
 import com.aid.train.backend.domain.user.enums.UserStatus;
+import com.aid.train.backend.global.common.pagination.KeysetPage;
+import com.aid.train.backend.global.config.QueryDslConfig;
+import com.aid.train.backend.repository.session.DialogueSessionRepository;
 import com.aid.train.backend.repository.session.TranscriptRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -16,9 +20,11 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -32,6 +38,7 @@ import static org.junit.jupiter.api.Assertions.*;
 @DataJpaTest
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
 @ActiveProfiles("test")
+@Import(QueryDslConfig.class)
 class TranscriptRepositoryTest {
 
     @Autowired
@@ -40,6 +47,9 @@ class TranscriptRepositoryTest {
     @Autowired
     private TranscriptRepository transcriptRepository;
 
+    @Autowired
+    private DialogueSessionRepository dialogueSessionRepository;
+
     private DialogueSession testSession;
     private User testUser;
     private Scenario testScenario;
@@ -343,4 +353,174 @@ class TranscriptRepositoryTest {
         assertTrue(results.isEmpty());
         assertEquals(0, count);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("발화 내역을 batch-size 단위의 multi-row INSERT로 한 번에 저장할 수 있다")
+    void batchInsert() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        List<Transcript> transcripts = new ArrayList<>();
+        for (int i = 0; i < 250; i++) {
+            transcripts.add(Transcript.builder()
+                    .dialogueSession(testSession)
+                    .speaker(i % 2 == 0 ? Speaker.USER : Speaker.AI)
+                    .content("발화 " + i)
+                    .timestamp(now.plusSeconds(i))
+                    .startTimeMs(i * 1000L)
+                    .endTimeMs(i % 10 == 0 ? null : i * 1000L + 500)
+                    .confidenceScore(i % 3 == 0 ? null : 0.9f)
+                    .build());
+        }
+
+        // When
+        int inserted = transcriptRepository.batchInsert(transcripts);
+        entityManager.clear();
+
+        // Then
+        assertEquals(250, inserted);
+        List<Transcript> results = transcriptRepository.findByDialogueSessionIdOrderByTimestampAsc(testSession.getId());
+        assertEquals(250, results.size());
+        assertEquals("발화 0", results.get(0).getContent());
+        assertEquals("발화 249", results.get(249).getContent());
+        assertEquals(125, transcriptRepository.countByDialogueSessionIdAndSpeaker(testSession.getId(), Speaker.AI));
+        assertNull(results.get(10).getEndTimeMs());
+        assertNull(results.get(3).getConfidenceScore());
+        assertNotNull(results.get(0).getCreatedAt());
+    }
+
+    @Test
+    @DisplayName("일괄 저장한 발화는 세션 발화 통계에 누적되고, 다시 계산한 값과 같다")
+    void batchInsertUpdatesTranscriptStats() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        float[] scores = {0.3f, 0.5f, 0.7f, 0.85f, 0.95f, 0.69f};
+        List<Transcript> transcripts = new ArrayList<>();
+        for (int i = 0; i < scores.length; i++) {
+            transcripts.add(Transcript.builder()
+                    .dialogueSession(testSession)
+                    .speaker(i < 4 ? Speaker.USER : Speaker.AI)
+                    .content(i < 4 ? "안녕하세요" : "네")
+                    .timestamp(now.plusSeconds(i))
+                    .startTimeMs(i * 1000L)
+                    .endTimeMs(i * 1000L + 400)
+                    .confidenceScore(scores[i])
+                    .build());
+        }
+
+        // When
+        transcriptRepository.batchInsert(transcripts.subList(0, 3));
+        transcriptRepository.batchInsert(transcripts.subList(3, scores.length));
+        entityManager.clear();
+        TranscriptStats stats = dialogueSessionRepository.findTranscriptStatsById(testSession.getId()).orElseThrow();
+
+        // Then
+        assertEquals(4, stats.count(Speaker.USER));
+        assertEquals(2, stats.count(Speaker.AI));
+        assertEquals(5.0, stats.averageContentLength(Speaker.USER));
+        assertEquals(1.0, stats.averageContentLength(Speaker.AI));
+        assertEquals(2400, stats.getSpeakingTimeMs());
+        assertArrayEquals(new long[]{1, 2, 1, 1, 1}, stats.confidenceHistogram());
+        assertEquals(3, stats.lowConfidenceCount());
+
+        // 집계 쿼리로 다시 계산해도 같은 값
+        dialogueSessionRepository.recalculateTranscriptStats(testSession.getId());
+        entityManager.clear();
+        TranscriptStats recalculated = dialogueSessionRepository.findTranscriptStatsById(testSession.getId()).orElseThrow();
+        assertArrayEquals(stats.confidenceHistogram(), recalculated.confidenceHistogram());
+        assertEquals(stats.getUserChars(), recalculated.getUserChars());
+        assertEquals(stats.getSpeakingTimeMs(), recalculated.getSpeakingTimeMs());
+    }
+
+    @Test
+    @DisplayName("일괄 저장 뒤 영속 상태의 세션을 변경해도 누적된 발화 통계를 덮어쓰지 않는다")
+    void sessionUpdateKeepsAccumulatedStats() {
+        // Given - testSession은 통계가 0인 상태로 영속성 컨텍스트에 있음
+        LocalDateTime now = LocalDateTime.now();
+        List<Transcript> transcripts = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            transcripts.add(Transcript.builder()
+                    .dialogueSession(testSession)
+                    .speaker(Speaker.USER)
+                    .content("발화 " + i)
+                    .timestamp(now.plusSeconds(i))
+                    .build());
+        }
+        transcriptRepository.batchInsert(transcripts);
+
+        // When - 세션 완료 처리로 엔티티가 변경되어 UPDATE 됨
+        testSession.complete();
+        entityManager.flush();
+        entityManager.clear();
+
+        // Then
+        TranscriptStats stats = dialogueSessionRepository.findTranscriptStatsById(testSession.getId()).orElseThrow();
+        assertEquals(3, stats.count(Speaker.USER));
+        assertEquals(SessionStatus.COMPLETED,
+                dialogueSessionRepository.findById(testSession.getId()).orElseThrow().getStatus());
+    }
+
+    @Test
+    @DisplayName("빈 목록을 일괄 저장하면 아무 것도 저장하지 않는다")
+    void batchInsertEmpty() {
+        // When
+        int inserted = transcriptRepository.batchInsert(List.of());
+
+        // Then
+        assertEquals(0, inserted);
+        assertEquals(0, transcriptRepository.countByDialogueSessionId(testSession.getId()));
+    }
+
+    @Test
+    @DisplayName("write-behind 버퍼 없이 세션 발화를 시간순으로 조회할 수 있다")
+    void findSessionTranscripts() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        entityManager.persist(Transcript.builder()
+                .dialogueSession(testSession)
+                .speaker(Speaker.AI)
+                .content("두 번째")
+                .timestamp(now.plusMinutes(2))
+                .build());
+        entityManager.persist(Transcript.builder()
+                .dialogueSession(testSession)
+                .speaker(Speaker.USER)
+                .content("첫 번째")
+                .timestamp(now.plusMinutes(1))
+                .build());
+        entityManager.flush();
+
+        // When
+        List<Transcript> results = transcriptRepository.findSessionTranscripts(testSession.getId());
+
+        // Then
+        assertEquals(List.of("첫 번째", "두 번째"), results.stream().map(Transcript::getContent).toList());
+    }
+
+    @Test
+    @DisplayName("발화 내역을 커서로 넘겨 보면 (timestamp, id) 순으로 중복/누락 없이 조회된다")
+    void findPageBySession() {
+        // Given - 같은 시각의 발화 포함
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < 7; i++) {
+            entityManager.persist(Transcript.builder()
+                    .dialogueSession(testSession)
+                    .speaker(Speaker.USER)
+                    .content("발화 " + i)
+                    .timestamp(now.plusSeconds(i / 2))
+                    .build());
+        }
+        entityManager.flush();
+
+        // When
+        List<String> contents = new ArrayList<>();
+        String cursor = null;
+        do {
+            KeysetPage<Transcript> page = transcriptRepository.findPageBySession(testSession.getId(), cursor, 3);
+            page.content().forEach(transcript -> contents.add(transcript.getContent()));
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        // Then
+        assertEquals(List.of("발화 0", "발화 1", "발화 2", "발화 3", "발화 4", "발화 5", "발화 6"), contents);
+    }
+}
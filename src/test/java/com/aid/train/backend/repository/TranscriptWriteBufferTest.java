@@ -0,0 +1,214 @@
+package com.aid.train.backend.repository;
+
+import com.aid.train.backend.domain.session.entity.DialogueSession;
+import com.aid.train.backend.domain.session.entity.Transcript;
+import com.aid.train.backend.domain.session.enums.Speaker;
+import com.aid.train.backend.global.config.TranscriptWriteProperties;
+import com.aid.train.backend.repository.session.TranscriptRepository;
+import com.aid.train.backend.repository.session.TranscriptWriteBuffer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * 발화 내역 write-behind 버퍼 테스트 (Repository는 mock)
+ */
+class TranscriptWriteBufferTest {
+
+    private final LocalDateTime base = LocalDateTime.of(2025, 10, 8, 12, 0);
+
+    private TranscriptRepository transcriptRepository;
+    private TranscriptWriteProperties properties;
+    private TranscriptWriteBuffer buffer;
+    private DialogueSession session;
+
+    @BeforeEach
+    void setUp() {
+        transcriptRepository = mock(TranscriptRepository.class);
+        properties = new TranscriptWriteProperties();
+        properties.setFlushSize(3);
+        properties.setFlushInterval(Duration.ofHours(1));
+        buffer = new TranscriptWriteBuffer(transcriptRepository, properties);
+        buffer.start();
+
+        session = mock(DialogueSession.class);
+        when(session.getId()).thenReturn(1L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        buffer.stop();
+    }
+
+    @Test
+    @DisplayName("flushSize 미만의 발화는 DB에 기록하지 않고, 세션 flush 시 한 번에 기록한다")
+    void flushOnDemand() {
+        // given
+        buffer.append(transcript(1));
+        buffer.append(transcript(2));
+
+        // when
+        verify(transcriptRepository, never()).batchInsert(anyList());
+        buffer.flush(1L);
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Transcript>> captor = ArgumentCaptor.forClass(List.class);
+        verify(transcriptRepository).batchInsert(captor.capture());
+        assertEquals(2, captor.getValue().size());
+        assertEquals(0, buffer.pendingCount());
+    }
+
+    @Test
+    @DisplayName("flushSize에 도달하면 기록 스레드에서 기록한다")
+    void flushOnSize() {
+        // when
+        for (int i = 0; i < 3; i++) {
+            buffer.append(transcript(i));
+        }
+
+        // then
+        verify(transcriptRepository, timeout(2000)).batchInsert(anyList());
+    }
+
+    @Test
+    @DisplayName("조회 시 DB 발화와 버퍼 발화를 시간순으로 합쳐서 돌려준다")
+    void readThrough() {
+        // given
+        Transcript stored = transcript(2);
+        buffer.append(transcript(1));
+        buffer.append(transcript(3));
+
+        // when
+        List<Transcript> results = buffer.readThrough(1L, () -> List.of(stored));
+
+        // then
+        assertEquals(List.of("발화 1", "발화 2", "발화 3"), results.stream().map(Transcript::getContent).toList());
+    }
+
+    @Test
+    @DisplayName("버퍼 발화만 읽을 때는 DB에 기록하지 않고 버퍼에 그대로 남긴다")
+    void readPending() {
+        // given
+        buffer.append(transcript(1));
+        buffer.append(transcript(2));
+
+        // when
+        int pending = buffer.readPending(1L, List::size);
+
+        // then
+        assertEquals(2, pending);
+        assertEquals(0, buffer.readPending(2L, List::size));
+        verify(transcriptRepository, never()).batchInsert(anyList());
+        assertEquals(2, buffer.pendingCount());
+    }
+
+    @Test
+    @DisplayName("기록에 실패한 발화는 버퍼에 남아 다음 flush에서 다시 기록한다")
+    void retryAfterFailure() {
+        // given
+        buffer.append(transcript(1));
+        doThrow(new IllegalStateException("db down")).doReturn(1).when(transcriptRepository).batchInsert(anyList());
+
+        // when
+        assertThrows(IllegalStateException.class, () -> buffer.flush(1L));
+        int pendingAfterFailure = buffer.pendingCount();
+        buffer.flush(1L);
+
+        // then
+        assertEquals(1, pendingAfterFailure);
+        assertEquals(0, buffer.pendingCount());
+        verify(transcriptRepository, times(2)).batchInsert(anyList());
+    }
+
+    @Test
+    @DisplayName("호출 트랜잭션이 롤백되면 기록한 발화를 버퍼로 되돌려 다음 flush에서 다시 기록한다")
+    void restoreOnRollback() {
+        // given
+        buffer.append(transcript(1));
+        buffer.append(transcript(2));
+
+        // when - 호출 트랜잭션 안에서 flush 후 롤백
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            buffer.flush(1L);
+            completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        int pendingAfterRollback = buffer.pendingCount();
+        buffer.flush(1L);
+
+        // then
+        assertEquals(2, pendingAfterRollback);
+        assertEquals(0, buffer.pendingCount());
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Transcript>> captor = ArgumentCaptor.forClass(List.class);
+        verify(transcriptRepository, times(2)).batchInsert(captor.capture());
+        assertEquals(List.of("발화 1", "발화 2"), captor.getValue().stream().map(Transcript::getContent).toList());
+    }
+
+    @Test
+    @DisplayName("호출 트랜잭션 안에서 기록한 발화는 커밋된 뒤에 버퍼에서 빠진다")
+    void releaseAfterCommit() {
+        // given
+        buffer.append(transcript(1));
+
+        // when
+        TransactionSynchronizationManager.initSynchronization();
+        int pendingBeforeCommit;
+        try {
+            buffer.flush(1L);
+            pendingBeforeCommit = buffer.pendingCount();
+            completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // then
+        assertEquals(1, pendingBeforeCommit);
+        assertEquals(0, buffer.pendingCount());
+        verify(transcriptRepository, times(1)).batchInsert(anyList());
+    }
+
+    @Test
+    @DisplayName("종료 시 남은 발화를 모두 기록하고, 이후 발화는 바로 기록한다")
+    void flushOnStop() {
+        // given
+        buffer.append(transcript(1));
+
+        // when
+        buffer.stop();
+        buffer.append(transcript(2));
+
+        // then
+        verify(transcriptRepository, times(2)).batchInsert(anyList());
+        assertEquals(0, buffer.pendingCount());
+    }
+
+    private static void completeTransaction(int status) {
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+
+    private Transcript transcript(int index) {
+        return Transcript.builder()
+                .dialogueSession(session)
+                .speaker(Speaker.USER)
+                .content("발화 " + index)
+                .timestamp(base.plusSeconds(index))
+                .build();
+    }
+}
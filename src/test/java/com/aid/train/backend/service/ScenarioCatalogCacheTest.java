@@ -0,0 +1,101 @@
+package com.aid.train.backend.service;
+
+import com.aid.train.backend.domain.scenario.event.ScenarioChangedEvent;
+import com.aid.train.backend.repository.scenario.ScenarioRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.time.Duration;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static com.aid.train.backend.service.ScenarioFixtures.repository;
+import static com.aid.train.backend.service.ScenarioFixtures.scenario;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 시나리오 카탈로그 캐시 테스트 (Repository는 mock)
+ */
+class ScenarioCatalogCacheTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private ScenarioRepository scenarioRepository;
+    private ScenarioCatalogCache cache;
+
+    @BeforeEach
+    void setUp() {
+        scenarioRepository = repository(scenario(1L).title("회의 준비").build());
+        cache = new ScenarioCatalogCache(scenarioRepository, objectMapper, Duration.ofMinutes(5));
+    }
+
+    @Test
+    @DisplayName("캐시가 채워진 뒤에는 DB를 다시 읽지 않고 같은 바이트와 ETag를 돌려준다")
+    void readThrough() throws Exception {
+        // when
+        ScenarioCatalogCache.Catalog first = cache.get();
+        ScenarioCatalogCache.Catalog second = cache.get();
+
+        // then
+        verify(scenarioRepository, times(1)).findAllScenario();
+        assertSame(first, second);
+        JsonNode body = objectMapper.readTree(first.json());
+        assertEquals("회의 준비", body.get("data").get(0).get("title").asText());
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(first.gzip()))) {
+            assertArrayEquals(first.json(), gzip.readAllBytes());
+        }
+        assertTrue(first.matches(first.etag()));
+        assertTrue(first.matches("W/" + first.gzipEtag() + ", \"other\""));
+        assertFalse(first.matches("\"other\""));
+        assertFalse(first.matches(null));
+    }
+
+    @Test
+    @DisplayName("시나리오 변경 이벤트를 받으면 캐시를 비우고, 내용이 바뀌었을 때만 ETag가 바뀐다")
+    void invalidateOnChange() {
+        // given
+        String etag = cache.get().etag();
+
+        // when - 내용 변경 없이 무효화
+        cache.onScenarioChanged(new ScenarioChangedEvent(1L));
+        String sameContentEtag = cache.get().etag();
+
+        // when - 내용 변경 후 무효화
+        when(scenarioRepository.findAllScenario())
+                .thenReturn(List.of(scenario(1L).title("회의 준비").build(), scenario(2L).title("가족 대화").build()));
+        cache.onScenarioChanged(new ScenarioChangedEvent(2L));
+        String changedEtag = cache.get().etag();
+
+        // then
+        verify(scenarioRepository, times(3)).findAllScenario();
+        assertEquals(etag, sameContentEtag);
+        assertNotEquals(etag, changedEtag);
+    }
+
+    @Test
+    @DisplayName("DB를 읽는 도중 무효화되면 읽은 결과는 응답에만 쓰고 캐시에 남기지 않는다")
+    void invalidateDuringLoad() {
+        // given - 첫 조회가 DB를 읽는 사이에 다른 트랜잭션의 변경이 커밋됨
+        when(scenarioRepository.findAllScenario())
+                .thenAnswer(invocation -> {
+                    cache.onScenarioChanged(new ScenarioChangedEvent(2L));
+                    return List.of(scenario(1L).title("회의 준비").build());
+                })
+                .thenReturn(List.of(scenario(1L).title("회의 준비").build(), scenario(2L).title("가족 대화").build()));
+
+        // when
+        ScenarioCatalogCache.Catalog stale = cache.get();
+        ScenarioCatalogCache.Catalog reloaded = cache.get();
+        ScenarioCatalogCache.Catalog cached = cache.get();
+
+        // then
+        verify(scenarioRepository, times(2)).findAllScenario();
+        assertNotEquals(stale.etag(), reloaded.etag());
+        assertSame(reloaded, cached);
+    }
+}
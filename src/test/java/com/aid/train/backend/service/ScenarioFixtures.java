@@ -0,0 +1,51 @@
+package com.aid.train.backend.service;
+
+import com.aid.train.backend.domain.scenario.entity.Scenario;
+import com.aid.train.backend.repository.scenario.ScenarioRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * 시나리오 서비스 테스트 공용 픽스처
+ */
+final class ScenarioFixtures {
+
+    static final LocalDateTime VERSION = LocalDateTime.of(2025, 1, 1, 9, 0);
+
+    private ScenarioFixtures() {
+    }
+
+    /**
+     * 필수 값을 채운 공개 시나리오 빌더 (버전은 {@link #VERSION})
+     */
+    static Scenario.ScenarioBuilder scenario(Long id) {
+        return Scenario.builder()
+                .id(id)
+                .title("상사에게 일정 지연 보고")
+                .description("일정 지연을 보고하는 연습")
+                .prompt("프롬프트")
+                .voice(Scenario.Voice.NOVA)
+                .difficulty(Scenario.Difficulty.EASY)
+                .category(Scenario.Category.WORK)
+                .updatedAt(VERSION);
+    }
+
+    /**
+     * 주어진 시나리오를 id 조회 / 전체 조회 / 다건 조회로 돌려주는 Repository mock
+     */
+    static ScenarioRepository repository(Scenario... scenarios) {
+        ScenarioRepository repository = mock(ScenarioRepository.class);
+        List<Scenario> all = List.of(scenarios);
+        when(repository.findAllScenario()).thenReturn(all);
+        when(repository.findAllById(anyList())).thenReturn(all);
+        for (Scenario scenario : scenarios) {
+            when(repository.findById(scenario.getId())).thenReturn(Optional.of(scenario));
+        }
+        return repository;
+    }
+}
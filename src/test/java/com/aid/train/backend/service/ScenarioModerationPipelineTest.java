@@ -0,0 +1,105 @@
+package com.aid.train.backend.service;
+
+import com.aid.train.backend.domain.scenario.entity.Scenario;
+import com.aid.train.backend.global.config.ScenarioModerationProperties;
+import com.aid.train.backend.repository.scenario.ScenarioRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+import static com.aid.train.backend.service.ScenarioFixtures.repository;
+import static com.aid.train.backend.service.ScenarioFixtures.scenario;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * 시나리오 검수 파이프라인 테스트 (Repository / 트랜잭션은 mock, 스레드는 시작하지 않음)
+ */
+class ScenarioModerationPipelineTest {
+
+    private ScenarioRepository scenarioRepository;
+    private ScenarioModerationProperties properties;
+    private ScenarioModerationPipeline pipeline;
+
+    @BeforeEach
+    void setUp() {
+        scenarioRepository = repository();
+        properties = new ScenarioModerationProperties();
+        properties.setQueueCapacity(2);
+        ProfanityFilterService profanityFilterService = new ProfanityFilterService(
+                new ByteArrayResource("시발\n!시발점\n".getBytes(StandardCharsets.UTF_8)), Duration.ofMinutes(1));
+        pipeline = new ScenarioModerationPipeline(scenarioRepository, profanityFilterService, properties,
+                mock(PlatformTransactionManager.class));
+    }
+
+    @Test
+    @DisplayName("검증과 비속어 검사를 통과하면 공개하고, 실패하면 사유와 함께 반려한다")
+    void moderate() {
+        // given
+        Scenario clean = draft(1L, "프로젝트 시발점 회의", "회의를 준비합니다.");
+        Scenario profane = draft(2L, "일정 보고", "ㅅㅣㅂㅏㄹ 진짜");
+        Scenario blank = draft(3L, " ", "프롬프트");
+        Scenario published = draft(4L, "이미 공개", "시발");
+        published.setStatus(Scenario.Status.PUBLISHED);
+        when(scenarioRepository.findAllById(anyList())).thenReturn(List.of(clean, profane, blank, published));
+
+        // when
+        pipeline.moderate(List.of(1L, 2L, 3L, 4L));
+
+        // then
+        assertEquals(Scenario.Status.PUBLISHED, clean.getStatus());
+        assertEquals(Scenario.Status.REJECTED, profane.getStatus());
+        assertTrue(profane.getRejectReason().contains("prompt(시발)"));
+        assertEquals(Scenario.Status.REJECTED, blank.getStatus());
+        assertEquals(Scenario.Status.PUBLISHED, published.getStatus());
+        assertNull(published.getRejectReason());
+    }
+
+    @Test
+    @DisplayName("비속어 사전이 비어 있으면 검수하지 않고 DRAFT로 남기며, 사전을 읽지 못하면 생성에 실패한다")
+    void emptyDictionary() {
+        // given
+        ProfanityFilterService emptyFilter = new ProfanityFilterService(
+                new ByteArrayResource("# 비어 있음\n".getBytes(StandardCharsets.UTF_8)), Duration.ofMinutes(1));
+        ScenarioModerationPipeline emptyPipeline = new ScenarioModerationPipeline(scenarioRepository, emptyFilter,
+                properties, mock(PlatformTransactionManager.class));
+        Scenario pending = draft(1L, "일정 보고", "ㅅㅣㅂㅏㄹ 진짜");
+        when(scenarioRepository.findAllById(anyList())).thenReturn(List.of(pending));
+
+        // when
+        emptyPipeline.moderate(List.of(1L));
+
+        // then
+        assertEquals(Scenario.Status.DRAFT, pending.getStatus());
+        assertThrows(IllegalStateException.class, () -> new ProfanityFilterService(
+                new ClassPathResource("profanity/missing.txt"), Duration.ofMinutes(1)));
+    }
+
+    @Test
+    @DisplayName("같은 시나리오는 한 번만 대기열에 넣고, 가득 차면 요청 스레드를 막지 않고 거절한다")
+    void boundedQueue() {
+        // when & then
+        assertTrue(pipeline.submit(1L));
+        assertFalse(pipeline.submit(1L));
+        assertTrue(pipeline.submit(2L));
+        assertFalse(pipeline.submit(3L));
+        assertEquals(2, pipeline.pendingCount());
+    }
+
+    private static Scenario draft(Long id, String title, String prompt) {
+        return scenario(id)
+                .title(title)
+                .prompt(prompt)
+                .status(Scenario.Status.DRAFT)
+                .isDefault(false)
+                .build();
+    }
+}
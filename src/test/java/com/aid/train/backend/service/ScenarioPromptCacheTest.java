@@ -0,0 +1,151 @@
+package com.aid.train.backend.service;
+
+import com.aid.train.backend.domain.scenario.entity.Scenario;
+import com.aid.train.backend.domain.scenario.event.ScenarioChangedEvent;
+import com.aid.train.backend.domain.scenario.prompt.CompiledPrompt;
+import com.aid.train.backend.repository.scenario.ScenarioRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static com.aid.train.backend.service.ScenarioFixtures.VERSION;
+import static com.aid.train.backend.service.ScenarioFixtures.repository;
+import static com.aid.train.backend.service.ScenarioFixtures.scenario;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 시나리오 프롬프트 캐시 테스트 (Repository는 mock)
+ */
+class ScenarioPromptCacheTest {
+
+    private ScenarioRepository scenarioRepository;
+    private ScenarioPromptCache cache;
+
+    @BeforeEach
+    void setUp() {
+        scenarioRepository = repository();
+        cache = new ScenarioPromptCache(scenarioRepository, 2, Duration.ofMinutes(5));
+    }
+
+    @Test
+    @DisplayName("같은 버전은 렌더링 결과를 재사용하고, updatedAt이 바뀌면 다시 렌더링한다")
+    void versionedEntry() {
+        // given
+        Scenario scenario = scenario(1L).prompt("보고는 원인, 영향, 대안 순서").build();
+
+        // when
+        CompiledPrompt first = cache.get(scenario);
+        CompiledPrompt second = cache.get(scenario);
+        scenario.setPrompt("대안은 두 가지 제시");
+        scenario.setUpdatedAt(VERSION.plusMinutes(1));
+        CompiledPrompt third = cache.get(scenario);
+
+        // then
+        assertSame(first, second);
+        assertNotSame(first, third);
+        assertTrue(first.instructions().contains("보고는 원인, 영향, 대안 순서"));
+        assertTrue(first.instructions().contains("한국어로만 대화하세요."));
+        assertEquals("nova", first.voice());
+        assertTrue(third.instructions().contains("대안은 두 가지 제시"));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    @DisplayName("id 조회는 한 번만 DB를 읽고, 변경 이벤트 뒤에는 다시 읽는다")
+    void lookupByIdAndInvalidate() {
+        // given
+        when(scenarioRepository.findById(1L)).thenReturn(Optional.of(scenario(1L).prompt("공감 먼저").build()));
+
+        // when
+        cache.get(1L);
+        cache.get(1L);
+        cache.onScenarioChanged(new ScenarioChangedEvent(1L));
+        cache.get(1L);
+
+        // then
+        verify(scenarioRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("DB를 읽는 사이 변경 이벤트가 오면 읽은 이전 버전을 보관하지 않는다")
+    void changeDuringLoad() {
+        // given - 이전 버전을 읽는 사이에 수정이 커밋되고 변경 이벤트가 옴
+        Scenario updated = scenario(1L).prompt("수정된 프롬프트").build();
+        updated.setUpdatedAt(VERSION.plusMinutes(1));
+        when(scenarioRepository.findById(1L))
+                .thenAnswer(invocation -> {
+                    cache.onScenarioChanged(new ScenarioChangedEvent(1L));
+                    return Optional.of(scenario(1L).prompt("이전 프롬프트").build());
+                })
+                .thenReturn(Optional.of(updated));
+
+        // when
+        CompiledPrompt stale = cache.get(1L);
+        CompiledPrompt reloaded = cache.get(1L);
+
+        // then
+        assertEquals(VERSION, stale.version());
+        assertEquals(VERSION.plusMinutes(1), reloaded.version());
+        assertSame(reloaded, cache.get(1L));
+        verify(scenarioRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("이전 버전의 엔티티로 조회해도 보관 중인 최신 버전을 바꾸지 않는다")
+    void olderVersionDoesNotReplaceNewer() {
+        // given
+        Scenario newer = scenario(1L).prompt("최신 프롬프트").build();
+        newer.setUpdatedAt(VERSION.plusMinutes(1));
+        CompiledPrompt latest = cache.get(newer);
+
+        // when
+        CompiledPrompt older = cache.get(scenario(1L).prompt("이전 프롬프트").build());
+
+        // then
+        assertEquals(VERSION, older.version());
+        assertTrue(older.instructions().contains("이전 프롬프트"));
+        assertSame(latest, cache.get(newer));
+    }
+
+    @Test
+    @DisplayName("엔티티로 렌더링한 항목은 id 조회 시 DB 버전과 한 번 맞춰 본 뒤 재사용한다")
+    void entityEntryCheckedOnceById() {
+        // given
+        Scenario scenario = scenario(1L).prompt("공감 먼저").build();
+        when(scenarioRepository.findById(1L)).thenReturn(Optional.of(scenario));
+        CompiledPrompt rendered = cache.get(scenario);
+
+        // when
+        CompiledPrompt first = cache.get(1L);
+        CompiledPrompt second = cache.get(1L);
+
+        // then
+        assertSame(rendered, first);
+        assertSame(rendered, second);
+        verify(scenarioRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("최대 개수를 넘으면 가장 오래 쓰지 않은 시나리오부터 제거하고, 공개되지 않은 시나리오는 거절한다")
+    void evictionAndStatus() {
+        // given
+        Scenario draft = scenario(4L).prompt("검수 대기").build();
+        draft.setStatus(Scenario.Status.DRAFT);
+        when(scenarioRepository.findById(4L)).thenReturn(Optional.of(draft));
+
+        // when
+        CompiledPrompt first = cache.get(scenario(1L).prompt("a").build());
+        cache.get(scenario(2L).prompt("b").build());
+        cache.get(scenario(1L).prompt("a").build());
+        cache.get(scenario(3L).prompt("c").build());
+
+        // then
+        assertEquals(2, cache.size());
+        assertSame(first, cache.get(scenario(1L).prompt("a").build()));
+        assertThrows(IllegalStateException.class, () -> cache.get(4L));
+    }
+}
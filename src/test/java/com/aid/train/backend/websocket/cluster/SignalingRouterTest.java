@@ -0,0 +1,152 @@
+package com.aid.train.backend.websocket.cluster;
+
+import com.aid.train.backend.websocket.metrics.SignalingMetrics;
+import com.aid.train.backend.websocket.protocol.JsonSignalingCodec;
+import com.aid.train.backend.websocket.protocol.SignalingMessage;
+import com.aid.train.backend.websocket.protocol.SignalingProtocol;
+import com.aid.train.backend.websocket.session.OverflowPolicy;
+import com.aid.train.backend.websocket.session.SignalingConnection;
+import com.aid.train.backend.websocket.session.SignalingOutboundQueue;
+import com.aid.train.backend.websocket.session.SignalingSessionContext;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * SignalingRouter 노드 간 라우팅 테스트 (LoopbackSignalingCluster 사용)
+ */
+class SignalingRouterTest {
+
+    private final JsonSignalingCodec codec = new JsonSignalingCodec(new ObjectMapper());
+    private final SignalingMetrics metrics = new SignalingMetrics(new SimpleMeterRegistry());
+
+    private LoopbackSignalingCluster cluster;
+    private SignalingRouter nodeA;
+    private SignalingRouter nodeB;
+
+    @BeforeEach
+    void setUp() {
+        cluster = new LoopbackSignalingCluster();
+        nodeA = new SignalingRouter("node-a", cluster.registry(), cluster.transport());
+        nodeB = new SignalingRouter("node-b", cluster.registry(), cluster.transport());
+    }
+
+    @Test
+    @DisplayName("다른 노드에 붙은 참여자에게 메시지가 전달된다")
+    void relayAcrossNodes() throws Exception {
+        // given
+        WebSocketSession userSession = session("ws-user");
+        WebSocketSession botSession = session("ws-bot");
+        SignalingConnection user = connection("session-1", userSession);
+        SignalingConnection bot = connection("session-1", botSession);
+        nodeA.join(user);
+        nodeB.join(bot);
+
+        // when
+        int delivered = nodeA.relay(user, SignalingMessage.offer("v=0"));
+
+        // then
+        assertEquals(1, delivered);
+        ArgumentCaptor<WebSocketMessage<?>> captor = ArgumentCaptor.forClass(WebSocketMessage.class);
+        verify(botSession).sendMessage(captor.capture());
+        assertEquals(SignalingMessage.offer("v=0"), codec.decode(captor.getValue()));
+        verify(userSession, never()).sendMessage(any());
+    }
+
+    @Test
+    @DisplayName("다른 노드의 참여자와 연결 ID가 겹쳐도 메시지가 전달된다")
+    void relayAcrossNodesWithCollidingConnectionIds() throws Exception {
+        // given - WebSocket 연결 ID는 노드마다 0부터 매기므로 서로 다른 노드에서 겹칠 수 있음
+        WebSocketSession userSession = session("0");
+        WebSocketSession botSession = session("0");
+        SignalingConnection user = connection("session-1", userSession);
+        SignalingConnection bot = connection("session-1", botSession);
+        nodeA.join(user);
+        nodeB.join(bot);
+
+        // when
+        int deliveredToBot = nodeA.relay(user, SignalingMessage.offer("v=0"));
+        int deliveredToUser = nodeB.relay(bot, SignalingMessage.answer("v=0"));
+
+        // then
+        assertEquals(1, deliveredToBot);
+        assertEquals(1, deliveredToUser);
+        ArgumentCaptor<WebSocketMessage<?>> botCaptor = ArgumentCaptor.forClass(WebSocketMessage.class);
+        verify(botSession, times(1)).sendMessage(botCaptor.capture());
+        assertEquals(SignalingMessage.offer("v=0"), codec.decode(botCaptor.getValue()));
+        ArgumentCaptor<WebSocketMessage<?>> userCaptor = ArgumentCaptor.forClass(WebSocketMessage.class);
+        verify(userSession, times(1)).sendMessage(userCaptor.capture());
+        assertEquals(SignalingMessage.answer("v=0"), codec.decode(userCaptor.getValue()));
+    }
+
+    @Test
+    @DisplayName("같은 노드의 참여자에게는 전송 계층을 거치지 않고 전달된다")
+    void relayOnSameNode() throws Exception {
+        // given
+        WebSocketSession userSession = session("ws-user");
+        WebSocketSession botSession = session("ws-bot");
+        SignalingConnection user = connection("session-1", userSession);
+        SignalingConnection bot = connection("session-1", botSession);
+        nodeA.join(user);
+        nodeA.join(bot);
+        cluster.disconnect("node-b");
+
+        // when
+        nodeA.relay(bot, SignalingMessage.iceCandidate("candidate:1 1 udp 1 10.0.0.1 5000 typ host", "0", 0));
+
+        // then
+        verify(userSession, times(1)).sendMessage(any(TextMessage.class));
+        verify(botSession, never()).sendMessage(any());
+    }
+
+    @Test
+    @DisplayName("다른 세션의 참여자와 연결을 끊은 참여자에게는 전달되지 않는다")
+    void relayOnlyToJoinedPeersOfSameSession() throws Exception {
+        // given
+        WebSocketSession userSession = session("ws-user");
+        WebSocketSession otherSession = session("ws-other");
+        WebSocketSession leftSession = session("ws-left");
+        SignalingConnection user = connection("session-1", userSession);
+        SignalingConnection other = connection("session-2", otherSession);
+        SignalingConnection left = connection("session-1", leftSession);
+        nodeA.join(user);
+        nodeB.join(other);
+        nodeB.join(left);
+        nodeB.leave(left);
+
+        // when
+        int delivered = nodeA.relay(user, SignalingMessage.answer("v=0"));
+
+        // then
+        assertEquals(0, delivered);
+        verify(otherSession, never()).sendMessage(any());
+        verify(leftSession, never()).sendMessage(any());
+        assertEquals(1, nodeB.localConnectionCount());
+    }
+
+    private WebSocketSession session(String id) {
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(session.getId()).thenReturn(id);
+        return session;
+    }
+
+    private SignalingConnection connection(String sessionId, WebSocketSession session) {
+        // 송신 대기열을 호출 스레드에서 바로 비우도록 동기 Executor 사용
+        SignalingOutboundQueue queue = new SignalingOutboundQueue(session, codec, Runnable::run, metrics,
+                16, TimeUnit.SECONDS.toNanos(5), OverflowPolicy.DROP_OLDEST);
+        SignalingSessionContext context = new SignalingSessionContext(sessionId, 1L, 1L, 1L, null, null, "ko-KR");
+        return new SignalingConnection(context, session, SignalingProtocol.JSON, queue);
+    }
+}
@@ -0,0 +1,113 @@
+package com.aid.train.backend.websocket.heartbeat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * HashedTimingWheel 만료 / 취소 / 재예약 테스트
+ */
+class HashedTimingWheelTest {
+
+    private static final long TICK = 10;
+    private static final long START = 1_000;
+
+    private final List<String> expired = new ArrayList<>();
+    private HashedTimingWheel<String> wheel;
+
+    @BeforeEach
+    void setUp() {
+        wheel = new HashedTimingWheel<>(TICK, 8, START, timeout -> expired.add(timeout.target()));
+    }
+
+    @Test
+    @DisplayName("예정 시각 전에는 만료되지 않고, 지난 뒤 1 tick 안에 만료된다")
+    void expiresNotBeforeDeadline() {
+        // given
+        wheel.schedule("a", 35, START);
+
+        // when
+        wheel.advance(START + 34);
+        List<String> beforeDeadline = List.copyOf(expired);
+        wheel.advance(START + 35 + TICK);
+
+        // then
+        assertTrue(beforeDeadline.isEmpty());
+        assertEquals(List.of("a"), expired);
+    }
+
+    @Test
+    @DisplayName("휠 한 바퀴보다 긴 지연도 바퀴 수를 세어 제때 만료된다")
+    void expiresAfterSeveralRounds() {
+        // given - 휠 크기 8 * tick 10 = 한 바퀴 80
+        wheel.schedule("long", 250, START);
+        wheel.schedule("short", 20, START);
+
+        // when
+        wheel.advance(START + 100);
+        List<String> afterFirstRound = List.copyOf(expired);
+        wheel.advance(START + 249);
+        List<String> beforeDeadline = List.copyOf(expired);
+        wheel.advance(START + 260);
+
+        // then
+        assertEquals(List.of("short"), afterFirstRound);
+        assertEquals(List.of("short"), beforeDeadline);
+        assertEquals(List.of("short", "long"), expired);
+    }
+
+    @Test
+    @DisplayName("취소한 타임아웃은 버킷으로 옮겨지기 전이든 후든 만료되지 않는다")
+    void cancelledTimeoutsNeverExpire() {
+        // given
+        HashedTimingWheel.Timeout<String> beforeTransfer = wheel.schedule("before", 30, START);
+        HashedTimingWheel.Timeout<String> afterTransfer = wheel.schedule("after", 30, START);
+        wheel.schedule("kept", 30, START);
+
+        // when
+        beforeTransfer.cancel();
+        wheel.advance(START + 10);
+        afterTransfer.cancel();
+        wheel.advance(START + 100);
+
+        // then
+        assertTrue(beforeTransfer.isCancelled());
+        assertEquals(List.of("kept"), expired);
+    }
+
+    @Test
+    @DisplayName("만료 콜백 안에서 다시 예약한 타임아웃은 다음 tick 이후에 처리된다")
+    void rescheduleFromExpiryHandler() {
+        // given - 처음 한 번만 자기 자신을 다시 예약하는 콜백
+        List<Long> firedAt = new ArrayList<>();
+        long[] now = {START};
+        AtomicReference<HashedTimingWheel<String>> holder = new AtomicReference<>();
+        holder.set(new HashedTimingWheel<>(TICK, 8, START, timeout -> {
+            firedAt.add(now[0]);
+            if (firedAt.size() == 1) {
+                holder.get().schedule(timeout.target(), 20, now[0]);
+            }
+        }));
+        holder.get().schedule("conn", 20, START);
+
+        // when
+        for (now[0] = START; now[0] <= START + 100; now[0] += TICK) {
+            holder.get().advance(now[0]);
+        }
+
+        // then
+        assertEquals(List.of(START + 20, START + 40), firedAt);
+    }
+
+    @Test
+    @DisplayName("tick 크기가 0 이하면 생성할 수 없다")
+    void rejectsNonPositiveTick() {
+        assertThrows(IllegalArgumentException.class, () -> new HashedTimingWheel<String>(0, 8, START, timeout -> { }));
+    }
+}
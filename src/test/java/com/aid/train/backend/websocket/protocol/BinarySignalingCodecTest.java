@@ -0,0 +1,191 @@
+package com.aid.train.backend.websocket.protocol;
+
+import com.aid.train.backend.websocket.config.SignalingProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.BinaryMessage;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 바이너리 시그널링 코덱 인코딩 / 디코딩 테스트
+ */
+class BinarySignalingCodecTest {
+
+    private static final int POOLED_BUFFER_SIZE = 64;
+
+    private SignalingBufferPool bufferPool;
+    private BinarySignalingCodec codec;
+
+    @BeforeEach
+    void setUp() {
+        SignalingProperties properties = new SignalingProperties();
+        properties.getBuffer().setPooledBufferSize(POOLED_BUFFER_SIZE);
+        properties.getBuffer().setMaxPooledBuffers(4);
+        bufferPool = new SignalingBufferPool(properties);
+        codec = new BinarySignalingCodec(bufferPool);
+    }
+
+    @Test
+    @DisplayName("모든 opcode가 인코딩 후 같은 메시지로 디코딩되고, 계산한 크기와 실제 크기가 같다")
+    void roundTripAllOpcodes() {
+        // given
+        List<SignalingMessage> messages = List.of(
+                SignalingMessage.offer("v=0\r\no=- 1 2 IN IP4 127.0.0.1"),
+                SignalingMessage.answer(null),
+                SignalingMessage.iceCandidate("candidate:1 1 udp 2122260223 10.0.0.1 5000 typ host", "0", 0),
+                SignalingMessage.iceCandidate("candidate:2", null, null),
+                SignalingMessage.control(SignalingOpcode.END_OF_CANDIDATES),
+                SignalingMessage.connected("session-1"),
+                SignalingMessage.ping(Long.MIN_VALUE),
+                SignalingMessage.pong(42L),
+                SignalingMessage.control(SignalingOpcode.BYE),
+                SignalingMessage.error(429, "too many frames"));
+
+        for (SignalingMessage message : messages) {
+            // when
+            BinaryMessage frame = codec.encode(message);
+
+            // then
+            assertEquals(codec.encodedSize(message), frame.getPayload().remaining(), message.type().name());
+            assertEquals(message, codec.decode(frame));
+            codec.release(frame);
+        }
+    }
+
+    @Test
+    @DisplayName("여러 바이트 UTF-8 문자열이 String.getBytes 와 같은 바이트로 인코딩된다")
+    void multiByteUtf8() {
+        // given: 2바이트(é), 3바이트(한글), 4바이트(이모지 surrogate pair)
+        String value = "é 안녕하세요 😀 end";
+        SignalingMessage message = SignalingMessage.offer(value);
+
+        // when
+        BinaryMessage frame = codec.encode(message);
+
+        // then
+        byte[] expected = value.getBytes(StandardCharsets.UTF_8);
+        assertEquals(expected.length, BinarySignalingCodec.utf8Length(value));
+        ByteBuffer payload = frame.getPayload();
+        // version, opcode, varint(길이 + 1) 다음이 문자열 바이트
+        byte[] actual = new byte[expected.length];
+        payload.get(payload.position() + 3, actual);
+        assertArrayEquals(expected, actual);
+        assertEquals(message, codec.decode(frame));
+    }
+
+    @Test
+    @DisplayName("짝이 없는 surrogate 는 String.getBytes 와 같이 '?' 로 인코딩된다")
+    void unpairedSurrogate() {
+        // given
+        String value = "a\uD83Db\uDE00";
+
+        // when
+        SignalingMessage decoded = codec.decode(codec.encode(SignalingMessage.connected(value)));
+
+        // then
+        assertEquals(new String(value.getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8), decoded.sessionId());
+        assertEquals("a?b?", decoded.sessionId());
+    }
+
+    @Test
+    @DisplayName("중간에 잘린 프레임은 모든 길이에서 SignalingProtocolException 이고 position 은 그대로다")
+    void truncatedFrames() {
+        // given
+        ByteBuffer full = codec.encode(
+                SignalingMessage.iceCandidate("candidate:1 1 udp 2122260223 10.0.0.1 5000 typ host", "0", 3))
+                .getPayload();
+
+        for (int length = 0; length < full.remaining(); length++) {
+            ByteBuffer truncated = full.duplicate();
+            truncated.limit(truncated.position() + length);
+
+            // when & then
+            assertThrows(SignalingProtocolException.class, () -> codec.decode(truncated));
+            assertEquals(full.position(), truncated.position());
+        }
+    }
+
+    @Test
+    @DisplayName("길이가 프레임을 벗어나는 문자열, 끝에 남은 바이트, 너무 긴 varint 는 거부한다")
+    void malformedLengths() {
+        // 문자열 길이 헤더가 1000 바이트라고 주장하지만 실제 바이트는 2개
+        ByteBuffer oversizedString = ByteBuffer.wrap(new byte[]{
+                BinarySignalingCodec.VERSION, SignalingOpcode.OFFER.getCode(), (byte) 0xE9, 0x07, 'v', '='});
+        // BYE 뒤에 남은 바이트
+        ByteBuffer trailing = ByteBuffer.wrap(new byte[]{
+                BinarySignalingCodec.VERSION, SignalingOpcode.BYE.getCode(), 0x00});
+        // 연속 비트가 끝나지 않는 varint
+        ByteBuffer longVarint = ByteBuffer.wrap(new byte[]{
+                BinarySignalingCodec.VERSION, SignalingOpcode.ERROR.getCode(),
+                (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x01, 0x00});
+        // int 범위를 넘는 varint
+        ByteBuffer overflowVarint = ByteBuffer.wrap(new byte[]{
+                BinarySignalingCodec.VERSION, SignalingOpcode.ERROR.getCode(),
+                (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x0F, 0x00});
+        ByteBuffer unknownVersion = ByteBuffer.wrap(new byte[]{0x02, SignalingOpcode.BYE.getCode()});
+
+        for (ByteBuffer frame : List.of(oversizedString, trailing, longVarint, overflowVarint, unknownVersion)) {
+            assertThrows(SignalingProtocolException.class, () -> codec.decode(frame));
+        }
+    }
+
+    @Test
+    @DisplayName("풀 버퍼보다 큰 프레임은 새로 할당해 인코딩하고, 반환해도 풀에 넣지 않는다")
+    void oversizedFrameBypassesPool() {
+        // given
+        SignalingMessage large = SignalingMessage.offer("a".repeat(POOLED_BUFFER_SIZE * 4));
+
+        // when
+        BinaryMessage frame = codec.encode(large);
+        ByteBuffer payload = frame.getPayload();
+        codec.release(frame);
+
+        // then
+        assertEquals(codec.encodedSize(large), payload.capacity());
+        assertEquals(large, codec.decode(frame));
+        assertNotSame(payload, bufferPool.acquire(1));
+    }
+
+    @Test
+    @DisplayName("반환한 버퍼를 다음 인코딩에 재사용해도 이전 프레임 내용이 남지 않는다")
+    void bufferReuseAcrossCalls() {
+        // given
+        BinaryMessage first = codec.encode(SignalingMessage.offer("a".repeat(40)));
+        ByteBuffer firstBuffer = first.getPayload();
+        codec.release(first);
+
+        // when
+        BinaryMessage second = codec.encode(SignalingMessage.pong(7L));
+
+        // then
+        assertSame(firstBuffer, second.getPayload());
+        assertEquals(codec.encodedSize(SignalingMessage.pong(7L)), second.getPayload().remaining());
+        assertEquals(SignalingMessage.pong(7L), codec.decode(second));
+    }
+
+    @Test
+    @DisplayName("direct 버퍼로 받은 프레임도 풀의 버퍼로 복사해 디코딩한다")
+    void decodeDirectBuffer() {
+        // given: 풀 버퍼에 들어가는 문자열과 풀 버퍼보다 긴 문자열
+        List<SignalingMessage> messages = List.of(
+                SignalingMessage.offer("직접 버퍼"),
+                SignalingMessage.offer("직접 버퍼 " + "x".repeat(POOLED_BUFFER_SIZE)));
+
+        for (SignalingMessage message : messages) {
+            ByteBuffer heap = codec.encode(message).getPayload();
+            ByteBuffer direct = ByteBuffer.allocateDirect(heap.remaining());
+            direct.put(heap.duplicate()).flip();
+
+            // when & then (두 번 디코딩해도 같은 결과, position 유지)
+            assertEquals(message, codec.decode(direct));
+            assertEquals(message, codec.decode(direct));
+            assertEquals(0, direct.position());
+        }
+    }
+}
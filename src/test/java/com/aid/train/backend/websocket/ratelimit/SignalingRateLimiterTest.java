@@ -0,0 +1,179 @@
+package com.aid.train.backend.websocket.ratelimit;
+
+import com.aid.train.backend.websocket.config.SignalingProperties;
+import com.aid.train.backend.websocket.metrics.SignalingMetrics;
+import com.aid.train.backend.websocket.protocol.SignalingMessage;
+import com.aid.train.backend.websocket.session.SignalingSessionContext;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 시그널링 수신 프레임 속도 제한 테스트
+ */
+class SignalingRateLimiterTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private SignalingProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new SignalingProperties();
+        properties.getRateLimit().setConnection(new SignalingProperties.Bucket(1, 5));
+        properties.getRateLimit().setUser(new SignalingProperties.Bucket(1, 8));
+        properties.getRateLimit().setMaxCandidatesPerNegotiation(3);
+    }
+
+    @Test
+    @DisplayName("토큰 버킷은 burst 만큼 허용하고, 충전 속도만큼 시간이 지나면 다시 허용한다")
+    void tokenBucketBurstAndRefill() {
+        // given
+        long now = 0;
+        TokenBucket bucket = new TokenBucket(10, 5, now);
+
+        // when & then
+        for (int i = 0; i < 5; i++) {
+            assertTrue(bucket.tryAcquire(now));
+        }
+        assertFalse(bucket.tryAcquire(now));
+        assertFalse(bucket.tryAcquire(now + 50_000_000L));  // 50ms: 아직 충전 전
+        assertTrue(bucket.tryAcquire(now + 100_000_000L));  // 100ms: 토큰 1개 충전
+        assertFalse(bucket.tryAcquire(now + 100_000_000L));
+    }
+
+    @Test
+    @DisplayName("연결 한도를 넘은 프레임은 디코딩 전에 버리고 지표에 남긴다")
+    void connectionLimit() {
+        // given
+        SignalingRateLimiter limiter = limiter();
+        InboundRateLimit limit = limiter.open(context(1L));
+
+        // when
+        int allowed = 0;
+        for (int i = 0; i < 20; i++) {
+            if (limiter.admitFrame(limit).isAllowed()) {
+                allowed++;
+            }
+        }
+
+        // then
+        assertEquals(5, allowed);
+        assertEquals(15, rejected("connection_limit"));
+    }
+
+    @Test
+    @DisplayName("잘못된 프레임도 한도를 차감하고, ERROR 응답은 별도 한도 안에서만 보낸다")
+    void malformedFramesAreChargedAndErrorRepliesLimited() {
+        // given
+        properties.getRateLimit().setErrorReply(new SignalingProperties.Bucket(1, 2));
+        SignalingRateLimiter limiter = limiter();
+        InboundRateLimit limit = limiter.open(context(1L));
+
+        // when - 디코딩에 실패하는 프레임만 계속 보냄
+        int decoded = 0;
+        int errorReplies = 0;
+        for (int i = 0; i < 20; i++) {
+            if (!limiter.admitFrame(limit).isAllowed()) {
+                continue;
+            }
+            decoded++;
+            if (limiter.rejectMalformed(limit)) {
+                errorReplies++;
+            }
+        }
+
+        // then
+        assertEquals(5, decoded);
+        assertEquals(2, errorReplies);
+        assertEquals(5, rejected("malformed"));
+        assertEquals(15, rejected("connection_limit"));
+    }
+
+    @Test
+    @DisplayName("같은 사용자의 연결은 사용자 한도를 함께 쓰고, 마지막 연결이 닫히면 버킷을 정리한다")
+    void userLimitSharedAcrossConnections() {
+        // given
+        SignalingRateLimiter limiter = limiter();
+        InboundRateLimit first = limiter.open(context(1L));
+        InboundRateLimit second = limiter.open(context(1L));
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            limiter.admitFrame(first);
+        }
+        int allowed = 0;
+        for (int i = 0; i < 5; i++) {
+            if (limiter.admitFrame(second).isAllowed()) {
+                allowed++;
+            }
+        }
+
+        // then
+        assertEquals(3, allowed);
+        assertEquals(2, rejected("user_limit"));
+        assertEquals(1, limiter.trackedUsers());
+
+        first.close();
+        first.close();
+        assertEquals(1, limiter.trackedUsers());
+        second.close();
+        assertEquals(0, limiter.trackedUsers());
+    }
+
+    @Test
+    @DisplayName("같은 협상 안의 중복 ICE candidate와 개수 초과 candidate는 버리고, 새 OFFER가 오면 초기화한다")
+    void candidateCoalescing() {
+        // given
+        properties.getRateLimit().setConnection(new SignalingProperties.Bucket(100, 100));
+        properties.getRateLimit().setUser(new SignalingProperties.Bucket(100, 100));
+        SignalingRateLimiter limiter = limiter();
+        InboundRateLimit limit = limiter.open(context(1L));
+
+        // when & then
+        assertEquals(RateLimitResult.ALLOWED, limiter.admitMessage(limit, candidate(1)));
+        assertEquals(RateLimitResult.DUPLICATE_CANDIDATE, limiter.admitMessage(limit, candidate(1)));
+        assertEquals(RateLimitResult.ALLOWED, limiter.admitMessage(limit, candidate(2)));
+        assertEquals(RateLimitResult.ALLOWED, limiter.admitMessage(limit, candidate(3)));
+        assertEquals(RateLimitResult.CANDIDATE_LIMIT, limiter.admitMessage(limit, candidate(4)));
+
+        assertEquals(RateLimitResult.ALLOWED, limiter.admitMessage(limit, SignalingMessage.offer("v=0")));
+        assertEquals(RateLimitResult.ALLOWED, limiter.admitMessage(limit, candidate(1)));
+        assertEquals(1, rejected("duplicate_candidate"));
+        assertEquals(1, rejected("candidate_limit"));
+    }
+
+    @Test
+    @DisplayName("속도 제한을 끄면 모든 프레임을 허용한다")
+    void disabled() {
+        // given
+        properties.getRateLimit().setEnabled(false);
+        SignalingRateLimiter limiter = limiter();
+        InboundRateLimit limit = limiter.open(context(1L));
+
+        // when & then
+        for (int i = 0; i < 100; i++) {
+            assertTrue(limiter.admitMessage(limit, candidate(1)).isAllowed());
+        }
+        assertEquals(0, limiter.trackedUsers());
+    }
+
+    private SignalingRateLimiter limiter() {
+        return new SignalingRateLimiter(new SignalingMetrics(registry), properties);
+    }
+
+    private double rejected(String reason) {
+        return registry.get("train.signaling.inbound.rejected").tag("reason", reason).counter().count();
+    }
+
+    private static SignalingMessage candidate(int index) {
+        return SignalingMessage.iceCandidate("candidate:" + index + " 1 udp 2122260223 10.0.0.1 5000" + index
+                + " typ host", "0", 0);
+    }
+
+    private static SignalingSessionContext context(Long userId) {
+        return new SignalingSessionContext("session-1", 1L, userId, 1L, null, null, "ko-KR");
+    }
+}
@@ -0,0 +1,203 @@
+package com.aid.train.backend.websocket.session;
+
+import com.aid.train.backend.websocket.config.SignalingProperties;
+import com.aid.train.backend.websocket.metrics.SignalingMetrics;
+import com.aid.train.backend.websocket.protocol.JsonSignalingCodec;
+import com.aid.train.backend.websocket.protocol.SignalingMessage;
+import com.aid.train.backend.websocket.protocol.SignalingOpcode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * 세션별 송신 대기열 테스트 (대기열이 가득 찼을 때의 처리 방식, 송신 정지 감시)
+ */
+class SignalingOutboundQueueTest {
+
+    private static final long SEND_TIME_LIMIT_NANOS = TimeUnit.MILLISECONDS.toNanos(200);
+
+    private final JsonSignalingCodec codec = new JsonSignalingCodec(new ObjectMapper());
+    private final SignalingMetrics metrics = new SignalingMetrics(new SimpleMeterRegistry());
+
+    // 등록된 drain 작업을 바로 실행하지 않고 모아 두는 Executor (대기열을 채우기 위함)
+    private final Queue<Runnable> tasks = new ArrayDeque<>();
+
+    private WebSocketSession session;
+
+    @BeforeEach
+    void setUp() {
+        session = mock(WebSocketSession.class);
+        when(session.getId()).thenReturn("ws-1");
+    }
+
+    @Test
+    @DisplayName("DROP_OLDEST: 가득 차면 가장 오래된 메시지를 버린다")
+    void dropOldest() throws Exception {
+        // given
+        SignalingOutboundQueue queue = queue(2, OverflowPolicy.DROP_OLDEST);
+
+        // when
+        assertTrue(queue.offer(candidate(1)));
+        assertTrue(queue.offer(candidate(2)));
+        assertTrue(queue.offer(candidate(3)));
+        runTasks();
+
+        // then
+        assertEquals(List.of(candidate(2), candidate(3)), sentMessages());
+    }
+
+    @Test
+    @DisplayName("COALESCE: 같은 종류의 합칠 수 있는 메시지는 그 자리에서 최신 것으로 대체하고, 아니면 가장 오래된 메시지를 버린다")
+    void coalesce() throws Exception {
+        // given
+        SignalingOutboundQueue queue = queue(3, OverflowPolicy.COALESCE);
+
+        // when
+        queue.offer(SignalingMessage.offer("v=1"));
+        queue.offer(candidate(1));
+        queue.offer(SignalingMessage.control(SignalingOpcode.BYE));
+        queue.offer(SignalingMessage.offer("v=2"));  // 이전 offer 자리에서 대체 → [offer v=2, candidate 1, bye]
+        int coalescedSize = queue.size();
+        queue.offer(candidate(2));                    // candidate 는 합치지 않음 → [candidate 1, bye, candidate 2]
+        runTasks();
+
+        // then
+        assertEquals(3, coalescedSize);
+        assertEquals(List.of(candidate(1), SignalingMessage.control(SignalingOpcode.BYE), candidate(2)), sentMessages());
+    }
+
+    @Test
+    @DisplayName("COALESCE: 대체한 메시지는 사이에 들어온 다른 메시지보다 먼저 전송된다")
+    void coalesceKeepsOrder() throws Exception {
+        // given
+        SignalingOutboundQueue queue = queue(2, OverflowPolicy.COALESCE);
+
+        // when
+        queue.offer(SignalingMessage.offer("v=1"));
+        queue.offer(SignalingMessage.control(SignalingOpcode.BYE));
+        queue.offer(SignalingMessage.offer("v=2"));
+        runTasks();
+
+        // then
+        assertEquals(List.of(SignalingMessage.offer("v=2"), SignalingMessage.control(SignalingOpcode.BYE)), sentMessages());
+    }
+
+    @Test
+    @DisplayName("CLOSE: 가득 차면 연결을 끊고 이후 메시지는 받지 않는다")
+    void closeOnOverflow() throws Exception {
+        // given
+        SignalingOutboundQueue queue = queue(1, OverflowPolicy.CLOSE);
+
+        // when
+        assertTrue(queue.offer(candidate(1)));
+        boolean overflowed = queue.offer(candidate(2));
+        runTasks();
+
+        // then
+        assertFalse(overflowed);
+        assertFalse(queue.offer(candidate(3)));
+        assertEquals(0, queue.size());
+        verify(session, never()).sendMessage(any());
+        assertEquals(CloseStatus.SESSION_NOT_RELIABLE.getCode(), closeStatus().getCode());
+    }
+
+    @Test
+    @DisplayName("전송이 sendTimeLimit 을 넘기면 다음 offer 없이 감시 tick 에서 연결을 끊는다")
+    void watchdogClosesStalledSend() throws Exception {
+        // given: 첫 전송이 끝나지 않는 클라이언트
+        CountDownLatch sending = new CountDownLatch(1);
+        CountDownLatch unblock = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            sending.countDown();
+            unblock.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(session).sendMessage(any());
+        SignalingSendWatchdog watchdog = new SignalingSendWatchdog(watchdogProperties());
+        SignalingOutboundQueue queue = new SignalingOutboundQueue(session, codec, Thread::startVirtualThread, metrics,
+                16, SEND_TIME_LIMIT_NANOS, OverflowPolicy.DROP_OLDEST, watchdog);
+        queue.offer(candidate(1));
+        assertTrue(sending.await(5, TimeUnit.SECONDS));
+
+        try {
+            // when: 제한 시간 전에는 유지, 지난 뒤에는 종료
+            watchdog.advance(System.nanoTime());
+            verify(session, never()).close(any());
+            watchdog.advance(System.nanoTime() + SEND_TIME_LIMIT_NANOS * 2);
+
+            // then
+            verify(session, timeout(1000)).close(any());
+            assertFalse(queue.offer(candidate(2)));
+        } finally {
+            unblock.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("제한 시간 안에 끝난 전송은 감시 tick 이 지나가도 연결을 끊지 않는다")
+    void watchdogIgnoresCompletedSends() throws Exception {
+        // given
+        SignalingSendWatchdog watchdog = new SignalingSendWatchdog(watchdogProperties());
+        SignalingOutboundQueue queue = new SignalingOutboundQueue(session, codec, Runnable::run, metrics,
+                16, SEND_TIME_LIMIT_NANOS, OverflowPolicy.DROP_OLDEST, watchdog);
+
+        // when
+        queue.offer(candidate(1));
+        watchdog.advance(System.nanoTime() + SEND_TIME_LIMIT_NANOS * 2);
+
+        // then
+        verify(session, times(1)).sendMessage(any());
+        verify(session, never()).close(any());
+        assertTrue(queue.offer(candidate(2)));
+    }
+
+    private SignalingOutboundQueue queue(int capacity, OverflowPolicy policy) {
+        return new SignalingOutboundQueue(session, codec, tasks::add, metrics, capacity, SEND_TIME_LIMIT_NANOS, policy);
+    }
+
+    private static SignalingProperties watchdogProperties() {
+        SignalingProperties properties = new SignalingProperties();
+        properties.getHeartbeat().setTick(Duration.ofMillis(10));
+        properties.getHeartbeat().setWheelSize(64);
+        return properties;
+    }
+
+    private void runTasks() {
+        Runnable task;
+        while ((task = tasks.poll()) != null) {
+            task.run();
+        }
+    }
+
+    private List<SignalingMessage> sentMessages() throws Exception {
+        ArgumentCaptor<WebSocketMessage<?>> captor = ArgumentCaptor.forClass(WebSocketMessage.class);
+        verify(session, atLeastOnce()).sendMessage(captor.capture());
+        return captor.getAllValues().stream().map(codec::decode).toList();
+    }
+
+    private CloseStatus closeStatus() throws Exception {
+        ArgumentCaptor<CloseStatus> captor = ArgumentCaptor.forClass(CloseStatus.class);
+        verify(session).close(captor.capture());
+        return captor.getValue();
+    }
+
+    private static SignalingMessage candidate(int index) {
+        return SignalingMessage.iceCandidate("candidate:" + index, "0", 0);
+    }
+}